@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The payloads the benchmarks share. Generated rather than read from resources, so that a size is
+ * a {@code @Param} and the same document shape is measured by the JSON and the match benchmarks.
+ * Everything is deterministic: two runs of the same commit must be looking at the same bytes.
+ */
+final class Documents {
+
+    private Documents() {
+    }
+
+    /** One record of an API-style list response: scalars, a nested object, an array of strings. */
+    static Map<String, Object> user(int i) {
+        Map<String, Object> address = new LinkedHashMap<>();
+        address.put("street", i + " Main Street");
+        address.put("city", "City " + (i % 50));
+        address.put("zip", String.format("%05d", i % 100000));
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", i);
+        user.put("name", "user-" + i);
+        user.put("email", "user" + i + "@example.com");
+        user.put("active", i % 3 != 0);
+        user.put("score", i * 1.5);
+        user.put("tags", List.of("tag" + (i % 7), "tag" + (i % 11), "tag" + (i % 13)));
+        user.put("address", address);
+        return user;
+    }
+
+    static List<Object> users(int count) {
+        List<Object> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(user(i));
+        }
+        return list;
+    }
+
+    /** The list wrapped the way most JSON APIs page it, so the top level is an object. */
+    static Map<String, Object> page(int count) {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("total", count);
+        page.put("offset", 0);
+        page.put("items", users(count));
+        return page;
+    }
+
+    /** The schema a {@code match each} would check every item of {@link #users(int)} against. */
+    static Map<String, Object> userSchema() {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("id", "#number");
+        schema.put("name", "#string");
+        schema.put("email", "#regex .+@.+");
+        schema.put("active", "#boolean");
+        schema.put("score", "#number");
+        schema.put("tags", "#[] #string");
+        schema.put("address", Map.of("street", "#string", "city", "#string", "zip", "#string"));
+        return schema;
+    }
+
+    /**
+     * A script in the shape karate-config.js and feature-level helpers take: a few functions, object
+     * literals, array callbacks, template strings. Repeated {@code copies} times with the names
+     * suffixed, so that a larger value means more distinct code rather than the same code re-parsed.
+     */
+    static String script(int copies) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < copies; i++) {
+            sb.append("""
+                    function total_%1$d(items, taxRate, discount) {
+                        let total = 0;
+                        for (let i = 0; i < items.length; i++) {
+                            const item = items[i];
+                            if (item.price > 0 && item.quantity > 0) {
+                                total += item.price * item.quantity;
+                            } else if (item.free) {
+                                continue;
+                            }
+                        }
+                        return total * (1 + taxRate) - discount;
+                    }
+                    var config_%1$d = {
+                        baseUrl: 'https://example.com/api/v%1$d',
+                        timeout: 5000,
+                        headers: { 'Content-Type': 'application/json', Accept: 'application/json' },
+                        roles: ['admin', 'user', 'guest']
+                    };
+                    const names_%1$d = config_%1$d.roles.map(r => r.toUpperCase()).filter(r => r.length > 4);
+                    const greeting_%1$d = `Welcome, ${names_%1$d.join(', ')}! Total: ${total_%1$d([], 0.08, 5)}`;
+                    """.formatted(i));
+        }
+        return sb.toString();
+    }
+
+}
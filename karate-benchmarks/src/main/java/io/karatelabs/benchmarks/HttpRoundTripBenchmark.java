@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.benchmarks;
+
+import io.karatelabs.common.Json;
+import io.karatelabs.http.ApacheHttpClient;
+import io.karatelabs.http.HttpRequestBuilder;
+import io.karatelabs.http.HttpResponse;
+import io.karatelabs.http.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One request through the client stack a {@code method get} step uses — {@link HttpRequestBuilder}
+ * over {@link ApacheHttpClient} — against the in-process Netty {@link HttpServer} on loopback.
+ * <p>
+ * The server answers with bytes encoded once in setup, so it does as little as a server can and the
+ * row is dominated by the client side: building the request, the Apache exchange over a pooled
+ * connection, and reading the response back into a {@link HttpResponse}. The body is then
+ * converted the way a step converts it for {@code response}. Both sides share the one CPU budget
+ * of this JVM, so compare these rows between commits, never with a figure taken over a network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HttpRoundTripBenchmark {
+
+    HttpServer server;
+    String url;
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        byte[] user = Json.toBytes(Documents.user(42));
+        server = HttpServer.start(0, request -> "POST".equals(request.getMethod())
+                ? HttpResponse.json(201, request.getBody())
+                : HttpResponse.json(user));
+        url = "http://localhost:" + server.getPort();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        server.stopAndWait();
+    }
+
+    /** A client per benchmark thread, as every scenario has its own. */
+    @State(Scope.Thread)
+    public static class Client {
+
+        ApacheHttpClient client;
+        HttpRequestBuilder builder;
+        Map<String, Object> body;
+
+        @Setup(Level.Trial)
+        public void setup(HttpRoundTripBenchmark benchmark) {
+            client = new ApacheHttpClient();
+            builder = new HttpRequestBuilder(client);
+            builder.url(benchmark.url);
+            body = Documents.user(7);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            client.close();
+        }
+
+    }
+
+    @Benchmark
+    public Object getJson(Client c) {
+        return c.builder.path("users").path("42").invoke("GET").getBodyConverted();
+    }
+
+    @Benchmark
+    public Object postJson(Client c) {
+        return c.builder.path("users").invoke("POST", c.body).getBodyConverted();
+    }
+
+}
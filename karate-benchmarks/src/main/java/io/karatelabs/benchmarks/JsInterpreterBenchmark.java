@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.benchmarks;
+
+import io.karatelabs.js.Engine;
+import io.karatelabs.parser.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The interpreter alone: every script is parsed once in setup and evaluated from the same tree,
+ * which is what a warm parse cache hands a scenario. Each script leans on one hot path, so a change
+ * to that path moves one row and leaves the others alone. They run as an IIFE, so nothing is left
+ * behind in the engine's globals between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class JsInterpreterBenchmark {
+
+    // numbers in and out of locals: the unboxed arithmetic path and slot-indexed locals
+    static final String ARITHMETIC = """
+            (function() {
+                let sum = 0;
+                for (let i = 0; i < 2000; i++) {
+                    sum += (i * 3 + 7) % 11 - i / 4;
+                }
+                return sum;
+            })()
+            """;
+
+    // obj.name reads and array callbacks: member lookup and built-in prototype methods
+    static final String OBJECTS = """
+            (function() {
+                const items = [];
+                for (let i = 0; i < 200; i++) {
+                    items.push({ id: i, name: 'item' + i, price: i % 17, tags: ['a', 'b'] });
+                }
+                return items.filter(x => x.price > 5)
+                    .map(x => ({ id: x.id, label: x.name.toUpperCase(), n: x.tags.length }))
+                    .reduce((acc, x) => acc + x.n + x.label.length, 0);
+            })()
+            """;
+
+    // call overhead: frames, argument binding, closures capturing an outer local
+    static final String CALLS = """
+            (function() {
+                function fib(n) { return n < 2 ? n : fib(n - 1) + fib(n - 2); }
+                let count = 0;
+                const inc = () => { count++; return count; };
+                for (let i = 0; i < 500; i++) {
+                    inc();
+                }
+                return fib(15) + count;
+            })()
+            """;
+
+    // the string building a request body or an assertion message does
+    static final String STRINGS = """
+            (function() {
+                let out = '';
+                for (let i = 0; i < 200; i++) {
+                    const part = `${i}:${'k' + i}`;
+                    out += part.length > 3 ? part.toUpperCase() : part;
+                }
+                return out.split(':').join('|').length;
+            })()
+            """;
+
+    Engine engine;
+    Node arithmetic;
+    Node objects;
+    Node calls;
+    Node strings;
+
+    @Setup
+    public void setup() {
+        engine = new Engine();
+        arithmetic = Engine.parse(ARITHMETIC);
+        objects = Engine.parse(OBJECTS);
+        calls = Engine.parse(CALLS);
+        strings = Engine.parse(STRINGS);
+    }
+
+    @Benchmark
+    public Object arithmetic() {
+        return engine.eval(arithmetic);
+    }
+
+    @Benchmark
+    public Object objects() {
+        return engine.eval(objects);
+    }
+
+    @Benchmark
+    public Object calls() {
+        return engine.eval(calls);
+    }
+
+    @Benchmark
+    public Object strings() {
+        return engine.eval(strings);
+    }
+
+    /** What every scenario pays before its first step: a fresh engine and its global scope. */
+    @Benchmark
+    public Object newEngine() {
+        return new Engine().eval("1");
+    }
+
+}
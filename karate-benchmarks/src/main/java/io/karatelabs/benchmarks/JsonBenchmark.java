@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.benchmarks;
+
+import io.karatelabs.common.Json;
+import io.karatelabs.js.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON text to Java maps and lists and back. The three parsers are not interchangeable, which is
+ * why each gets a row: {@code parseStrict} is what a response body goes through, {@code parseLenient}
+ * what a {@code def} of JSON-ish text goes through, and {@link JsonParser} is {@code JSON.parse}
+ * inside the JS engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    /** Items in the document: about 25 KB of JSON at 100, and 2.5 MB at 10000. */
+    @Param({"100", "10000"})
+    int size;
+
+    Map<String, Object> document;
+    String text;
+
+    @Setup
+    public void setup() {
+        document = Documents.page(size);
+        text = Json.stringifyStrict(document);
+    }
+
+    @Benchmark
+    public Object parseStrict() {
+        return Json.parseStrict(text);
+    }
+
+    @Benchmark
+    public Object parseLenient() {
+        return Json.parseLenient(text);
+    }
+
+    @Benchmark
+    public Object parseJs() {
+        return JsonParser.parse(text);
+    }
+
+    @Benchmark
+    public String stringify() {
+        return Json.stringifyStrict(document);
+    }
+
+}
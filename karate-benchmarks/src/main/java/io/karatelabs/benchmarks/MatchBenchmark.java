@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.benchmarks;
+
+import io.karatelabs.common.Json;
+import io.karatelabs.match.Match;
+import io.karatelabs.match.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code match} against a large response. The expected side is always a separate copy of the data,
+ * never the same instance, so no comparison can short-circuit on identity. All of these pass: a
+ * failing match spends its time building the failure report, which is a different benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MatchBenchmark {
+
+    /**
+     * Items in the response array. Stops short of the JSON benchmark's largest size, because the
+     * contains family compares element against element and 10000 squared is minutes per operation.
+     */
+    @Param({"100", "2000"})
+    int size;
+
+    Map<String, Object> actual;
+    Object expected;
+    List<Object> items;
+    List<Object> subset;
+    List<Object> itemsReversed;
+    Map<String, Object> schema;
+
+    @Setup
+    public void setup() {
+        actual = Documents.page(size);
+        expected = Json.copy(actual, true, false);
+        @SuppressWarnings("unchecked")
+        List<Object> list = (List<Object>) actual.get("items");
+        items = list;
+        // ten items from the far end: the worst case for a contains that scans in order
+        subset = List.copyOf(Documents.users(size).subList(size - 10, size));
+        itemsReversed = new ArrayList<>(Documents.users(size));
+        Collections.reverse(itemsReversed);
+        schema = Documents.userSchema();
+    }
+
+    @Benchmark
+    public Result equalsDocument() {
+        return Match.evaluate(actual, null, null)._equals(expected);
+    }
+
+    @Benchmark
+    public Result containsSubset() {
+        return Match.evaluate(items, null, null).contains(subset);
+    }
+
+    /** Every expected element is found, but only after scanning from the other end. */
+    @Benchmark
+    public Result containsOnlyReordered() {
+        return Match.evaluate(items, null, null).containsOnly(itemsReversed);
+    }
+
+    @Benchmark
+    public Result eachSchema() {
+        return Match.evaluate(items, null, null).is(Match.Type.EACH_EQUALS, schema);
+    }
+
+}
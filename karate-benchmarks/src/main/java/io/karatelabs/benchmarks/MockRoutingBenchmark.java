@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.benchmarks;
+
+import io.karatelabs.common.Json;
+import io.karatelabs.common.Resource;
+import io.karatelabs.core.MockHandler;
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.http.HttpRequest;
+import io.karatelabs.http.HttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request through {@link MockHandler#apply} with no socket in the way: scenario selection plus
+ * the matched scenario's steps. The feature has the shape of a real mock — a couple of dozen
+ * resources routed on path and method, ahead of them one routed on a query parameter — so the rows
+ * tell apart a condition the engine has to evaluate, the last scenario with and without a body to
+ * read, and a miss that has to try everything.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MockRoutingBenchmark {
+
+    static final int RESOURCES = 24;
+
+    MockHandler handler;
+    byte[] body;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("""
+                Feature: routing
+
+                Scenario: pathMatches('/search') && paramValue('q') == 'karate'
+                  * def response = { hits: 1 }
+
+                """);
+        for (int i = 0; i < RESOURCES; i++) {
+            sb.append("""
+                    Scenario: pathMatches('/r%1$d/{id}') && methodIs('get')
+                      * def response = { resource: %1$d, id: pathParams.id }
+
+                    Scenario: pathMatches('/r%1$d') && methodIs('post')
+                      * def user = request
+                      * def response = user
+                      * def responseStatus = 201
+
+                    """.formatted(i));
+        }
+        handler = new MockHandler(Feature.read(Resource.text(sb.toString())));
+        body = Json.toBytes(Documents.user(7));
+    }
+
+    // a fresh request per call, as the server builds one per exchange; the handler may write to it
+    private static HttpRequest request(String method, String path) {
+        HttpRequest request = new HttpRequest();
+        request.setMethod(method);
+        request.setPath(path);
+        return request;
+    }
+
+    @Benchmark
+    public HttpResponse paramCondition() {
+        HttpRequest request = request("GET", "/search");
+        request.setParams(Map.of("q", List.of("karate")));
+        return handler.apply(request);
+    }
+
+    @Benchmark
+    public HttpResponse lastGet() {
+        return handler.apply(request("GET", "/r" + (RESOURCES - 1) + "/42"));
+    }
+
+    @Benchmark
+    public HttpResponse lastPostWithBody() {
+        HttpRequest request = request("POST", "/r" + (RESOURCES - 1));
+        request.setContentType("application/json");
+        request.setBody(body);
+        return handler.apply(request);
+    }
+
+    @Benchmark
+    public HttpResponse notFound() {
+        return handler.apply(request("GET", "/nowhere/42"));
+    }
+
+}
@@ -50,6 +50,9 @@ import java.util.concurrent.Callable;
  *
  * # With custom certificate
  * karate mock -m api.feature -p 8443 --ssl --cert cert.pem --key key.pem
+ *
+ * # Serve requests concurrently (stateless mocks)
+ * karate mock -m api.feature -p 8080 --concurrent
  * </pre>
  */
 @Command(
@@ -102,6 +105,12 @@ public class MockCommand implements Callable<Integer> {
     )
     boolean watch;
 
+    @Option(
+            names = {"--concurrent"},
+            description = "Serve requests concurrently instead of one at a time (for stateless mocks)"
+    )
+    boolean concurrent;
+
     @Override
     public Integer call() {
         try {
@@ -136,6 +145,10 @@ public class MockCommand implements Callable<Integer> {
                 builder.watch(true);
             }
 
+            if (concurrent) {
+                builder.concurrent(true);
+            }
+
             // Start server
             MockServer server = builder.start();
 
@@ -153,6 +166,10 @@ public class MockCommand implements Callable<Integer> {
                 Console.println("  Watch: enabled (hot-reload on file change)");
             }
 
+            if (concurrent) {
+                Console.println("  Concurrent: enabled");
+            }
+
             Console.println();
             Console.println(Console.yellow("Press Ctrl+C to stop the server"));
 
@@ -199,6 +199,27 @@ public class RunCommand implements Callable<Integer> {
     )
     List<String> listenerFactories;
 
+    @Option(
+            names = {"--coordinator"},
+            description = "Serve the features to workers on this port (0 for any) instead of running them, "
+                    + "and write one report set from their results"
+    )
+    Integer coordinatorPort;
+
+    @Option(
+            names = {"--worker"},
+            description = "Run features claimed from the coordinator at this URL (e.g. http://ci-host:9700) "
+                    + "until it has none left. Takes the same paths, tags and env as the coordinator."
+    )
+    String workerUrl;
+
+    @Option(
+            names = {"--spill-results"},
+            description = "Write each finished feature's result to karate-json/karate-results.jsonl "
+                    + "instead of holding it in memory, for suites too large to keep whole"
+    )
+    boolean spillResults;
+
     // Loaded pom config
     private KaratePom pom;
 
@@ -318,6 +339,16 @@ public class RunCommand implements Callable<Integer> {
                 }
             }
 
+            if (coordinatorPort != null) {
+                builder.coordinator(coordinatorPort);
+            }
+            if (workerUrl != null) {
+                builder.worker(workerUrl);
+            }
+            if (spillResults) {
+                builder.spillResults(true);
+            }
+
             // Run tests
             SuiteResult result = builder.parallel(effectiveThreads);
 
@@ -598,4 +629,16 @@ public class RunCommand implements Callable<Integer> {
         return logConsole;
     }
 
+    public Integer getCoordinatorPort() {
+        return coordinatorPort;
+    }
+
+    public String getWorkerUrl() {
+        return workerUrl;
+    }
+
+    public boolean isSpillResults() {
+        return spillResults;
+    }
+
 }
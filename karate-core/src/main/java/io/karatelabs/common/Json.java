@@ -34,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Node;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -493,6 +494,18 @@ public class Json {
         }
     }
 
+    /**
+     * {@link #stringifyStrict(Object)} written straight to {@code out}, for callers assembling a
+     * larger document (a JSONL envelope) that would otherwise copy the returned string into it.
+     */
+    public static void stringifyStrict(Object o, Appendable out) throws IOException {
+        if (o instanceof Map || o instanceof List) {
+            JSONValue.writeJSONString(breakCyclesIfAny(o), out, JSON_STYLE);
+        } else if (o != null) {
+            out.append(o.toString());
+        }
+    }
+
     /**
      * json-smart's writer has no circular-reference guard and infinite-recurses on
      * cyclic Maps/Lists. We pre-walk with identity tracking; if a cycle exists, we
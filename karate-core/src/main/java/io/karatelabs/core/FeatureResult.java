@@ -38,6 +38,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 public class FeatureResult {
 
@@ -351,6 +352,18 @@ public class FeatureResult {
      * Used for HTML reports, JSONL streaming, and report aggregation.
      */
     public Map<String, Object> toJson() {
+        return toJson(true);
+    }
+
+    /**
+     * {@link #toJson()} with each scenario in its {@link ScenarioResult#toSummaryJson() summary}
+     * form: every feature- and scenario-level field, no step detail.
+     */
+    public Map<String, Object> toSummaryJson() {
+        return toJson(false);
+    }
+
+    private Map<String, Object> toJson(boolean withSteps) {
         Map<String, Object> map = new LinkedHashMap<>();
 
         // Core identity
@@ -403,13 +416,62 @@ public class FeatureResult {
         // Scenario results
         List<Map<String, Object>> scenarioResultsList = new ArrayList<>();
         for (ScenarioResult sr : scenarioResults) {
-            scenarioResultsList.add(sr.toJson());
+            scenarioResultsList.add(withSteps ? sr.toJson() : sr.toSummaryJson());
         }
         map.put("scenarioResults", scenarioResultsList);
 
         return map;
     }
 
+    // ========== Lossless Format ==========
+
+    /**
+     * Everything this result holds, in the shape {@link #fromKarateJson} reads back into an
+     * equivalent result — what a suite worker sends its coordinator. {@link #toJson()} is for
+     * reports and drops what they do not show (raw logs, step keywords, the {@code @fail}
+     * bookkeeping); this keeps it. The feature itself travels as its prefixed path.
+     */
+    public Map<String, Object> toKarateJson() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("path", feature.getResource().getPrefixedPath());
+        map.put("startTime", startTime);
+        map.put("endTime", endTime);
+        map.put("callDepth", callDepth);
+        map.put("loopIndex", loopIndex);
+        if (callArg != null) {
+            map.put("callArg", callArg);
+        }
+        List<Map<String, Object>> scenarioList = new ArrayList<>();
+        for (ScenarioResult sr : scenarioResults) {
+            scenarioList.add(sr.toKarateJson());
+        }
+        map.put("scenarioResults", scenarioList);
+        return map;
+    }
+
+    /**
+     * The result {@link #toKarateJson()} described. {@code features} maps a prefixed path to the
+     * parsed feature — for this one and for every feature it called — and may return null, in
+     * which case so does this.
+     */
+    @SuppressWarnings("unchecked")
+    public static FeatureResult fromKarateJson(Map<String, Object> map, Function<String, Feature> features) {
+        Feature feature = features.apply((String) map.get("path"));
+        if (feature == null) {
+            return null;
+        }
+        FeatureResult result = new FeatureResult(feature);
+        result.startTime = ((Number) map.get("startTime")).longValue();
+        result.endTime = ((Number) map.get("endTime")).longValue();
+        result.callDepth = ((Number) map.get("callDepth")).intValue();
+        result.loopIndex = ((Number) map.get("loopIndex")).intValue();
+        result.callArg = map.get("callArg");
+        for (Map<String, Object> scenarioMap : (List<Map<String, Object>>) map.get("scenarioResults")) {
+            result.scenarioResults.add(ScenarioResult.fromKarateJson(feature, scenarioMap, features));
+        }
+        return result;
+    }
+
     // ========== Console Output ==========
 
     /**
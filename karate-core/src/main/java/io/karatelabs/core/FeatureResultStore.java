@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import io.karatelabs.common.Json;
+import io.karatelabs.common.Resource;
+import io.karatelabs.gherkin.Feature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finished features on disk instead of in the {@link SuiteResult}, for
+ * {@code Runner.Builder.spillResults(true)}: one {@link FeatureResult#toKarateJson() karate-json}
+ * line per feature in {@code karate-json/karate-results.jsonl} under the report dir, appended as
+ * each feature completes. The suite keeps the offset and length of each line and a digest of the
+ * counters and failures, so its heap stays the same whether it ran ten features or ten thousand.
+ * <p>
+ * A line holds what the suite would otherwise have held: step logs and call results only when they
+ * are retained, embeds as the file names they were externalized to. Reading one back parses it
+ * again against the suite's own features, so every read is a fresh, equivalent result.
+ */
+final class FeatureResultStore {
+
+    private static final Logger logger = LoggerFactory.getLogger("karate.runtime");
+
+    static final String FILENAME = "karate-results.jsonl";
+
+    /** Where one feature's line sits in the file. */
+    record Span(long offset, int length) {
+    }
+
+    private final Path path;
+    private final Suite suite;
+    private final Map<String, Feature> byPath = new HashMap<>();
+    private final Map<String, Feature> calledFeatures = new ConcurrentHashMap<>();
+    private FileChannel channel;
+    private long size;
+
+    static Path pathIn(Path outputDir) {
+        return outputDir.resolve(Suite.KARATE_JSON_SUBFOLDER).resolve(FILENAME);
+    }
+
+    FeatureResultStore(Suite suite, List<Feature> features) throws IOException {
+        this.suite = suite;
+        this.path = pathIn(suite.outputDir);
+        for (Feature feature : features) {
+            byPath.put(feature.getResource().getPrefixedPath(), feature);
+        }
+        Files.createDirectories(path.getParent());
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /** Serialized on the calling thread, the feature's own; only the write itself is serialized. */
+    Span append(FeatureResult result) throws IOException {
+        byte[] line = (Json.stringifyStrict(result.toKarateJson()) + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (this) {
+            if (channel == null) {
+                throw new IOException("result store already closed: " + path);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            long offset = size;
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+            size += line.length;
+            return new Span(offset, line.length - 1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    FeatureResult read(Span span) {
+        ByteBuffer buffer = ByteBuffer.allocate(span.length());
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (in.read(buffer, span.offset() + buffer.position()) < 0) {
+                    throw new IOException("truncated at offset " + span.offset());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read feature result from " + path + ": " + e.getMessage(), e);
+        }
+        String json = new String(buffer.array(), StandardCharsets.UTF_8);
+        Map<String, Object> map = (Map<String, Object>) Json.parseStrict(json);
+        FeatureResult result = FeatureResult.fromKarateJson(map, this::feature);
+        if (result == null) {
+            throw new IllegalStateException("cannot resolve feature for stored result: " + map.get("path"));
+        }
+        return result;
+    }
+
+    /** Stops appending. What was written stays readable for as long as the file is there. */
+    synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("failed to close result store '{}': {}", path, e.getMessage());
+        }
+        channel = null;
+    }
+
+    // this suite's own parse, else a called feature read once from the same path
+    private Feature feature(String path) {
+        Feature feature = byPath.get(path);
+        if (feature != null) {
+            return feature;
+        }
+        return calledFeatures.computeIfAbsent(path, p -> {
+            try {
+                return Feature.read(Resource.path(p, suite.root, suite.classpathRoot));
+            } catch (Exception e) {
+                logger.warn("dropping stored call result for {}: {}", p, e.getMessage());
+                return null;
+            }
+        });
+    }
+
+}
@@ -256,12 +256,14 @@ public class FeatureRuntime implements Callable<FeatureResult> {
 
     /**
      * Run scenarios in parallel using the Suite's shared executor.
-     * Each scenario is dispatched to the executor, limited by the scenario semaphore.
+     * Each scenario is dispatched to the executor, limited by the scenario semaphore, whose
+     * permits the {@link ScenarioGate} hands out longest-predicted-first across all features.
      * The iterator produces scenarios lazily (supporting dynamic @setup scenarios).
      */
     private void runScenariosParallel() {
         ExecutorService executor = suite.getScenarioExecutor();
         Semaphore semaphore = suite.getScenarioSemaphore();
+        ScenarioGate gate = suite.getScenarioGate();
         List<Future<ScenarioResult>> futures = new ArrayList<>();
 
         // Dispatch scenarios to executor as they are produced by the iterator
@@ -278,7 +280,7 @@ public class FeatureRuntime implements Callable<FeatureResult> {
                 String scenarioName = scenario.getName();
                 // Acquire semaphore to limit concurrent scenarios
                 logger.debug("Waiting for semaphore permit: {} (available: {})", scenarioName, semaphore.availablePermits());
-                semaphore.acquire();
+                gate.acquire(suite.predictedMillis(scenario));
                 logger.debug("Acquired semaphore permit: {} (available: {})", scenarioName, semaphore.availablePermits());
                 // Acquire a lane for timeline reporting (consistent lane names instead of random thread IDs)
                 suite.acquireLane();
@@ -286,7 +288,7 @@ public class FeatureRuntime implements Callable<FeatureResult> {
                     return executeScenarioParallel(scenario);
                 } finally {
                     suite.releaseLane();
-                    semaphore.release();
+                    gate.release();
                     logger.debug("Released semaphore permit: {} (available: {})", scenarioName, semaphore.availablePermits());
                 }
             });
@@ -854,10 +856,10 @@ public class FeatureRuntime implements Callable<FeatureResult> {
             }
 
             // Fast path: Suite's pre-filter (Suite.allSectionsExcluded) may have
-            // already evaluated and cached the result on this scenario. Only populated
+            // already evaluated and cached the result for this scenario. Only populated
             // for persistent (non-outline) scenarios — outline rows are generated
             // fresh per iteration and fall through to full evaluation below.
-            Boolean cached = scenario.getSelected();
+            Boolean cached = suite != null ? suite.getCachedSelection(scenario) : null;
             if (cached != null) {
                 return cached;
             }
@@ -866,7 +868,7 @@ public class FeatureRuntime implements Callable<FeatureResult> {
             List<Tag> tags = scenario.getTagsEffective();
             TagSelector selector = new TagSelector(tags);
             String karateEnv = suite != null ? suite.env : null;
-            return selector.evaluate(suite != null ? suite.tagSelector : null, karateEnv);
+            return selector.select(suite != null ? suite.tagPredicate : null, karateEnv);
         }
 
         /**
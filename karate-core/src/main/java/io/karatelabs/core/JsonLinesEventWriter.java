@@ -27,14 +27,21 @@ import io.karatelabs.common.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedWriter;
 import java.io.Closeable;
+import java.io.Flushable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * A {@link RunListener} that streams events to a JSON Lines (.jsonl) file.
@@ -49,6 +56,15 @@ import java.util.Map;
  * {"type":"SUITE_EXIT","timeStamp":1703500010000,"threadId":null,"data":{...}}
  * </pre>
  * <p>
+ * The line is rendered on the thread that fires the event - its payload has to be captured
+ * while the result is live, before a feature releases its step logs - but nothing else happens
+ * there: the line goes onto a lock-free queue and a single background thread does the I/O. That
+ * thread group-commits: whatever has queued up is written with one channel write, at the latest
+ * {@value #COMMIT_WINDOW_MILLIS} ms after it was queued, sooner once {@value #COMMIT_LINES}
+ * lines are waiting. A write only ever holds whole lines, so a tail of the file never ends
+ * mid-record. {@code SUITE_EXIT} is written through before the event returns, as is everything
+ * on {@link #flush()} and {@link #close()}.
+ * <p>
  * Use cases:
  * <ul>
  *   <li>Real-time test dashboards - stream lightweight events as tests run</li>
@@ -57,17 +73,25 @@ import java.util.Map;
  *   <li>IDE integration - SCENARIO_ENTER/EXIT events for test runners</li>
  * </ul>
  */
-public class JsonLinesEventWriter implements RunListener, Closeable {
+public class JsonLinesEventWriter implements RunListener, Flushable, Closeable {
 
     private static final Logger logger = LoggerFactory.getLogger("karate.runtime");
 
     public static final String DEFAULT_FILENAME = "karate-events.jsonl";
     public static final String SCHEMA_VERSION = "1";
 
+    static final long COMMIT_WINDOW_MILLIS = 100;
+    static final int COMMIT_LINES = 256;
+    private static final long FLUSH_TIMEOUT_SECONDS = 30;
+
     private final Path jsonlPath;
     private final String env;
     private final int threadCount;
-    private BufferedWriter writer;
+    // String lines, or a CountDownLatch released once everything queued ahead of it is written
+    private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private FileChannel channel;
+    private Thread committer;
     private volatile boolean closed = false;
 
     /**
@@ -89,16 +113,18 @@ public class JsonLinesEventWriter implements RunListener, Closeable {
      */
     public void init() throws IOException {
         Files.createDirectories(jsonlPath.getParent());
-        writer = Files.newBufferedWriter(jsonlPath,
+        channel = FileChannel.open(jsonlPath,
                 StandardOpenOption.CREATE,
                 StandardOpenOption.TRUNCATE_EXISTING,
                 StandardOpenOption.WRITE);
+        // a platform thread: it spends its life in file I/O, which would pin a virtual one
+        committer = Thread.ofPlatform().name("karate-jsonl").daemon().start(this::commitLoop);
         logger.debug("JSONL event stream started: {}", jsonlPath);
     }
 
     @Override
     public boolean onEvent(RunEvent event) {
-        if (closed || writer == null) {
+        if (closed || channel == null) {
             return true;
         }
 
@@ -112,16 +138,11 @@ public class JsonLinesEventWriter implements RunListener, Closeable {
         }
 
         try {
-            Map<String, Object> envelope = new LinkedHashMap<>();
-            envelope.put("type", event.getType().name());
-            envelope.put("timeStamp", event.getTimeStamp());
-            envelope.put("threadId", getThreadId(event));
-
             // Build data payload
             Map<String, Object> data = event.toJson();
 
             // Add schema version to SUITE_ENTER
-            if (event.getType() == RunEventType.SUITE_ENTER) {
+            if (type == RunEventType.SUITE_ENTER) {
                 data.put("schemaVersion", SCHEMA_VERSION);
                 data.put("version", Globals.KARATE_VERSION);
                 if (env != null && !env.isEmpty()) {
@@ -130,9 +151,10 @@ public class JsonLinesEventWriter implements RunListener, Closeable {
                 data.put("threads", threadCount);
             }
 
-            envelope.put("data", data);
-
-            writeLine(Json.stringifyStrict(envelope));
+            enqueue(toLine(event, data));
+            if (type == RunEventType.SUITE_EXIT) {
+                flush();
+            }
 
         } catch (Exception e) {
             logger.warn("Failed to write event to JSONL: {}", e.getMessage());
@@ -141,6 +163,26 @@ public class JsonLinesEventWriter implements RunListener, Closeable {
         return true;  // Never block execution
     }
 
+    /**
+     * The envelope, written field by field around the serialized data - the envelope itself
+     * never exists as a map.
+     */
+    private String toLine(RunEvent event, Map<String, Object> data) throws IOException {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"type\":\"").append(event.getType().name())
+                .append("\",\"timeStamp\":").append(event.getTimeStamp())
+                .append(",\"threadId\":");
+        String threadId = getThreadId(event);
+        if (threadId == null) {
+            sb.append("null");
+        } else {
+            sb.append('"').append(Json.escape(threadId)).append('"');
+        }
+        sb.append(",\"data\":");
+        Json.stringifyStrict(data, sb);
+        return sb.append("}\n").toString();
+    }
+
     /**
      * Get the thread ID for the event envelope.
      * Suite-level events have null threadId.
@@ -160,23 +202,92 @@ public class JsonLinesEventWriter implements RunListener, Closeable {
         return name;
     }
 
+    private void enqueue(String line) {
+        queue.add(line);
+        // only the line that fills a batch wakes the committer; the rest wait for the window
+        if (queued.incrementAndGet() == COMMIT_LINES) {
+            LockSupport.unpark(committer);
+        }
+    }
+
     /**
-     * Thread-safe write to JSON Lines file.
+     * Write out everything queued so far, waiting until it is on the channel.
      */
-    private synchronized void writeLine(String json) throws IOException {
-        if (writer != null && !closed) {
-            writer.write(json);
-            writer.newLine();
-            writer.flush();  // Ensure atomic writes for tailing
+    @Override
+    public void flush() {
+        Thread thread = committer;
+        if (closed || thread == null || !thread.isAlive()) {
+            return;
+        }
+        CountDownLatch written = new CountDownLatch(1);
+        queue.add(written);
+        LockSupport.unpark(thread);
+        try {
+            if (!written.await(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("JSONL event stream not flushed after {} seconds: {}", FLUSH_TIMEOUT_SECONDS, jsonlPath);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commitLoop() {
+        StringBuilder batch = new StringBuilder(8192);
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(COMMIT_WINDOW_MILLIS);
+        while (true) {
+            boolean stopping = closed;
+            Object item;
+            while ((item = queue.poll()) != null) {
+                if (item instanceof String line) {
+                    queued.decrementAndGet();
+                    batch.append(line);
+                } else {
+                    commit(batch);
+                    ((CountDownLatch) item).countDown();
+                }
+            }
+            commit(batch);
+            if (stopping) {
+                return; // close() set the flag before waking us, so nothing is left behind
+            }
+            if (queued.get() < COMMIT_LINES) {
+                LockSupport.parkNanos(this, windowNanos);
+            }
+        }
+    }
+
+    private void commit(StringBuilder batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+        batch.setLength(0);
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write events to JSONL: {}", e.getMessage());
         }
     }
 
     @Override
     public void close() throws IOException {
+        if (closed) {
+            return;
+        }
         closed = true;
-        if (writer != null) {
-            writer.close();
-            writer = null;
+        if (committer != null) {
+            LockSupport.unpark(committer);
+            try {
+                committer.join(TimeUnit.SECONDS.toMillis(FLUSH_TIMEOUT_SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
             logger.info("JSONL event stream written to: {}", jsonlPath);
         }
     }
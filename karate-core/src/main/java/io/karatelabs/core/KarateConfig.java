@@ -66,7 +66,7 @@ public class KarateConfig implements SimpleObject {
     // Keys exposed via SimpleObject
     private static final List<String> KEYS = List.of(
             // HTTP client settings
-            "url", "readTimeout", "connectTimeout", "followRedirects", "localAddress", "charset",
+            "url", "readTimeout", "connectTimeout", "followRedirects", "localAddress", "charset", "responseSpoolSize",
             // Grouped settings (Maps)
             "ssl", "proxy", "auth", "retry", "report", "logging", "callSingleCache",
             // Headers/Cookies
@@ -88,6 +88,8 @@ public class KarateConfig implements SimpleObject {
     private boolean followRedirects = true;
     private String localAddress;
     private Charset charset = StandardCharsets.UTF_8;
+    // bytes of (decoded) response body above which it goes to a temp file instead of memory, 0 = never
+    private int responseSpoolSize;
 
     // ===== Grouped Settings (Maps) =====
 
@@ -108,11 +110,12 @@ public class KarateConfig implements SimpleObject {
     // Report: { showLog, showAllSteps }
     private Map<String, Object> report = new HashMap<>(Map.of("showLog", true, "showAllSteps", true));
 
-    // Logging: { report, console, pretty, mask }
+    // Logging: { report, console, pretty, mask, bodies }
     //   report  - threshold for what gets captured into the report buffer (default DEBUG)
     //   console - threshold for SLF4J/console output (default INFO)
     //   pretty  - pretty-print HTTP request/response JSON bodies (default true)
     //   mask    - declarative HTTP redaction { headers, jsonPaths, patterns, replacement, enableForUri }
+    //   bodies  - which scenarios keep HTTP bodies in the report: 'all' (default) or 'failed'
     private Map<String, Object> logging = new HashMap<>(Map.of(
             "report", "debug",
             "console", "info",
@@ -195,6 +198,7 @@ public class KarateConfig implements SimpleObject {
         this.followRedirects = other.followRedirects;
         this.localAddress = other.localAddress;
         this.charset = other.charset;
+        this.responseSpoolSize = other.responseSpoolSize;
         // Grouped settings (deep copy Maps)
         this.ssl = new HashMap<>(other.ssl);
         this.proxy = new HashMap<>(other.proxy);
@@ -266,6 +270,7 @@ public class KarateConfig implements SimpleObject {
         if (before.followRedirects != after.followRedirects) this.followRedirects = after.followRedirects;
         if (!Objects.equals(before.localAddress, after.localAddress)) this.localAddress = after.localAddress;
         if (!Objects.equals(before.charset, after.charset)) this.charset = after.charset;
+        if (before.responseSpoolSize != after.responseSpoolSize) this.responseSpoolSize = after.responseSpoolSize;
         // Grouped settings (deep copy Maps)
         if (!before.ssl.equals(after.ssl)) this.ssl = new HashMap<>(after.ssl);
         if (!before.proxy.equals(after.proxy)) {
@@ -346,6 +351,9 @@ public class KarateConfig implements SimpleObject {
                 // null value means disable auto-charset (V1 compatibility)
                 this.charset = value == null ? null : Charset.forName(toString(value));
             }
+            case "responseSpoolSize" -> {
+                this.responseSpoolSize = toInt(value);
+            }
             case "ntlmAuth" -> {
                 // Legacy support: convert ntlmAuth to auth with type: 'ntlm'
                 if (value instanceof Map<?, ?> map) {
@@ -629,6 +637,13 @@ public class KarateConfig implements SimpleObject {
             this.logging.put("pretty", pretty);
             LogContext.get().setPretty(pretty);
         }
+        if (map.containsKey("bodies")) {
+            String bodies = toString(map.get("bodies"));
+            if (!"all".equals(bodies) && !"failed".equals(bodies)) {
+                throw new RuntimeException("configure 'logging.bodies' expects 'all' or 'failed', got: " + bodies);
+            }
+            this.logging.put("bodies", bodies);
+        }
         if (map.containsKey("mask")) {
             Object maskValue = map.get("mask");
             if (maskValue == null) {
@@ -714,6 +729,7 @@ public class KarateConfig implements SimpleObject {
             case "followRedirects" -> followRedirects;
             case "localAddress" -> localAddress;
             case "charset" -> charset != null ? charset.name() : null;
+            case "responseSpoolSize" -> responseSpoolSize;
             // Grouped settings
             case "ssl" -> ssl;
             case "proxy" -> proxy;
@@ -801,6 +817,10 @@ public class KarateConfig implements SimpleObject {
         return charset;
     }
 
+    public int getResponseSpoolSize() {
+        return responseSpoolSize;
+    }
+
     // ===== SSL Getters =====
 
     public Map<String, Object> getSsl() {
@@ -975,6 +995,11 @@ public class KarateConfig implements SimpleObject {
         return toBoolean(logging.getOrDefault("pretty", true));
     }
 
+    /** Whether a scenario that passed drops the HTTP bodies from its report log. */
+    public boolean isLoggingFailedBodiesOnly() {
+        return "failed".equals(logging.get("bodies"));
+    }
+
     // ===== CallSingleCache Getters =====
 
     public Map<String, Object> getCallSingleCache() {
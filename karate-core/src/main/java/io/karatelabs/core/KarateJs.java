@@ -233,7 +233,8 @@ public class KarateJs extends KarateJsBase implements PerfContext {
                 case "json" -> JSONValue.parseKeepingOrder(resource.getText());
                 case "js" -> engine.eval(resource);
                 case "feature" -> {
-                    Feature feature = Feature.read(resource);
+                    ScenarioRuntime rt = getRuntime();
+                    Feature feature = rt != null ? rt.readFeature(resource) : Feature.read(resource);
                     yield tagSelector != null ? new FeatureCall(feature, tagSelector) : feature;
                 }
                 case "xml" -> {
@@ -941,6 +942,9 @@ public class KarateJs extends KarateJsBase implements PerfContext {
                 if (config.containsKey("pathPrefix")) {
                     builder.pathPrefix((String) config.get("pathPrefix"));
                 }
+                if (config.containsKey("concurrent")) {
+                    builder.concurrent(Boolean.TRUE.equals(config.get("concurrent")));
+                }
             } else {
                 throw new RuntimeException("start() argument must be a string path or config map");
             }
@@ -981,7 +985,7 @@ public class KarateJs extends KarateJsBase implements PerfContext {
             }
 
             // Build request manually to avoid header conflicts
-            HttpRequestBuilder builder = new HttpRequestBuilder(client);
+            HttpRequestBuilder builder = new HttpRequestBuilder(client).onResponse(KarateJsBase::ownSpooledResponse);
             builder.url(targetUrl);
             builder.path(currentRequest.getPath());
             builder.method(currentRequest.getMethod());
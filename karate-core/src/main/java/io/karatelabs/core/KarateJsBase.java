@@ -33,6 +33,7 @@ import io.karatelabs.gherkin.ScenarioOutline;
 import io.karatelabs.gherkin.Tag;
 import io.karatelabs.http.HttpClient;
 import io.karatelabs.http.HttpRequestBuilder;
+import io.karatelabs.http.HttpResponse;
 import io.karatelabs.js.*;
 import io.karatelabs.markup.Markup;
 import io.karatelabs.markup.ResourceResolver;
@@ -86,6 +87,7 @@ abstract class KarateJsBase implements SimpleObject {
     io.karatelabs.http.HttpRequest prevRequest; // tracks previous HTTP request
     io.karatelabs.http.HttpResponse prevResponse; // tracks previous HTTP response (for karate.response)
     KarateJsLog logFacade; // lazy-initialized
+    boolean javaBridgeEnabled = true; // mirrors the bridge installed on the engine, see setJavaBridgeEnabled
 
     // The default bridge enables full Java interop (Java.type(), reflective dispatch on
     // plain Java objects). It is the normal mode for trusted feature files run by the test
@@ -99,13 +101,29 @@ abstract class KarateJsBase implements SimpleObject {
     KarateJsBase(Resource root, HttpClient client) {
         this.root = root;
         this.client = client;
-        http = new HttpRequestBuilder(client);
+        http = new HttpRequestBuilder(client).onResponse(KarateJsBase::ownSpooledResponse);
         this.engine = new Engine();
         engine.setOnConsoleLog(s -> SCENARIO_LOG.info(s));
         engine.setExternalBridge(DEFAULT_BRIDGE);
         // Note: engine.put() for karate, read, match is done in KarateJs constructor
     }
 
+    /**
+     * A response spooled to disk belongs to the scenario running on this thread (see
+     * {@link ScenarioRuntime#ownSpooledResponse}), which deletes it when it ends. Every request a
+     * scenario makes - a step, each attempt of a {@code retry until}, {@code karate.http} - goes
+     * through a builder that calls this, before anything has read the body.
+     */
+    static void ownSpooledResponse(HttpResponse response) {
+        if (!response.isBodySpooled()) {
+            return;
+        }
+        ScenarioRuntime runtime = ScenarioRuntime.currentOrNull();
+        if (runtime != null) {
+            runtime.ownSpooledResponse(response);
+        }
+    }
+
     /**
      * Enable or disable Java interop ({@code Java.type(...)} and reflective dispatch) for
      * this engine. When disabled the external bridge is removed: {@code Java.type(...)} throws
@@ -116,9 +134,14 @@ abstract class KarateJsBase implements SimpleObject {
      * {@code configure javaBridgeEnabled = true}.
      */
     public void setJavaBridgeEnabled(boolean enabled) {
+        javaBridgeEnabled = enabled;
         engine.setExternalBridge(enabled ? DEFAULT_BRIDGE : null);
     }
 
+    public boolean isJavaBridgeEnabled() {
+        return javaBridgeEnabled;
+    }
+
     public void setOnDoc(Consumer<String> onDoc) {
         this.onDoc = onDoc;
     }
@@ -40,17 +40,25 @@ import io.karatelabs.js.Engine;
 import io.karatelabs.js.JavaInvokable;
 import io.karatelabs.js.JavaCallable;
 import io.karatelabs.js.JsLazy;
+import io.karatelabs.js.ParseCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Node;
 
 import com.jayway.jsonpath.JsonPath;
 
+import java.io.File;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
@@ -77,19 +85,25 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
      */
     public static final String KARATE_MOCK_HEADER = "Karate-Mock";
 
-    // Current request being processed (protected by requestLock)
-    private HttpRequest currentRequest;
+    // Request being processed on this thread. Thread-confined rather than a plain field so that
+    // concurrent mode can serve several requests at once; in the default sequential mode requestLock
+    // still admits one request at a time and this behaves exactly like the field it replaced.
+    private final ThreadLocal<HttpRequest> currentRequest = new ThreadLocal<>();
 
     // Set when the current request was served by karate.proceed(): the body came from the REAL upstream,
-    // so the response must not claim to be mock-fabricated (protected by requestLock, like currentRequest)
-    private boolean proceeded;
+    // so the response must not claim to be mock-fabricated (thread-confined, like currentRequest)
+    private final ThreadLocal<Boolean> proceeded = new ThreadLocal<>();
 
     public HttpRequest getCurrentRequest() {
-        return currentRequest;
+        return currentRequest.get();
     }
 
     private final List<Feature> features = new ArrayList<>();
-    private final Map<String, Object> globals = new LinkedHashMap<>();
+    // Variables shared across requests. A request reads a snapshot of this when it starts and publishes
+    // the variables it (re)assigned when its scenario finishes, so in concurrent mode a request never
+    // sees another in-flight request's writes, and two requests assigning the same name are
+    // last-writer-wins. See publishGlobals.
+    private final Map<String, Object> globals = Collections.synchronizedMap(new LinkedHashMap<>());
     private final MockConfig config = new MockConfig();
     private final ReentrantLock requestLock = new ReentrantLock();
     private final String pathPrefix;
@@ -105,12 +119,39 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
     // inert; opt back in via the builder flag or `configure requestExpressionsEnabled = true`.
     private final boolean requestExpressionsEnabled;
 
-    // Runtime per feature (like V1's scenarioRuntimes map)
+    // When false (the default) requestLock serializes every request through the one runtime per
+    // feature — the V1 behavior, and the only safe one for a mock that mutates shared objects in
+    // place (`* cats[id] = request`). When true each in-flight request borrows its own runtime from
+    // a per-feature pool, so throughput scales with the server's worker threads.
+    private final boolean concurrent;
+
+    // Runtime per feature (like V1's scenarioRuntimes map). In concurrent mode this is the template
+    // the pooled runtimes are forked from, and never itself serves a request. Background-defined
+    // functions and the beforeScenario / afterScenario hooks were declared in its scope, so each fork
+    // calls its own copy of them instead (see forkCopies).
     private final Map<Feature, ScenarioRuntime> runtimes = new LinkedHashMap<>();
 
+    // Concurrent mode only: idle forked runtimes per feature, and every fork ever made (for release).
+    // The pool grows to the peak number of in-flight requests, which the server's worker count bounds.
+    private final Map<Feature, Queue<ScenarioRuntime>> idleRuntimes = new HashMap<>();
+    private final Queue<ScenarioRuntime> forkedRuntimes = new ConcurrentLinkedQueue<>();
+
+    // Concurrent mode only: per fork, its own copy of each shared script function, keyed by the
+    // shared original (Engine.rebind). A function resolves free names where it was declared, so the
+    // template's copy would read the template's variables rather than the request's snapshot, write
+    // where the fork's response never looks, and run against one context from every in-flight
+    // request at once. Rebuilt per request from the values then in use, so it never outgrows them.
+    private final Map<ScenarioRuntime, Map<Object, Object>> forkCopies = new ConcurrentHashMap<>();
+
+    // Built once from the scenario names, so a request only evaluates the scenarios that can match it
+    private final MockRouter router;
+
+    // Scenario names and step expressions, parsed once for every runtime (template or fork) of this mock
+    private final ParseCache parseCache = new ParseCache();
+
     // Constructed from feature file path
     public MockHandler(String featurePath) {
-        this(Feature.read(featurePath), null);
+        this(Feature.read(Resource.path(featurePath)), null);
     }
 
     public MockHandler(Feature feature) {
@@ -127,18 +168,33 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
 
     public MockHandler(List<Feature> features, Map<String, Object> args, String pathPrefix,
                        boolean javaBridgeEnabled, boolean requestExpressionsEnabled) {
+        this(features, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled, false);
+    }
+
+    public MockHandler(List<Feature> features, Map<String, Object> args, String pathPrefix,
+                       boolean javaBridgeEnabled, boolean requestExpressionsEnabled, boolean concurrent) {
         this.pathPrefix = pathPrefix;
         this.javaBridgeEnabled = javaBridgeEnabled;
         this.requestExpressionsEnabled = requestExpressionsEnabled;
+        this.concurrent = concurrent;
 
         // Initialize each feature with its own runtime
         for (Feature feature : features) {
             this.features.add(feature);
             ScenarioRuntime runtime = initRuntime(feature, args);
             runtimes.put(feature, runtime);
+            if (concurrent) {
+                idleRuntimes.put(feature, new ConcurrentLinkedQueue<>());
+            }
         }
 
-        logger.info("mock handler initialized with {} feature(s), cors: {}", features.size(), config.isCorsEnabled());
+        router = new MockRouter(this.features);
+
+        logger.info("mock handler initialized with {} feature(s), cors: {}, concurrent: {}",
+                features.size(), config.isCorsEnabled(), concurrent);
+        logger.debug("mock routes - indexed: {}, prefiltered: {}, catch-all: {}, scripted: {}",
+                router.count(MockRouter.Kind.INDEXED), router.count(MockRouter.Kind.PREFILTERED),
+                router.count(MockRouter.Kind.CATCH_ALL), router.count(MockRouter.Kind.SCRIPTED));
     }
 
     /**
@@ -157,6 +213,9 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         for (ScenarioRuntime runtime : runtimes.values()) {
             runtime.releaseHttpClient();
         }
+        for (ScenarioRuntime runtime : forkedRuntimes) {
+            runtime.releaseHttpClient();
+        }
     }
 
     /**
@@ -176,6 +235,7 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
 
         // Wire up MockHandler reference for karate.proceed()
         runtime.getKarate().setMockHandler(this);
+        runtime.getEngine().setParseCache(parseCache);
 
         // Disable Java interop by default for the mock engine (see javaBridgeEnabled). Done
         // before Background runs so that a `configure javaBridgeEnabled = true` step there can
@@ -184,31 +244,126 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         // Likewise treat request-derived data as inert by default; Background may opt back in.
         runtime.setRequestExpressionsEnabled(requestExpressionsEnabled);
 
-        // Register matcher functions (lambdas read from currentRequest field)
+        registerRequestBindings(runtime);
+        Engine engine = runtime.getEngine();
+
+        // Put args into globals if provided
+        if (args != null) {
+            globals.putAll(args);
+            for (var entry : args.entrySet()) {
+                engine.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        // Execute background once on initialization using StepExecutor
+        StepExecutor executor = new StepExecutor(runtime);
+        if (feature.isBackgroundPresent()) {
+            for (Step step : feature.getBackground().getSteps()) {
+                StepResult result = executor.execute(step);
+                if (result.isFailed()) {
+                    throw new RuntimeException("mock background failed at line " + step.getLine() + ": " +
+                        result.getError().getMessage(), result.getError());
+                }
+            }
+            // Save background variables to globals
+            saveGlobals(engine);
+
+            // Transfer configure settings to MockConfig
+            KarateConfig karateConfig = runtime.getConfig();
+            if (karateConfig.isCorsEnabled()) {
+                config.setCorsEnabled(true);
+            }
+            Object responseHeaders = karateConfig.getResponseHeaders();
+            if (responseHeaders instanceof Map) {
+                config.setResponseHeaders((Map<String, Object>) responseHeaders);
+            }
+            Object beforeScenario = karateConfig.getBeforeScenario();
+            if (beforeScenario instanceof JavaCallable callable) {
+                config.setBeforeScenario(callable);
+            }
+            Object afterScenario = karateConfig.getAfterScenario();
+            if (afterScenario instanceof JavaCallable callable) {
+                config.setAfterScenario(callable);
+            }
+        }
+
+        logger.debug("initialized feature: {}", feature);
+        return runtime;
+    }
+
+    /**
+     * Fork a runtime for concurrent mode from a feature's initialized (post-Background) runtime.
+     * Background is NOT re-run — its side effects happened once, at startup — instead the fork
+     * carries over the template's configuration, and receives the Background variables through
+     * {@link #globals} like every request does, with any script functions among them (and the
+     * configured hooks) swapped for the fork's own copies.
+     */
+    private ScenarioRuntime forkRuntime(Feature feature) {
+        ScenarioRuntime template = runtimes.get(feature);
+        ScenarioRuntime runtime = new ScenarioRuntime(new FeatureRuntime(null, feature), template.getScenario());
+        runtime.getKarate().setMockHandler(this);
+        runtime.getEngine().setParseCache(parseCache);
+        // Background may have opted back in to either of these with `configure`
+        runtime.getKarate().setJavaBridgeEnabled(template.getKarate().isJavaBridgeEnabled());
+        runtime.setRequestExpressionsEnabled(template.isRequestExpressionsEnabled());
+        runtime.getConfig().copyFrom(template.getConfig());
+        runtime.getKarate().client.apply(runtime.getConfig());
+        registerRequestBindings(runtime);
+        forkedRuntimes.add(runtime);
+        logger.debug("forked runtime for feature: {} (total forks: {})", feature, forkedRuntimes.size());
+        return runtime;
+    }
+
+    private ScenarioRuntime acquireRuntime(Feature feature) {
+        if (!concurrent) {
+            return runtimes.get(feature);
+        }
+        ScenarioRuntime runtime = idleRuntimes.get(feature).poll();
+        return runtime != null ? runtime : forkRuntime(feature);
+    }
+
+    private void releaseRuntime(Feature feature, ScenarioRuntime runtime) {
+        if (concurrent) {
+            idleRuntimes.get(feature).offer(runtime);
+        }
+    }
+
+    /**
+     * Register the matcher functions and the lazy request variables. Both read the request from
+     * {@link #currentRequest}, so a runtime always sees the request of the thread evaluating it.
+     */
+    private void registerRequestBindings(ScenarioRuntime runtime) {
+        // Register matcher functions
         Engine engine = runtime.getEngine();
         engine.put("pathMatches", (JavaInvokable) a -> {
-            if (currentRequest == null) return false;
-            boolean matched = currentRequest.pathMatches(a[0] + "");
+            HttpRequest request = currentRequest.get();
+            if (request == null) return false;
+            boolean matched = request.pathMatches(a[0] + "");
             if (matched) {
-                engine.put("pathParams", currentRequest.getPathParams());
+                engine.put("pathParams", request.getPathParams());
             }
             return matched;
         });
-        engine.put("methodIs", (JavaInvokable) a ->
-            currentRequest != null && (a[0] + "").equalsIgnoreCase(currentRequest.getMethod()));
+        engine.put("methodIs", (JavaInvokable) a -> {
+            HttpRequest request = currentRequest.get();
+            return request != null && (a[0] + "").equalsIgnoreCase(request.getMethod());
+        });
         engine.put("typeContains", (JavaInvokable) a -> {
-            if (currentRequest == null) return false;
-            String contentType = currentRequest.getContentType();
+            HttpRequest request = currentRequest.get();
+            if (request == null) return false;
+            String contentType = request.getContentType();
             return contentType != null && contentType.contains(a[0] + "");
         });
         engine.put("acceptContains", (JavaInvokable) a -> {
-            if (currentRequest == null) return false;
-            String accept = currentRequest.getHeader("Accept");
+            HttpRequest request = currentRequest.get();
+            if (request == null) return false;
+            String accept = request.getHeader("Accept");
             return accept != null && accept.contains(a[0] + "");
         });
         engine.put("headerContains", (JavaInvokable) a -> {
-            if (currentRequest == null) return false;
-            List<String> values = currentRequest.getHeaderValues(a[0] + "");
+            HttpRequest request = currentRequest.get();
+            if (request == null) return false;
+            List<String> values = request.getHeaderValues(a[0] + "");
             if (values != null) {
                 String search = a[1] + "";
                 for (String v : values) {
@@ -217,19 +372,25 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
             }
             return false;
         });
-        engine.put("headerValue", (JavaInvokable) a ->
-            currentRequest != null && a.length > 0
-                ? markRequestDerived(runtime, currentRequest.getHeader(a[0] + "")) : null);
-        engine.put("paramValue", (JavaInvokable) a ->
-            currentRequest != null ? markRequestDerived(runtime, currentRequest.getParam(a[0] + "")) : null);
+        engine.put("headerValue", (JavaInvokable) a -> {
+            HttpRequest request = currentRequest.get();
+            return request != null && a.length > 0
+                ? markRequestDerived(runtime, request.getHeader(a[0] + "")) : null;
+        });
+        engine.put("paramValue", (JavaInvokable) a -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? markRequestDerived(runtime, request.getParam(a[0] + "")) : null;
+        });
         engine.put("paramExists", (JavaInvokable) a -> {
-            if (currentRequest == null) return false;
-            List<String> values = currentRequest.getParamValues(a[0] + "");
+            HttpRequest request = currentRequest.get();
+            if (request == null) return false;
+            List<String> values = request.getParamValues(a[0] + "");
             return values != null && !values.isEmpty();
         });
         engine.put("bodyPath", (JavaInvokable) a -> {
-            if (currentRequest == null) return null;
-            Object body = currentRequest.getBodyConverted();
+            HttpRequest request = currentRequest.get();
+            if (request == null) return null;
+            Object body = request.getBodyConverted();
             if (body == null) return null;
             String path = a[0] + "";
             if (path.startsWith("/")) {
@@ -250,70 +411,47 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         });
 
         // Register lazy request variables (resolved via JsLazy when accessed)
-        // These read from currentRequest field which is set per-request
-        engine.put("request", (JsLazy) () ->
-            currentRequest != null ? markRequestDerived(runtime, currentRequest.getBodyConverted()) : null);
-        engine.put("requestBytes", (JsLazy) () ->
-            currentRequest != null ? currentRequest.getBody() : null);
-        engine.put("requestPath", (JsLazy) () ->
-            currentRequest != null ? markRequestDerived(runtime, currentRequest.getPath()) : null);
-        engine.put("requestUri", (JsLazy) () ->
-            currentRequest != null ? markRequestDerived(runtime, currentRequest.getPathRaw()) : null);
-        engine.put("requestUrlBase", (JsLazy) () ->
-            currentRequest != null ? currentRequest.jsGet("urlBase") : null);
-        engine.put("requestMethod", (JsLazy) () ->
-            currentRequest != null ? currentRequest.getMethod() : null);
-        engine.put("requestHeaders", (JsLazy) () ->
-            currentRequest != null ? markRequestDerived(runtime, currentRequest.getHeaders()) : null);
-        engine.put("requestParams", (JsLazy) () ->
-            currentRequest != null ? markRequestDerived(runtime, currentRequest.getParams()) : null);
-        engine.put("requestParts", (JsLazy) () ->
-            currentRequest != null ? markRequestDerived(runtime, currentRequest.getMultiParts()) : null);
-        engine.put("requestCookies", (JsLazy) () ->
-            currentRequest != null ? markRequestDerived(runtime, currentRequest.getCookies()) : null);
-
-        // Put args into globals if provided
-        if (args != null) {
-            globals.putAll(args);
-            for (var entry : args.entrySet()) {
-                engine.put(entry.getKey(), entry.getValue());
-            }
-        }
-
-        // Execute background once on initialization using StepExecutor
-        StepExecutor executor = new StepExecutor(runtime);
-        if (feature.isBackgroundPresent()) {
-            for (Step step : feature.getBackground().getSteps()) {
-                StepResult result = executor.execute(step);
-                if (result.isFailed()) {
-                    throw new RuntimeException("mock background failed at line " + step.getLine() + ": " +
-                        result.getError().getMessage(), result.getError());
-                }
-            }
-            // Save background variables to globals
-            saveGlobals(engine);
-
-            // Transfer configure settings to MockConfig
-            KarateConfig karateConfig = runtime.getConfig();
-            if (karateConfig.isCorsEnabled()) {
-                config.setCorsEnabled(true);
-            }
-            Object responseHeaders = karateConfig.getResponseHeaders();
-            if (responseHeaders instanceof Map) {
-                config.setResponseHeaders((Map<String, Object>) responseHeaders);
-            }
-            Object beforeScenario = karateConfig.getBeforeScenario();
-            if (beforeScenario instanceof JavaCallable callable) {
-                config.setBeforeScenario(callable);
-            }
-            Object afterScenario = karateConfig.getAfterScenario();
-            if (afterScenario instanceof JavaCallable callable) {
-                config.setAfterScenario(callable);
-            }
-        }
-
-        logger.debug("initialized feature: {}", feature);
-        return runtime;
+        // These read from currentRequest which is set per-request
+        engine.put("request", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? markRequestDerived(runtime, request.getBodyConverted()) : null;
+        });
+        engine.put("requestBytes", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? request.getBody() : null;
+        });
+        engine.put("requestPath", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? markRequestDerived(runtime, request.getPath()) : null;
+        });
+        engine.put("requestUri", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? markRequestDerived(runtime, request.getPathRaw()) : null;
+        });
+        engine.put("requestUrlBase", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? request.jsGet("urlBase") : null;
+        });
+        engine.put("requestMethod", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? request.getMethod() : null;
+        });
+        engine.put("requestHeaders", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? markRequestDerived(runtime, request.getHeaders()) : null;
+        });
+        engine.put("requestParams", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? markRequestDerived(runtime, request.getParams()) : null;
+        });
+        engine.put("requestParts", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? markRequestDerived(runtime, request.getMultiParts()) : null;
+        });
+        engine.put("requestCookies", (JsLazy) () -> {
+            HttpRequest request = currentRequest.get();
+            return request != null ? markRequestDerived(runtime, request.getCookies()) : null;
+        });
     }
 
     private Scenario getFirstScenario(Feature feature) {
@@ -341,6 +479,30 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         }
     }
 
+    /**
+     * Publish the variables a request's scenario (re)assigned, compared by identity against the raw
+     * bindings it started with. Only changes are written back: in concurrent mode a request that merely
+     * read {@code counter} must not overwrite the value another request assigned in the meantime with
+     * the stale copy from its own snapshot. Published as one {@code putAll}, so a reader never sees
+     * half of one request's writes.
+     */
+    private void publishGlobals(Engine engine, Map<String, Object> baseline) {
+        Map<String, Object> bindings = engine.getBindings();
+        Map<String, Object> changed = new LinkedHashMap<>();
+        for (var entry : engine.getRawBindings().entrySet()) {
+            String key = entry.getKey();
+            if (isBuiltInVariable(key)) {
+                continue;
+            }
+            if (!baseline.containsKey(key) || baseline.get(key) != entry.getValue()) {
+                changed.put(key, bindings.get(key));
+            }
+        }
+        if (!changed.isEmpty()) {
+            globals.putAll(changed);
+        }
+    }
+
     private boolean isBuiltInVariable(String name) {
         return name.equals("karate") || name.equals("read") || name.equals("match") ||
                name.startsWith("request") || name.startsWith("response") ||
@@ -353,21 +515,35 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
 
     @Override
     public HttpResponse apply(HttpRequest request) {
+        if (concurrent) {
+            return serve(request);
+        }
         requestLock.lock();
         try {
-            proceeded = false;
+            return serve(request);
+        } finally {
+            requestLock.unlock();
+        }
+    }
+
+    private HttpResponse serve(HttpRequest request) {
+        currentRequest.set(request);
+        proceeded.set(false);
+        try {
             HttpResponse response = handleRequest(request);
             // Disclose that this response was FABRICATED by a karate mock. Downstream — above all the
             // coverage graph — cannot otherwise tell a stand-in from the real system: an address is no
             // signal (a real service is routinely on localhost), so the mock has to say so itself.
             // Presence is certainty; absence proves nothing (any other stub answers no differently).
             // A karate.proceed() response came from the real upstream, so it is deliberately NOT stamped.
-            if (config.isMockHeaderEnabled() && !proceeded) {
+            if (config.isMockHeaderEnabled() && !proceeded.get()) {
                 response.setHeader(KARATE_MOCK_HEADER, "true");
             }
             return response;
         } finally {
-            requestLock.unlock();
+            // netty reuses its worker threads - never leave a served request reachable from one
+            currentRequest.remove();
+            proceeded.remove();
         }
     }
 
@@ -385,28 +561,31 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         // Process body for form-urlencoded and multipart
         request.processBody();
 
-        // Find matching scenario and execute
-        for (Feature feature : features) {
-            ScenarioRuntime runtime = runtimes.get(feature);
-            Engine engine = runtime.getEngine();
-
-            // Drop any values marked request-derived by a previous request before this one's
-            // bindings are read again, so the identity set never accumulates stale entries.
-            runtime.clearRequestDerived();
-
-            // Set up request variables (includes storing HttpRequest for matcher functions)
-            setupRequestVariables(engine, request);
-
-            for (FeatureSection section : feature.getSections()) {
-                if (section.isOutline()) {
-                    logger.warn("skipping scenario outline in mock - {}:{}", feature, section.getScenarioOutline().getLine());
-                    continue;
-                }
-
-                Scenario scenario = section.getScenario();
-                if (isMatchingScenario(scenario, engine)) {
-                    return executeScenario(runtime, scenario, request);
+        // Find matching scenario and execute. The router hands back only the scenarios that can match,
+        // in declaration order; those of one feature are adjacent, and share that feature's runtime.
+        List<MockRouter.Route> candidates = router.candidates(request);
+        int index = 0;
+        while (index < candidates.size()) {
+            Feature feature = candidates.get(index).feature();
+            ScenarioRuntime runtime = acquireRuntime(feature);
+            try {
+                Engine engine = runtime.getEngine();
+
+                // Drop any values marked request-derived by a previous request before this one's
+                // bindings are read again, so the identity set never accumulates stale entries.
+                runtime.clearRequestDerived();
+
+                // Set up request variables
+                Map<String, Object> baseline = setupRequestVariables(runtime, engine);
+
+                for (; index < candidates.size() && candidates.get(index).feature() == feature; index++) {
+                    MockRouter.Route route = candidates.get(index);
+                    if (isMatchingRoute(route, request, engine)) {
+                        return executeScenario(runtime, route.scenario(), request, baseline);
+                    }
                 }
+            } finally {
+                releaseRuntime(feature, runtime);
             }
         }
 
@@ -439,16 +618,26 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         return value;
     }
 
-    private void setupRequestVariables(Engine engine, HttpRequest request) {
-        // Set current request - JsLazy bindings and matcher functions read from this field
-        this.currentRequest = request;
-
-        // Parse multipart/form-urlencoded body so fields are available in requestParams
-        request.processBody();
-
-        // Set all globals
-        for (Map.Entry<String, Object> entry : globals.entrySet()) {
-            engine.put(entry.getKey(), entry.getValue());
+    /**
+     * Returns the raw bindings as they stand once the request is set up, which is the baseline
+     * {@link #publishGlobals} diffs against when the scenario finishes.
+     */
+    private Map<String, Object> setupRequestVariables(ScenarioRuntime runtime, Engine engine) {
+        // Set all globals, from a snapshot so that a concurrent publish cannot interleave
+        Map<String, Object> snapshot;
+        synchronized (globals) {
+            snapshot = new LinkedHashMap<>(globals);
+        }
+        Map<Object, Object> previous = concurrent ? forkCopies.getOrDefault(runtime, Collections.emptyMap()) : null;
+        Map<Object, Object> copies = concurrent ? new IdentityHashMap<>() : null;
+        for (Map.Entry<String, Object> entry : snapshot.entrySet()) {
+            Object value = entry.getValue();
+            engine.put(entry.getKey(), copies == null ? value : ownCopy(engine, value, previous, copies));
+        }
+        if (copies != null) {
+            ownCopy(engine, config.getBeforeScenario(), previous, copies);
+            ownCopy(engine, config.getAfterScenario(), previous, copies);
+            forkCopies.put(runtime, copies);
         }
 
         // Initialize response variables with defaults (must be reset per request)
@@ -458,6 +647,43 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         engine.put("responseHeaders", new HashMap<>());
         engine.put("responseDelay", 0);
         engine.put("pathParams", new HashMap<>());
+        return new HashMap<>(engine.getRawBindings());
+    }
+
+    /** This fork's copy of a shared script function, made on first use; any other value as is. */
+    private static Object ownCopy(Engine engine, Object value, Map<Object, Object> previous, Map<Object, Object> copies) {
+        if (!(value instanceof JavaCallable)) {
+            return value;
+        }
+        Object copy = previous.get(value);
+        if (copy == null) {
+            copy = engine.rebind(value);
+        }
+        if (copy != value) {
+            copies.put(value, copy);
+        }
+        return copy;
+    }
+
+    /** The hook as this runtime should call it: in concurrent mode, the fork's own copy. */
+    private JavaCallable hookFor(ScenarioRuntime runtime, JavaCallable hook) {
+        if (hook == null || !concurrent) {
+            return hook;
+        }
+        Map<Object, Object> copies = forkCopies.get(runtime);
+        Object copy = copies == null ? null : copies.get(hook);
+        return copy instanceof JavaCallable callable ? callable : hook;
+    }
+
+    private boolean isMatchingRoute(MockRouter.Route route, HttpRequest request, Engine engine) {
+        if (route.kind() != MockRouter.Kind.INDEXED) {
+            return isMatchingScenario(route.scenario(), engine);
+        }
+        if (route.matches(request, engine)) {
+            logger.debug("scenario matched at line {} (indexed): {}", route.scenario().getLine(), route.scenario().getName());
+            return true;
+        }
+        return false;
     }
 
     private boolean isMatchingScenario(Scenario scenario, Engine engine) {
@@ -484,14 +710,15 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         }
     }
 
-    private HttpResponse executeScenario(ScenarioRuntime runtime, Scenario scenario, HttpRequest request) {
+    private HttpResponse executeScenario(ScenarioRuntime runtime, Scenario scenario, HttpRequest request,
+                                         Map<String, Object> baseline) {
         Engine engine = runtime.getEngine();
         StepExecutor executor = new StepExecutor(runtime);
 
         // Execute beforeScenario hook before step execution so request-scoped setup can run per-request.
         // A hook exception surfaces as HTTP 500 (same as a step failure) - wrap the hook body in
         // try/catch if you want to suppress errors.
-        Exception beforeError = invokeMockHook(config.getBeforeScenario(), "beforeScenario");
+        Exception beforeError = invokeMockHook(hookFor(runtime, config.getBeforeScenario()), "beforeScenario");
         if (beforeError != null) {
             return hookErrorResponse("beforeScenario", beforeError);
         }
@@ -505,13 +732,14 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
             }
         }
 
-        // Save any new variables to globals
-        saveGlobals(engine);
+        // Save any new or reassigned variables to globals
+        publishGlobals(engine, baseline);
 
         // Execute afterScenario hook if configured.
-        // Pass null context - the JS function uses its declaredContext which has access to karate object.
+        // Pass null context - the JS function uses its declaredContext which has access to karate object
+        // (in concurrent mode the fork's copy, so it sees and sets this request's variables).
         // A hook exception surfaces as HTTP 500 (same convention as beforeScenario / step failures).
-        Exception afterError = invokeMockHook(config.getAfterScenario(), "afterScenario");
+        Exception afterError = invokeMockHook(hookFor(runtime, config.getAfterScenario()), "afterScenario");
         if (afterError != null) {
             return hookErrorResponse("afterScenario", afterError);
         }
@@ -551,7 +779,7 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
         // Handle karate.proceed() result - if response is an HttpResponse, pass it through
         if (responseBody instanceof HttpResponse proceedResponse) {
             // the real upstream answered this one — apply() must not stamp it as mock-fabricated
-            proceeded = true;
+            proceeded.set(true);
             // Pass through the proceed response directly
             response.setStatus(proceedResponse.getStatus());
             response.setStatusText(proceedResponse.getStatusText());
@@ -590,7 +818,12 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
             response.setHeader("Access-Control-Allow-Origin", "*");
         }
 
-        if (responseBody != null) {
+        if (responseBody instanceof File file) {
+            // written straight from disk by a streaming server, read into memory by any other
+            response.setBodyFile(file, ResourceType.fromFileExtension(file.getName()));
+        } else if (responseBody instanceof InputStream in) {
+            response.setBodyStream(in, -1, null);
+        } else if (responseBody != null) {
             // A `#(expr)` that throws is deliberately left as its own SOURCE TEXT (StepExecutor) — the
             // schema-as-template pattern, where the match engine re-resolves it later with the right
             // context. A mock response is the one place that recovery can never happen: nothing matches a
@@ -671,7 +904,8 @@ public class MockHandler implements Function<HttpRequest, HttpResponse> {
     /**
      * Name the cause, not just the symptom — reporting the ORIGINAL throwable. It is not re-evaluated:
      * re-running a user expression on an error path would repeat any side effect outside the engine, and
-     * an expression that blocks would stall every other request, since this runs under the request lock.
+     * an expression that blocks would stall every other request, since this runs under the request lock
+     * unless the mock is concurrent.
      */
     private static String strandedMessage(ScenarioRuntime runtime, String stranded) {
         int sep = stranded.indexOf(' ');
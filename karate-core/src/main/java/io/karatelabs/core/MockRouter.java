@@ -0,0 +1,334 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import io.karatelabs.common.StringUtils;
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.gherkin.FeatureSection;
+import io.karatelabs.gherkin.Scenario;
+import io.karatelabs.http.HttpRequest;
+import io.karatelabs.js.Engine;
+import io.karatelabs.output.LogContext;
+import io.karatelabs.parser.Node;
+import io.karatelabs.parser.NodeType;
+import io.karatelabs.parser.TokenType;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Routing index over the scenarios of a mock, built once when the {@link MockHandler} is created.
+ * <p>
+ * Without it every request walks the scenarios in order and evaluates each name as JS until one is
+ * true, so the last route of a 300-scenario mock costs 300 interpreter evaluations. Most scenario names
+ * are one of a few shapes though — {@code pathMatches('/cats/{id}') && methodIs('get')}, either order,
+ * either half alone — and those are compiled here into a path-template trie (each route carrying its
+ * method), so a request only ever considers the scenarios whose path template fits it.
+ * <p>
+ * Every scenario falls in one of four kinds:
+ * <ul>
+ * <li><b>indexed</b> — the whole name is {@code pathMatches} / {@code methodIs} over string literals,
+ * and is decided in Java without touching the engine</li>
+ * <li><b>prefiltered</b> — the name STARTS with such calls ({@code pathMatches('/x') && paramExists('q')}):
+ * the index decides whether it can match at all, and only then is the full name evaluated as JS</li>
+ * <li><b>catch-all</b> — an empty name, which always matches</li>
+ * <li><b>scripted</b> — anything else, evaluated as JS for every request, exactly as before</li>
+ * </ul>
+ * The candidates come back in declaration order and the first that matches still wins, so the result
+ * is the one the linear walk would have produced. That includes the side effect a true
+ * {@code pathMatches} has on {@code pathParams}: a leading call is only ever skipped when JS would
+ * have short-circuited before reaching anything else.
+ */
+class MockRouter {
+
+    private static final Logger logger = LogContext.MOCK_LOGGER;
+
+    enum Kind {
+        INDEXED, PREFILTERED, CATCH_ALL, SCRIPTED
+    }
+
+    /**
+     * A scenario in routing order. {@code ordinal} is its position across all features, which is
+     * what keeps first-match-wins intact once candidates are gathered from different buckets.
+     */
+    record Route(int ordinal, Feature feature, Scenario scenario, Kind kind,
+                 String pathPattern, String method, boolean pathFirst) {
+
+        /**
+         * Decide an INDEXED route, mirroring the JS it replaces call for call: a path that matches sets
+         * {@code pathParams} even when the method then fails it, and a method checked first means the
+         * path is never looked at.
+         */
+        boolean matches(HttpRequest request, Engine engine) {
+            if (pathFirst) {
+                return pathMatches(request, engine) && methodIs(request);
+            }
+            return (method == null || methodIs(request)) && (pathPattern == null || pathMatches(request, engine));
+        }
+
+        private boolean pathMatches(HttpRequest request, Engine engine) {
+            if (request.getPath() == null || !request.pathMatches(pathPattern)) {
+                return false;
+            }
+            engine.put("pathParams", request.getPathParams());
+            return true;
+        }
+
+        private boolean methodIs(HttpRequest request) {
+            return method == null || method.equalsIgnoreCase(request.getMethod());
+        }
+
+    }
+
+    private static class PathNode {
+
+        final Map<String, PathNode> literals = new HashMap<>();
+        PathNode param;
+        final List<Route> routes = new ArrayList<>(1);
+
+    }
+
+    private final PathNode root = new PathNode();
+    private final Map<String, List<Route>> byMethod = new HashMap<>();
+    private final List<Route> always = new ArrayList<>();
+    private final Map<Kind, Integer> counts = new HashMap<>();
+
+    MockRouter(List<Feature> features) {
+        int ordinal = 0;
+        for (Feature feature : features) {
+            for (FeatureSection section : feature.getSections()) {
+                if (section.isOutline()) {
+                    logger.warn("skipping scenario outline in mock - {}:{}", feature, section.getScenarioOutline().getLine());
+                    continue;
+                }
+                add(compile(ordinal++, feature, section.getScenario()));
+            }
+        }
+    }
+
+    private void add(Route route) {
+        counts.merge(route.kind(), 1, Integer::sum);
+        if (route.pathPattern() != null) {
+            PathNode node = root;
+            for (String segment : segments(route.pathPattern())) {
+                if (isParam(segment)) {
+                    if (node.param == null) {
+                        node.param = new PathNode();
+                    }
+                    node = node.param;
+                } else {
+                    node = node.literals.computeIfAbsent(segment, k -> new PathNode());
+                }
+            }
+            node.routes.add(route);
+        } else if (route.method() != null) {
+            byMethod.computeIfAbsent(upperCase(route.method()), k -> new ArrayList<>()).add(route);
+        } else {
+            always.add(route);
+        }
+    }
+
+    /**
+     * The scenarios that could match this request, in declaration order. A route left out is one whose
+     * name would certainly have evaluated to false.
+     */
+    List<Route> candidates(HttpRequest request) {
+        List<Route> result = new ArrayList<>(always);
+        String method = request.getMethod() == null ? null : upperCase(request.getMethod());
+        if (method != null) {
+            List<Route> routes = byMethod.get(method);
+            if (routes != null) {
+                result.addAll(routes);
+            }
+        }
+        String path = request.getPath();
+        if (path != null) {
+            int pos = path.indexOf('?');
+            collect(root, segments(pos == -1 ? path : path.substring(0, pos)), 0, method, result);
+        }
+        if (result.size() > 1) {
+            result.sort(Comparator.comparingInt(Route::ordinal));
+        }
+        return result;
+    }
+
+    private static void collect(PathNode node, List<String> segments, int depth, String method, List<Route> result) {
+        if (depth == segments.size()) {
+            for (Route route : node.routes) {
+                // a path-first route whose method differs is still a candidate: in JS its pathMatches
+                // runs, and sets pathParams, before methodIs fails it
+                if (route.method() == null || route.pathFirst() || upperCase(route.method()).equals(method)) {
+                    result.add(route);
+                }
+            }
+            return;
+        }
+        // the index only narrows; request.pathMatches() has the last word on every route it returns
+        PathNode literal = node.literals.get(segments.get(depth));
+        if (literal != null) {
+            collect(literal, segments, depth + 1, method, result);
+        }
+        if (node.param != null) {
+            collect(node.param, segments, depth + 1, method, result);
+        }
+    }
+
+    int count(Kind kind) {
+        return counts.getOrDefault(kind, 0);
+    }
+
+    // same split, and the same idea of a {param} segment, as HttpUtils.parseUriPattern()
+    private static List<String> segments(String path) {
+        return StringUtils.split(path, '/', false);
+    }
+
+    private static boolean isParam(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static String upperCase(String method) {
+        return method.toUpperCase(Locale.ROOT);
+    }
+
+    //==================================================================================================
+    // compile
+    //
+    static Route compile(int ordinal, Feature feature, Scenario scenario) {
+        String expression = StringUtils.trimToNull(scenario.getName());
+        if (expression == null) {
+            return new Route(ordinal, feature, scenario, Kind.CATCH_ALL, null, null, false);
+        }
+        List<Node> conjuncts = conjuncts(expression);
+        String pathPattern = null;
+        String method = null;
+        boolean pathFirst = false;
+        int leading = 0;
+        // only LEADING calls can be taken out of the engine's hands: anything before them could have
+        // side effects (or throw) that skipping the scenario would swallow
+        for (Node conjunct : conjuncts) {
+            String path = literalCall(conjunct, "pathMatches");
+            if (path != null && pathPattern == null) {
+                pathPattern = path;
+                pathFirst = method == null;
+            } else {
+                String literal = literalCall(conjunct, "methodIs");
+                if (literal == null || method != null) {
+                    break;
+                }
+                method = literal;
+            }
+            leading++;
+        }
+        if (leading == 0) {
+            return new Route(ordinal, feature, scenario, Kind.SCRIPTED, null, null, false);
+        }
+        Kind kind = leading == conjuncts.size() ? Kind.INDEXED : Kind.PREFILTERED;
+        return new Route(ordinal, feature, scenario, kind, pathPattern, method, pathFirst);
+    }
+
+    /**
+     * The operands of a top-level {@code &&} chain, left to right; a single operand when the
+     * expression is not one, and none at all when it does not parse as a single expression.
+     */
+    private static List<Node> conjuncts(String expression) {
+        Node program;
+        try {
+            program = Engine.parse(expression);
+        } catch (Exception e) {
+            // left for the engine to report, at request time, exactly as it always has
+            return List.of();
+        }
+        List<Node> statements = program.findImmediateChildren(NodeType.STATEMENT);
+        if (statements.size() != 1 || statements.getFirst().isEmpty()) {
+            return List.of();
+        }
+        Node list = statements.getFirst().getFirst();
+        if (list.type != NodeType.EXPR_LIST || list.size() != 1) {
+            return List.of();
+        }
+        List<Node> result = new ArrayList<>();
+        flatten(list.getFirst(), result);
+        return result;
+    }
+
+    private static void flatten(Node node, List<Node> result) {
+        if (node.type == NodeType.EXPR && node.size() == 1) {
+            node = node.getFirst();
+        }
+        // the parser uses LOGIC_AND_EXPR for || as well, so the operator token decides
+        if (node.type == NodeType.LOGIC_AND_EXPR && node.size() == 3
+                && node.get(1).isToken() && node.get(1).token.type == TokenType.AMP_AMP) {
+            flatten(node.get(0), result);
+            flatten(node.get(2), result);
+        } else {
+            result.add(node);
+        }
+    }
+
+    /**
+     * The argument of {@code name('literal')}, or null if the node is anything else. Escapes are not
+     * decoded here, so a literal containing a backslash is left to the engine.
+     */
+    private static String literalCall(Node node, String name) {
+        if (node.type != NodeType.FN_CALL_EXPR || node.size() != 4) {
+            return null;
+        }
+        Node ref = node.get(0);
+        if (ref.type != NodeType.REF_EXPR || ref.size() != 1 || !ref.getFirst().isToken()
+                || ref.getFirst().token.type != TokenType.IDENT || !name.equals(ref.getFirst().getText())) {
+            return null;
+        }
+        Node args = node.get(2);
+        if (args.type != NodeType.FN_CALL_ARGS || args.size() != 1) {
+            return null;
+        }
+        Node arg = args.getFirst();
+        if (arg.type != NodeType.FN_CALL_ARG || arg.size() != 1) {
+            return null;
+        }
+        Node expr = arg.getFirst();
+        if (expr.type != NodeType.EXPR || expr.size() != 1) {
+            return null;
+        }
+        Node lit = expr.getFirst();
+        if (lit.type != NodeType.LIT_EXPR || lit.size() != 1 || !lit.getFirst().isToken()) {
+            return null;
+        }
+        TokenType type = lit.getFirst().token.type;
+        if (type != TokenType.S_STRING && type != TokenType.D_STRING) {
+            return null;
+        }
+        String text = lit.getFirst().getText();
+        if (text.indexOf('\\') != -1) {
+            return null;
+        }
+        return text.substring(1, text.length() - 1);
+    }
+
+}
@@ -28,6 +28,7 @@ import io.karatelabs.gherkin.Feature;
 import io.karatelabs.http.HttpRequest;
 import io.karatelabs.http.HttpResponse;
 import io.karatelabs.http.HttpServer;
+import io.karatelabs.http.ServerConfig;
 import io.karatelabs.js.SimpleObject;
 import io.karatelabs.output.LogContext;
 import io.netty.handler.ssl.SslContext;
@@ -165,6 +166,13 @@ public class MockServer implements SimpleObject {
         return handler.getVariable(name);
     }
 
+    /**
+     * Get the underlying HttpServer, e.g. for {@link HttpServer#getHandlerExecutor()} metrics.
+     */
+    public HttpServer getHttpServer() {
+        return httpServer;
+    }
+
     /**
      * Get the underlying MockHandler.
      */
@@ -199,6 +207,9 @@ public class MockServer implements SimpleObject {
         private boolean watch;
         private boolean javaBridgeEnabled;
         private boolean requestExpressionsEnabled;
+        private boolean concurrent;
+        private boolean offloadHandlers;
+        private boolean streamBodies;
 
         private Builder() {
         }
@@ -207,7 +218,7 @@ public class MockServer implements SimpleObject {
          * Add a feature file by path.
          */
         public Builder feature(String path) {
-            features.add(Feature.read(path));
+            features.add(Feature.read(Resource.path(path)));
             return this;
         }
 
@@ -322,6 +333,44 @@ public class MockServer implements SimpleObject {
             return this;
         }
 
+        /**
+         * Serve requests concurrently, each on its own runtime forked from the state after
+         * Background, instead of one at a time. OFF by default. Variables are shared through a
+         * snapshot taken when a request starts and the (re)assignments published when its scenario
+         * ends, so re-assigning a variable is safe but two requests assigning the same one are
+         * last-writer-wins. Objects mutated in place ({@code * cats[id] = request}) are shared
+         * across threads unsynchronized, so only enable this for mocks that are stateless or that
+         * replace state by re-assignment.
+         */
+        public Builder concurrent(boolean concurrent) {
+            this.concurrent = concurrent;
+            return this;
+        }
+
+        /**
+         * Run mock scenarios on virtual threads instead of the server's netty event loops, so a
+         * slow scenario (heavy JS, a {@code karate.call}, file reads) stalls
+         * only its own request. OFF by default. See {@link ServerConfig#offloadHandlers(boolean)};
+         * pairs naturally with {@link #concurrent(boolean)}, which is what lets the offloaded
+         * scenarios actually run side by side.
+         */
+        public Builder offloadHandlers(boolean offloadHandlers) {
+            this.offloadHandlers = offloadHandlers;
+            return this;
+        }
+
+        /**
+         * Stream request and response bodies instead of buffering them whole (and refusing requests
+         * over 1 MB). A scenario that never reads {@code request} / {@code requestBytes} leaves the body
+         * to be drained off the wire in bounded memory, and a {@code response} that is a
+         * {@code java.io.File} or {@code InputStream} is written as it is read. OFF by default, implies
+         * {@link #offloadHandlers(boolean)}. See {@link ServerConfig#streamBodies(boolean)}.
+         */
+        public Builder streamBodies(boolean streamBodies) {
+            this.streamBodies = streamBodies;
+            return this;
+        }
+
         /**
          * Start the mock server.
          */
@@ -335,12 +384,12 @@ public class MockServer implements SimpleObject {
             MockHandler handler;
 
             if (watch) {
-                ReloadingHandler reloadingHandler = new ReloadingHandler(features, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled);
+                ReloadingHandler reloadingHandler = new ReloadingHandler(features, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled, concurrent);
                 handler = reloadingHandler.getHandler();
                 requestHandler = reloadingHandler;
                 logger.info("watch mode enabled - features will be reloaded when modified");
             } else {
-                handler = new MockHandler(features, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled);
+                handler = new MockHandler(features, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled, concurrent);
                 requestHandler = handler;
             }
 
@@ -355,7 +404,8 @@ public class MockServer implements SimpleObject {
                 }
             }
 
-            HttpServer httpServer = HttpServer.start(port, sslContext, requestHandler);
+            ServerConfig serverConfig = new ServerConfig().offloadHandlers(offloadHandlers).streamBodies(streamBodies);
+            HttpServer httpServer = HttpServer.start(port, sslContext, requestHandler, serverConfig);
             int actualPort = httpServer.getPort();
 
             String protocol = ssl ? "https" : "http";
@@ -375,14 +425,16 @@ public class MockServer implements SimpleObject {
         private final String pathPrefix;
         private final boolean javaBridgeEnabled;
         private final boolean requestExpressionsEnabled;
+        private final boolean concurrent;
         private final Map<Resource, Long> watchedFiles = new LinkedHashMap<>();
         private MockHandler handler;
 
-        ReloadingHandler(List<Feature> features, Map<String, Object> args, String pathPrefix, boolean javaBridgeEnabled, boolean requestExpressionsEnabled) {
+        ReloadingHandler(List<Feature> features, Map<String, Object> args, String pathPrefix, boolean javaBridgeEnabled, boolean requestExpressionsEnabled, boolean concurrent) {
             this.args = args;
             this.pathPrefix = pathPrefix;
             this.javaBridgeEnabled = javaBridgeEnabled;
             this.requestExpressionsEnabled = requestExpressionsEnabled;
+            this.concurrent = concurrent;
 
             // Track file modification times for each feature
             for (Feature feature : features) {
@@ -401,7 +453,7 @@ public class MockServer implements SimpleObject {
             }
 
             // Initialize handler
-            handler = new MockHandler(features, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled);
+            handler = new MockHandler(features, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled, concurrent);
         }
 
         MockHandler getHandler() {
@@ -454,7 +506,7 @@ public class MockServer implements SimpleObject {
                 // at all). Releasing safely needs the outgoing handler to be leased or
                 // reference-counted so it can drain first; that is a real change to the request
                 // path, not a line here.
-                handler = new MockHandler(reloadedFeatures, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled);
+                handler = new MockHandler(reloadedFeatures, args, pathPrefix, javaBridgeEnabled, requestExpressionsEnabled, concurrent);
                 logger.info("reloaded {} feature(s)", reloadedFeatures.size());
             }
 
@@ -0,0 +1,225 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import io.karatelabs.common.Json;
+import io.karatelabs.common.Resource;
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.gherkin.Scenario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scenario durations from the last run of each feature, kept in
+ * {@code karate-json/karate-history.json} under the report dir so the next parallel run can
+ * start the longest work first. Without it the suite submits in discovery order, and a
+ * six-minute feature that happens to be discovered last starts last, stretching the wall clock
+ * while the other lanes sit idle.
+ * <p>
+ * A feature's entry is replaced whole each time it runs, so a tag-filtered run predicts what it
+ * actually ran last time rather than the union of everything it ever ran. Features not in this
+ * run keep their entries. Scenarios are keyed by section and example number ({@code 2},
+ * {@code 3.4}), which survives edits that only move lines. Anything unreadable is treated as no
+ * history: this is a scheduling hint, never a reason to fail a run.
+ * <pre>
+ * {"version":1,"features":{"users/users.feature":{"durationMillis":5120,"scenarios":{"1":830,"2.1":2040}}}}
+ * </pre>
+ */
+final class RunHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger("karate.runtime");
+
+    static final String FILENAME = "karate-history.json";
+    static final long UNKNOWN = -1;
+
+    private record Entry(long durationMillis, Map<String, Long> scenarios) {
+
+        long serialMillis() {
+            long total = 0;
+            for (long millis : scenarios.values()) {
+                total += millis;
+            }
+            return total;
+        }
+
+    }
+
+    private final Map<String, Entry> features = new ConcurrentHashMap<>();
+
+    static Path pathIn(Path outputDir) {
+        return outputDir.resolve(Suite.KARATE_JSON_SUBFOLDER).resolve(FILENAME);
+    }
+
+    @SuppressWarnings("unchecked")
+    static RunHistory load(Path outputDir) {
+        RunHistory history = new RunHistory();
+        Path path = pathIn(outputDir);
+        if (!Files.isRegularFile(path)) {
+            return history;
+        }
+        try {
+            Map<String, Object> root = (Map<String, Object>) Json.parseStrict(Files.readString(path));
+            Map<String, Object> features = (Map<String, Object>) root.get("features");
+            if (features != null) {
+                features.forEach((featurePath, value) -> {
+                    Map<String, Object> entry = (Map<String, Object>) value;
+                    Map<String, Long> scenarios = new LinkedHashMap<>();
+                    Map<String, Object> scenarioMap = (Map<String, Object>) entry.get("scenarios");
+                    if (scenarioMap != null) {
+                        scenarioMap.forEach((key, millis) -> scenarios.put(key, ((Number) millis).longValue()));
+                    }
+                    long duration = ((Number) entry.get("durationMillis")).longValue();
+                    history.features.put(featurePath, new Entry(duration, scenarios));
+                });
+            }
+        } catch (Exception e) {
+            logger.warn("ignoring unreadable run history '{}': {}", path, e.getMessage());
+            history.features.clear();
+        }
+        return history;
+    }
+
+    void save(Path outputDir) {
+        Map<String, Object> features = new TreeMap<>();
+        this.features.forEach((featurePath, entry) -> {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("durationMillis", entry.durationMillis());
+            map.put("scenarios", entry.scenarios());
+            features.put(featurePath, map);
+        });
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("version", 1);
+        root.put("features", features);
+        Path path = pathIn(outputDir);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, Json.stringifyStrict(root));
+        } catch (Exception e) {
+            logger.warn("failed to write run history '{}': {}", path, e.getMessage());
+        }
+    }
+
+    boolean isEmpty() {
+        return features.isEmpty();
+    }
+
+    /** Called once per top-level feature, at FEATURE_EXIT. */
+    void record(FeatureResult fr) {
+        String featurePath = keyOf(fr.getFeature());
+        if (featurePath == null || fr.getScenarioResults().isEmpty()) {
+            return;
+        }
+        Map<String, Long> scenarios = new LinkedHashMap<>();
+        for (ScenarioResult sr : fr.getScenarioResults()) {
+            if (sr.getScenario() != null && !sr.isSkipped()) {
+                scenarios.put(keyOf(sr.getScenario()), sr.getDurationMillis());
+            }
+        }
+        features.put(featurePath, new Entry(fr.getDurationMillis(), scenarios));
+    }
+
+    /** How long this scenario took on its feature's last run, or {@link #UNKNOWN}. */
+    long scenarioMillis(Scenario scenario) {
+        String featurePath = keyOf(scenario.getFeature());
+        Entry entry = featurePath == null ? null : features.get(featurePath);
+        if (entry == null) {
+            return UNKNOWN;
+        }
+        Long millis = entry.scenarios().get(keyOf(scenario));
+        return millis == null ? UNKNOWN : millis;
+    }
+
+    /**
+     * The features in submission order: no history first, in discovery order - nothing is known
+     * about them, and they may be the longest of all - then by their scenarios' summed durations,
+     * longest first. The sum and not the feature's own wall clock, which in a parallel run is
+     * shortened by however many lanes its scenarios happened to get.
+     */
+    List<Feature> longestFirst(List<Feature> discovered) {
+        List<Feature> ordered = new ArrayList<>(discovered);
+        ordered.sort(Comparator.comparingLong(this::featureWeight).reversed()); // stable
+        return ordered;
+    }
+
+    private long featureWeight(Feature feature) {
+        String featurePath = keyOf(feature);
+        Entry entry = featurePath == null ? null : features.get(featurePath);
+        return entry == null ? Long.MAX_VALUE : entry.serialMillis();
+    }
+
+    /**
+     * The wall clock the last recorded durations predict for these features on this many lanes,
+     * scheduled the way {@link ScenarioGate} does it: every scenario to the least loaded lane,
+     * longest first. Features with no history are left out. {@link #UNKNOWN} when none of them
+     * has any.
+     */
+    long predictMakespan(List<Feature> toRun, int lanes) {
+        List<Long> durations = new ArrayList<>();
+        for (Feature feature : toRun) {
+            String featurePath = keyOf(feature);
+            Entry entry = featurePath == null ? null : features.get(featurePath);
+            if (entry != null) {
+                durations.addAll(entry.scenarios().values());
+            }
+        }
+        if (durations.isEmpty()) {
+            return UNKNOWN;
+        }
+        durations.sort(Comparator.reverseOrder());
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, lanes); i++) {
+            loads.add(0L);
+        }
+        long makespan = 0;
+        for (long millis : durations) {
+            long load = loads.poll() + millis;
+            makespan = Math.max(makespan, load);
+            loads.add(load);
+        }
+        return makespan;
+    }
+
+    private static String keyOf(Feature feature) {
+        Resource resource = feature == null ? null : feature.getResource();
+        String path = resource == null ? null : resource.getRelativePath();
+        return path == null || path.isEmpty() ? null : path; // in-memory features have no identity
+    }
+
+    private static String keyOf(Scenario scenario) {
+        String key = String.valueOf(scenario.getSection().getIndex() + 1);
+        return scenario.getExampleIndex() == -1 ? key : key + "." + (scenario.getExampleIndex() + 1);
+    }
+
+}
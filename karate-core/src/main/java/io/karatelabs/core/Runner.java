@@ -141,9 +141,24 @@ public final class Runner {
      * The template's {@code env}, {@code configDir}, and {@code systemProperties}
      * are applied; everything else (paths, listeners, output flags) is overridden
      * for the single-feature, no-report execution model.
+     * <p>
+     * To run the same feature many times, {@link #prepareFeature} once and
+     * {@link FeaturePlan#run} it instead — this is exactly that, for one run.
      */
     public static FeatureResult runFeature(String path, Map<String, Object> arg, PerfHook perfHook,
                                            List<String> tags, Builder template) {
+        return prepareFeature(path, tags, template).run(arg, perfHook);
+    }
+
+    /**
+     * Resolve everything {@link #runFeature(String, Map, PerfHook, List, Builder)} would, once:
+     * the Suite settings from the template, the root, the config files, the feature itself and
+     * which of its scenarios the tags select. The returned plan is immutable and thread-safe, and
+     * each {@link FeaturePlan#run} only pays for the feature's own execution.
+     * <p>
+     * karate-gatling keeps one plan per feature and tag set for the whole simulation.
+     */
+    public static FeaturePlan prepareFeature(String path, List<String> tags, Builder template) {
         // Create the suite using Builder, seeding with template settings if provided
         Builder builder = Runner.builder()
                 .outputHtmlReport(false)
@@ -187,7 +202,8 @@ public final class Runner {
             // across this Suite (one virtual user) and back into the protocol-owned
             // cache for the next virtual user to see.
             if (template.getCallSingleCache() != null) {
-                builder.callSingleCache(template.getCallSingleCache(), template.getCallSingleLock());
+                builder.callSingleCache(template.getCallSingleCache());
+                builder.callSingleLock = template.callSingleLock;
             }
             if (template.getCallOnceCacheStore() != null) {
                 builder.callOnceCacheStore(template.getCallOnceCacheStore(), template.getCallOnceLockStore());
@@ -195,6 +211,9 @@ public final class Runner {
             if (template.getSetupOnceCacheStore() != null) {
                 builder.setupOnceCacheStore(template.getSetupOnceCacheStore());
             }
+            if (template.getParseCache() != null) {
+                builder.parseCache(template.getParseCache());
+            }
             // left unset, per-step log capture is off in this lane — nothing here reads it.
             // karate-gatling sets it when log replay is on, since replay is exactly the reader.
             if (template.getCaptureStepLogs() != null) {
@@ -212,29 +231,68 @@ public final class Runner {
 
         // read the feature AFTER the Suite exists, so it is anchored on THE root the same way
         // every other lane's features are (this is the one place that used to root at the CWD)
-        Feature feature = Feature.read(Resource.path(path, suite.getRoot(), suite.getClasspathRoot()));
+        Feature feature = suite.getFeatureCache().get(Resource.path(path, suite.getRoot(), suite.getClasspathRoot()));
+        suite.preselect(feature);
+        return new FeaturePlan(suite, feature);
+    }
 
-        // Set PerfHook if provided (for Gatling integration)
-        if (perfHook != null) {
-            suite.setPerfHook(perfHook);
-        }
+    /**
+     * One feature, resolved by {@link #prepareFeature} and ready to run any number of times,
+     * concurrently. Config is still evaluated per scenario, as on every other path — only its
+     * parse is shared — so what a karate-config.js returns may differ from run to run exactly as
+     * it always could; {@code karate.callSingle()} remains the way to compute something once.
+     */
+    public static final class FeaturePlan {
 
-        // Run the feature with the arg map
-        FeatureRuntime fr = new FeatureRuntime(suite, feature, null, null, false, arg, null);
-        FeatureResult result = fr.call();
+        private final Suite suite;
+        private final Feature feature;
+        // a feature that cannot be shared (see Feature.isShareable) is read again for every run
+        private final boolean shareable;
 
-        // Capture result variables from last executed scenario (for Gatling variable chaining)
-        ScenarioRuntime lastExecuted = fr.getLastExecuted();
-        if (lastExecuted != null) {
-            result.setResultVariables(lastExecuted.getAllVariables());
+        private FeaturePlan(Suite suite, Feature feature) {
+            this.suite = suite;
+            this.feature = feature;
+            this.shareable = feature.isShareable();
         }
 
-        // Notify PerfHook of feature completion
-        if (perfHook != null) {
-            perfHook.afterFeature(result);
+        public Feature getFeature() {
+            return feature;
+        }
+
+        /**
+         * Run the feature once, in a Suite of its own copied from the plan.
+         *
+         * @param arg      variables to inject into the feature (available as top-level variables)
+         * @param perfHook optional PerfHook for performance metric collection (Gatling)
+         * @return the feature result, with the last executed scenario's variables attached
+         */
+        public FeatureResult run(Map<String, Object> arg, PerfHook perfHook) {
+            Suite runSuite = new Suite(suite);
+
+            // Set PerfHook if provided (for Gatling integration)
+            if (perfHook != null) {
+                runSuite.setPerfHook(perfHook);
+            }
+
+            // Run the feature with the arg map
+            Feature toRun = shareable ? feature : Feature.read(feature.getResource());
+            FeatureRuntime fr = new FeatureRuntime(runSuite, toRun, null, null, false, arg, null);
+            FeatureResult result = fr.call();
+
+            // Capture result variables from last executed scenario (for Gatling variable chaining)
+            ScenarioRuntime lastExecuted = fr.getLastExecuted();
+            if (lastExecuted != null) {
+                result.setResultVariables(lastExecuted.getAllVariables());
+            }
+
+            // Notify PerfHook of feature completion
+            if (perfHook != null) {
+                perfHook.afterFeature(result);
+            }
+
+            return result;
         }
 
-        return result;
     }
 
     // ========== Builder ==========
@@ -267,6 +325,7 @@ public final class Runner {
         private boolean outputConsoleSummary = true;
         private boolean retainCallResults = false;
         private boolean retainStepLogs = false;
+        private boolean spillResults = false;
         // null = decide from the run: on everywhere except perf mode (see Suite.isCaptureStepLogs)
         private Boolean captureStepLogs;
         private Map<String, String> systemProperties;
@@ -277,6 +336,8 @@ public final class Runner {
         private io.karatelabs.http.HttpClientFactory httpClientFactory;
         private boolean skipTagFiltering;
         private int poolSize = -1; // -1 means auto-detect from parallel count
+        private int coordinatorPort = -1; // -1 means not a coordinator
+        private String coordinatorUrl; // non-null means a worker of that coordinator
         private io.karatelabs.js.RunInterceptor<?> debugInterceptor;
         private io.karatelabs.js.DebugPointFactory<?> debugPointFactory;
 
@@ -296,6 +357,7 @@ public final class Runner {
         private Map<String, Map<String, Object>> callOnceCacheStore;
         private Map<String, java.util.concurrent.locks.ReentrantLock> callOnceLockStore;
         private Map<String, Map<String, Object>> setupOnceCacheStore;
+        private io.karatelabs.js.ParseCache parseCache;
 
         Builder() {
         }
@@ -570,6 +632,24 @@ public final class Runner {
             return this;
         }
 
+        /**
+         * Write each finished feature's result to {@code karate-json/karate-results.jsonl} under
+         * the output dir, instead of holding it in the {@link SuiteResult}.
+         *
+         * <p>Off by default. Even with call results and step logs released, the suite holds every
+         * feature's scenario and step results until it ends, so its heap still grows with the
+         * size of the suite. With this on it keeps a digest per feature — the counters and what
+         * the console summary prints for a failure — and the heap stays flat however many
+         * features run. The per-feature reports are written as each feature completes either way.
+         *
+         * <p>{@link SuiteResult#getFeatureResults()} then reads each feature back from the file
+         * as it is asked for. Ignored under karate-gatling.
+         */
+        public Builder spillResults(boolean enabled) {
+            this.spillResults = enabled;
+            return this;
+        }
+
         public Builder outputConsoleSummary(boolean enabled) {
             this.outputConsoleSummary = enabled;
             return this;
@@ -593,6 +673,31 @@ public final class Runner {
             return this;
         }
 
+        /**
+         * Hand this run's features out over HTTP on {@code port} (0 for any free port) to
+         * {@link #worker(String) workers} in other JVMs, instead of running them here, and merge
+         * what they send back into one {@link SuiteResult} and one report set. The thread count
+         * passed to {@link #parallel(int)} is then the workers' business, not this JVM's.
+         *
+         * <p>Workers must see the same feature files, config and tag options as the coordinator.
+         * See {@link SuiteCoordinator}.
+         */
+        public Builder coordinator(int port) {
+            this.coordinatorPort = port;
+            return this;
+        }
+
+        /**
+         * Run features claimed one at a time from the {@link #coordinator(int) coordinator} at
+         * {@code coordinatorUrl} (e.g. {@code http://ci-host:9700}), posting each result back,
+         * until it has none left. {@link #parallel(int)} sets how many run here at once. A worker
+         * writes no reports of its own; the coordinator writes them for everyone.
+         */
+        public Builder worker(String coordinatorUrl) {
+            this.coordinatorUrl = coordinatorUrl;
+            return this;
+        }
+
         /**
          * Enable dry-run mode (parse but don't execute).
          */
@@ -778,16 +883,36 @@ public final class Runner {
         }
 
         /**
-         * Inject a pre-allocated callSingle cache (and its companion lock). When set,
-         * Suites built from this builder reuse the cache instead of creating their own
-         * — so the cache outlives any single Suite. Used by karate-gatling to share
-         * callSingle results across the virtual users of one simulation.
+         * Inject a pre-allocated callSingle cache. When set, Suites built from this builder
+         * reuse the cache instead of creating their own — so the cache outlives any single
+         * Suite. Used by karate-gatling to share callSingle results across the virtual users
+         * of one simulation.
          * <p>
-         * Pass a matching {@code lock} so all Suites sharing the cache also share its
-         * write lock; otherwise concurrent virtual users can race.
+         * The cache map is also what makes each key a single flight — an in-progress
+         * callSingle sits in it until its result replaces it — so Suites sharing the map
+         * never run the same key twice. That needs atomic {@code putIfAbsent} from many
+         * threads, so the map must be a {@link java.util.concurrent.ConcurrentMap}; it is
+         * shared, not copied, so anything else is rejected.
+         *
+         * @throws IllegalArgumentException if {@code cache} is not a concurrent map
          */
-        public Builder callSingleCache(Map<String, Object> cache, java.util.concurrent.locks.ReentrantLock lock) {
+        public Builder callSingleCache(Map<String, Object> cache) {
+            if (cache != null && !(cache instanceof java.util.concurrent.ConcurrentMap)) {
+                throw new IllegalArgumentException("callSingle cache must be a concurrent map, but was: "
+                        + cache.getClass().getName());
+            }
             this.callSingleCache = cache;
+            return this;
+        }
+
+        /**
+         * @deprecated karate.callSingle() no longer takes a lock — each key is its own single
+         * flight, kept in the cache map. The {@code lock} is only handed back by
+         * {@link Suite#getCallSingleLock()}, itself deprecated. Use {@link #callSingleCache(Map)}.
+         */
+        @Deprecated
+        public Builder callSingleCache(Map<String, Object> cache, java.util.concurrent.locks.ReentrantLock lock) {
+            callSingleCache(cache);
             this.callSingleLock = lock;
             return this;
         }
@@ -809,6 +934,16 @@ public final class Runner {
             return this;
         }
 
+        /**
+         * Inject the cache of parsed JS expressions that every scenario engine of the Suite shares.
+         * Without one each Suite allocates its own; karate-gatling injects one per simulation so that
+         * step expressions are parsed once, not once per virtual user.
+         */
+        public Builder parseCache(io.karatelabs.js.ParseCache parseCache) {
+            this.parseCache = parseCache;
+            return this;
+        }
+
         /**
          * <b>Provisional API — may change or be removed without notice.</b>
          * Exposed to support advanced runtime scenario discovery (e.g. sequential
@@ -893,6 +1028,10 @@ public final class Runner {
         boolean isRetainCallResults() { return retainCallResults; }
 
         boolean isRetainStepLogs() { return retainStepLogs; }
+
+        boolean isSpillResults() { return spillResults; }
+        int getCoordinatorPort() { return coordinatorPort; }
+        String getCoordinatorUrl() { return coordinatorUrl; }
         /** null when unset — the Suite decides from perf mode. */
         Boolean getCaptureStepLogs() { return captureStepLogs; }
         Map<String, String> getSystemProperties() { return systemProperties; }
@@ -913,6 +1052,7 @@ public final class Runner {
         Map<String, Map<String, Object>> getCallOnceCacheStore() { return callOnceCacheStore; }
         Map<String, java.util.concurrent.locks.ReentrantLock> getCallOnceLockStore() { return callOnceLockStore; }
         Map<String, Map<String, Object>> getSetupOnceCacheStore() { return setupOnceCacheStore; }
+        io.karatelabs.js.ParseCache getParseCache() { return parseCache; }
         List<Feature> getFeatures() { return features; }
         LogLevel getLogLevel() { return logLevel; }
 
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The order in which scenarios waiting on the suite's permits get them: longest predicted
+ * duration first, ties and unknowns in arrival order. A plain {@link Semaphore} hands permits
+ * out in arrival order, and in a parallel run every feature starts at once and races to queue
+ * its scenarios, so which of them arrives first is an accident of thread scheduling. Starting
+ * the long ones first is the classic longest-processing-time rule: the lanes finish close
+ * together instead of waiting on one long scenario that started late.
+ * <p>
+ * The permits stay in the suite's {@code Semaphore}, which this only ever touches under its
+ * own lock. A negative prediction ({@link RunHistory#UNKNOWN}) counts as the longest: with no
+ * history at all every waiter ties, and the order is the arrival order it always was.
+ * <p>
+ * A {@link ReentrantLock} and not {@code synchronized}, since the waiters are virtual threads.
+ */
+final class ScenarioGate {
+
+    private static final class Waiter {
+
+        final long predictedMillis;
+        final long ticket;
+        final Condition turn;
+        boolean granted;
+
+        Waiter(long predictedMillis, long ticket, Condition turn) {
+            this.predictedMillis = predictedMillis < 0 ? Long.MAX_VALUE : predictedMillis;
+            this.ticket = ticket;
+            this.turn = turn;
+        }
+
+    }
+
+    private static final Comparator<Waiter> LONGEST_FIRST = Comparator
+            .comparingLong((Waiter w) -> w.predictedMillis).reversed()
+            .thenComparingLong(w -> w.ticket);
+
+    private final Semaphore permits;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiting = new PriorityQueue<>(LONGEST_FIRST);
+    private long tickets;
+
+    ScenarioGate(Semaphore permits) {
+        this.permits = permits;
+    }
+
+    void acquire(long predictedMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            if (waiting.isEmpty() && permits.tryAcquire()) {
+                return;
+            }
+            Waiter waiter = new Waiter(predictedMillis, tickets++, lock.newCondition());
+            waiting.add(waiter);
+            try {
+                while (!waiter.granted) {
+                    waiter.turn.await();
+                }
+            } catch (InterruptedException e) {
+                if (waiter.granted) { // the permit arrived with the interrupt, pass it on
+                    permits.release();
+                    dispatch();
+                } else {
+                    waiting.remove(waiter);
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            permits.release();
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int waiting() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch() {
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            Waiter next = waiting.poll();
+            next.granted = true;
+            next.turn.signal();
+        }
+    }
+
+}
@@ -23,6 +23,8 @@
  */
 package io.karatelabs.core;
 
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.gherkin.FeatureSection;
 import io.karatelabs.gherkin.Scenario;
 import io.karatelabs.gherkin.Step;
 import io.karatelabs.gherkin.Tag;
@@ -31,6 +33,8 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 public class ScenarioResult implements Comparable<ScenarioResult> {
 
@@ -114,6 +118,25 @@ public class ScenarioResult implements Comparable<ScenarioResult> {
         }
     }
 
+    /**
+     * Drop the HTTP request / response bodies from every step log not rendered yet, including
+     * those of the features this scenario called, keeping the headers. For
+     * {@code configure logging = { bodies: 'failed' }} once the scenario is known to have passed.
+     */
+    void releaseHttpBodies() {
+        for (StepResult stepResult : stepResults) {
+            stepResult.releaseLogBodies();
+            List<FeatureResult> callResults = stepResult.getCallResults();
+            if (callResults != null) {
+                for (FeatureResult called : callResults) {
+                    for (ScenarioResult scenarioResult : called.getScenarioResults()) {
+                        scenarioResult.releaseHttpBodies();
+                    }
+                }
+            }
+        }
+    }
+
     public void addStepResult(StepResult sr) {
         stepResults.add(sr);
     }
@@ -449,6 +472,18 @@ public class ScenarioResult implements Comparable<ScenarioResult> {
      * Used for HTML reports, JSONL streaming, and report aggregation.
      */
     public Map<String, Object> toJson() {
+        return toJson(true);
+    }
+
+    /**
+     * {@link #toJson()} without {@code stepResults} - and without ever serializing them. What the
+     * HTML summary and timeline pages keep per scenario for the length of the run.
+     */
+    public Map<String, Object> toSummaryJson() {
+        return toJson(false);
+    }
+
+    private Map<String, Object> toJson(boolean withSteps) {
         // Core identity + metadata (name, slug, description, line, indices,
         // exampleData) — the SAME routine that backs the karate.scenario JS API,
         // so the two never drift. An author-set __id wins as the slug (rename-proof,
@@ -498,6 +533,10 @@ public class ScenarioResult implements Comparable<ScenarioResult> {
             map.put("tags", tagNames);
         }
 
+        if (!withSteps) {
+            return map;
+        }
+
         // Step results — emit empty list when @report=false so HTML / Cucumber JSON /
         // JsonLines all consistently show no step detail. Pass/fail status above is
         // preserved so summary counts still reflect this scenario's outcome.
@@ -512,6 +551,112 @@ public class ScenarioResult implements Comparable<ScenarioResult> {
         return map;
     }
 
+    /**
+     * Everything this result holds, in the shape {@link #fromKarateJson} reads back — see
+     * {@link StepResult#toKarateJson()}. The scenario travels as its section and example index
+     * plus what a run can change or generate: name, tags, example row and steps, so an outline
+     * row (dynamic ones included) can be rebuilt without re-evaluating its {@code Examples}.
+     */
+    public Map<String, Object> toKarateJson() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("sectionIndex", scenario.getSection().getIndex());
+        map.put("exampleIndex", scenario.getExampleIndex());
+        map.put("line", scenario.getLine());
+        map.put("name", scenario.getName());
+        map.put("description", scenario.getDescription());
+        if (scenario.getTags() != null && !scenario.getTags().isEmpty()) {
+            List<Map<String, Object>> tagList = new ArrayList<>();
+            for (Tag tag : scenario.getTags()) {
+                Map<String, Object> tagMap = new LinkedHashMap<>();
+                tagMap.put("name", tag.toString());
+                tagMap.put("line", tag.getLine());
+                tagList.add(tagMap);
+            }
+            map.put("tags", tagList);
+        }
+        if (scenario.getExampleData() != null) {
+            map.put("exampleData", scenario.getExampleData());
+        }
+        map.put("startTime", startTime);
+        map.put("endTime", endTime);
+        map.put("executorName", threadName);
+        map.put("failTagApplied", failTagApplied);
+        map.put("aborted", aborted);
+        map.put("reportDisabled", reportDisabled);
+        if (stableId != null) {
+            map.put("stableId", stableId);
+        }
+        List<Map<String, Object>> stepList = new ArrayList<>(stepResults.size());
+        for (StepResult sr : stepResults) {
+            stepList.add(sr.toKarateJson());
+        }
+        map.put("stepResults", stepList);
+        return map;
+    }
+
+    /**
+     * The result {@link #toKarateJson()} described, against {@code feature} parsed from the same
+     * file. A plain scenario whose name the run left alone is the parsed instance itself; anything
+     * else is rebuilt from the JSON.
+     */
+    @SuppressWarnings("unchecked")
+    public static ScenarioResult fromKarateJson(Feature feature, Map<String, Object> map,
+                                                Function<String, Feature> features) {
+        int sectionIndex = ((Number) map.get("sectionIndex")).intValue();
+        int exampleIndex = ((Number) map.get("exampleIndex")).intValue();
+        int line = ((Number) map.get("line")).intValue();
+        String name = (String) map.get("name");
+        FeatureSection section = sectionIndex < feature.getSections().size()
+                ? feature.getSection(sectionIndex) : null;
+        Scenario scenario = null;
+        if (section != null && !section.isOutline() && exampleIndex == -1) {
+            Scenario parsed = section.getScenario();
+            if (parsed.getLine() == line && Objects.equals(parsed.getName(), name)) {
+                scenario = parsed;
+            }
+        }
+        List<Map<String, Object>> stepList = (List<Map<String, Object>>) map.get("stepResults");
+        boolean rebuilt = scenario == null;
+        if (rebuilt) {
+            if (section == null) {
+                section = new FeatureSection();
+                section.setIndex(sectionIndex);
+            }
+            scenario = new Scenario(feature, section, exampleIndex);
+            scenario.setLine(line);
+            scenario.setName(name);
+            scenario.setDescription((String) map.get("description"));
+            List<Tag> tags = new ArrayList<>();
+            if (map.get("tags") instanceof List) {
+                for (Map<String, Object> tagMap : (List<Map<String, Object>>) map.get("tags")) {
+                    tags.add(new Tag(((Number) tagMap.get("line")).intValue(), (String) tagMap.get("name")));
+                }
+            }
+            scenario.setTags(tags);
+            scenario.setExampleData((Map<String, Object>) map.get("exampleData"));
+            scenario.setSteps(new ArrayList<>());
+            if (section.getScenario() == null && !section.isOutline()) {
+                section.setScenario(scenario);
+            }
+        }
+        ScenarioResult result = new ScenarioResult(scenario);
+        result.startTime = ((Number) map.get("startTime")).longValue();
+        result.endTime = ((Number) map.get("endTime")).longValue();
+        result.threadName = (String) map.get("executorName");
+        result.failTagApplied = Boolean.TRUE.equals(map.get("failTagApplied"));
+        result.aborted = Boolean.TRUE.equals(map.get("aborted"));
+        result.reportDisabled = Boolean.TRUE.equals(map.get("reportDisabled"));
+        result.stableId = (String) map.get("stableId");
+        for (Map<String, Object> stepMap : stepList) {
+            StepResult sr = StepResult.fromKarateJson(scenario, stepMap, features);
+            if (rebuilt && sr.getStep() != null && !sr.getStep().isBackground()) {
+                scenario.getSteps().add(sr.getStep());
+            }
+            result.stepResults.add(sr);
+        }
+        return result;
+    }
+
     @Override
     public int compareTo(ScenarioResult other) {
         if (other == null) {
@@ -35,7 +35,9 @@ import io.karatelabs.gherkin.Scenario;
 import io.karatelabs.gherkin.Step;
 import io.karatelabs.gherkin.Tag;
 import io.karatelabs.http.HttpRequestBuilder;
+import io.karatelabs.http.HttpResponse;
 import io.karatelabs.js.JavaCallable;
+import io.karatelabs.output.DeferredLog;
 import io.karatelabs.output.LogContext;
 import org.slf4j.Logger;
 
@@ -50,9 +52,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 
 public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContext {
 
@@ -104,6 +106,9 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
     // Channels (kafka, grpc, etc.) registered during this scenario
     private List<Channel> channels;
 
+    // Responses spooled to disk during this scenario and the features it called, see ownSpooledResponse()
+    private List<HttpResponse> spooledResponses;
+
     // Performance testing - tracks the previous HTTP request's perf event
     // Events are held until the next HTTP request or scenario end, so that
     // assertion failures can be attributed to the preceding HTTP request
@@ -165,6 +170,9 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
         this.httpClientFactory = factory != null ? factory : new io.karatelabs.http.DefaultHttpClientFactory();
         this.karate = new KarateJs(featureResource, this.httpClientFactory);
         this.ownsHttpClient = true;
+        if (suite != null) {
+            karate.engine.setParseCache(suite.getParseCache());
+        }
 
         this.executor = new StepExecutor(this);
         this.result = new ScenarioResult(scenario);
@@ -600,7 +608,7 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
                 // Non-callable JS (e.g. an object/JSON literal file) — return as-is.
                 return jsTarget;
             }
-            calledFeature = Feature.read(calledResource);
+            calledFeature = readFeature(calledResource);
         }
 
         // Array-loop call - delegate to shared helper used by the `call` keyword
@@ -642,8 +650,8 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
         // Fast path - check cache without lock
         Object cached = cache.get(cacheKey);
         if (cached != null) {
-            // Deep copy to prevent cross-scenario mutation
-            return deepCopy(cached);
+            // A copy-on-write view, so this scenario cannot change what the next one sees
+            return SharedJson.view(cached);
         }
 
         // Slow path - acquire lock for execution
@@ -652,14 +660,14 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
             // Double-check after acquiring lock
             Object rechecked = cache.get(cacheKey);
             if (rechecked != null) {
-                return deepCopy(rechecked);
+                return SharedJson.view(rechecked);
             }
 
             // Not cached - execute the call
             Object result = executeJsCall(path, arg);
 
-            // Cache a deep copy to prevent the caller from mutating the cache
-            cache.put(cacheKey, deepCopy(result));
+            // Cache a private deep copy, so that nothing the caller does to its result reaches it
+            cache.put(cacheKey, SharedJson.freeze(result));
 
             return result;
         } finally {
@@ -669,15 +677,20 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
 
     /**
      * Execute karate.callSingle() - runs a file once per Suite and caches the result.
-     * Uses Suite-level locking to ensure thread-safe execution in parallel scenarios.
+     * Single-flight per cache key: the first scenario to miss a key executes it, every other
+     * scenario asking for that key meanwhile waits for that one execution, and scenarios asking
+     * for other keys are not held up at all.
      *
      * Flow:
      * 1. Check in-memory cache (lock-free for fast path)
-     * 2. If callSingleCache is configured, check disk cache
-     * 3. If not cached, acquire Suite lock
-     * 4. Double-check cache (another thread may have cached while waiting)
-     * 5. Execute and cache result (in-memory and optionally to disk)
-     * 6. Return deep copy to prevent cross-thread mutation
+     * 2. Claim the key by placing a {@link CallSingleFlight} in the cache - or find another
+     *    thread's flight there and wait for it (the wait is added to the suite summary)
+     * 3. As the claimant: if callSingleCache is configured, check disk cache
+     * 4. Execute and cache result (in-memory and optionally to disk), completing the flight
+     * 5. Return a copy-on-write view to prevent cross-thread mutation (see {@link SharedJson})
+     *
+     * Because the flight lives in the cache map itself, Suites sharing the map (karate-gatling
+     * virtual users) share the single flight too.
      *
      * Disk caching (configure callSingleCache):
      * - { minutes: 15 } - cache to disk for 15 minutes (default dir: karate-temp/cache)
@@ -693,8 +706,45 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
 
         Suite suite = featureRuntime.getSuite();
         Map<String, Object> cache = suite.getCallSingleCache();
-        ReentrantLock lock = suite.getCallSingleLock();
 
+        // Fast path: check if already in memory cache (no locking needed)
+        Object cached = cache.get(path);
+        if (cached != null && !(cached instanceof CallSingleFlight)) {
+            logger.trace("[callSingle] memory cache hit: {}", path);
+            return unwrapCachedResult(cached);
+        }
+
+        CallSingleFlight flight = new CallSingleFlight();
+        Object existing = cache.putIfAbsent(path, flight);
+        if (existing == null) {
+            return executeCallSingleFlight(path, arg, cache, flight);
+        }
+        if (!(existing instanceof CallSingleFlight other)) {
+            return unwrapCachedResult(existing);
+        }
+
+        // Another thread is executing this key: wait for it, unless that thread is (transitively)
+        // waiting for this one - a callSingle nested in itself, or two keys each calling the other
+        // from two threads. The one suite-wide lock this replaces let a thread re-enter, so do
+        // what it did and execute here, leaving the result to the flight that owns the key.
+        long startWait = System.currentTimeMillis();
+        logger.debug("[callSingle] waiting for: {}", path);
+        if (!other.enqueue()) {
+            logger.debug("[callSingle] {} is already executing further up this thread's wait chain, executing here", path);
+            return executeCallSingleInternal(path, arg);
+        }
+        Object value = other.await();
+        long waitTime = System.currentTimeMillis() - startWait;
+        suite.recordCallSingleWait(path, waitTime);
+        logger.info("[callSingle] waited {}ms, memory cache hit: {}", waitTime, path);
+        return unwrapCachedResult(value);
+    }
+
+    /**
+     * The claimant's side of {@link #executeCallSingle}: disk cache, execution, memory cache. The
+     * flight is always completed, whatever happens here - a waiter must never be left blocked.
+     */
+    private Object executeCallSingleFlight(String path, Object arg, Map<String, Object> cache, CallSingleFlight flight) {
         // Get disk cache settings from config
         int cacheMinutes = config.getCallSingleCacheMinutes();
         String cacheDir = config.getCallSingleCacheDir();
@@ -702,25 +752,8 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
             // Default to <buildDir>/karate-temp/cache (cleaned by 'karate clean')
             cacheDir = io.karatelabs.common.FileUtils.getBuildDir() + "/karate-temp/cache";
         }
-
-        // Fast path: check if already in memory cache (no locking needed)
-        if (cache.containsKey(path)) {
-            logger.trace("[callSingle] memory cache hit: {}", path);
-            return unwrapCachedResult(cache.get(path));
-        }
-
-        // Slow path: acquire lock and execute
-        long startWait = System.currentTimeMillis();
-        logger.debug("[callSingle] waiting for lock: {}", path);
-        lock.lock();
+        boolean completed = false;
         try {
-            // Double-check: another thread may have cached while we waited
-            if (cache.containsKey(path)) {
-                long waitTime = System.currentTimeMillis() - startWait;
-                logger.info("[callSingle] lock acquired after {}ms, memory cache hit: {}", waitTime, path);
-                return unwrapCachedResult(cache.get(path));
-            }
-
             Object result = null;
             File cacheFile = null;
 
@@ -759,7 +792,10 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
                 } catch (Exception e) {
                     // Cache the exception so subsequent calls also fail fast
                     logger.warn("[callSingle] caching exception for: {} - {}", path, e.getMessage());
-                    cache.put(path, new CallSingleException(e));
+                    CallSingleException failure = new CallSingleException(e);
+                    cache.put(path, failure);
+                    flight.complete(failure);
+                    completed = true;
                     throw e;
                 }
 
@@ -783,13 +819,21 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
                 }
             }
 
-            // Cache in memory
-            cache.put(path, result);
+            // Cache in memory: a private deep copy, handed out as copy-on-write views
+            Object frozen = SharedJson.freeze(result);
+            cache.put(path, frozen);
+            flight.complete(frozen);
+            completed = true;
             logger.debug("[callSingle] memory cached: {}", path);
 
-            return deepCopy(result);
+            return SharedJson.view(frozen);
         } finally {
-            lock.unlock();
+            if (!completed) {
+                // an Error, or a result the cache cannot hold: release the key so a later call can
+                // retry it, and fail the scenarios already waiting rather than strand them
+                cache.remove(path, flight);
+                flight.complete(new CallSingleException(new RuntimeException("callSingle did not complete: " + path)));
+            }
         }
     }
 
@@ -830,11 +874,13 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
             FeatureResult fr = nestedFr.call();
 
             // Attach the called feature's result so its steps (and HTTP traffic) surface
-            // in the calling scenario's HTML / Cucumber JSON / JUnit report. callSingle
-            // executes exactly once per Suite under a lock — only the "winning" scenario
-            // (cache miss) reaches this code, so the call results appear under whichever
-            // scenario's thread actually ran the feature. Done before the failure throw
-            // so a failed callSingle still surfaces its steps in the report.
+            // in the calling scenario's HTML / Cucumber JSON / JUnit report. callSingle is
+            // single-flight per key: the scenario whose CallSingleFlight claimed the key
+            // runs the feature here, while the others asking for that key meanwhile wait on
+            // the flight and only receive its result - so the call results appear under the
+            // claiming scenario alone. (A waiter that finds itself in the flight's wait chain
+            // runs the feature here too, and reports it under its own scenario.) Done before
+            // the failure throw so a failed callSingle still surfaces its steps in the report.
             executor.addCallResult(fr);
 
             // Check if the feature failed
@@ -879,47 +925,65 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
             throw new RuntimeException(((CallSingleException) cached).cause.getMessage(),
                     ((CallSingleException) cached).cause);
         }
-        return deepCopy(cached);
+        return SharedJson.view(cached);
     }
 
     /**
-     * Deep copy to prevent cross-thread mutation of cached data.
+     * Wrapper for cached exceptions to distinguish from null results.
      */
-    @SuppressWarnings("unchecked")
-    private Object deepCopy(Object value) {
-        if (value == null) {
-            return null;
-        }
-        // JsCallable functions shouldn't be deep-copied - they should be shared across threads
-        if (value instanceof JavaCallable) {
-            return value;
+    private static class CallSingleException {
+        final Exception cause;
+        CallSingleException(Exception cause) {
+            this.cause = cause;
         }
-        if (value instanceof Map) {
-            Map<String, Object> copy = new LinkedHashMap<>();
-            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
-                copy.put(entry.getKey(), deepCopy(entry.getValue()));
+    }
+
+    /**
+     * A callSingle in progress, held in the cache under its key until the result replaces it.
+     * Waiters block on {@link #await()}; the claimant calls {@link #complete} exactly once.
+     */
+    private static final class CallSingleFlight {
+
+        // thread -> the flight it is blocked on; guarded by itself, so that checking a wait for a
+        // cycle and registering it are one step and two threads cannot both pass the check
+        private static final Map<Thread, CallSingleFlight> WAITING = new HashMap<>();
+
+        final Thread owner = Thread.currentThread();
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+
+        /**
+         * Register the current thread as waiting for this flight. False, registering nothing, when
+         * the wait could never end: the owner is this thread, or is blocked on a flight whose owner
+         * is - directly or further down the chain.
+         */
+        boolean enqueue() {
+            Thread self = Thread.currentThread();
+            synchronized (WAITING) {
+                for (CallSingleFlight f = this; f != null; f = WAITING.get(f.owner)) {
+                    if (f.owner == self) {
+                        return false;
+                    }
+                }
+                WAITING.put(self, this);
+                return true;
             }
-            return copy;
         }
-        if (value instanceof List) {
-            List<Object> copy = new ArrayList<>();
-            for (Object item : (List<Object>) value) {
-                copy.add(deepCopy(item));
+
+        /** The cached value: a result or a {@link CallSingleException}. Call after {@link #enqueue()}. */
+        Object await() {
+            try {
+                return value.join();
+            } finally {
+                synchronized (WAITING) {
+                    WAITING.remove(Thread.currentThread());
+                }
             }
-            return copy;
         }
-        // Primitives, strings, etc. are immutable - return as-is
-        return value;
-    }
 
-    /**
-     * Wrapper for cached exceptions to distinguish from null results.
-     */
-    private static class CallSingleException {
-        final Exception cause;
-        CallSingleException(Exception cause) {
-            this.cause = cause;
+        void complete(Object result) {
+            value.complete(result);
         }
+
     }
 
     private void inheritVariables() {
@@ -1050,7 +1114,7 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
         // own LogContext — mask, pretty and all — rather than clearing the thread-local
         // and leaving the caller's later HTTP steps to lazy-create a mask-less one.
         LogContext outerLogContext = LogContext.get();
-        String configTimeLog = outerLogContext.collect();
+        DeferredLog configTimeLog = outerLogContext.collectLog();
         java.util.List<StepResult.Embed> configTimeEmbeds = outerLogContext.collectEmbeds();
         boolean nestedCall = featureRuntime != null && featureRuntime.isCalled();
         // Mark this scenario as the live one on this thread so report collection (call
@@ -1078,7 +1142,7 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
         // Replay the captured config-time output into the fresh, properly-configured
         // context. Order matters: this happens AFTER applyLoggingToContext so the new
         // context already has the right threshold / mask / pretty before content lands.
-        if (configTimeLog != null && !configTimeLog.isEmpty()) {
+        if (configTimeLog != null) {
             LogContext.get().appendCaptured(configTimeLog);
         }
         if (configTimeEmbeds != null) {
@@ -1135,7 +1199,7 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
             StepResult failure = StepResult.synthetic(
                     "Scenario execution failed: " + configError.getMessage(), StepResult.Status.FAILED, now, configError);
             LogContext ctx = LogContext.get();
-            failure.setLog(ctx.collect());
+            failure.setLog(ctx.collectLog());
             List<StepResult.Embed> configEmbeds = ctx.collectEmbeds();
             if (configEmbeds != null) {
                 for (StepResult.Embed e : configEmbeds) {
@@ -1318,6 +1382,9 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
             // Close channels (kafka, grpc, etc.)
             closeChannels();
 
+            // Delete the temp files of responses spooled to disk (and close the lists read from them)
+            releaseSpooledResponses();
+
             // Close driver if it was initialized
             closeDriver();
 
@@ -1330,6 +1397,12 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
             if (scenario.isFail()) {
                 result.applyFailTag();
             }
+            // The verdict is final now. A passing scenario under `logging = { bodies: 'failed' }`
+            // lets go of its HTTP bodies before anything has rendered them (the report reads the
+            // logs at the end of the feature), so they are neither formatted nor kept.
+            if (topLevel && !result.isFailed() && config.isLoggingFailedBodiesOnly()) {
+                result.releaseHttpBodies();
+            }
             // endTime is set before SCENARIO_EXIT event above; set here only if not yet set (exception path)
             if (result.getEndTime() == 0) {
                 result.setEndTime(System.currentTimeMillis());
@@ -2194,6 +2267,47 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
         channels.add(channel);
     }
 
+    /**
+     * A feature this scenario calls or reads, parsed once per Suite (see {@link io.karatelabs.gherkin.FeatureCache}); read
+     * afresh when there is no Suite, as in a mock.
+     */
+    Feature readFeature(Resource resource) {
+        Suite suite = featureRuntime != null ? featureRuntime.getSuite() : null;
+        return suite != null ? suite.getFeatureCache().get(resource) : Feature.read(resource);
+    }
+
+    /**
+     * Hand a response spooled to disk ({@code configure responseSpoolSize}) to the scenario that
+     * owns its temp file, to be released when that scenario ends. The owner is the top-level
+     * scenario, not a called one: a called feature's {@code response} goes back to its caller, and
+     * {@code callonce} / {@code callSingle} cache deep copies. Not released when {@code response} is
+     * replaced by the next request either, since a {@code def} may still hold the list.
+     */
+    void ownSpooledResponse(HttpResponse response) {
+        ScenarioRuntime owner = this;
+        while (owner.featureRuntime != null && owner.featureRuntime.getCallerScenario() != null) {
+            owner = owner.featureRuntime.getCallerScenario();
+        }
+        if (owner.spooledResponses == null) {
+            owner.spooledResponses = new ArrayList<>();
+        }
+        owner.spooledResponses.add(response);
+    }
+
+    private void releaseSpooledResponses() {
+        if (spooledResponses == null) {
+            return;
+        }
+        for (HttpResponse response : spooledResponses) {
+            try {
+                response.releaseSpooled();
+            } catch (Exception e) {
+                logger.warn("error releasing spooled response: {}", e.getMessage());
+            }
+        }
+        spooledResponses = null;
+    }
+
     /**
      * Invoke a lifecycle hook (beforeScenario / afterScenario) if it is a callable.
      * Returns null on success or no-op; returns the Throwable on failure.
@@ -2243,8 +2357,8 @@ public class ScenarioRuntime implements Callable<ScenarioResult>, KarateJsContex
         if (calls != null && !calls.isEmpty()) {
             sr.setCallResults(calls);
         }
-        String log = ctx.collect();
-        if (log != null && !log.isEmpty()) {
+        DeferredLog log = ctx.collectLog();
+        if (log != null) {
             sr.setLog(log);
         }
         List<StepResult.Embed> embeds = ctx.collectEmbeds();
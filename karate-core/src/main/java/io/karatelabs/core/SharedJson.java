@@ -0,0 +1,308 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import io.karatelabs.js.JavaCallable;
+
+import java.util.*;
+
+/**
+ * Cached call results handed out without copying them. A callonce / callSingle result is cached
+ * once, {@link #freeze frozen} as a private deep copy that nothing ever writes to again, and every
+ * cache hit gets a {@link #view} of it: a {@code Map} / {@code List} that reads straight through to
+ * the frozen value and copies only when written.
+ * <p>
+ * A hit used to deep-copy the whole cached graph, so that one scenario could not change what the
+ * next one sees. For a large fixture shared by thousands of scenarios that was the bulk of the
+ * garbage of the run, almost all of it never read. A view costs one small object. Reading a nested
+ * object or array wraps just that child, once, so a write through it lands in this view. The first
+ * write to a map or list copies that one level, shallowly, and never the levels below it.
+ * <p>
+ * Views are per scenario, like the copies were: a view is not thread-safe, while the frozen value
+ * may be read by any number of threads at once.
+ */
+final class SharedJson {
+
+    private SharedJson() {
+    }
+
+    /**
+     * The private deep copy to cache: plain {@code LinkedHashMap} / {@code ArrayList} all the way
+     * down, referenced by nothing but the cache.
+     */
+    static Object freeze(Object value) {
+        return StepUtils.deepCopy(value);
+    }
+
+    /** A copy-on-write view of a value returned by {@link #freeze}. Scalars come back as they are. */
+    @SuppressWarnings("unchecked")
+    static Object view(Object frozen) {
+        if (frozen instanceof JavaCallable) {
+            return frozen;
+        }
+        if (frozen instanceof Map) {
+            return new MapView((Map<String, Object>) frozen);
+        }
+        if (frozen instanceof List) {
+            return new ListView((List<Object>) frozen);
+        }
+        return frozen;
+    }
+
+    private static boolean isContainer(Object value) {
+        return (value instanceof Map || value instanceof List) && !(value instanceof JavaCallable);
+    }
+
+    static final class MapView extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> frozen;
+        // null until the first write: then a shallow copy, with every container in it a view
+        private Map<String, Object> own;
+        // the views of nested containers read before the first write, so that reading one twice
+        // gives the same object and a write through it is not lost
+        private Map<String, Object> children;
+
+        MapView(Map<String, Object> frozen) {
+            this.frozen = frozen;
+        }
+
+        private Map<String, Object> own() {
+            if (own == null) {
+                Map<String, Object> copy = new LinkedHashMap<>(Math.max(16, frozen.size() * 4 / 3 + 1));
+                for (Map.Entry<String, Object> e : frozen.entrySet()) {
+                    copy.put(e.getKey(), child(e.getKey(), e.getValue()));
+                }
+                own = copy;
+                children = null;
+            }
+            return own;
+        }
+
+        private Object child(String key, Object value) {
+            if (!isContainer(value)) {
+                return value;
+            }
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(key, k -> view(value));
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (own != null) {
+                return own.get(key);
+            }
+            Object value = frozen.get(key);
+            return value == null ? null : child((String) key, value);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return own != null ? own.containsKey(key) : frozen.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return own != null ? own.size() : frozen.size();
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return own().put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return own().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            own = new LinkedHashMap<>();
+            children = null;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            if (own != null) {
+                return own.entrySet();
+            }
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    Iterator<String> keys = frozen.keySet().iterator();
+                    return new Iterator<>() {
+                        String last;
+
+                        @Override
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, Object> next() {
+                            last = keys.next();
+                            return new Entry(last);
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last == null) {
+                                throw new IllegalStateException();
+                            }
+                            // iteration goes on over the frozen keys, unaffected
+                            MapView.this.remove(last);
+                            last = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return MapView.this.size();
+                }
+            };
+        }
+
+        // an entry of the frozen map, read and written through the view
+        private final class Entry implements Map.Entry<String, Object> {
+
+            final String key;
+
+            Entry(String key) {
+                this.key = key;
+            }
+
+            @Override
+            public String getKey() {
+                return key;
+            }
+
+            @Override
+            public Object getValue() {
+                return get(key);
+            }
+
+            @Override
+            public Object setValue(Object value) {
+                return put(key, value);
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof Map.Entry<?, ?> e
+                        && Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+            }
+
+            @Override
+            public String toString() {
+                return key + "=" + getValue();
+            }
+
+        }
+
+    }
+
+    static final class ListView extends AbstractList<Object> implements RandomAccess {
+
+        private final List<Object> frozen;
+        // null until the first write: then a shallow copy, with every container in it a view
+        private List<Object> own;
+        // as in MapView: nested views read before the first write, by index
+        private Object[] children;
+
+        ListView(List<Object> frozen) {
+            this.frozen = frozen;
+        }
+
+        private List<Object> own() {
+            if (own == null) {
+                List<Object> copy = new ArrayList<>(frozen.size() + 4);
+                for (int i = 0, n = frozen.size(); i < n; i++) {
+                    copy.add(child(i, frozen.get(i)));
+                }
+                own = copy;
+                children = null;
+            }
+            return own;
+        }
+
+        private Object child(int index, Object value) {
+            if (!isContainer(value)) {
+                return value;
+            }
+            if (children == null) {
+                children = new Object[frozen.size()];
+            }
+            Object child = children[index];
+            if (child == null) {
+                child = children[index] = view(value);
+            }
+            return child;
+        }
+
+        @Override
+        public Object get(int index) {
+            return own != null ? own.get(index) : child(index, frozen.get(index));
+        }
+
+        @Override
+        public int size() {
+            return own != null ? own.size() : frozen.size();
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            return own().set(index, element);
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            own().add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public Object remove(int index) {
+            Object removed = own().remove(index);
+            modCount++;
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            own = new ArrayList<>();
+            children = null;
+            modCount++;
+        }
+
+    }
+
+}
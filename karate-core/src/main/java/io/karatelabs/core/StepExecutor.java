@@ -325,7 +325,7 @@ public class StepExecutor {
 
     private void collectLogsAndEmbeds(StepResult result) {
         LogContext ctx = LogContext.get();
-        result.setLog(ctx.collect());
+        result.setLog(ctx.collectLog());
         java.util.List<StepResult.Embed> embeds = ctx.collectEmbeds();
         if (embeds != null) {
             for (StepResult.Embed embed : embeds) {
@@ -442,7 +442,7 @@ public class StepExecutor {
             Resource calledResource = fr != null
                     ? fr.resolve(call.path)
                     : Resource.path(call.path);
-            calledFeature = Feature.read(calledResource);
+            calledFeature = runtime.readFeature(calledResource);
         }
 
         // Check if it's an array loop call
@@ -475,8 +475,8 @@ public class StepExecutor {
         // Fast path - check cache without lock
         Object cached = cache.get(cacheKey);
         if (cached != null) {
-            // Return deep copy to prevent cross-scenario mutation
-            runtime.setVariable(resultVar, StepUtils.deepCopy(cached));
+            // A copy-on-write view, so this scenario cannot change what the next one sees
+            runtime.setVariable(resultVar, SharedJson.view(cached));
             return;
         }
 
@@ -486,17 +486,17 @@ public class StepExecutor {
             // Double-check after acquiring lock
             Object rechecked = cache.get(cacheKey);
             if (rechecked != null) {
-                runtime.setVariable(resultVar, StepUtils.deepCopy(rechecked));
+                runtime.setVariable(resultVar, SharedJson.view(rechecked));
                 return;
             }
 
             // Not cached - execute the call
             executeCallWithResult(callExpr, resultVar);
 
-            // Cache a deep copy of the result (may be Map for single call or List for loop call)
+            // Cache a private deep copy of the result (may be Map for single call or List for loop call)
             Object resultValue = runtime.getVariable(resultVar);
             if (resultValue != null) {
-                cache.put(cacheKey, StepUtils.deepCopy(resultValue));
+                cache.put(cacheKey, SharedJson.freeze(resultValue));
             }
         } finally {
             lock.unlock();
@@ -2285,7 +2285,8 @@ public class StepExecutor {
         runtime.setVariable("responseHeaders", response.getHeaders());
         runtime.setVariable("responseTime", response.getResponseTime());
         // Hidden variables (accessible but not in getAllVariables())
-        runtime.setHiddenVariable("responseBytes", response.getBodyBytes());
+        // null when the body stayed in its spool file (a JSON array past responseSpoolSize)
+        runtime.setHiddenVariable("responseBytes", response.isBodySpooled() ? null : response.getBodyBytes());
         runtime.setHiddenVariable("responseStatusText", response.getStatusText());
         Object responseCookies = response.getCookies();
         runtime.setHiddenVariable("responseCookies", responseCookies);
@@ -2702,7 +2703,7 @@ public class StepExecutor {
             Resource calledResource = fr != null
                     ? fr.resolve(call.path)
                     : Resource.path(call.path);
-            calledFeature = Feature.read(calledResource);
+            calledFeature = runtime.readFeature(calledResource);
         }
 
         // Check if it's an array loop call
@@ -2831,7 +2832,7 @@ public class StepExecutor {
 
             Map<String, Object> delta = StepUtils.calleeDelta(preCallVars, runtime.getAllVariables());
             @SuppressWarnings("unchecked")
-            Map<String, Object> vars = (Map<String, Object>) StepUtils.deepCopy(delta);
+            Map<String, Object> vars = (Map<String, Object>) SharedJson.freeze(delta);
             @SuppressWarnings("unchecked")
             Map<String, Map<String, Object>> cookieJarCopy = (Map<String, Map<String, Object>>) StepUtils.deepCopy(runtime.getCookieJar());
             cache.put(cacheKey, new CallOnceResult(vars, preCallConfig, runtime.getConfig().copy(), cookieJarCopy));
@@ -2852,9 +2853,8 @@ public class StepExecutor {
 
     @SuppressWarnings("unchecked")
     private void applyCachedCallOnceResult(CallOnceResult cached) {
-        Map<String, Object> copies = (Map<String, Object>) StepUtils.deepCopy(cached.vars());
-        for (Map.Entry<String, Object> entry : copies.entrySet()) {
-            runtime.setVariable(entry.getKey(), entry.getValue());
+        for (Map.Entry<String, Object> entry : cached.vars().entrySet()) {
+            runtime.setVariable(entry.getKey(), SharedJson.view(entry.getValue()));
         }
         runtime.getConfig().copyChangedFrom(cached.configBefore(), cached.configAfter());
         // Push the restored config to the HTTP client so callonce hits made
@@ -23,14 +23,19 @@
  */
 package io.karatelabs.core;
 
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.gherkin.Scenario;
 import io.karatelabs.gherkin.Step;
 
 import io.karatelabs.output.Console;
+import io.karatelabs.output.DeferredLog;
 
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 public class StepResult {
 
@@ -44,6 +49,8 @@ public class StepResult {
     private final long durationNanos;
     private final Throwable error;
     private String log;
+    // the log as captured, until the first getLog() renders it into the field above
+    private volatile DeferredLog deferredLog;
     private List<Embed> embeds;
     private List<FeatureResult> callResults;  // For call steps - called feature results (V1 style)
     private String hookName;  // "beforeScenario" / "afterScenario" when this represents a lifecycle hook
@@ -148,13 +155,36 @@ public class StepResult {
      * result is still whole; the text is dropped afterwards because a {@code SuiteResult} holds
      * every feature for the whole run and this is the bulk of what that costs. See
      * {@link FeatureResult#releaseStepLogs()}.
+     *
+     * <p>HTTP request / response blocks are rendered here, on the first call, not when they were
+     * logged — see {@link DeferredLog}.
      */
     public String getLog() {
+        DeferredLog deferred = deferredLog;
+        if (deferred != null) {
+            // log is written before the volatile clear, so a racing caller that sees null sees it
+            log = deferred.render();
+            deferredLog = null;
+        }
         return log;
     }
 
     public void setLog(String log) {
         this.log = log;
+        this.deferredLog = null;
+    }
+
+    /**
+     * Keep what a step captured, rendering it only if and when {@link #getLog()} is called. Null
+     * (nothing captured) is the empty string, as from {@link io.karatelabs.output.LogContext#collect()}.
+     */
+    public void setLog(DeferredLog log) {
+        if (log == null || !log.isDeferred()) {
+            setLog(log == null ? "" : log.render());
+        } else {
+            this.log = null;
+            this.deferredLog = log;
+        }
     }
 
     /** The display text of a synthetic step ({@link #synthetic}); null for a parsed/hook step. */
@@ -163,10 +193,11 @@ public class StepResult {
     }
 
     public void appendLog(String message) {
+        String log = getLog();
         if (log == null || log.isEmpty()) {
-            log = message + "\n";
+            this.log = message + "\n";
         } else {
-            log = log + message + "\n";
+            this.log = log + message + "\n";
         }
     }
 
@@ -190,9 +221,21 @@ public class StepResult {
      */
     void releaseLogAndEmbeds() {
         log = null;
+        deferredLog = null;
         embeds = null;
     }
 
+    /**
+     * Let go of the HTTP bodies in a log that has not been rendered yet, keeping the headers —
+     * {@code configure logging = { bodies: 'failed' }} on a scenario that passed.
+     */
+    void releaseLogBodies() {
+        DeferredLog deferred = deferredLog;
+        if (deferred != null) {
+            deferred.dropBodies();
+        }
+    }
+
     public void addEmbed(Embed embed) {
         if (embeds == null) {
             embeds = new ArrayList<>();
@@ -258,6 +301,7 @@ public class StepResult {
             } else if (syntheticText != null) {
                 fakeStep.put("text", syntheticText);
             } else {
+                String log = getLog();
                 fakeStep.put("text", log != null ? log : "");
             }
             map.put("step", fakeStep);
@@ -277,6 +321,7 @@ public class StepResult {
         map.put("result", resultMap);
 
         // Top-level optional fields
+        String log = getLog();
         if (log != null && !log.isEmpty()) {
             map.put("stepLog", Console.stripAnsi(log));
         }
@@ -298,6 +343,91 @@ public class StepResult {
         return map;
     }
 
+    /**
+     * Everything this result holds, in the shape {@link #fromKarateJson} reads back. Unlike
+     * {@link #toJson()} nothing is dropped for display: the log keeps its ANSI codes, embeds keep
+     * their bytes, the step keeps its keyword, and called features nest in this same form.
+     */
+    public Map<String, Object> toKarateJson() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        if (step != null) {
+            Map<String, Object> stepMap = step.toJson();
+            if (step.getKeyword() != null) {
+                stepMap.put("keyword", step.getKeyword());
+            }
+            map.put("step", stepMap);
+        }
+        map.put("status", status.name());
+        map.put("startTime", startTime);
+        map.put("nanos", durationNanos);
+        if (error != null) {
+            map.put("error", error.getMessage() != null ? error.getMessage() : error.toString());
+        }
+        String log = getLog();
+        if (log != null) {
+            map.put("log", log);
+        }
+        if (embeds != null && !embeds.isEmpty()) {
+            List<Map<String, Object>> embedList = new ArrayList<>(embeds.size());
+            for (Embed embed : embeds) {
+                embedList.add(embed.toMap());
+            }
+            map.put("embeds", embedList);
+        }
+        if (callResults != null && !callResults.isEmpty()) {
+            List<Map<String, Object>> callList = new ArrayList<>(callResults.size());
+            for (FeatureResult fr : callResults) {
+                callList.add(fr.toKarateJson());
+            }
+            map.put("callResults", callList);
+        }
+        if (hookName != null) {
+            map.put("hook", hookName);
+        }
+        if (syntheticText != null) {
+            map.put("syntheticText", syntheticText);
+        }
+        return map;
+    }
+
+    /**
+     * The result {@link #toKarateJson()} described. The error comes back as a plain
+     * {@link RuntimeException} carrying the original message, which is all any report reads of
+     * it. A called feature {@code features} cannot resolve is left out of the call results.
+     */
+    @SuppressWarnings("unchecked")
+    public static StepResult fromKarateJson(Scenario scenario, Map<String, Object> map,
+                                            Function<String, Feature> features) {
+        Step step = null;
+        if (map.get("step") instanceof Map) {
+            Map<String, Object> stepMap = (Map<String, Object>) map.get("step");
+            step = Step.fromKarateJson(scenario, stepMap);
+            step.setKeyword((String) stepMap.get("keyword"));
+        }
+        Throwable error = map.containsKey("error") ? new RuntimeException((String) map.get("error")) : null;
+        StepResult sr = new StepResult(step, Status.valueOf((String) map.get("status")),
+                ((Number) map.get("startTime")).longValue(), ((Number) map.get("nanos")).longValue(), error);
+        sr.log = (String) map.get("log");
+        sr.hookName = (String) map.get("hook");
+        sr.syntheticText = (String) map.get("syntheticText");
+        if (map.get("embeds") instanceof List) {
+            for (Map<String, Object> embedMap : (List<Map<String, Object>>) map.get("embeds")) {
+                sr.addEmbed(Embed.fromMap(embedMap));
+            }
+        }
+        if (map.get("callResults") instanceof List) {
+            List<FeatureResult> called = new ArrayList<>();
+            for (Map<String, Object> callMap : (List<Map<String, Object>>) map.get("callResults")) {
+                FeatureResult fr = FeatureResult.fromKarateJson(callMap, features);
+                if (fr != null) {
+                    called.add(fr);
+                }
+            }
+            sr.callResults = called;
+        }
+        return sr;
+    }
+
     /**
      * A named report embed, generalised to one-or-more {@link Part}s plus optional
      * {@code meta} (see EXT.md § Embeds). A legacy single-asset embed (screenshot,
@@ -389,6 +519,18 @@ public class StepResult {
             }
             return map;
         }
+
+        /** The embed {@link #toMap()} described. */
+        @SuppressWarnings("unchecked")
+        public static Embed fromMap(Map<String, Object> map) {
+            List<Part> parts = new ArrayList<>();
+            if (map.get("parts") instanceof List) {
+                for (Map<String, Object> partMap : (List<Map<String, Object>>) map.get("parts")) {
+                    parts.add(Part.fromMap(partMap));
+                }
+            }
+            return new Embed((String) map.get("name"), parts, (Map<String, Object>) map.get("meta"));
+        }
     }
 
     /**
@@ -452,10 +594,22 @@ public class StepResult {
             } else if (url != null) {
                 map.put("url", url);
             } else if (data != null) {
-                map.put("data", java.util.Base64.getEncoder().encodeToString(data));
+                map.put("data", Base64.getEncoder().encodeToString(data));
             }
             return map;
         }
+
+        static Part fromMap(Map<String, Object> map) {
+            String role = (String) map.get("role");
+            String mime = (String) map.get("mime");
+            if (map.get("url") != null) {
+                return new Part(role, mime, (String) map.get("url"));
+            }
+            String data = (String) map.get("data");
+            Part part = new Part(role, mime, data == null ? null : Base64.getDecoder().decode(data));
+            part.fileName = (String) map.get("file");
+            return part;
+        }
     }
 
 }
@@ -30,12 +30,14 @@ import io.karatelabs.driver.DriverProvider;
 import io.karatelabs.driver.PooledDriverProvider;
 import io.karatelabs.gherkin.ExamplesTable;
 import io.karatelabs.gherkin.Feature;
+import io.karatelabs.gherkin.FeatureCache;
 import io.karatelabs.gherkin.FeatureSection;
 import io.karatelabs.gherkin.Scenario;
 import io.karatelabs.gherkin.Tag;
 import io.karatelabs.output.*;
 import org.slf4j.Logger;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
@@ -44,6 +46,7 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Immutable suite configuration and execution engine.
@@ -70,6 +73,8 @@ public class Suite {
     public final List<Feature> features;
     public final String env;
     public final String tagSelector;
+    // tagSelector compiled once, tested against every scenario's tags (see TagSelector.compile)
+    final java.util.function.Predicate<TagSelector> tagPredicate;
     public final int threadCount;
     public final boolean parallel;
     public final boolean dryRun;
@@ -88,12 +93,21 @@ public class Suite {
     public final boolean outputConsoleSummary;
     public final boolean retainCallResults;
     public final boolean retainStepLogs;
+    /** Finished features go to a {@link FeatureResultStore} — see {@code Runner.Builder.spillResults}. */
+    public final boolean spillResults;
+    /** The port to hand features out on, or -1 — see {@code Runner.Builder.coordinator(int)}. */
+    public final int coordinatorPort;
+    /** The coordinator this run works for, or null — see {@code Runner.Builder.worker(String)}. */
+    public final String coordinatorUrl;
     /** Explicit {@code Runner.Builder.captureStepLogs()}, or null — see {@link #isCaptureStepLogs()}. */
     private final Boolean captureStepLogs;
     public final Map<String, String> systemProperties;
     public final List<RunListener> listeners;
     public final List<RunListenerFactory> listenerFactories;
     public final DriverProvider driverProvider;
+    // false when driverProvider is the default pool sized for this Suite, which a Suite copied
+    // from this one (see Suite(Suite)) must not share
+    private final boolean driverProviderConfigured;
     public final io.karatelabs.http.HttpClientFactory httpClientFactory;
     public final boolean skipTagFiltering;
     public final Map<String, Set<Integer>> lineFilters;
@@ -112,7 +126,7 @@ public class Suite {
     // scenario in this Suite — config is EVALUATED per scenario by design, but it was also
     // being lexed and parsed per scenario, which is the same file re-read N times for a
     // suite of N scenarios. Keyed on the resource identity the Suite itself resolved.
-    private final Map<Resource, ConfigScript> configScripts = new ConcurrentHashMap<>();
+    private final Map<Resource, ConfigScript> configScripts;
 
     // ========== Runtime State (mutable, private) ==========
 
@@ -129,6 +143,23 @@ public class Suite {
     private final Map<String, ReentrantLock> callOnceLockStore;
     private final Map<String, Map<String, Object>> setupOnceCacheStore;
 
+    // Time scenarios spent blocked on another thread's karate.callSingle() of the same key:
+    // key -> {waits, millis}. Per run, even when the cache itself is shared; see SuiteResult.
+    private final Map<String, long[]> callSingleWaits = new ConcurrentHashMap<>();
+
+    // Parsed step expressions, shared by every scenario engine (see ParseCache) — per Suite
+    // unless injected via Runner.Builder, like the caches above.
+    private final io.karatelabs.js.ParseCache parseCache;
+
+    // Called and read features, parsed once for this run (see FeatureCache) and dropped when it
+    // ends. Shared with the Suites copied from a plan, which never run() - see Runner.FeaturePlan.
+    private final FeatureCache featureCache;
+
+    // Suite.allSectionsExcluded's tag-selection verdict per (non-outline) scenario, reused by
+    // FeatureRuntime.shouldSelect. Kept here, not on the Scenario: a parsed Feature can be shared
+    // by Suites with different selectors (see FeatureCache). Keyed by identity.
+    private final Map<Scenario, Boolean> scenarioSelection;
+
     // Lock manager for @lock tag support (mutual exclusion across parallel scenarios)
     private final ScenarioLockManager lockManager = new ScenarioLockManager();
 
@@ -148,6 +179,10 @@ public class Suite {
     // Shared executor and semaphore for scenario-level parallelism
     private volatile ExecutorService scenarioExecutor;
     private volatile Semaphore scenarioSemaphore;
+    private volatile ScenarioGate scenarioGate;
+
+    // Scenario durations of the previous run, for longest-first scheduling; null when not kept
+    private volatile RunHistory history;
 
     // Lane pool for timeline reporting
     private volatile Queue<Integer> availableLanes;
@@ -202,12 +237,18 @@ public class Suite {
                 ? builder.getCallOnceLockStore() : new ConcurrentHashMap<>();
         this.setupOnceCacheStore = builder.getSetupOnceCacheStore() != null
                 ? builder.getSetupOnceCacheStore() : new ConcurrentHashMap<>();
+        this.parseCache = builder.getParseCache() != null
+                ? builder.getParseCache() : new io.karatelabs.js.ParseCache();
+        this.featureCache = new FeatureCache();
+        this.configScripts = new ConcurrentHashMap<>();
+        this.scenarioSelection = new ConcurrentHashMap<>();
 
         // Core configuration
         this.env = builder.getEnv();
         this.tagSelector = builder.getTags() != null && !builder.getTags().isEmpty()
                 ? TagSelector.fromKarateOptionsTags(builder.getTags())
                 : null;
+        this.tagPredicate = TagSelector.compile(this.tagSelector);
         this.threadCount = Math.max(1, threadCount);
         this.parallel = this.threadCount > 1;
         this.dryRun = builder.isDryRun();
@@ -215,14 +256,20 @@ public class Suite {
         this.outputDir = builder.getOutputDir() != null
                 ? builder.getOutputDir()
                 : Path.of(FileUtils.getBuildDir(), "karate-reports");
-        this.outputHtmlReport = builder.isOutputHtmlReport();
-        this.outputJsonLines = builder.isOutputJsonLines();
-        this.outputJunitXml = builder.isOutputJunitXml();
-        this.outputCucumberJson = builder.isOutputCucumberJson();
-        this.backupReportDir = builder.isBackupOutputDir();
+        this.coordinatorPort = builder.getCoordinatorPort();
+        this.coordinatorUrl = builder.getCoordinatorUrl();
+        // A worker reports to its coordinator, which writes the one report set. Its results are
+        // released by SuiteWorker once posted, so FeatureRuntime must leave them whole.
+        boolean worker = this.coordinatorUrl != null;
+        this.outputHtmlReport = !worker && builder.isOutputHtmlReport();
+        this.outputJsonLines = !worker && builder.isOutputJsonLines();
+        this.outputJunitXml = !worker && builder.isOutputJunitXml();
+        this.outputCucumberJson = !worker && builder.isOutputCucumberJson();
+        this.backupReportDir = !worker && builder.isBackupOutputDir();
         this.outputConsoleSummary = builder.isOutputConsoleSummary();
-        this.retainCallResults = builder.isRetainCallResults();
-        this.retainStepLogs = builder.isRetainStepLogs();
+        this.retainCallResults = worker || builder.isRetainCallResults();
+        this.retainStepLogs = worker || builder.isRetainStepLogs();
+        this.spillResults = builder.isSpillResults();
         this.captureStepLogs = builder.getCaptureStepLogs();
         this.systemProperties = builder.getSystemProperties() != null
                 ? Collections.unmodifiableMap(new HashMap<>(builder.getSystemProperties()))
@@ -237,6 +284,7 @@ public class Suite {
         this.resultListeners = new ArrayList<>(builder.getResultListeners());
         // Auto-create PooledDriverProvider if none is set (default pooling behavior)
         DriverProvider configuredProvider = builder.getDriverProvider();
+        this.driverProviderConfigured = configuredProvider != null;
         if (configuredProvider != null) {
             this.driverProvider = configuredProvider;
         } else {
@@ -308,6 +356,73 @@ public class Suite {
                 : Collections.emptyMap();
     }
 
+    /**
+     * A Suite for one more run of {@code plan}, which has already been through the constructor
+     * above: the same root, config resources, features, selector and caches, with its run state
+     * (result, perf hook, locks, abort flag, lanes) fresh. Nothing is re-resolved, re-read or
+     * re-logged, and the parsed config scripts and the tag pre-filter's verdicts carry over
+     * because they depend only on what is shared. See {@link Runner.FeaturePlan}.
+     */
+    Suite(Suite plan) {
+        this.CALLSINGLE_CACHE = plan.CALLSINGLE_CACHE;
+        this.callSingleLock = plan.callSingleLock;
+        this.callOnceCacheStore = plan.callOnceCacheStore;
+        this.callOnceLockStore = plan.callOnceLockStore;
+        this.setupOnceCacheStore = plan.setupOnceCacheStore;
+        this.parseCache = plan.parseCache;
+        this.featureCache = plan.featureCache;
+        this.configScripts = plan.configScripts;
+        this.scenarioSelection = plan.scenarioSelection;
+        this.features = plan.features;
+        this.env = plan.env;
+        this.tagSelector = plan.tagSelector;
+        this.tagPredicate = plan.tagPredicate;
+        this.threadCount = plan.threadCount;
+        this.parallel = plan.parallel;
+        this.dryRun = plan.dryRun;
+        this.configPath = plan.configPath;
+        this.outputDir = plan.outputDir;
+        this.workingDir = plan.workingDir;
+        this.root = plan.root;
+        this.classpathRoot = plan.classpathRoot;
+        this.outputHtmlReport = plan.outputHtmlReport;
+        this.outputJsonLines = plan.outputJsonLines;
+        this.outputJunitXml = plan.outputJunitXml;
+        this.outputCucumberJson = plan.outputCucumberJson;
+        this.backupReportDir = plan.backupReportDir;
+        this.outputConsoleSummary = plan.outputConsoleSummary;
+        this.retainCallResults = plan.retainCallResults;
+        this.retainStepLogs = plan.retainStepLogs;
+        this.spillResults = plan.spillResults;
+        this.coordinatorPort = plan.coordinatorPort;
+        this.coordinatorUrl = plan.coordinatorUrl;
+        this.captureStepLogs = plan.captureStepLogs;
+        this.systemProperties = plan.systemProperties;
+        this.listeners = plan.listeners;
+        this.listenerFactories = plan.listenerFactories;
+        this.resultListeners = new ArrayList<>(plan.resultListeners);
+        this.driverProviderConfigured = plan.driverProviderConfigured;
+        this.driverProvider = plan.driverProviderConfigured
+                ? plan.driverProvider : new PooledDriverProvider(threadCount);
+        this.httpClientFactory = plan.httpClientFactory;
+        this.skipTagFiltering = plan.skipTagFiltering;
+        this.lineFilters = plan.lineFilters;
+        this.scenarioName = plan.scenarioName;
+        this.debugInterceptor = plan.debugInterceptor;
+        this.debugPointFactory = plan.debugPointFactory;
+        this.baseResource = plan.baseResource;
+        this.configResource = plan.configResource;
+        this.configEnvResource = plan.configEnvResource;
+        // boot ran once, for the plan; what it registered is the plan's to hand on
+        this.bootBinding = plan.bootBinding;
+        this.globals.putAll(plan.globals);
+        this.reportAssets.putAll(plan.reportAssets);
+        this.channelFactories.putAll(plan.channelFactories);
+        synchronized (plan.mutableListeners) {
+            this.mutableListeners.addAll(plan.mutableListeners);
+        }
+    }
+
     private String resolveConfigPath(String configDir) {
         if (configDir == null) {
             return "classpath:karate-config.js";
@@ -505,15 +620,33 @@ public class Suite {
         result.setHtmlReportEnabled(outputHtmlReport);
         result.setDryRun(dryRun);
 
-        // Clear any per-Scenario selection cache from a prior run against the same
-        // parsed Feature objects. The pre-filter below will repopulate for this run.
+        // Clear the selection cache of a prior run of this Suite. The pre-filter
+        // below will repopulate it for this run.
         clearScenarioSelectionCache();
 
+        // Read before the backup below moves the previous run's report dir out of the way
+        history = keepsHistory() ? RunHistory.load(outputDir) : null;
+        if (history != null && parallel && threadCount > 1 && coordinatorPort < 0) {
+            long predicted = history.predictMakespan(features, threadCount);
+            if (predicted != RunHistory.UNKNOWN) {
+                result.setPredictedMillis(predicted);
+            }
+        }
+
         // Backup existing report directory if enabled
         if (backupReportDir) {
             backupReportDirIfExists();
         }
 
+        // After the backup, which would otherwise move the store away with the old report dir
+        if (spillResults && !isPerfMode()) {
+            try {
+                result.spillTo(new FeatureResultStore(this, features));
+            } catch (IOException e) {
+                logger.warn("keeping results in memory, cannot create result store: {}", e.getMessage());
+            }
+        }
+
         // Auto-register HTML report listener
         if (outputHtmlReport) {
             resultListeners.add(new HtmlReportListener(outputDir, env));
@@ -573,7 +706,11 @@ public class Suite {
             // Fire SUITE_ENTER event
             fireEvent(SuiteRunEvent.enter(this));
 
-            if (parallel && threadCount > 1) {
+            if (coordinatorPort >= 0) {
+                new SuiteCoordinator(this).run();
+            } else if (coordinatorUrl != null) {
+                new SuiteWorker(this).run();
+            } else if (parallel && threadCount > 1) {
                 runParallel();
             } else {
                 runSequential();
@@ -581,13 +718,18 @@ public class Suite {
 
             // set end time before firing SUITE_EXIT so the event carries a valid durationMillis
             result.setEndTime(System.currentTimeMillis());
+            result.setCallSingleWaits(getCallSingleWaits());
 
             // Fire SUITE_EXIT event
             fireEvent(SuiteRunEvent.exit(this, result));
+            logger.debug("{}", parseCache);
+            logger.debug("{}", featureCache);
         } finally {
+            featureCache.clear();
             if (result.getEndTime() == 0) {
                 result.setEndTime(System.currentTimeMillis());
             }
+            result.closeStore();
 
             // Shutdown driver provider if one exists
             if (driverProvider != null) {
@@ -621,11 +763,26 @@ public class Suite {
             for (ResultListener listener : resultListeners) {
                 listener.onSuiteEnd(result);
             }
+
+            if (history != null) {
+                history.save(outputDir);
+                history = null;
+            }
         }
 
         return result;
     }
 
+    /**
+     * Only a run that leaves a report dir behind anyway keeps a history in it: not a dry run,
+     * whose durations are all zero, and not perf mode, whose throwaway suites would rewrite the
+     * file once per Gatling execution.
+     */
+    private boolean keepsHistory() {
+        return !dryRun && !isPerfMode()
+                && (outputHtmlReport || outputJsonLines || outputCucumberJson || outputJunitXml);
+    }
+
     // Thread-safe listener management for JSONL writer
     private final List<RunListener> mutableListeners = new ArrayList<>();
 
@@ -851,7 +1008,7 @@ public class Suite {
         }
     }
 
-    private FeatureResult runFeatureSafely(Feature feature) {
+    FeatureResult runFeatureSafely(Feature feature) {
         long startTime = System.currentTimeMillis();
         try {
             FeatureRuntime fr = new FeatureRuntime(this, feature);
@@ -863,54 +1020,120 @@ public class Suite {
     }
 
     private void runParallel() {
-        // Initialize ALL parallel infrastructure BEFORE creating executor
-        availableLanes = new ConcurrentLinkedQueue<>();
-        for (int i = 1; i <= threadCount; i++) {
-            availableLanes.add(i);
-        }
-        scenarioSemaphore = new Semaphore(threadCount);
-        logger.info("Parallel execution initialized: threadCount={}, semaphore permits={}",
-                threadCount, scenarioSemaphore.availablePermits());
-
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            scenarioExecutor = executor;
-            List<Future<FeatureResult>> futures = new ArrayList<>();
-
-            for (Feature feature : features) {
+        runOnLanes(executor -> {
+            // Submitted longest first when there is a history, collected in discovery order
+            // regardless, so the reports list features the way they always have.
+            // Each future holds the feature in the form the suite result keeps it, so a spilled
+            // run waiting on a slow early feature holds digests of the later ones, not results.
+            Map<Feature, Future<SuiteResult.Kept>> futures = new IdentityHashMap<>();
+
+            for (Feature feature : submissionOrder()) {
                 if (isAborted() || isFeatureIgnored(feature)) {
                     continue;
                 }
-                Future<FeatureResult> future = executor.submit(() -> {
+                Future<SuiteResult.Kept> future = executor.submit(() -> {
                     initThreadListeners();
                     try {
                         FeatureResult featureResult = runFeatureSafely(feature);
                         if (outputConsoleSummary) {
                             featureResult.printSummary(dryRun);
                         }
-                        return featureResult;
+                        return result.keep(featureResult);
                     } finally {
                         cleanupThreadListeners();
                     }
                 });
-                futures.add(future);
+                futures.put(feature, future);
             }
 
             // Collect results
-            for (Future<FeatureResult> future : futures) {
+            for (Feature feature : features) {
+                Future<SuiteResult.Kept> future = futures.get(feature);
+                if (future == null) {
+                    continue;
+                }
                 try {
-                    FeatureResult featureResult = future.get();
-                    result.addFeatureResult(featureResult);
+                    result.add(future.get());
                 } catch (Exception e) {
                     logger.error("Unexpected error collecting feature result: {}", e.getMessage(), e);
                 }
             }
+        });
+    }
+
+    /**
+     * Run {@code body} with the lanes, scenario semaphore, {@link ScenarioGate} and executor that
+     * a parallel run's features share, and tear them down after. {@link SuiteWorker} runs on the
+     * same infrastructure, its features coming from the coordinator instead of {@link #features}.
+     */
+    void runOnLanes(Consumer<ExecutorService> body) {
+        // Initialize ALL parallel infrastructure BEFORE creating executor
+        availableLanes = new ConcurrentLinkedQueue<>();
+        for (int i = 1; i <= threadCount; i++) {
+            availableLanes.add(i);
+        }
+        scenarioSemaphore = new Semaphore(threadCount);
+        scenarioGate = new ScenarioGate(scenarioSemaphore);
+        logger.info("Parallel execution initialized: threadCount={}, semaphore permits={}",
+                threadCount, scenarioSemaphore.availablePermits());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            scenarioExecutor = executor;
+            body.accept(executor);
         } finally {
             scenarioExecutor = null;
             scenarioSemaphore = null;
+            scenarioGate = null;
         }
     }
 
-    private boolean isFeatureIgnored(Feature feature) {
+    /** {@link #features} longest first when the last run left a history, else as discovered. */
+    List<Feature> submissionOrder() {
+        RunHistory runHistory = history;
+        return runHistory != null && !runHistory.isEmpty() ? runHistory.longestFirst(features) : features;
+    }
+
+    /**
+     * Finish a feature that a worker ran, as {@link FeatureRuntime#call()} finishes a top-level
+     * feature here: the same result-listener calls and events in the same order — so embeds are
+     * externalized, the history records it and every report writer sees it — then the same
+     * release. The scenario callbacks are replayed from the finished results; scenario-level
+     * events are not, as there is no {@link ScenarioRuntime} to carry them. For
+     * {@link SuiteCoordinator}, on the thread that received the result.
+     */
+    void completeRemote(FeatureResult featureResult) {
+        FeatureRuntime source = new FeatureRuntime(this, featureResult.getFeature());
+        initThreadListeners();
+        try {
+            for (ResultListener listener : resultListeners) {
+                listener.onFeatureStart(featureResult.getFeature());
+            }
+            fireEvent(FeatureRunEvent.enter(source));
+            for (ScenarioResult scenarioResult : featureResult.getScenarioResults()) {
+                for (ResultListener listener : resultListeners) {
+                    listener.onScenarioStart(scenarioResult.getScenario());
+                    listener.onScenarioEnd(scenarioResult);
+                }
+            }
+            fireEvent(FeatureRunEvent.exit(source, featureResult));
+            for (ResultListener listener : resultListeners) {
+                listener.onFeatureEnd(featureResult);
+            }
+        } finally {
+            cleanupThreadListeners();
+        }
+        if (!retainCallResults) {
+            featureResult.releaseCallResults();
+        }
+        if (!retainStepLogs) {
+            featureResult.releaseStepLogs();
+        }
+        if (outputConsoleSummary) {
+            featureResult.printSummary(dryRun);
+        }
+    }
+
+    boolean isFeatureIgnored(Feature feature) {
         for (Tag tag : feature.getTags()) {
             if (Tag.IGNORE.equals(tag.getName())) {
                 return true;
@@ -936,9 +1159,9 @@ public class Suite {
      * filters, and {@code skipTagFiltering} all have their own selection semantics in
      * {@link FeatureRuntime} that bypass tag selection.
      * <p>
-     * For persistent (non-outline) scenarios, the evaluation result is cached on the
-     * {@link Scenario} via {@link Scenario#setSelected(Boolean)} so that
-     * {@link FeatureRuntime#shouldSelect} can reuse it instead of re-evaluating.
+     * For persistent (non-outline) scenarios, the evaluation result is cached in this
+     * Suite (see {@link #getCachedSelection}) so that {@link FeatureRuntime#shouldSelect}
+     * can reuse it instead of re-evaluating.
      */
     private boolean allSectionsExcluded(Feature feature) {
         if (tagSelector == null) {
@@ -995,24 +1218,30 @@ public class Suite {
         }
         Scenario scenario = section.getScenario();
         boolean passes = tagSelectorPasses(mergeTags(featureTags, scenario.getTags()));
-        scenario.setSelected(passes);
+        scenarioSelection.put(scenario, passes);
         return passes;
     }
 
+    /**
+     * Run the tag pre-filter over {@code feature} without a {@link #run()}, so the verdicts are
+     * cached before the first scenario asks — {@link Runner.FeaturePlan} does this once, and every
+     * Suite copied from the plan reads them instead of evaluating the selector per run.
+     */
+    void preselect(Feature feature) {
+        allSectionsExcluded(feature);
+    }
+
+    /** The pre-filter's verdict for {@code scenario} in this run, or null if it has none. */
+    Boolean getCachedSelection(Scenario scenario) {
+        return scenarioSelection.get(scenario);
+    }
+
     private boolean tagSelectorPasses(List<Tag> tags) {
-        return new TagSelector(tags).evaluate(tagSelector, env);
+        return new TagSelector(tags).select(tagPredicate, env);
     }
 
     private void clearScenarioSelectionCache() {
-        for (Feature feature : features) {
-            List<FeatureSection> sections = feature.getSections();
-            if (sections == null) continue;
-            for (FeatureSection section : sections) {
-                if (!section.isOutline() && section.getScenario() != null) {
-                    section.getScenario().setSelected(null);
-                }
-            }
-        }
+        scenarioSelection.clear();
     }
 
     private static List<Tag> mergeTags(List<Tag> a, List<Tag> b) {
@@ -1055,7 +1284,14 @@ public class Suite {
         if (event.getType() == RunEventType.FEATURE_EXIT
                 && event instanceof FeatureRunEvent fre && fre.result() != null
                 && fre.source() != null && fre.source().getCallDepth() == 0) {
-            HtmlReportWriter.externalizeEmbeds(fre.result(), outputDir);
+            // a worker posts its embeds inline; the coordinator externalizes them on arrival
+            if (coordinatorUrl == null) {
+                HtmlReportWriter.externalizeEmbeds(fre.result(), outputDir);
+            }
+            RunHistory runHistory = history;
+            if (runHistory != null) {
+                runHistory.record(fre.result());
+            }
         }
 
         boolean proceed = true;
@@ -1122,10 +1358,43 @@ public class Suite {
         return CALLSINGLE_CACHE;
     }
 
+    /**
+     * The lock handed in with an injected callSingle cache.
+     *
+     * @deprecated karate.callSingle() no longer takes it: each key is its own single flight,
+     * kept in the cache map (see {@code ScenarioRuntime.executeCallSingle}). Nothing in Karate
+     * locks on it; it will be removed along with {@code Runner.Builder.callSingleCache(Map, ReentrantLock)}.
+     */
+    @Deprecated
     public ReentrantLock getCallSingleLock() {
         return callSingleLock;
     }
 
+    void recordCallSingleWait(String key, long millis) {
+        callSingleWaits.compute(key, (k, v) -> {
+            long[] total = v == null ? new long[2] : v;
+            total[0]++;
+            total[1] += millis;
+            return total;
+        });
+    }
+
+    /** Every callSingle key some scenario had to wait for in this Suite, longest total wait first. */
+    public List<SuiteResult.CallSingleWait> getCallSingleWaits() {
+        List<SuiteResult.CallSingleWait> waits = new ArrayList<>();
+        callSingleWaits.forEach((key, total) -> waits.add(new SuiteResult.CallSingleWait(key, total[0], total[1])));
+        waits.sort(Comparator.comparingLong(SuiteResult.CallSingleWait::millis).reversed());
+        return waits;
+    }
+
+    public io.karatelabs.js.ParseCache getParseCache() {
+        return parseCache;
+    }
+
+    public FeatureCache getFeatureCache() {
+        return featureCache;
+    }
+
     /**
      * Get the callOnce cache for the given feature key (its resource URI). The cache
      * is created on first access and reused across all FeatureRuntimes for the same
@@ -1156,6 +1425,16 @@ public class Suite {
         return scenarioSemaphore;
     }
 
+    ScenarioGate getScenarioGate() {
+        return scenarioGate;
+    }
+
+    /** This scenario's duration on the last recorded run, or {@link RunHistory#UNKNOWN}. */
+    long predictedMillis(Scenario scenario) {
+        RunHistory runHistory = history;
+        return runHistory == null ? RunHistory.UNKNOWN : runHistory.scenarioMillis(scenario);
+    }
+
     public void acquireLane() {
         if (availableLanes != null) {
             Integer lane = availableLanes.poll();
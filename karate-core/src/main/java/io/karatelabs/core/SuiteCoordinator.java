@@ -0,0 +1,279 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import io.karatelabs.common.FileUtils;
+import io.karatelabs.common.Json;
+import io.karatelabs.common.Resource;
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.http.HttpRequest;
+import io.karatelabs.http.HttpResponse;
+import io.karatelabs.http.HttpServer;
+import io.karatelabs.http.ServerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs a suite across JVMs: this side serves the features over HTTP, {@link SuiteWorker}s
+ * anywhere that can reach it claim them one at a time, and each finished
+ * {@link FeatureResult} comes back in its {@link FeatureResult#toKarateJson() lossless form}
+ * to be completed here as if it had run here ({@link Suite#completeRemote}) — one
+ * {@link SuiteResult}, one report set, one history.
+ * <p>
+ * Work is pulled, not pushed, and claimed a feature at a time in the order a parallel run
+ * would submit it (longest first from the history), so a fast worker simply takes more. The
+ * unit is the feature rather than the scenario because that is what the report writers and the
+ * {@code callonce} / {@code @setup} caches are built around. A worker that stops talking for
+ * {@link #WORKER_TIMEOUT_MILLIS} loses its claims back to the queue; a late result for a feature
+ * already completed is dropped, the first one wins.
+ * <pre>
+ * POST /karate/next      {"worker":"id"}  -> {"index":3,"path":"users/users.feature"} | {"wait":500} | {"done":true}
+ * POST /karate/result?worker=id&amp;index=3  the karate-json, or {"error":"..."}
+ * POST /karate/heartbeat {"worker":"id"}
+ * </pre>
+ * Plain HTTP and no authentication: for a build network, not the internet.
+ */
+final class SuiteCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger("karate.runtime");
+
+    static final String NEXT = "/karate/next";
+    static final String RESULT = "/karate/result";
+    static final String HEARTBEAT = "/karate/heartbeat";
+
+    /** How often a worker says it is alive while it runs a feature. */
+    static final long HEARTBEAT_MILLIS = 5_000;
+    /** Silence after which a worker's claims go back to the queue. */
+    static final long WORKER_TIMEOUT_MILLIS = 30_000;
+    /** What a worker is told to wait when nothing is queued but claims are still out. */
+    static final long POLL_MILLIS = 500;
+
+    private record Claim(String worker, long claimedAt) {
+    }
+
+    private final Suite suite;
+    private final List<Feature> features = new ArrayList<>();
+    // written or held by the suite's result once completed, collected in discovery order at the end
+    private final SuiteResult.Kept[] results;
+    private final boolean[] received;
+    private final Deque<Integer> queue = new ArrayDeque<>();
+    private final Map<Integer, Claim> claims = new HashMap<>();
+    private final Map<String, Long> lastSeen = new HashMap<>();
+    private final Map<String, Boolean> toldDone = new HashMap<>();
+    private final Map<String, Feature> calledFeatures = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private int completed;
+
+    SuiteCoordinator(Suite suite) {
+        this.suite = suite;
+        for (Feature feature : suite.submissionOrder()) {
+            if (!suite.isFeatureIgnored(feature)) {
+                queue.add(features.size());
+                features.add(feature);
+            }
+        }
+        this.results = new SuiteResult.Kept[features.size()];
+        this.received = new boolean[features.size()];
+    }
+
+    void run() {
+        HttpServer server = HttpServer.start(suite.coordinatorPort, null, this::handle,
+                new ServerConfig().streamBodies(true));
+        logger.info("coordinator serving {} feature(s) on port {}", features.size(), server.getPort());
+        try {
+            lock.lock();
+            try {
+                while (completed < results.length && !suite.isAborted()) {
+                    requeueSilentWorkers();
+                    changed.await(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                // linger until every worker has heard "done" rather than a refused connection,
+                // but not for one that has gone quiet
+                long deadline = System.currentTimeMillis() + POLL_MILLIS * 4;
+                while (toldDone.size() < lastSeen.size() && System.currentTimeMillis() < deadline) {
+                    changed.await(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            server.stopAndWait();
+        }
+        // in discovery order, like a parallel run, whatever order they finished in
+        for (Feature feature : suite.features) {
+            int index = features.indexOf(feature);
+            if (index != -1 && results[index] != null) {
+                suite.getResult().add(results[index]);
+            }
+        }
+        if (completed < results.length) {
+            logger.warn("coordinator stopped with {} of {} feature(s) unfinished", results.length - completed, results.length);
+        }
+    }
+
+    private HttpResponse handle(HttpRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return HttpResponse.text(405, "POST only");
+        }
+        try {
+            return switch (request.getPath()) {
+                case NEXT -> next(workerOf(request));
+                case RESULT -> result(request);
+                case HEARTBEAT -> {
+                    workerOf(request);
+                    yield HttpResponse.json(Map.of());
+                }
+                default -> HttpResponse.text(404, "not found: " + request.getPath());
+            };
+        } catch (RuntimeException e) {
+            logger.warn("coordinator could not handle {}: {}", request.getPath(), e.getMessage());
+            return HttpResponse.text(400, String.valueOf(e.getMessage()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String workerOf(HttpRequest request) {
+        String worker = request.getParam("worker");
+        if (worker == null) {
+            Map<String, Object> body = (Map<String, Object>) Json.parseStrict(FileUtils.toString(request.getBodyStream()));
+            worker = (String) body.get("worker");
+        }
+        if (worker == null) {
+            throw new IllegalArgumentException("worker id missing");
+        }
+        lock.lock();
+        try {
+            lastSeen.put(worker, System.currentTimeMillis());
+        } finally {
+            lock.unlock();
+        }
+        return worker;
+    }
+
+    private HttpResponse next(String worker) {
+        lock.lock();
+        try {
+            if (completed == results.length || suite.isAborted()) {
+                toldDone.put(worker, true);
+                changed.signalAll();
+                return HttpResponse.json(Map.of("done", true));
+            }
+            requeueSilentWorkers();
+            Integer index = queue.poll();
+            if (index == null) {
+                return HttpResponse.json(Map.of("wait", POLL_MILLIS));
+            }
+            claims.put(index, new Claim(worker, System.currentTimeMillis()));
+            String path = features.get(index).getResource().getPrefixedPath();
+            logger.debug("feature {} claimed by {}", path, worker);
+            return HttpResponse.json(Map.of("index", index, "path", path));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse result(HttpRequest request) {
+        String worker = workerOf(request);
+        int index = Integer.parseInt(request.getParam("index"));
+        Feature feature = features.get(index);
+        Map<String, Object> body = (Map<String, Object>) Json.parseStrict(FileUtils.toString(request.getBodyStream()));
+        FeatureResult featureResult;
+        if (body.get("error") instanceof String error) {
+            featureResult = FeatureResult.fromException(feature, new RuntimeException(error), System.currentTimeMillis());
+        } else {
+            String path = feature.getResource().getPrefixedPath();
+            featureResult = FeatureResult.fromKarateJson(body, p -> path.equals(p) ? feature : calledFeature(p));
+        }
+        lock.lock();
+        try {
+            if (received[index]) {
+                logger.debug("dropping duplicate result for {} from {}", feature, worker);
+                return HttpResponse.json(Map.of());
+            }
+            received[index] = true;
+            claims.remove(index);
+            queue.remove(index);
+        } finally {
+            lock.unlock();
+        }
+        // outside the lock: listeners write reports, and other workers should not wait on that
+        suite.completeRemote(featureResult);
+        SuiteResult.Kept kept = suite.getResult().keep(featureResult);
+        lock.lock();
+        try {
+            results[index] = kept;
+            completed++;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return HttpResponse.json(Map.of());
+    }
+
+    /** A feature some worker's feature called, parsed here once; null when this side cannot read it. */
+    private Feature calledFeature(String path) {
+        return calledFeatures.computeIfAbsent(path, p -> {
+            try {
+                return suite.getFeatureCache().get(Resource.path(p, suite.root, suite.classpathRoot));
+            } catch (Exception e) {
+                logger.warn("dropping call result for {}: {}", p, e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    // under the lock
+    private void requeueSilentWorkers() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Integer, Claim>> it = claims.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Claim> entry = it.next();
+            long seen = lastSeen.getOrDefault(entry.getValue().worker(), entry.getValue().claimedAt());
+            if (now - seen > WORKER_TIMEOUT_MILLIS) {
+                logger.warn("worker {} silent for {}s, requeueing {}", entry.getValue().worker(),
+                        (now - seen) / 1000, features.get(entry.getKey()));
+                // to the front: it was claimed because it was next, and it is now late
+                queue.addFirst(entry.getKey());
+                it.remove();
+            }
+        }
+    }
+
+}
@@ -25,7 +25,12 @@ package io.karatelabs.core;
 
 import io.karatelabs.output.Console;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -34,7 +39,21 @@ import java.util.Map;
 
 public class SuiteResult {
 
-    private final List<FeatureResult> featureResults = Collections.synchronizedList(new ArrayList<>());
+    private static final Logger logger = LoggerFactory.getLogger("karate.runtime");
+
+    private final List<Kept> kept = Collections.synchronizedList(new ArrayList<>());
+    private final List<FeatureResult> featureResults = new AbstractList<>() {
+        @Override
+        public FeatureResult get(int index) {
+            return resultOf(kept.get(index));
+        }
+
+        @Override
+        public int size() {
+            return kept.size();
+        }
+    };
+    private volatile FeatureResultStore store;
     private long startTime;
     private long endTime;
     private Path reportDir;
@@ -43,6 +62,80 @@ public class SuiteResult {
      *  skipped, and a skip counts toward {@code passed} (nothing failed) — so the summary MUST say so
      *  rather than print "all passed" for a run that never touched the system under test. */
     private boolean dryRun;
+    private List<CallSingleWait> callSingleWaits = Collections.emptyList();
+    private Long predictedMillis;
+
+    /**
+     * Scenarios that blocked on another thread's {@code karate.callSingle()} of the same key: how
+     * many waits, and their total. A key nobody waited for is not listed.
+     */
+    public record CallSingleWait(String key, long waits, long millis) {
+    }
+
+    /**
+     * A finished feature as this result keeps it: the result itself, or, once a
+     * {@link FeatureResultStore} has written it, where it sits on disk and a {@link Digest}.
+     */
+    static final class Kept {
+
+        private final FeatureResult result;
+        private final FeatureResultStore.Span span;
+        private final Digest digest;
+
+        private Kept(FeatureResult result, FeatureResultStore.Span span, Digest digest) {
+            this.result = result;
+            this.span = span;
+            this.digest = digest;
+        }
+
+        // a held result is read live, as it always was
+        Digest digest() {
+            return digest != null ? digest : Digest.of(result);
+        }
+
+    }
+
+    /** What the counters and the console summary read: a few numbers, plus detail only on failure. */
+    private record Digest(String path, boolean failed, int scenarioCount, int passedCount, int failedCount,
+                          int skippedCount, long durationMillis, List<ScenarioFailure> failures) {
+
+        static Digest of(FeatureResult fr) {
+            boolean failed = fr.isFailed();
+            List<ScenarioFailure> failures = Collections.emptyList();
+            if (failed) {
+                failures = new ArrayList<>();
+                for (ScenarioResult sr : fr.getScenarioResults()) {
+                    if (sr.isFailed()) {
+                        failures.add(ScenarioFailure.of(sr));
+                    }
+                }
+            }
+            String path;
+            if (fr.getFeature().getResource() != null && fr.getFeature().getResource().getPath() != null) {
+                path = fr.getFeature().getResource().getPath().toString();
+            } else {
+                path = fr.getFeature().getName();
+            }
+            return new Digest(path, failed, fr.getScenarioCount(), fr.getPassedCount(), fr.getFailedCount(),
+                    fr.getSkippedCount(), fr.getDurationMillis(), failures);
+        }
+
+    }
+
+    private record ScenarioFailure(String name, String stepLocation, String comment, String stepText,
+                                   String docString, String reason, String message) {
+
+        static ScenarioFailure of(ScenarioResult sr) {
+            String name = sr.getScenario().getName();
+            if (name == null || name.isEmpty()) {
+                name = "line " + sr.getScenario().getLine();
+            }
+            return new ScenarioFailure(name, sr.getFailedStepLocation(), sr.getFailedStepComment(),
+                    sr.getFailedStepText(), sr.getFailedStepDocString(), sr.getFailureReason(),
+                    sr.getFailureMessage());
+        }
+
+    }
 
     public SuiteResult() {
     }
@@ -88,42 +181,131 @@ public class SuiteResult {
         return htmlReportEnabled;
     }
 
-    public synchronized void addFeatureResult(FeatureResult fr) {
-        featureResults.add(fr);
+    public void setCallSingleWaits(List<CallSingleWait> callSingleWaits) {
+        this.callSingleWaits = callSingleWaits == null ? Collections.emptyList() : List.copyOf(callSingleWaits);
+    }
+
+    /** Longest total wait first. Empty when no scenario waited, including every sequential run. */
+    public List<CallSingleWait> getCallSingleWaits() {
+        return callSingleWaits;
+    }
+
+    public void setPredictedMillis(Long predictedMillis) {
+        this.predictedMillis = predictedMillis;
+    }
+
+    /**
+     * The wall clock the previous run's durations predicted for this one, scheduled longest
+     * first over the suite's threads. Null for a sequential run and when there was no history.
+     */
+    public Long getPredictedMillis() {
+        return predictedMillis;
+    }
+
+    public void addFeatureResult(FeatureResult fr) {
+        add(keep(fr));
     }
 
+    /**
+     * Every feature, in the order added. Once results are spilled to disk, each {@code get} reads
+     * and parses that feature again: iterate once rather than index into it repeatedly, and keep
+     * only what is needed.
+     */
     public List<FeatureResult> getFeatureResults() {
         return featureResults;
     }
 
+    // ========== Result Store ==========
+
+    /**
+     * From here on, write each feature added to {@code store} and keep only its digest.
+     * {@code Runner.Builder.spillResults(true)}.
+     */
+    void spillTo(FeatureResultStore store) {
+        this.store = store;
+    }
+
+    /**
+     * {@code karate-json/karate-results.jsonl} when this run spilled its results to disk, one
+     * lossless line per feature, else null.
+     */
+    public Path getResultsFile() {
+        FeatureResultStore s = store;
+        return s == null ? null : s.getPath();
+    }
+
+    /** No more features will be added; what was written stays readable. */
+    void closeStore() {
+        FeatureResultStore s = store;
+        if (s != null) {
+            s.close();
+        }
+    }
+
+    /**
+     * The form {@code fr} will be kept in, written to the store first if there is one. Called on
+     * the feature's own thread, so a parallel run serializes its features in parallel and only
+     * ever holds their digests while it collects them in discovery order.
+     */
+    Kept keep(FeatureResult fr) {
+        FeatureResultStore s = store;
+        if (s == null) {
+            return new Kept(fr, null, null);
+        }
+        try {
+            return new Kept(null, s.append(fr), Digest.of(fr));
+        } catch (IOException e) {
+            logger.warn("keeping {} in memory, result store failed: {}", fr.getDisplayName(), e.getMessage());
+            return new Kept(fr, null, null);
+        }
+    }
+
+    void add(Kept k) {
+        kept.add(k);
+    }
+
+    private FeatureResult resultOf(Kept k) {
+        return k.result != null ? k.result : store.read(k.span);
+    }
+
+    private List<Digest> digests() {
+        synchronized (kept) {
+            List<Digest> list = new ArrayList<>(kept.size());
+            for (Kept k : kept) {
+                list.add(k.digest());
+            }
+            return list;
+        }
+    }
+
     // ========== Aggregation ==========
 
     public int getFeatureCount() {
-        return featureResults.size();
+        return kept.size();
     }
 
     public int getFeaturePassedCount() {
-        return (int) featureResults.stream().filter(FeatureResult::isPassed).count();
+        return (int) digests().stream().filter(d -> !d.failed()).count();
     }
 
     public int getFeatureFailedCount() {
-        return (int) featureResults.stream().filter(FeatureResult::isFailed).count();
+        return (int) digests().stream().filter(Digest::failed).count();
     }
 
     public int getScenarioCount() {
-        return featureResults.stream().mapToInt(FeatureResult::getScenarioCount).sum();
+        return digests().stream().mapToInt(Digest::scenarioCount).sum();
     }
 
     public int getScenarioPassedCount() {
-        return featureResults.stream().mapToInt(FeatureResult::getPassedCount).sum();
+        return digests().stream().mapToInt(Digest::passedCount).sum();
     }
 
     public int getScenarioFailedCount() {
-        return featureResults.stream().mapToInt(FeatureResult::getFailedCount).sum();
+        return digests().stream().mapToInt(Digest::failedCount).sum();
     }
 
     public int getScenarioSkippedCount() {
-        return featureResults.stream().mapToInt(FeatureResult::getSkippedCount).sum();
+        return digests().stream().mapToInt(Digest::skippedCount).sum();
     }
 
     /**
@@ -138,11 +320,11 @@ public class SuiteResult {
     }
 
     public boolean isPassed() {
-        return featureResults.stream().noneMatch(FeatureResult::isFailed);
+        return !isFailed();
     }
 
     public boolean isFailed() {
-        return featureResults.stream().anyMatch(FeatureResult::isFailed);
+        return digests().stream().anyMatch(Digest::failed);
     }
 
     public long getDurationMillis() {
@@ -188,6 +370,9 @@ public class SuiteResult {
         summary.put("startTime", startTime);
         summary.put("endTime", endTime);
         summary.put("durationMillis", getDurationMillis());
+        if (predictedMillis != null) {
+            summary.put("predictedMillis", predictedMillis);
+        }
         summary.put("passed", !isFailed());
         return summary;
     }
@@ -225,59 +410,42 @@ public class SuiteResult {
         int finalLineLength = Math.max(60, reportUrl != null ? reportUrl.length() : 0);
 
         // List failed features first (before the summary block)
-        List<FeatureResult> failedFeatures = getFailedFeatures();
+        List<Digest> failedFeatures = digests().stream().filter(Digest::failed).toList();
         if (!failedFeatures.isEmpty()) {
             Console.println();
             Console.println(Console.fail("failed features:"));
-            for (FeatureResult fr : failedFeatures) {
-                String path;
-                if (fr.getFeature().getResource() != null && fr.getFeature().getResource().getPath() != null) {
-                    path = fr.getFeature().getResource().getPath().toString();
-                } else {
-                    path = fr.getFeature().getName();
-                }
-                Console.println("  " + Console.red(path));
+            for (Digest fd : failedFeatures) {
+                Console.println("  " + Console.red(fd.path()));
 
                 // Show failed scenarios with line numbers for easy navigation
-                for (ScenarioResult sr : fr.getScenarioResults()) {
-                    if (sr.isFailed()) {
-                        String scenarioName = sr.getScenario().getName();
-                        if (scenarioName == null || scenarioName.isEmpty()) {
-                            scenarioName = "line " + sr.getScenario().getLine();
-                        }
-                        Console.println("    - " + scenarioName);
-                        // Show feature:line for failed step (enables IDE click-to-navigate)
-                        String stepLocation = sr.getFailedStepLocation();
-                        if (stepLocation != null) {
-                            Console.println("      " + stepLocation);
-                        }
-                        // Show the Gherkin comment (assertion label) above the step line, where it
-                        // sits in the feature — more intuitive than buried in the error message
-                        String comment = sr.getFailedStepComment();
-                        if (comment != null) {
-                            Console.println("      " + Console.grey(comment));
-                        }
-                        // Show the Gherkin source line so the reader sees the offending step
-                        // without opening the feature file (v1 parity)
-                        String stepText = sr.getFailedStepText();
-                        if (stepText != null) {
-                            Console.println("      " + Console.cyan(stepText));
-                        }
-                        // Show the step's docstring (the triple-quoted RHS of a match/assert) so a
-                        // step like "* match actual ==" isn't shown truncated — every line indented
-                        // to sit under the step, as it reads in the feature
-                        String docString = sr.getFailedStepDocString();
-                        if (docString != null) {
-                            Console.println("      " + Console.cyan(docString.replace("\n", "\n      ")));
-                        }
-                        // Show full error message — match diffs and JS errors routinely
-                        // exceed any short cap, and truncating hides the actual diff. The comment
-                        // label is prepended to match/assert messages; getFailureReason() drops it
-                        // since it is already rendered above the step line.
-                        String failureMessage = sr.getFailureReason();
-                        if (failureMessage != null) {
-                            Console.println("      " + Console.yellow(failureMessage));
-                        }
+                for (ScenarioFailure sf : fd.failures()) {
+                    Console.println("    - " + sf.name());
+                    // Show feature:line for failed step (enables IDE click-to-navigate)
+                    if (sf.stepLocation() != null) {
+                        Console.println("      " + sf.stepLocation());
+                    }
+                    // Show the Gherkin comment (assertion label) above the step line, where it
+                    // sits in the feature — more intuitive than buried in the error message
+                    if (sf.comment() != null) {
+                        Console.println("      " + Console.grey(sf.comment()));
+                    }
+                    // Show the Gherkin source line so the reader sees the offending step
+                    // without opening the feature file (v1 parity)
+                    if (sf.stepText() != null) {
+                        Console.println("      " + Console.cyan(sf.stepText()));
+                    }
+                    // Show the step's docstring (the triple-quoted RHS of a match/assert) so a
+                    // step like "* match actual ==" isn't shown truncated — every line indented
+                    // to sit under the step, as it reads in the feature
+                    if (sf.docString() != null) {
+                        Console.println("      " + Console.cyan(sf.docString().replace("\n", "\n      ")));
+                    }
+                    // Show full error message — match diffs and JS errors routinely
+                    // exceed any short cap, and truncating hides the actual diff. The comment
+                    // label is prepended to match/assert messages; getFailureReason() drops it
+                    // since it is already rendered above the step line.
+                    if (sf.reason() != null) {
+                        Console.println("      " + Console.yellow(sf.reason()));
                     }
                 }
             }
@@ -296,6 +464,9 @@ public class SuiteResult {
 
         Console.println(String.format("elapsed: %6.2fs | threads: %3d | efficiency: %.2f",
                 elapsedSecs, threadCount, efficiency));
+        if (predictedMillis != null) {
+            Console.println(String.format("predicted: %4.2fs | longest first, from the previous run", predictedMillis / 1000.0));
+        }
 
         // Feature stats
         int featureTotal = getFeatureCount();
@@ -327,6 +498,21 @@ public class SuiteResult {
                     scenarioTotal, scenarioPassed, scenarioStatus));
         }
 
+        // A parallel run whose threads queued on a slow callSingle (usually auth) at start-up
+        if (!callSingleWaits.isEmpty()) {
+            StringBuilder waits = new StringBuilder("callSingle waits:");
+            int shown = Math.min(3, callSingleWaits.size());
+            for (int i = 0; i < shown; i++) {
+                CallSingleWait wait = callSingleWaits.get(i);
+                waits.append(i == 0 ? " " : " | ").append(wait.key())
+                        .append(String.format(" %.2fs (%d)", wait.millis() / 1000.0, wait.waits()));
+            }
+            if (callSingleWaits.size() > shown) {
+                waits.append(" | +").append(callSingleWaits.size() - shown).append(" more");
+            }
+            Console.println(waits.toString());
+        }
+
         // Footer with version, env, and HTML report (URL last for easy clicking)
         Console.println(Console.cyan("-".repeat(60)));
         StringBuilder footer = new StringBuilder("Karate " + Globals.KARATE_VERSION);
@@ -350,19 +536,23 @@ public class SuiteResult {
      * Get sum of all scenario execution times (thread time).
      */
     public long getThreadTimeMillis() {
-        return featureResults.stream()
-                .mapToLong(FeatureResult::getDurationMillis)
+        return digests().stream()
+                .mapToLong(Digest::durationMillis)
                 .sum();
     }
 
     /**
-     * Get list of failed features.
+     * Get list of failed features. Read back from disk when results were spilled.
      */
     public List<FeatureResult> getFailedFeatures() {
+        List<Kept> snapshot;
+        synchronized (kept) {
+            snapshot = new ArrayList<>(kept);
+        }
         List<FeatureResult> failed = new ArrayList<>();
-        for (FeatureResult fr : featureResults) {
-            if (fr.isFailed()) {
-                failed.add(fr);
+        for (Kept k : snapshot) {
+            if (k.digest().failed()) {
+                failed.add(resultOf(k));
             }
         }
         return failed;
@@ -373,10 +563,10 @@ public class SuiteResult {
      */
     public List<String> getErrors() {
         List<String> errors = new ArrayList<>();
-        for (FeatureResult fr : featureResults) {
-            for (ScenarioResult sr : fr.getScenarioResults()) {
-                if (sr.isFailed() && sr.getFailureMessage() != null) {
-                    errors.add(sr.getFailureMessage());
+        for (Digest fd : digests()) {
+            for (ScenarioFailure sf : fd.failures()) {
+                if (sf.message() != null) {
+                    errors.add(sf.message());
                 }
             }
         }
@@ -0,0 +1,231 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import io.karatelabs.common.Json;
+import io.karatelabs.common.Resource;
+import io.karatelabs.gherkin.Feature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * The other half of {@link SuiteCoordinator}: {@link Suite#threadCount} pullers, each claiming a
+ * feature, running it exactly as a parallel run would (same lanes, semaphore and
+ * {@link ScenarioGate}, via {@link Suite#runOnLanes}), posting the result and claiming the next,
+ * until the coordinator has nothing left. A heartbeat keeps this worker's claims alive while a
+ * long feature runs.
+ * <p>
+ * A result is held whole until it has been posted — the Suite retains logs and call results in
+ * worker mode for that — and released straight after, so a worker's heap does not grow with the
+ * number of features it runs. Embeds travel inline and are written to disk by the coordinator.
+ * <p>
+ * Until the coordinator first answers, connection failures are retried for
+ * {@link #CONNECT_TIMEOUT_MILLIS}, so workers may be started before it; after that, for
+ * {@link SuiteCoordinator#WORKER_TIMEOUT_MILLIS}, the time the coordinator waits on a silent worker.
+ */
+final class SuiteWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger("karate.runtime");
+
+    static final long CONNECT_TIMEOUT_MILLIS = 60_000;
+
+    private final Suite suite;
+    private final String baseUrl;
+    private final String id;
+    private final HttpClient client;
+    private final Map<String, Feature> byPath = new HashMap<>();
+    private volatile boolean connected;
+    private volatile boolean done;
+
+    SuiteWorker(Suite suite) {
+        this.suite = suite;
+        String url = suite.coordinatorUrl;
+        this.baseUrl = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        this.id = hostName() + "-" + ProcessHandle.current().pid();
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        for (Feature feature : suite.features) {
+            byPath.put(feature.getResource().getPrefixedPath(), feature);
+        }
+    }
+
+    void run() {
+        logger.info("worker {} pulling features from {} with {} thread(s)", id, baseUrl, suite.threadCount);
+        Thread heartbeat = Thread.ofPlatform().daemon().name("karate-worker-heartbeat").start(this::heartbeat);
+        try {
+            suite.runOnLanes(executor -> {
+                List<Future<?>> pullers = new ArrayList<>(suite.threadCount);
+                for (int i = 0; i < suite.threadCount; i++) {
+                    pullers.add(executor.submit(this::pull));
+                }
+                for (Future<?> puller : pullers) {
+                    try {
+                        puller.get();
+                    } catch (Exception e) {
+                        logger.error("worker {} puller failed: {}", id, e.getMessage(), e);
+                    }
+                }
+            });
+        } finally {
+            done = true;
+            heartbeat.interrupt();
+        }
+    }
+
+    private void pull() {
+        suite.initThreadListeners();
+        try {
+            while (!done && !suite.isAborted()) {
+                Map<String, Object> reply = post(SuiteCoordinator.NEXT, Json.stringifyStrict(Map.of("worker", id)));
+                if (reply == null || Boolean.TRUE.equals(reply.get("done"))) {
+                    done = true;
+                    return;
+                }
+                if (reply.get("wait") instanceof Number wait) {
+                    Thread.sleep(wait.longValue());
+                    continue;
+                }
+                int index = ((Number) reply.get("index")).intValue();
+                String path = (String) reply.get("path");
+                String query = "?worker=" + URLEncoder.encode(id, StandardCharsets.UTF_8) + "&index=" + index;
+                Feature feature = resolve(path);
+                if (feature == null) {
+                    post(SuiteCoordinator.RESULT + query,
+                            Json.stringifyStrict(Map.of("error", "feature not found on worker " + id + ": " + path)));
+                    continue;
+                }
+                FeatureResult featureResult = suite.runFeatureSafely(feature);
+                String body = Json.stringifyStrict(featureResult.toKarateJson());
+                // whole until posted (the Suite retains it in worker mode), then as lean as anywhere else
+                featureResult.releaseCallResults();
+                featureResult.releaseStepLogs();
+                if (post(SuiteCoordinator.RESULT + query, body) == null) {
+                    logger.error("worker {} could not post the result of {}", id, path);
+                    done = true;
+                    return;
+                }
+                suite.getResult().addFeatureResult(featureResult);
+                if (suite.outputConsoleSummary) {
+                    featureResult.printSummary(suite.dryRun);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            suite.cleanupThreadListeners();
+        }
+    }
+
+    /** This worker's own parse of the feature, or one read from the same path under its root. */
+    private Feature resolve(String path) {
+        Feature feature = byPath.get(path);
+        if (feature != null) {
+            return feature;
+        }
+        try {
+            return Feature.read(Resource.path(path, suite.root, suite.classpathRoot));
+        } catch (Exception e) {
+            logger.error("worker {} cannot read {}: {}", id, path, e.getMessage());
+            return null;
+        }
+    }
+
+    private void heartbeat() {
+        String body = Json.stringifyStrict(Map.of("worker", id));
+        try {
+            while (!done) {
+                Thread.sleep(SuiteCoordinator.HEARTBEAT_MILLIS);
+                if (connected && !done) {
+                    try {
+                        send(SuiteCoordinator.HEARTBEAT, body);
+                    } catch (IOException e) {
+                        logger.debug("worker {} heartbeat failed: {}", id, e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // run() is over
+        }
+    }
+
+    /**
+     * The coordinator's JSON reply, retrying a refused or broken connection; null once it has
+     * been unreachable for too long, or has gone after telling another puller it was done.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> post(String path, String body) throws InterruptedException {
+        long deadline = System.currentTimeMillis()
+                + (connected ? SuiteCoordinator.WORKER_TIMEOUT_MILLIS : CONNECT_TIMEOUT_MILLIS);
+        while (true) {
+            try {
+                String reply = send(path, body);
+                connected = true;
+                return reply.isBlank() ? Map.of() : (Map<String, Object>) Json.parseStrict(reply);
+            } catch (IOException e) {
+                if (done || System.currentTimeMillis() > deadline) {
+                    if (!done) {
+                        logger.error("worker {} gave up on coordinator {}: {}", id, baseUrl, e.getMessage());
+                    }
+                    return null;
+                }
+                Thread.sleep(SuiteCoordinator.POLL_MILLIS);
+            }
+        }
+    }
+
+    private String send(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException(response.statusCode() + " from " + path + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "worker";
+        }
+    }
+
+}
@@ -35,6 +35,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * Advanced tag selector supporting V1-compatible expressions.
@@ -51,6 +52,9 @@ import java.util.Map;
  *   <li>valuesFor('@tag').isEach(fn) - predicate on values</li>
  *   <li>Compound expressions: anyOf('@foo') && !anyOf('@ignore')</li>
  * </ul>
+ * A suite filters every scenario with the same expression, so it {@link #compile compiles} it
+ * once into a Java predicate; only an expression outside the forms above (an {@code isEach}
+ * callback, arbitrary JS) is left to a JS engine per evaluation.
  */
 public class TagSelector {
 
@@ -149,6 +153,14 @@ public class TagSelector {
      * @return true if the tags match the selector
      */
     public boolean evaluate(String tagSelector, String karateEnv) {
+        return select(compile(tagSelector), karateEnv);
+    }
+
+    /**
+     * {@link #evaluate(String, String)} with an expression that went through {@link #compile}
+     * already — what to call when the same selector is tested against many tag sets.
+     */
+    public boolean select(Predicate<TagSelector> tagSelector, String karateEnv) {
         // Check for @ignore tag (always skip unless called with tag selector)
         if (containsIgnoreCase(tagTexts, Tag.IGNORE)) {
             return false;
@@ -179,8 +191,27 @@ public class TagSelector {
         if (tagSelector == null) {
             return true;
         }
+        return tagSelector.test(this);
+    }
+
+    /**
+     * Compile a selector expression for evaluating against many tag sets. The forms listed on
+     * this class — which covers everything {@link #fromKarateOptionsTags} produces — become plain
+     * Java predicates over the tags; anything else is kept as source and evaluated by a fresh JS
+     * engine each time, exactly as before.
+     *
+     * @param tagSelector the selector expression, may be null
+     * @return null if the selector is null, which selects every scenario that is not ignored
+     */
+    public static Predicate<TagSelector> compile(String tagSelector) {
+        if (tagSelector == null) {
+            return null;
+        }
+        Predicate<TagSelector> compiled = new Compiler(tagSelector).compile();
+        return compiled != null ? compiled : tags -> tags.evalJs(tagSelector);
+    }
 
-        // Evaluate the tag selector expression using JS engine
+    private boolean evalJs(String tagSelector) {
         Engine engine = new Engine();
         engine.put("anyOf", (JavaCallable) (ctx, args) -> anyOf(args));
         engine.put("allOf", (JavaCallable) (ctx, args) -> allOf(args));
@@ -324,6 +355,184 @@ public class TagSelector {
         return sb.toString();
     }
 
+    /**
+     * Recursive descent over the selector subset that needs no JS: {@code ||}, {@code &&},
+     * {@code !} and parentheses around {@code anyOf} / {@code allOf} / {@code not} calls and
+     * {@code valuesFor(..).isPresent / isAnyOf / isAllOf / isOnly}, with string literals (no
+     * escapes) and plain integer literals as arguments. Returns null at the first thing it does
+     * not know, which sends the whole expression back to the JS engine — so the subset only ever
+     * has to agree with JS where it accepts, never to reject what JS would accept.
+     */
+    private static final class Compiler {
+
+        private final String text;
+        private int pos;
+
+        Compiler(String text) {
+            this.text = text;
+        }
+
+        Predicate<TagSelector> compile() {
+            try {
+                Predicate<TagSelector> predicate = or();
+                skipSpace();
+                return pos == text.length() ? predicate : null;
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        private Predicate<TagSelector> or() {
+            Predicate<TagSelector> left = and();
+            while (accept("||")) {
+                left = left.or(and());
+            }
+            return left;
+        }
+
+        private Predicate<TagSelector> and() {
+            Predicate<TagSelector> left = unary();
+            while (accept("&&")) {
+                left = left.and(unary());
+            }
+            return left;
+        }
+
+        private Predicate<TagSelector> unary() {
+            skipSpace();
+            if (pos < text.length() && text.charAt(pos) == '!'
+                    && (pos + 1 == text.length() || text.charAt(pos + 1) != '=')) {
+                pos++;
+                return unary().negate();
+            }
+            return primary();
+        }
+
+        private Predicate<TagSelector> primary() {
+            if (accept("(")) {
+                Predicate<TagSelector> inner = or();
+                expect(")");
+                return inner;
+            }
+            return switch (identifier()) {
+                case "true" -> tags -> true;
+                case "false" -> tags -> false;
+                case "anyOf" -> {
+                    Object[] args = arguments();
+                    yield tags -> tags.anyOf(args);
+                }
+                case "allOf" -> {
+                    Object[] args = arguments();
+                    yield tags -> tags.allOf(args);
+                }
+                case "not" -> {
+                    Object[] args = arguments();
+                    yield tags -> tags.not(args);
+                }
+                case "valuesFor" -> valuesFor();
+                default -> throw new IllegalArgumentException();
+            };
+        }
+
+        private Predicate<TagSelector> valuesFor() {
+            Object[] target = arguments();
+            if (target.length != 1) {
+                throw new IllegalArgumentException();
+            }
+            String tag = target[0].toString();
+            expect(".");
+            String member = identifier();
+            if (member.equals("isPresent")) {
+                return tags -> tags.valuesFor(tag).isPresent();
+            }
+            Object[] args = arguments();
+            return switch (member) {
+                case "isAnyOf" -> tags -> tags.valuesFor(tag).isAnyOf(args);
+                case "isAllOf" -> tags -> tags.valuesFor(tag).isAllOf(args);
+                case "isOnly" -> tags -> tags.valuesFor(tag).isOnly(args);
+                default -> throw new IllegalArgumentException();
+            };
+        }
+
+        private Object[] arguments() {
+            expect("(");
+            List<String> args = new ArrayList<>(4);
+            if (!accept(")")) {
+                do {
+                    args.add(literal());
+                } while (accept(","));
+                expect(")");
+            }
+            return args.toArray();
+        }
+
+        private String literal() {
+            skipSpace();
+            if (pos == text.length()) {
+                throw new IllegalArgumentException();
+            }
+            char c = text.charAt(pos);
+            if (c == '\'' || c == '"') {
+                int end = text.indexOf(c, pos + 1);
+                if (end == -1) {
+                    throw new IllegalArgumentException();
+                }
+                String value = text.substring(pos + 1, end);
+                if (value.indexOf('\\') != -1 || value.indexOf('\n') != -1) {
+                    throw new IllegalArgumentException();
+                }
+                pos = end + 1;
+                return value;
+            }
+            // an integer JS would print back the same way: no sign, no leading zero, well within int
+            int start = pos;
+            while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                pos++;
+            }
+            int length = pos - start;
+            if (length == 0 || length > 9 || (length > 1 && text.charAt(start) == '0')
+                    || (pos < text.length() && (Character.isLetter(text.charAt(pos)) || text.charAt(pos) == '.'))) {
+                throw new IllegalArgumentException();
+            }
+            return text.substring(start, pos);
+        }
+
+        private String identifier() {
+            skipSpace();
+            int start = pos;
+            while (pos < text.length() && Character.isLetter(text.charAt(pos))) {
+                pos++;
+            }
+            if (pos == start || (pos < text.length() && (Character.isDigit(text.charAt(pos))
+                    || text.charAt(pos) == '_' || text.charAt(pos) == '$'))) {
+                throw new IllegalArgumentException();
+            }
+            return text.substring(start, pos);
+        }
+
+        private boolean accept(String token) {
+            skipSpace();
+            if (text.startsWith(token, pos)) {
+                pos += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        private void skipSpace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+    }
+
     @Override
     public String toString() {
         return tagTexts.toString();
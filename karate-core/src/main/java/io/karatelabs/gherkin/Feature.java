@@ -58,6 +58,14 @@ public class Feature {
         return parser.parse();
     }
 
+    /**
+     * Whether this instance may be run by several scenarios at once. False when a scenario name is
+     * evaluated as JS, which writes the result back onto the scenario.
+     */
+    public boolean isShareable() {
+        return FeatureCache.isShareable(this);
+    }
+
     public Feature(Resource resource) {
         this.resource = resource;
     }
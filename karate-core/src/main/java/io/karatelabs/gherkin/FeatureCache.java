@@ -0,0 +1,168 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.gherkin;
+
+import io.karatelabs.common.Resource;
+import io.karatelabs.common.StringUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parsed features, kept for the life of one run (each {@code Suite} owns one) so that a feature file
+ * is lexed and parsed once no matter how often it is loaded: by {@code call read('helper.feature')}
+ * in a loop, by every scenario calling the same helper, by every Gatling virtual user resolving it.
+ * <p>
+ * A local file is re-validated on each lookup by its modification time and size — a stat, not a
+ * read. Only when those change is the text read again, and then the content hash decides: a file
+ * that was touched but not edited keeps its parse, an edited one is parsed afresh. Classpath
+ * resources inside a jar cannot change and are never re-validated. In-memory resources (feature
+ * text built in code) are not cached at all.
+ * <p>
+ * Handing out the SAME {@link Feature} to every caller relies on nothing mutating it once parsed.
+ * Runtime code keeps its per-run state elsewhere (tag selection lives on the {@code Suite}, outline
+ * rows are fresh copies) with one exception: a scenario name that is evaluated as JS
+ * ({@code `...`} or {@code ${...}}) is written back onto the {@link Scenario}, so a feature with
+ * such a name is parsed, but never cached.
+ */
+public class FeatureCache {
+
+    // the root and classpath root are part of the identity: they decide the relative path a report
+    // shows and how the feature's own relative calls resolve, so the same file reached from two
+    // roots is two features
+    private record Key(URI uri, String path, Path root, Path classpathRoot) {
+    }
+
+    // the FileTime as the file system reports it: millis would hide an edit within the same millisecond
+    private record Entry(Feature feature, FileTime lastModified, long size, byte[] hash) {
+    }
+
+    private final ConcurrentHashMap<Key, Entry> map = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public Feature get(Resource resource) {
+        if (!resource.isFile() || resource.getPath() == null) {
+            return Feature.read(resource);
+        }
+        boolean local = resource.isLocalFile();
+        FileTime lastModified = null;
+        long size = 0;
+        if (local) {
+            // stat BEFORE parsing: a change racing the read then shows up as a stale stamp, and the
+            // next lookup re-validates, rather than a new stamp hiding old content
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(resource.getPath(), BasicFileAttributes.class);
+                lastModified = attributes.lastModifiedTime();
+                size = attributes.size();
+            } catch (Exception e) {
+                // gone or unreadable - let the parser report it the usual way
+                return Feature.read(resource);
+            }
+        }
+        Key key = new Key(resource.getUri(), resource.getPrefixedPath(), resource.getRoot(), resource.getClasspathRoot());
+        Entry entry = map.get(key);
+        if (entry != null) {
+            if (!local || (entry.lastModified().equals(lastModified) && entry.size() == size)) {
+                hits.increment();
+                return entry.feature();
+            }
+            byte[] hash = hash(resource.getText());
+            if (Arrays.equals(hash, entry.hash())) {
+                map.put(key, new Entry(entry.feature(), lastModified, size, hash));
+                hits.increment();
+                return entry.feature();
+            }
+            invalidations.increment();
+        }
+        misses.increment();
+        Feature feature = Feature.read(resource);
+        if (isShareable(feature)) {
+            map.put(key, new Entry(feature, lastModified, size, local ? hash(resource.getText()) : null));
+        } else if (entry != null) {
+            map.remove(key);
+        }
+        return feature;
+    }
+
+    static boolean isShareable(Feature feature) {
+        for (FeatureSection section : feature.getSections()) {
+            if (section.isOutline()) {
+                continue;
+            }
+            String name = StringUtils.trimToNull(section.getScenario().getName());
+            // the same test ScenarioRuntime applies before it evaluates (and overwrites) a name
+            if (name != null && ((name.length() > 1 && name.startsWith("`") && name.endsWith("`")) || name.contains("${"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] hash(String text) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "feature cache: " + size() + " features, " + getHits() + " hits, " + getMisses() + " misses, "
+                + getInvalidations() + " invalidations";
+    }
+
+}
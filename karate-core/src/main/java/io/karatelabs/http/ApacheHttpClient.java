@@ -66,9 +66,13 @@ import io.karatelabs.core.KarateConfig;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -117,6 +121,7 @@ public class ApacheHttpClient implements HttpClient, HttpRequestInterceptor {
 
     private Charset charset = StandardCharsets.UTF_8;
     private InetAddress localAddress;
+    private volatile int responseSpoolSize;
 
     private String ntlmUsername;
     private String ntlmPassword;
@@ -200,6 +205,9 @@ public class ApacheHttpClient implements HttpClient, HttpRequestInterceptor {
     @Override
     public void apply(KarateConfig config) {
         if (config == null) return;
+        // Not part of the key: it decides what becomes of a response body, not how the client is
+        // built, so it is taken on every apply() and never causes a rebuild.
+        responseSpoolSize = config.getResponseSpoolSize();
         // Nothing that reaches the wire changed, so the built client is still the right one.
         //
         // This guard is the ONLY thing deciding whether a rebuild is needed. Callers used to make
@@ -546,7 +554,7 @@ public class ApacheHttpClient implements HttpClient, HttpRequestInterceptor {
             currentRequest = requestBuilder.build();
             HttpResponse finalResponse;
             try {
-                finalResponse = httpClient.execute(currentRequest, response -> buildResponse(response, startTime));
+                finalResponse = httpClient.execute(currentRequest, response -> buildResponse(response, startTime, responseSpoolSize));
             } finally {
                 if (orphanRebuild) {
                     closeQuietly();
@@ -584,6 +592,14 @@ public class ApacheHttpClient implements HttpClient, HttpRequestInterceptor {
     }
 
     static HttpResponse buildResponse(org.apache.hc.core5.http.HttpResponse httpResponse, long startTime) {
+        return buildResponse(httpResponse, startTime, 0);
+    }
+
+    /**
+     * @param spoolSize when above 0, a body that decodes to more bytes than this is written to a
+     *                  temp file as it is read instead of being held, see {@link HttpResponse#setBodySpooled}
+     */
+    static HttpResponse buildResponse(org.apache.hc.core5.http.HttpResponse httpResponse, long startTime, int spoolSize) {
         long endTime = System.currentTimeMillis();
         int statusCode = httpResponse.getCode();
         Map<String, List<String>> headers = toHeaders(httpResponse);
@@ -597,29 +613,22 @@ public class ApacheHttpClient implements HttpClient, HttpRequestInterceptor {
             HttpEntity entity = classicHttpResponse.getEntity();
             if (entity != null) {
                 try {
-                    byte[] bytes;
                     Header contentEncoding = httpResponse.getFirstHeader("Content-Encoding");
                     String encoding = contentEncoding != null ? contentEncoding.getValue() : null;
-                    if ("br".equalsIgnoreCase(encoding)) {
-                        try (InputStream is = entity.getContent();
-                             BrotliInputStream brotliIs = new BrotliInputStream(is)) {
-                            bytes = brotliIs.readAllBytes();
-                        }
-                    } else if ("gzip".equalsIgnoreCase(encoding)) {
-                        try (InputStream is = entity.getContent();
-                             java.util.zip.GZIPInputStream gzipIs = new java.util.zip.GZIPInputStream(is)) {
-                            bytes = gzipIs.readAllBytes();
-                        }
-                    } else if ("deflate".equalsIgnoreCase(encoding)) {
-                        try (InputStream is = entity.getContent();
-                             java.util.zip.InflaterInputStream inflaterIs = new java.util.zip.InflaterInputStream(is)) {
-                            bytes = inflaterIs.readAllBytes();
-                        }
+                    if (spoolSize > 0) {
+                        readOrSpool(response, entity, encoding, spoolSize);
                     } else {
-                        bytes = EntityUtils.toByteArray(entity);
+                        byte[] bytes;
+                        if (isDecoded(encoding)) {
+                            try (InputStream is = decodedContent(entity, encoding)) {
+                                bytes = is.readAllBytes();
+                            }
+                        } else {
+                            bytes = EntityUtils.toByteArray(entity);
+                        }
+                        response.setBody(bytes, null);
+                        response.setContentLength(bytes.length);
                     }
-                    response.setBody(bytes, null);
-                    response.setContentLength(bytes.length);
                 } catch (Exception e) {
                     LOGGER.warn("error extracting response body: {}", e.getMessage());
                 }
@@ -628,6 +637,48 @@ public class ApacheHttpClient implements HttpClient, HttpRequestInterceptor {
         return response;
     }
 
+    private static boolean isDecoded(String encoding) {
+        return "br".equalsIgnoreCase(encoding) || "gzip".equalsIgnoreCase(encoding) || "deflate".equalsIgnoreCase(encoding);
+    }
+
+    // brotli, gzip and deflate are decoded here, with a pure-java library for brotli
+    private static InputStream decodedContent(HttpEntity entity, String encoding) throws IOException {
+        InputStream is = entity.getContent();
+        if ("br".equalsIgnoreCase(encoding)) {
+            return new BrotliInputStream(is);
+        } else if ("gzip".equalsIgnoreCase(encoding)) {
+            return new java.util.zip.GZIPInputStream(is);
+        } else if ("deflate".equalsIgnoreCase(encoding)) {
+            return new java.util.zip.InflaterInputStream(is);
+        }
+        return is;
+    }
+
+    private static void readOrSpool(HttpResponse response, HttpEntity entity, String encoding, int spoolSize) throws IOException {
+        try (InputStream is = decodedContent(entity, encoding)) {
+            if (is == null) {
+                return;
+            }
+            byte[] head = is.readNBytes(spoolSize);
+            int next = is.read();
+            if (next == -1) {
+                response.setBody(head, null);
+                response.setContentLength(head.length);
+                return;
+            }
+            File file = File.createTempFile("karate-response-", ".tmp");
+            file.deleteOnExit();
+            try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file), 64 * 1024)) {
+                os.write(head);
+                os.write(next);
+                is.transferTo(os);
+            }
+            response.setBodySpooled(file);
+            response.setContentLength((int) Math.min(file.length(), Integer.MAX_VALUE));
+            LOGGER.debug("response body of {} bytes spooled to {}", file.length(), file);
+        }
+    }
+
     /**
      * Merge cookies from Apache's cookie store (captured during redirects) with response headers.
      * This ensures cookies set during redirects are visible to Karate's cookie management.
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.http;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs {@link HttpServer} request handlers on virtual threads, so that a slow handler (JS in a mock
+ * scenario, a {@code karate.call}, a file read) parks a virtual thread instead of stalling every other
+ * connection on its netty event loop. Enabled with {@link ServerConfig#offloadHandlers(boolean)}.
+ * <p>
+ * Bounded two ways. At most {@code maxConcurrent} handlers run at once; the rest wait, parked, for a
+ * permit — that is the queue. Once {@code maxConcurrent + maxQueued} requests are admitted,
+ * {@link #submit} refuses, and the server answers 503 rather than buffering without limit.
+ */
+public class HandlerExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int capacity;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    HandlerExecutor(int maxConcurrent, int maxQueued) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1: " + maxConcurrent);
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued cannot be negative: " + maxQueued);
+        }
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-handler-", 1).factory());
+        this.permits = new Semaphore(maxConcurrent);
+        this.capacity = maxConcurrent + maxQueued;
+    }
+
+    /**
+     * Admit a task, or return false when the executor is saturated (or shut down) and the caller
+     * must refuse the request itself.
+     */
+    boolean submit(Runnable task) {
+        // admission is counted before the task exists, so a burst cannot overshoot the capacity
+        if (queued.incrementAndGet() + inFlight.get() > capacity) {
+            queued.decrementAndGet();
+            rejected.incrementAndGet();
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    queued.decrementAndGet();
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                queued.decrementAndGet();
+                inFlight.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    inFlight.decrementAndGet();
+                    completed.incrementAndGet();
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejected.incrementAndGet();
+            return false;
+        }
+    }
+
+    /** Handlers running right now. */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /** Requests admitted but waiting for a free handler slot. */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /** Handlers that have finished, whether they returned or threw. */
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    /** Requests refused with 503 because the executor was saturated. */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    void shutdown() {
+        // in-flight handlers run to completion; their writes land on event loops that are winding down
+        executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "inFlight: " + getInFlight() + ", queued: " + getQueued()
+                + ", completed: " + getCompleted() + ", rejected: " + getRejected();
+    }
+
+}
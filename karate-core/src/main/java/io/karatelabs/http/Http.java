@@ -110,8 +110,12 @@ public class Http {
         builder.method(method);
         HttpResponse response = builder.invoke();
         if (response.getStatus() >= 400) {
+            // a spooled body stays on disk: logging it is not worth reading it all into memory
+            String text = response.isBodySpooled()
+                    ? "[" + response.getBodyLength() + " bytes, spooled to " + response.getBodyFile() + "]"
+                    : response.getBodyString();
             logger.warn("http response code: {}, response: {}, url: {}",
-                    response.getStatus(), response.getBodyString(), builder.getUri());
+                    response.getStatus(), text, builder.getUri());
         }
         return response;
     }
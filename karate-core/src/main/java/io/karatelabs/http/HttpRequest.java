@@ -45,6 +45,10 @@ import io.netty.handler.codec.http.multipart.InterfaceHttpPostRequestDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.*;
 
@@ -60,6 +64,8 @@ public class HttpRequest implements SimpleObject {
     private Map<String, List<String>> params;
     private Map<String, List<String>> headers;
     private byte[] body;
+    // set instead of body by a server in streaming mode, see getBodyStream()
+    private InputStream bodyStream;
     private String bodyDisplay;
     private ResourceType resourceType;
     private Map<String, String> pathParams;
@@ -177,12 +183,51 @@ public class HttpRequest implements SimpleObject {
         this.headers = headers;
     }
 
+    /**
+     * The body as bytes. On a server in streaming mode ({@link ServerConfig#streamBodies(boolean)})
+     * the first call reads whatever is left of the stream into memory, and every later call returns
+     * those same bytes — a handler that wants bounded memory reads {@link #getBodyStream()} instead.
+     */
     public byte[] getBody() {
+        if (bodyStream != null) {
+            InputStream in = bodyStream;
+            bodyStream = null;
+            try (in) {
+                byte[] bytes = in.readAllBytes();
+                body = bytes.length == 0 ? null : bytes;
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to read request body", e);
+            }
+        }
         return body;
     }
 
+    /**
+     * The body as a stream. On a server in streaming mode this is the body as it arrives, chunk by
+     * chunk, with at most {@link ServerConfig#getStreamBufferBytes()} of it buffered. That stream is
+     * handed out once, and is then the caller's to consume: later calls, and {@link #getBody()}, find
+     * the body gone. Everywhere else (including after {@link #getBody()}) this wraps the bytes. Never null.
+     */
+    public InputStream getBodyStream() {
+        if (bodyStream != null) {
+            InputStream in = bodyStream;
+            bodyStream = null;
+            return in;
+        }
+        return new ByteArrayInputStream(body == null ? new byte[0] : body);
+    }
+
+    public boolean isBodyStreamed() {
+        return bodyStream != null;
+    }
+
+    public void setBodyStream(InputStream bodyStream) {
+        this.body = null;
+        this.bodyStream = bodyStream;
+    }
+
     public String getBodyString() {
-        return FileUtils.toString(body);
+        return FileUtils.toString(getBody());
     }
 
     /**
@@ -209,6 +254,7 @@ public class HttpRequest implements SimpleObject {
 
     public void setBody(byte[] body) {
         this.body = body;
+        this.bodyStream = null;
     }
 
     public String getBodyDisplay() {
@@ -369,11 +415,9 @@ public class HttpRequest implements SimpleObject {
      * For multipart, file uploads are stored in multiParts and fields in params.
      */
     public void processBody() {
-        if (body == null) {
-            return;
-        }
+        // content-type first: a streamed body is only drained for the types decoded here
         String contentType = getContentType();
-        if (contentType == null) {
+        if (contentType == null || getBody() == null) {
             return;
         }
         boolean multipart;
@@ -442,10 +486,11 @@ public class HttpRequest implements SimpleObject {
 
     public Object getBodyConverted() {
         ResourceType rt = getResourceType(); // derive if needed
+        byte[] bytes = getBody();
         if (rt != null && rt.isBinary()) {
-            return body;
+            return bytes;
         }
-        return HttpUtils.fromBytes(body, false, rt);
+        return HttpUtils.fromBytes(bytes, false, rt);
     }
 
     public Map<String, Object> toBlockData() {
@@ -483,7 +528,7 @@ public class HttpRequest implements SimpleObject {
                 map.put("value", String.join(",", values));
             }
         }
-        if (body != null) {
+        if (getBody() != null) {
             request.put("body", getBodyConverted());
         }
         Map<String, Object> data = new HashMap<>();
@@ -529,7 +574,7 @@ public class HttpRequest implements SimpleObject {
                 }
             });
         }
-        if (body != null) {
+        if (getBody() != null) {
             builder.body(getBodyConverted());
         }
         return builder;
@@ -782,7 +827,7 @@ public class HttpRequest implements SimpleObject {
             case "bodyJson":
                 return getBodyJson();
             case "bodyBytes":
-                return body;
+                return getBody();
             case "url":
                 return urlAndPath;
             case "urlBase":
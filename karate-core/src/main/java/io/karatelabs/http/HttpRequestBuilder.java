@@ -37,6 +37,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class HttpRequestBuilder implements SimpleObject {
@@ -54,11 +55,22 @@ public class HttpRequestBuilder implements SimpleObject {
     private String retryUntil;
 
     private final HttpClient client;
+    // not request state: survives reset() and is carried over by copy()
+    private Consumer<HttpResponse> responseListener;
 
     public HttpRequestBuilder(HttpClient client) {
         this.client = client;
     }
 
+    /**
+     * Hand every response this builder (or a copy of it) receives to {@code listener}, before
+     * anything has read its body.
+     */
+    public HttpRequestBuilder onResponse(Consumer<HttpResponse> listener) {
+        this.responseListener = listener;
+        return this;
+    }
+
     public void reset() {
         // url = null;
         method = null;
@@ -86,6 +98,7 @@ public class HttpRequestBuilder implements SimpleObject {
         hrb.charset = charset;
         hrb.authHandler = authHandler;
         hrb.retryUntil = retryUntil;
+        hrb.responseListener = responseListener;
         return hrb;
     }
 
@@ -130,6 +143,9 @@ public class HttpRequestBuilder implements SimpleObject {
         reset();
         HttpResponse response = client.invoke(request);
         response.setRequest(request);
+        if (responseListener != null) {
+            responseListener.accept(response);
+        }
         return response;
     }
 
@@ -26,11 +26,17 @@ package io.karatelabs.http;
 import io.karatelabs.common.*;
 import io.karatelabs.js.JavaInvokable;
 import io.karatelabs.js.ObjectLike;
+import io.karatelabs.match.LargeValueStore;
 import net.minidev.json.JSONValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Node;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,6 +53,15 @@ public class HttpResponse implements ObjectLike {
     private String statusText;
     private Map<String, List<String>> headers;
     private byte[] body;
+    // a body written without ever being held in memory, see setBodyFile() / setBodyStream()
+    private File bodyFile;
+    private InputStream bodyStream;
+    private long bodyLength = -1;
+    // a client response body too big to hold, see setBodySpooled()
+    private boolean spooled;
+    private List<Object> spooledArray;
+    // kept past body() reading the file into memory, so that releaseSpooled() can still delete it
+    private File spoolFile;
     private ResourceType resourceType;
     private long startTime;
     private long responseTime;
@@ -173,15 +188,121 @@ public class HttpResponse implements ObjectLike {
     }
 
     public Object getBody() {
-        return body;
+        return body();
     }
 
     public byte[] getBodyBytes() {
-        return Json.toBytes(body);
+        return Json.toBytes(body());
     }
 
     public String getBodyString() {
-        return FileUtils.toString(Json.toBytes(body));
+        return FileUtils.toString(Json.toBytes(body()));
+    }
+
+    // a file or stream body is read into memory the first time anything asks for it as bytes, and is
+    // from then on an ordinary in-memory body
+    private byte[] body() {
+        if (bodyFile != null || bodyStream != null) {
+            try {
+                if (bodyFile != null) {
+                    body = Files.readAllBytes(bodyFile.toPath());
+                } else {
+                    try (InputStream in = bodyStream) {
+                        body = in.readAllBytes();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to read response body", e);
+            }
+            bodyFile = null;
+            bodyStream = null;
+            bodyLength = -1;
+        }
+        return body;
+    }
+
+    /**
+     * Serve the body straight from a file. A server in streaming mode
+     * ({@link ServerConfig#streamBodies(boolean)}) hands it to the socket as a zero-copy
+     * {@code FileRegion} (or in chunks over TLS, which has to encrypt in user space); anywhere else,
+     * and as soon as anything asks for the body as bytes, it is read into memory.
+     */
+    public void setBodyFile(File file, ResourceType type) {
+        setBody((byte[]) null, type);
+        this.bodyFile = file;
+        this.bodyLength = file.length();
+    }
+
+    /**
+     * Serve the body from a stream, which is closed once written. A server in streaming mode writes it
+     * in chunks as it is read — with a {@code Content-Length} when {@code length} is known, else
+     * chunked transfer-encoding ({@code length} -1) — pausing whenever the client falls behind, so a
+     * large generated payload never has to exist in memory all at once. Anywhere else it is read into
+     * memory like {@link #setBodyFile}.
+     */
+    public void setBodyStream(InputStream in, long length, ResourceType type) {
+        setBody((byte[]) null, type);
+        this.bodyStream = in;
+        this.bodyLength = length;
+    }
+
+    /**
+     * A response body the client wrote to a temp file as it arrived, because it was bigger than
+     * {@code configure responseSpoolSize}. If it is a JSON array, {@link #getBodyConverted()} reads
+     * it element by element into a disk-backed list and never holds it whole. Anything else is read
+     * into memory the first time it is asked for, like {@link #setBodyFile}.
+     */
+    public void setBodySpooled(File file) {
+        setBodyFile(file, null);
+        this.spooled = true;
+        this.spoolFile = file;
+    }
+
+    /**
+     * Delete the temp file of a {@link #setBodySpooled spooled} body, and close the disk-backed list
+     * read from it - which cannot be read after this. A no-op for any other body, and safe to call
+     * more than once.
+     */
+    public void releaseSpooled() {
+        if (spooledArray != null) {
+            LargeValueStore store = LargeValueStore.of(spooledArray);
+            if (store != null) {
+                store.close();
+            }
+            spooledArray = null;
+        }
+        if (spoolFile != null) {
+            if (bodyFile == spoolFile) {
+                bodyFile = null;
+                bodyLength = -1;
+            }
+            if (!spoolFile.delete() && spoolFile.exists()) {
+                logger.debug("could not delete spooled response body, deleted on exit: {}", spoolFile);
+            }
+            spoolFile = null;
+            spooled = false;
+        }
+    }
+
+    public boolean isBodySpooled() {
+        return spooled && bodyFile != null;
+    }
+
+    public boolean isBodyStreamed() {
+        return bodyFile != null || bodyStream != null;
+    }
+
+    public File getBodyFile() {
+        return bodyFile;
+    }
+
+    public InputStream getBodyStream() {
+        return bodyStream;
+    }
+
+    /** Byte length of a file or stream body, -1 when not known up front (or the body is in memory). */
+    public long getBodyLength() {
+        return bodyLength;
     }
 
     /**
@@ -194,6 +315,11 @@ public class HttpResponse implements ObjectLike {
      */
     public void setBody(byte[] body, ResourceType type) {
         this.body = body;
+        this.bodyFile = null;
+        this.bodyStream = null;
+        this.bodyLength = -1;
+        this.spooled = false;
+        this.spooledArray = null;
         this.resourceType = type;
         if (type != null) {
             setContentType(applyCharset(type));
@@ -225,10 +351,19 @@ public class HttpResponse implements ObjectLike {
 
     public Object getBodyConverted() {
         ResourceType rt = getResourceType(); // derive if needed
+        if (isBodySpooled() && (rt == null || rt.isJson())) {
+            if (spooledArray == null) {
+                spooledArray = HttpUtils.fromJsonArrayFile(bodyFile);
+            }
+            if (spooledArray != null) {
+                return spooledArray;
+            }
+        }
+        byte[] bytes = body();
         if (rt != null && rt.isBinary()) {
-            return body;
+            return bytes;
         }
-        return HttpUtils.fromBytes(body, false, rt);
+        return HttpUtils.fromBytes(bytes, false, rt);
     }
 
     public long getResponseTime() {
@@ -401,7 +536,7 @@ public class HttpResponse implements ObjectLike {
             case "headerValues" -> headerValues();
             case "body" -> getBodyConverted();
             case "bodyString" -> getBodyString();
-            case "bodyBytes" -> Json.toBytes(body);
+            case "bodyBytes" -> Json.toBytes(body());
             case "request" -> request;
             default ->
                 // logger.warn("get - unexpected key: {}", key);
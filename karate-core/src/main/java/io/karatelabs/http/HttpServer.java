@@ -30,6 +30,7 @@ import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerExpectContinueHandler;
 import io.netty.handler.codec.http.cors.CorsConfig;
 import io.netty.handler.codec.http.cors.CorsConfigBuilder;
 import io.netty.handler.codec.http.cors.CorsHandler;
@@ -68,29 +69,42 @@ public class HttpServer {
     final Function<HttpRequest, HttpResponse> handler;
     final SseHandler sseHandler;
     final WsHandler wsHandler;
+    // non-null only when handlers are offloaded from the event loop, see ServerConfig#offloadHandlers
+    final HandlerExecutor handlerExecutor;
+    // bodies are streamed instead of aggregated, see ServerConfig#streamBodies
+    private final boolean streamBodies;
 
     public static HttpServer start(int port, Function<HttpRequest, HttpResponse> handler) {
-        return new HttpServer(null, port, null, handler, null, null);
+        return new HttpServer(null, port, null, handler, null, null, null);
     }
 
     public static HttpServer start(int port, Function<HttpRequest, HttpResponse> handler, SseHandler sseHandler) {
-        return new HttpServer(null, port, null, handler, sseHandler, null);
+        return new HttpServer(null, port, null, handler, sseHandler, null, null);
     }
 
     public static HttpServer start(int port, SslContext sslContext, Function<HttpRequest, HttpResponse> handler) {
-        return new HttpServer(null, port, sslContext, handler, null, null);
+        return new HttpServer(null, port, sslContext, handler, null, null, null);
     }
 
     public static HttpServer start(int port, SslContext sslContext, Function<HttpRequest, HttpResponse> handler, SseHandler sseHandler) {
-        return new HttpServer(null, port, sslContext, handler, sseHandler, null);
+        return new HttpServer(null, port, sslContext, handler, sseHandler, null, null);
     }
 
     public static HttpServer start(int port, Function<HttpRequest, HttpResponse> handler, SseHandler sseHandler, WsHandler wsHandler) {
-        return new HttpServer(null, port, null, handler, sseHandler, wsHandler);
+        return new HttpServer(null, port, null, handler, sseHandler, wsHandler, null);
     }
 
     public static HttpServer start(int port, SslContext sslContext, Function<HttpRequest, HttpResponse> handler, SseHandler sseHandler, WsHandler wsHandler) {
-        return new HttpServer(null, port, sslContext, handler, sseHandler, wsHandler);
+        return new HttpServer(null, port, sslContext, handler, sseHandler, wsHandler, null);
+    }
+
+    /**
+     * Start with server-level options from a {@link ServerConfig} — e.g.
+     * {@link ServerConfig#offloadHandlers(boolean)} or {@link ServerConfig#streamBodies(boolean)} — for a handler that is not itself a
+     * {@link ServerRequestHandler} (which carries its own config and needs no overload).
+     */
+    public static HttpServer start(int port, SslContext sslContext, Function<HttpRequest, HttpResponse> handler, ServerConfig config) {
+        return new HttpServer(null, port, sslContext, handler, null, null, config);
     }
 
     /**
@@ -101,7 +115,17 @@ public class HttpServer {
      * Docker {@code -p} forwarding can reach it).
      */
     public static HttpServer start(String host, int port, Function<HttpRequest, HttpResponse> handler, SseHandler sseHandler, WsHandler wsHandler) {
-        return new HttpServer(host, port, null, handler, sseHandler, wsHandler);
+        return new HttpServer(host, port, null, handler, sseHandler, wsHandler, null);
+    }
+
+    /** The executor running handlers off the event loop, for its in-flight / queued counts —
+     *  or null when handlers run on the event loop (the default). */
+    public HandlerExecutor getHandlerExecutor() {
+        return handlerExecutor;
+    }
+
+    public boolean isStreamBodies() {
+        return streamBodies;
     }
 
     public boolean isSsl() {
@@ -144,13 +168,25 @@ public class HttpServer {
         logger.debug("stop: shutting down");
         bossGroup.shutdownGracefully();
         workerGroup.shutdownGracefully();
+        if (handlerExecutor != null) {
+            handlerExecutor.shutdown();
+        }
     }
 
-    private HttpServer(String host, int requestedPort, SslContext sslContext, Function<HttpRequest, HttpResponse> handler, SseHandler sseHandler, WsHandler wsHandler) {
+    private HttpServer(String host, int requestedPort, SslContext sslContext, Function<HttpRequest, HttpResponse> handler, SseHandler sseHandler, WsHandler wsHandler, ServerConfig config) {
         this.handler = handler;
         this.sseHandler = sseHandler;
         this.wsHandler = wsHandler;
         this.sslContext = sslContext;
+        if (config == null && handler instanceof ServerRequestHandler requestHandler) {
+            config = requestHandler.getConfig();
+        }
+        this.streamBodies = config != null && config.isStreamBodies();
+        // a streaming handler blocks on a body that is still arriving, so it always runs offloaded
+        this.handlerExecutor = config != null && (config.isOffloadHandlers() || streamBodies)
+                ? new HandlerExecutor(config.getMaxConcurrentHandlers(), config.getMaxQueuedHandlers())
+                : null;
+        int streamBufferBytes = config == null ? 0 : config.getStreamBufferBytes();
         bossGroup = new MultiThreadIoEventLoopGroup(1, ThreadUtils.daemonFactory("http-boss-"), NioIoHandler.newFactory());
         workerGroup = new MultiThreadIoEventLoopGroup(ThreadUtils.daemonFactory("http-worker-"), NioIoHandler.newFactory());
         CorsConfig corsConfig = CorsConfigBuilder
@@ -171,8 +207,17 @@ public class HttpServer {
                                 p.addLast(sslContext.newHandler(c.alloc()));
                             }
                             p.addLast(new HttpServerCodec());
-                            p.addLast(new HttpObjectAggregator(HttpUtils.MEGABYTE));
-                            p.addLast(new CorsHandler(corsConfig));
+                            if (streamBodies) {
+                                // HttpStreamingHandler decides every read, see there
+                                c.config().setAutoRead(false);
+                                p.addLast(new HttpServerExpectContinueHandler());
+                                p.addLast(new CorsHandler(corsConfig));
+                                p.addLast(new HttpStreamingHandler(HttpServer.this, streamBufferBytes));
+                            } else {
+                                p.addLast(new HttpObjectAggregator(HttpUtils.MEGABYTE));
+                                p.addLast(new CorsHandler(corsConfig));
+                            }
+                            // in streaming mode this only ever sees websocket / sse requests
                             p.addLast(new HttpServerHandler(HttpServer.this));
                         }
                     });
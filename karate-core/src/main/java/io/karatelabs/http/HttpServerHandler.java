@@ -35,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +48,10 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
 
     final HttpServer server;
 
+    // offloaded handling only, see offload()
+    private boolean handling;
+    private final ArrayDeque<HttpRequest> pending = new ArrayDeque<>();
+
     HttpServerHandler(HttpServer server) {
         this.server = server;
     }
@@ -89,6 +94,10 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
             }
             return;
         }
+        if (server.handlerExecutor != null) {
+            offload(ctx, request);
+            return;
+        }
         try {
             HttpResponse response = server.handler.apply(request);
             FullHttpResponse res = toResponse(response);
@@ -106,7 +115,65 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
         }
     }
 
-    static boolean isSseRequest(FullHttpRequest req) {
+    /**
+     * Run the handler on a virtual thread (see {@link ServerConfig#offloadHandlers(boolean)}) and
+     * hand the response back to this connection's event loop to write. A connection has at most one
+     * handler running: it stops reading meanwhile — the per-connection backpressure — and requests it
+     * had already decoded (HTTP/1.1 pipelining) wait in {@link #pending}, so responses keep request
+     * order. Both fields are only touched on the event loop.
+     */
+    private void offload(ChannelHandlerContext ctx, HttpRequest request) {
+        if (handling) {
+            pending.add(request);
+            return;
+        }
+        handling = true;
+        ctx.channel().config().setAutoRead(false);
+        dispatch(ctx, request);
+    }
+
+    private void dispatch(ChannelHandlerContext ctx, HttpRequest request) {
+        boolean admitted = server.handlerExecutor.submit(() -> {
+            FullHttpResponse res;
+            int delay = 0;
+            try {
+                HttpResponse response = server.handler.apply(request);
+                res = toResponse(response);
+                delay = response.getDelay();
+            } catch (Throwable t) {
+                // Throwable, not Exception: an Error (a StackOverflowError out of deep JS, an
+                // AssertionError, an OOM in one big body) escaping here would write nothing and leave
+                // `handling` set - the client waits forever and the pipelined requests behind it never run
+                String message = t.getMessage();
+                logger.error("http server error: {}", message == null ? t.toString() : message);
+                res = error(message);
+            }
+            FullHttpResponse toWrite = res;
+            if (delay > 0) {
+                ctx.executor().schedule(() -> writeAndContinue(ctx, toWrite), delay, TimeUnit.MILLISECONDS);
+            } else {
+                ctx.executor().execute(() -> writeAndContinue(ctx, toWrite));
+            }
+        });
+        if (!admitted) {
+            logger.warn("handler capacity exhausted ({}), refusing: {} {}",
+                    server.handlerExecutor, request.getMethod(), request.getPath());
+            writeAndContinue(ctx, error(HttpResponseStatus.SERVICE_UNAVAILABLE, "server busy, retry later"));
+        }
+    }
+
+    private void writeAndContinue(ChannelHandlerContext ctx, FullHttpResponse res) {
+        ctx.writeAndFlush(res);
+        HttpRequest next = pending.poll();
+        if (next != null) {
+            dispatch(ctx, next);
+        } else {
+            handling = false;
+            ctx.channel().config().setAutoRead(true);
+        }
+    }
+
+    static boolean isSseRequest(io.netty.handler.codec.http.HttpRequest req) {
         // SSE per the EventSource spec is GET-only. Other methods (e.g. MCP
         // Streamable HTTP POSTs that advertise text/event-stream so the server
         // *may* upgrade) must reach the regular handler, which decides whether
@@ -119,6 +186,19 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
     }
 
     static HttpRequest toRequest(FullHttpRequest req) {
+        HttpRequest request = toRequestHead(req);
+        ByteBuf buf = req.content();
+        int len = buf.readableBytes();
+        if (len > 0) {
+            byte[] bytes = new byte[len];
+            buf.readBytes(bytes);
+            request.setBody(bytes);
+        }
+        return request;
+    }
+
+    /** Everything but the body - which in streaming mode is still on its way. */
+    static HttpRequest toRequestHead(io.netty.handler.codec.http.HttpRequest req) {
         HttpRequest request = new HttpRequest();
         request.setUrl(req.uri());
         request.setMethod(req.method().name());
@@ -138,30 +218,31 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
             }
             request.setUrlBase(proto + "://" + host);
         }
-        ByteBuf buf = req.content();
-        int len = buf.readableBytes();
-        if (len > 0) {
-            byte[] bytes = new byte[len];
-            buf.readBytes(bytes);
-            request.setBody(bytes);
-        }
         return request;
     }
 
-    static FullHttpResponse toResponse(HttpResponse response) {
+    static HttpResponseStatus toStatus(HttpResponse response) {
         String statusText = response.getStatusText();
-        HttpResponseStatus status = statusText == null
+        return statusText == null
                 ? HttpResponseStatus.valueOf(response.getStatus())
                 : HttpResponseStatus.valueOf(response.getStatus(), statusText);
-        FullHttpResponse res = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status);
+    }
+
+    static void copyHeaders(HttpResponse response, HttpHeaders target) {
         Map<String, List<String>> headers = response.getHeaders();
         if (headers != null) {
             headers.forEach((k, list) -> {
                 for (String v : list) {
-                    res.headers().add(k, v);
+                    target.add(k, v);
                 }
             });
         }
+    }
+
+    static FullHttpResponse toResponse(HttpResponse response) {
+        FullHttpResponse res = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, toStatus(response));
+        copyHeaders(response, res.headers());
+        // a file or stream body is read into memory here: only a streaming server writes it as it is
         byte[] bytes = response.getBodyBytes();
         if (bytes != null) {
             ByteBuf content = Unpooled.copiedBuffer(bytes);
@@ -206,7 +287,7 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
         }
     }
 
-    static boolean isWsUpgrade(FullHttpRequest req) {
+    static boolean isWsUpgrade(io.netty.handler.codec.http.HttpRequest req) {
         String upgrade = req.headers().get(HttpHeaderNames.UPGRADE);
         return upgrade != null && "websocket".equalsIgnoreCase(upgrade);
     }
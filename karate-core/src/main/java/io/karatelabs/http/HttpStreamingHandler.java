@@ -0,0 +1,341 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.http;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.ReferenceCountUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The request side of {@link ServerConfig#streamBodies(boolean)}: sits where the
+ * {@code HttpObjectAggregator} would, and hands each request to its handler as soon as the headers are
+ * in, with the body following through a {@link RequestBodyStream}.
+ * <p>
+ * The channel runs with auto-read off and this handler decides every read, which is what bounds memory:
+ * it reads on while the body being received has room in its buffer, stops while a handler is busy with a
+ * request that has fully arrived (so a pipelined request waits, as in {@link HttpServerHandler#offload}),
+ * and resumes when the handler drains its buffer or its response has been written.
+ * <p>
+ * WebSocket upgrades and SSE requests are passed on, as a body-less {@code FullHttpRequest}, to the
+ * {@link HttpServerHandler} behind this one, and the connection goes back to auto-read from then on.
+ * All fields are only touched on the event loop.
+ */
+class HttpStreamingHandler extends ChannelInboundHandlerAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpStreamingHandler.class);
+
+    static final int CHUNK_SIZE = 8192;
+
+    private final HttpServer server;
+    private final int bufferBytes;
+
+    // the body still being received - of the request being handled, or of a pipelined one behind it
+    private RequestBodyStream inbound;
+    private boolean handling;
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+    // set once a websocket / sse request has taken the connection over
+    private boolean passThrough;
+
+    private record Pending(HttpRequest request, RequestBodyStream body) {
+    }
+
+    HttpStreamingHandler(HttpServer server, int bufferBytes) {
+        this.server = server;
+        this.bufferBytes = bufferBytes;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        ctx.read();
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (!passThrough && msg instanceof io.netty.handler.codec.http.HttpRequest head) {
+            try {
+                begin(ctx, head);
+            } finally {
+                // a head is not reference counted, unless the decoder gave up and produced a full request
+                ReferenceCountUtil.release(msg);
+            }
+        } else if (inbound != null && msg instanceof HttpContent content) {
+            receive(content);
+        } else if (passThrough) {
+            ctx.fireChannelRead(msg);
+        } else if (msg instanceof HttpContent content) {
+            // the tail of a request something upstream already answered (e.g. a CORS preflight)
+            content.release();
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        readIfWanted(ctx);
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        // a handler still reading must see the body end, not wait for chunks that will never come
+        if (inbound != null) {
+            inbound.fail(new IOException("connection closed"));
+            inbound = null;
+        }
+        for (Pending p : pending) {
+            p.body().discard();
+        }
+        pending.clear();
+        ctx.fireChannelInactive();
+    }
+
+    private void begin(ChannelHandlerContext ctx, io.netty.handler.codec.http.HttpRequest head) {
+        if (head.decoderResult().isFailure()) {
+            logger.warn("bad request: {}", head.decoderResult().cause().getMessage());
+            ctx.writeAndFlush(HttpServerHandler.error(HttpResponseStatus.BAD_REQUEST,
+                    "cannot parse the request: " + head.decoderResult().cause().getMessage()))
+                    .addListener(ChannelFutureListener.CLOSE);
+            return;
+        }
+        if ((server.wsHandler != null && HttpServerHandler.isWsUpgrade(head))
+                || (server.sseHandler != null && HttpServerHandler.isSseRequest(head))) {
+            // the (empty) body of the upgrade request still has to be swallowed here
+            inbound = new RequestBodyStream(bufferBytes, () -> {
+            });
+            inbound.discard();
+            passThrough = true;
+            ctx.channel().config().setAutoRead(true);
+            ctx.fireChannelRead(new DefaultFullHttpRequest(head.protocolVersion(), head.method(), head.uri(),
+                    Unpooled.EMPTY_BUFFER, head.headers(), EmptyHttpHeaders.INSTANCE));
+            return;
+        }
+        RequestBodyStream body = new RequestBodyStream(bufferBytes,
+                () -> ctx.executor().execute(() -> readIfWanted(ctx)));
+        inbound = body;
+        HttpRequest request;
+        try {
+            request = HttpServerHandler.toRequestHead(head);
+        } catch (Exception e) {
+            // same as the aggregating path: an unparseable request line gets a 400, never silence
+            logger.warn("bad request '{}': {}", head.uri(), e.getMessage());
+            body.discard();
+            request = null;
+        }
+        if (request != null) {
+            request.setBodyStream(body);
+        }
+        if (handling) {
+            pending.add(new Pending(request, body));
+        } else {
+            handling = true;
+            dispatch(ctx, request, body);
+        }
+    }
+
+    private void receive(HttpContent content) {
+        RequestBodyStream body = inbound;
+        if (content.decoderResult().isFailure()) {
+            body.fail(content.decoderResult().cause());
+        } else if (content.content().isReadable()) {
+            body.offer(content.content());
+        } else {
+            content.release();
+        }
+        if (content instanceof LastHttpContent) {
+            body.complete();
+            inbound = null;
+        }
+    }
+
+    private void readIfWanted(ChannelHandlerContext ctx) {
+        if (passThrough || !ctx.channel().isActive()) {
+            return;
+        }
+        if (inbound != null ? inbound.wantsMore() : !handling) {
+            ctx.read();
+        }
+    }
+
+    private void dispatch(ChannelHandlerContext ctx, HttpRequest request, RequestBodyStream body) {
+        if (request == null) {
+            ctx.writeAndFlush(HttpServerHandler.error(HttpResponseStatus.BAD_REQUEST, "cannot parse the request URI"));
+            next(ctx);
+            return;
+        }
+        Channel channel = ctx.channel();
+        boolean admitted = server.handlerExecutor.submit(() -> {
+            try {
+                HttpResponse response;
+                try {
+                    response = server.handler.apply(request);
+                    int delay = response.getDelay();
+                    if (delay > 0) {
+                        // a parked virtual thread, so no need for the event loop's scheduler here
+                        Thread.sleep(delay);
+                    }
+                } catch (Exception e) {
+                    String message = e.getMessage();
+                    logger.error("http server error: {}", message);
+                    channel.writeAndFlush(HttpServerHandler.error(message));
+                    return;
+                }
+                write(channel, response);
+            } catch (Throwable t) {
+                // an Error, out of the handler or the response body. Without this nothing would be
+                // written and `finally` would move on to the next request, leaving this client waiting
+                // for good. Answer 500 - which fails harmlessly if a streamed head is already out - and
+                // hang up either way: after an Error neither the handler nor the framing of this
+                // connection is in a state worth keeping it open for.
+                String message = t.getMessage();
+                logger.error("http server error: {}", message == null ? t.toString() : message);
+                channel.writeAndFlush(HttpServerHandler.error(message)).addListener(ChannelFutureListener.CLOSE);
+            } finally {
+                // whatever the handler left unread comes off the wire before the next request
+                body.discard();
+                ctx.executor().execute(() -> next(ctx));
+            }
+        });
+        if (!admitted) {
+            logger.warn("handler capacity exhausted ({}), refusing: {} {}",
+                    server.handlerExecutor, request.getMethod(), request.getPath());
+            body.discard();
+            ctx.writeAndFlush(HttpServerHandler.error(HttpResponseStatus.SERVICE_UNAVAILABLE, "server busy, retry later"));
+            next(ctx);
+        }
+    }
+
+    private void next(ChannelHandlerContext ctx) {
+        Pending following = pending.poll();
+        if (following != null) {
+            dispatch(ctx, following.request(), following.body());
+        } else {
+            handling = false;
+        }
+        readIfWanted(ctx);
+    }
+
+    //==== response side - called on the handler's virtual thread
+
+    /**
+     * Write a response. An in-memory body goes out as one message, like everywhere else; a file body as
+     * a zero-copy {@link DefaultFileRegion} (or pumped in chunks over TLS, which cannot do zero-copy);
+     * a stream body in chunks. Writes from this thread are queued to the event loop in order.
+     */
+    static void write(Channel channel, HttpResponse response) {
+        if (!response.isBodyStreamed()) {
+            channel.writeAndFlush(HttpServerHandler.toResponse(response));
+            return;
+        }
+        DefaultHttpResponse head = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpServerHandler.toStatus(response));
+        HttpServerHandler.copyHeaders(response, head.headers());
+        InputStream in;
+        File file = response.getBodyFile();
+        if (file != null) {
+            RandomAccessFile raf;
+            long length;
+            try {
+                raf = new RandomAccessFile(file, "r");
+                length = raf.length();
+            } catch (IOException e) {
+                logger.error("cannot serve response file: {}", e.getMessage());
+                channel.writeAndFlush(HttpServerHandler.error(e.getMessage()));
+                return;
+            }
+            HttpUtil.setContentLength(head, length);
+            if (channel.pipeline().get(SslHandler.class) == null) {
+                channel.write(head);
+                // the region closes the file once it has been transferred (or the write fails)
+                channel.write(new DefaultFileRegion(raf.getChannel(), 0, length));
+                channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+                return;
+            }
+            in = Channels.newInputStream(raf.getChannel());
+        } else {
+            in = response.getBodyStream();
+            if (response.getBodyLength() >= 0) {
+                HttpUtil.setContentLength(head, response.getBodyLength());
+            } else {
+                HttpUtil.setTransferEncodingChunked(head, true);
+            }
+        }
+        try (in) {
+            channel.write(head);
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                if (!channel.isActive()) {
+                    throw new IOException("connection closed");
+                }
+                if (count == 0) {
+                    continue;
+                }
+                ChannelFuture future = channel.writeAndFlush(new DefaultHttpContent(Unpooled.copiedBuffer(buffer, 0, count)));
+                if (!channel.isWritable()) {
+                    // the client is not keeping up: wait for this chunk to go out, so at most the channel's
+                    // write buffer is ever held per connection. Awaited through a CompletableFuture, which
+                    // parks the virtual thread, where netty's own await would pin its carrier.
+                    CompletableFuture<Void> written = new CompletableFuture<>();
+                    future.addListener(f -> written.complete(null));
+                    written.join();
+                }
+                if (future.isDone() && !future.isSuccess()) {
+                    throw new IOException("connection lost", future.cause());
+                }
+            }
+            channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        } catch (IOException e) {
+            // the head is out, so there is no status left to change: all that is honest is to hang up
+            logger.error("response body aborted: {}", e.getMessage());
+            channel.close();
+        }
+    }
+
+}
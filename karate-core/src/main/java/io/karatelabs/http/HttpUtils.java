@@ -24,6 +24,7 @@
 package io.karatelabs.http;
 
 import io.karatelabs.common.*;
+import io.karatelabs.match.DiskBackedList;
 import net.minidev.json.JSONValue;
 import net.minidev.json.parser.JSONParser;
 import org.slf4j.Logger;
@@ -32,8 +33,10 @@ import org.slf4j.LoggerFactory;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.QueryStringEncoder;
 
+import java.io.*;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -199,6 +202,27 @@ public class HttpUtils {
         return fromString(raw, strict, resourceType);
     }
 
+    /**
+     * A JSON array in a file (a spooled response body), read element by element into a
+     * {@link DiskBackedList} and returned as a read-only view of it: the array as a whole is never
+     * in memory, as text or as objects. null when the file does not hold a JSON array, or it could
+     * not be read as one - for the caller to fall back to reading it whole.
+     */
+    public static List<Object> fromJsonArrayFile(File file) {
+        try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), 64 * 1024)) {
+            JsonArrayReader elements;
+            try {
+                elements = new JsonArrayReader(reader);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            return DiskBackedList.create(() -> elements).asList();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("failed to read json array from {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
     public static Object fromString(String raw, boolean strict, ResourceType resourceType) {
         String trimmed = raw.trim();
         if (trimmed.isEmpty()) {
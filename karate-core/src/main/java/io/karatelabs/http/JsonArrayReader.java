@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.http;
+
+import net.minidev.json.JSONValue;
+import net.minidev.json.parser.JSONParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The elements of a top-level JSON array, read one at a time. Only the text of the current
+ * element is ever held: the reader finds where it ends by counting brackets outside of strings,
+ * and hands just that text to the parser - the same lenient, key-order-keeping one that parses a
+ * JSON response held in memory. Anything after the closing {@code ]} is ignored.
+ */
+final class JsonArrayReader implements Iterator<Object> {
+
+    private static final int LENIENT = JSONParser.MODE_PERMISSIVE & ~JSONParser.ACCEPT_TAILLING_DATA;
+
+    private final Reader reader;
+    private final JSONParser parser = new JSONParser(LENIENT);
+    private final StringBuilder text = new StringBuilder();
+    private int index;
+    private boolean ended; // the closing ']' has been read
+    private boolean fetched;
+    private boolean hasNext;
+    private Object next;
+
+    /**
+     * @throws IllegalArgumentException if what the reader has is not a JSON array
+     */
+    JsonArrayReader(Reader reader) throws IOException {
+        this.reader = reader;
+        if (skipWhitespace(reader.read()) != '[') {
+            throw new IllegalArgumentException("not a json array");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!fetched) {
+            try {
+                fetch();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            fetched = true;
+        }
+        return hasNext;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fetched = false;
+        index++;
+        return next;
+    }
+
+    private void fetch() throws IOException {
+        text.setLength(0);
+        hasNext = false;
+        if (ended) {
+            return;
+        }
+        int depth = 0;
+        char quote = 0;
+        boolean escaped = false;
+        int c = skipWhitespace(reader.read());
+        while (true) {
+            if (c == -1) {
+                throw new IllegalArgumentException("json array not closed, at element " + index);
+            }
+            if (quote != 0) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = (char) c;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (depth == 0) { // c == ']', the end of the array
+                    ended = true;
+                    break;
+                }
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                break;
+            }
+            text.append((char) c);
+            c = reader.read();
+        }
+        if (text.isEmpty()) {
+            if (!ended) { // [1,,2] - a hole, not the end of the array
+                throw new IllegalArgumentException("invalid json array element " + index + ": empty");
+            }
+            return; // [] or a trailing comma
+        }
+        try {
+            next = parser.parse(text.toString(), JSONValue.defaultReader.DEFAULT_ORDERED);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("invalid json array element " + index + ": " + e.getMessage(), e);
+        }
+        // null itself, or something the parser gave up on without saying so
+        if (next == null && !"null".equals(text.toString().trim())) {
+            throw new IllegalArgumentException("invalid json array element " + index);
+        }
+        hasNext = true;
+    }
+
+    private int skipWhitespace(int c) throws IOException {
+        while (c != -1 && Character.isWhitespace(c)) {
+            c = reader.read();
+        }
+        return c;
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.http;
+
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A request body handed to the handler while it is still arriving ({@link ServerConfig#streamBodies(boolean)}).
+ * The connection's event loop {@link #offer}s each chunk as netty decodes it; the handler, on its own
+ * (virtual) thread, reads them as an ordinary {@link InputStream}.
+ * <p>
+ * Memory is bounded by {@code limit}: the event loop asks {@link #wantsMore()} before it reads from the
+ * socket again, and once the reader has drained a full buffer back under the limit, {@code demand} tells
+ * the event loop to resume. A lock rather than {@code synchronized}, so that a virtual thread waiting for
+ * the next chunk unmounts instead of pinning its carrier.
+ */
+class RequestBodyStream extends InputStream {
+
+    private final int limit;
+    private final Runnable demand;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition arrived = lock.newCondition();
+    private final ArrayDeque<ByteBuf> chunks = new ArrayDeque<>();
+    private int buffered;
+    private boolean complete;
+    private boolean discarding;
+    private Throwable failure;
+
+    RequestBodyStream(int limit, Runnable demand) {
+        this.limit = limit;
+        this.demand = demand;
+    }
+
+    //==== event loop side
+
+    /** Takes ownership of {@code chunk}. */
+    void offer(ByteBuf chunk) {
+        lock.lock();
+        try {
+            if (discarding) {
+                chunk.release();
+                return;
+            }
+            chunks.add(chunk);
+            buffered += chunk.readableBytes();
+            arrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void complete() {
+        lock.lock();
+        try {
+            complete = true;
+            arrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void fail(Throwable cause) {
+        lock.lock();
+        try {
+            failure = cause;
+            complete = true;
+            arrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Whether the connection should read on: the body is not all in, and there is room for it. */
+    boolean wantsMore() {
+        lock.lock();
+        try {
+            return !complete && (discarding || buffered < limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop what is buffered and whatever still arrives. Called once the handler is done — whatever it left
+     * unread has to come off the wire before the connection can carry the next request.
+     */
+    void discard() {
+        lock.lock();
+        try {
+            discarding = true;
+            ByteBuf chunk;
+            while ((chunk = chunks.poll()) != null) {
+                chunk.release();
+            }
+            buffered = 0;
+            arrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //==== handler side
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int count = read(one, 0, 1);
+        return count == -1 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int count;
+        boolean resume;
+        lock.lock();
+        try {
+            while (chunks.isEmpty()) {
+                if (failure != null) {
+                    throw new IOException("request body aborted: " + failure.getMessage(), failure);
+                }
+                if (complete || discarding) {
+                    return -1;
+                }
+                try {
+                    arrived.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("interrupted waiting for the request body");
+                }
+            }
+            ByteBuf chunk = chunks.peek();
+            count = Math.min(len, chunk.readableBytes());
+            chunk.readBytes(b, off, count);
+            if (!chunk.isReadable()) {
+                chunks.poll();
+                chunk.release();
+            }
+            // only the read that takes a full buffer back under the limit resumes the connection: until
+            // then the event loop is still reading on its own
+            resume = buffered >= limit && buffered - count < limit && !complete;
+            buffered -= count;
+        } finally {
+            lock.unlock();
+        }
+        if (resume) {
+            demand.run();
+        }
+        return count;
+    }
+
+    @Override
+    public int available() {
+        lock.lock();
+        try {
+            return buffered;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        discard();
+    }
+
+}
@@ -84,6 +84,15 @@ public class ServerConfig {
     // Global variables available in all templates and API handlers
     private Map<String, Object> globalVariables;
 
+    // Handler execution - see offloadHandlers()
+    private boolean offloadHandlers;
+    private int maxConcurrentHandlers = 256;
+    private int maxQueuedHandlers = 1024;
+
+    // Body handling - see streamBodies()
+    private boolean streamBodies;
+    private int streamBufferBytes = 64 * 1024;
+
     public ServerConfig() {
 
     }
@@ -222,6 +231,26 @@ public class ServerConfig {
         return globalVariables;
     }
 
+    public boolean isOffloadHandlers() {
+        return offloadHandlers;
+    }
+
+    public int getMaxConcurrentHandlers() {
+        return maxConcurrentHandlers;
+    }
+
+    public int getMaxQueuedHandlers() {
+        return maxQueuedHandlers;
+    }
+
+    public boolean isStreamBodies() {
+        return streamBodies;
+    }
+
+    public int getStreamBufferBytes() {
+        return streamBufferBytes;
+    }
+
     // Fluent setters (builder pattern)
 
     public ServerConfig resourceRoot(String resourceRoot) {
@@ -505,6 +534,66 @@ public class ServerConfig {
         return this;
     }
 
+    /**
+     * Run request handlers on virtual threads instead of the netty event loop that read the request.
+     * A handler that blocks (slow JS, a {@code karate.call}, file I/O) then stalls only its own
+     * request, not every connection sharing that event loop. Responses are still written by the
+     * connection's event loop, and a connection reads its next request only after the current one
+     * is answered, so pipelined responses keep their order.
+     * <p>
+     * Off by default. Bounded by {@link #maxConcurrentHandlers(int)} and
+     * {@link #maxQueuedHandlers(int)}; the counts are exposed by {@link HttpServer#getHandlerExecutor()}.
+     */
+    public ServerConfig offloadHandlers(boolean offloadHandlers) {
+        this.offloadHandlers = offloadHandlers;
+        return this;
+    }
+
+    /**
+     * Handlers allowed to run at once when {@link #offloadHandlers(boolean)} is on. Default 256.
+     */
+    public ServerConfig maxConcurrentHandlers(int maxConcurrentHandlers) {
+        this.maxConcurrentHandlers = maxConcurrentHandlers;
+        return this;
+    }
+
+    /**
+     * Requests allowed to wait for a handler slot when {@link #offloadHandlers(boolean)} is on.
+     * Beyond this the server answers 503 instead of buffering without limit. Default 1024.
+     */
+    public ServerConfig maxQueuedHandlers(int maxQueuedHandlers) {
+        this.maxQueuedHandlers = maxQueuedHandlers;
+        return this;
+    }
+
+    /**
+     * Stream request and response bodies instead of aggregating them. By default a request is buffered
+     * whole before the handler sees it, and refused above 1 MB. With this on, the handler is called as
+     * soon as the headers arrive and reads {@link HttpRequest#getBodyStream()} while the rest of the
+     * body is still coming in — the connection stops reading whenever {@link #streamBufferBytes(int)}
+     * are waiting to be consumed — and there is no size cap. A handler that asks for
+     * {@link HttpRequest#getBody()} instead still gets the whole body, read into memory on demand.
+     * <p>
+     * Responses built with {@link HttpResponse#setBodyFile} go out as a zero-copy file region, and
+     * those built with {@link HttpResponse#setBodyStream} are written in chunks, paced to the client.
+     * <p>
+     * Reading a body that has not arrived yet blocks, so this implies {@link #offloadHandlers(boolean)}.
+     * Off by default.
+     */
+    public ServerConfig streamBodies(boolean streamBodies) {
+        this.streamBodies = streamBodies;
+        return this;
+    }
+
+    /**
+     * Bytes of a request body buffered per connection, ahead of the handler reading them, when
+     * {@link #streamBodies(boolean)} is on. Default 64 KB.
+     */
+    public ServerConfig streamBufferBytes(int streamBufferBytes) {
+        this.streamBufferBytes = streamBufferBytes;
+        return this;
+    }
+
     // Utility methods
 
     /**
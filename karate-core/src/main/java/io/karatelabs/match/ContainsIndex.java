@@ -0,0 +1,182 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.match;
+
+import org.w3c.dom.Node;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The elements of an actual list bucketed by a structural hash, so that a {@code contains}
+ * compares each expected element with the few actual elements that could equal it instead of
+ * with all of them. 10k x 10k items goes from 100M {@link Operation}s to roughly 10k.
+ * <p>
+ * The hash is built so that an {@code EQUALS} that passes implies equal hashes: numbers hash by
+ * their {@link BigDecimal} value with trailing zeros stripped (as {@code 1 == 1.0} there), maps
+ * by their entries regardless of order, lists by their elements in order. The converse is not
+ * needed - a bucket is only a shortlist, and every candidate in it still goes through a full
+ * {@code Operation}, which is what decides the match and records any failure.
+ * <p>
+ * Only a "plain" expected element can be looked up: one with no {@code #} marker string
+ * anywhere inside ({@code #string}, {@code #ignore}, {@code #regex ...}, {@code #(...)}) and no
+ * XML or other opaque value, since those can match actual values of any hash. Everything else
+ * falls back to the scan, as does the whole list when one of its numbers has no
+ * {@code BigDecimal} value (NaN, infinity) - the scan throws on those, and skipping the
+ * comparison would quietly pass instead.
+ */
+final class ContainsIndex {
+
+    // below this many comparisons the scan is cheaper than hashing every element
+    static final long MIN_PAIRS = 256;
+
+    private final Map<Integer, List<Integer>> buckets;
+
+    private ContainsIndex(Map<Integer, List<Integer>> buckets) {
+        this.buckets = buckets;
+    }
+
+    /**
+     * The index of {@code actual}, or null when it cannot be built and every expected element
+     * has to be scanned for.
+     */
+    static ContainsIndex of(Value actual) {
+        int count = actual.getListSize();
+        Map<Integer, List<Integer>> buckets = new HashMap<>();
+        Hasher hasher = new Hasher(false);
+        for (int i = 0; i < count; i++) {
+            int hash = hasher.hash(actual.getListElement(i));
+            if (!hasher.ok) {
+                return null;
+            }
+            buckets.computeIfAbsent(hash, k -> new ArrayList<>(1)).add(i);
+        }
+        return new ContainsIndex(buckets);
+    }
+
+    /**
+     * Indices (ascending) of the actual elements that could equal {@code expected}, or null if
+     * {@code expected} is not plain and has to be scanned for.
+     */
+    List<Integer> candidates(Object expected) {
+        Hasher hasher = new Hasher(true);
+        int hash = hasher.hash(expected);
+        if (!hasher.ok) {
+            return null;
+        }
+        return buckets.getOrDefault(hash, List.of());
+    }
+
+    private static final class Hasher {
+
+        // mirrors how Value classifies what it wraps, which is what Operation compares by
+        private static final int NULL = 1;
+        private static final int XML = 2;
+        private static final int OTHER = 3;
+
+        final boolean expected;
+        boolean ok = true;
+
+        Hasher(boolean expected) {
+            this.expected = expected;
+        }
+
+        int hash(Object o) {
+            if (!ok) {
+                return 0;
+            }
+            if (o == null) {
+                return NULL;
+            }
+            if (o instanceof Set<?> set) {
+                return hashList(new ArrayList<>(set));
+            }
+            if (o.getClass().isArray()) {
+                int length = Array.getLength(o);
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(Array.get(o, i));
+                }
+                return hashList(list);
+            }
+            if (o instanceof Node) {
+                return unless(expected, XML);
+            }
+            if (o instanceof List<?> list) {
+                return hashList(list);
+            }
+            if (o instanceof Map<?, ?> map) {
+                int h = 7;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    h += Objects.hashCode(entry.getKey()) ^ hash(entry.getValue());
+                }
+                return h;
+            }
+            if (o instanceof String s) {
+                return unless(expected && s.startsWith("#"), s.hashCode());
+            }
+            if (Number.class.isAssignableFrom(o.getClass())) {
+                return hashNumber((Number) o);
+            }
+            if (Boolean.class.equals(o.getClass())) {
+                return o.hashCode();
+            }
+            return unless(expected, OTHER);
+        }
+
+        private int hashList(List<?> list) {
+            int h = 11;
+            for (Object item : list) {
+                h = 31 * h + hash(item);
+            }
+            return h;
+        }
+
+        private int hashNumber(Number n) {
+            try {
+                // the same conversion actualEqualsExpected compares numbers by
+                BigDecimal bd = Operation.toBigDecimal(n);
+                return bd.signum() == 0 ? 0 : bd.stripTrailingZeros().hashCode();
+            } catch (NumberFormatException e) { // NaN, infinity
+                ok = false;
+                return 0;
+            }
+        }
+
+        private int unless(boolean unhashable, int hash) {
+            if (unhashable) {
+                ok = false;
+            }
+            return hash;
+        }
+
+    }
+
+}
@@ -28,31 +28,62 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Random;
+import java.util.*;
 
 /**
  * A disk-backed list implementation for handling large collections without
- * exhausting memory. Items are serialized as JSON lines to a temporary file.
+ * exhausting memory. Items are written to a temporary file in a compact binary
+ * encoding, and read back through a read-only memory mapping of it.
+ * <p>
+ * The offset of each item is kept in a {@code long[]}, so an element costs 8 bytes of heap
+ * while stored. {@link #get(int)} decodes straight from the mapping with absolute reads: no
+ * seek, no line to re-parse as JSON, and it is safe to call from several threads at once.
+ * Maps come back as {@link LinkedHashMap}s in their original key order, lists as
+ * {@link ArrayList}s and numbers as the type they went in as (a {@code Float} reads as a
+ * {@code Double}, a {@code Short} or {@code Byte} as an {@code Integer}). Anything else is
+ * stored as its JSON text and parsed back, as all items used to be.
  */
 public class DiskBackedList implements LargeValueStore {
 
     private static final Logger logger = LoggerFactory.getLogger(DiskBackedList.class);
 
+    // one mapping is at most 2 GB, so a bigger file is mapped in segments that start on an item
+    private static final long MAX_SEGMENT = Integer.MAX_VALUE;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte BIG_DECIMAL = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte STRING = 8;
+    private static final byte LIST = 9;
+    private static final byte MAP = 10;
+    private static final byte JSON = 11;
+
     private final File tempFile;
     private final int size;
-    private final List<Long> lineOffsets;
-    private RandomAccessFile raf;
-    private boolean closed = false;
+    // size + 1 entries, the last one is the length of the file
+    private final long[] offsets;
+    // index of the first item in each segment, and the segments themselves
+    private final int[] segmentStarts;
+    private final MappedByteBuffer[] segments;
+    private volatile boolean closed = false;
 
-    private DiskBackedList(File tempFile, int size, List<Long> lineOffsets) {
+    private DiskBackedList(File tempFile, int size, long[] offsets, int[] segmentStarts, MappedByteBuffer[] segments) {
         this.tempFile = tempFile;
         this.size = size;
-        this.lineOffsets = lineOffsets;
+        this.offsets = offsets;
+        this.segmentStarts = segmentStarts;
+        this.segments = segments;
     }
 
     /**
@@ -63,23 +94,44 @@ public class DiskBackedList implements LargeValueStore {
      * @throws IOException if an I/O error occurs
      */
     public static DiskBackedList create(Iterable<?> source) throws IOException {
-        File tempFile = File.createTempFile("karate-match-", ".jsonl");
+        File tempFile = File.createTempFile("karate-match-", ".bin");
         tempFile.deleteOnExit();
-        List<Long> offsets = new ArrayList<>();
+        long[] offsets = new long[1024];
         int count = 0;
-        try (BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(tempFile))) {
-            long offset = 0;
+        try (Encoder out = new Encoder(new FileOutputStream(tempFile))) {
             for (Object item : source) {
-                offsets.add(offset);
-                String json = serializeItem(item);
-                byte[] bytes = (json + "\n").getBytes(StandardCharsets.UTF_8);
-                bos.write(bytes);
-                offset += bytes.length;
-                count++;
+                if (count + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[count++] = out.written;
+                out.write(item);
             }
+            offsets[count] = out.written;
         }
-        logger.debug("created disk-backed list with {} items in {}", count, tempFile);
-        return new DiskBackedList(tempFile, count, offsets);
+        offsets = Arrays.copyOf(offsets, count + 1);
+        List<Integer> starts = new ArrayList<>();
+        List<MappedByteBuffer> segments = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(tempFile.toPath())) {
+            int start = 0;
+            while (start < count) {
+                int end = start + 1; // exclusive
+                if (offsets[end] - offsets[start] > MAX_SEGMENT) {
+                    throw new IOException("item too large to map: " + start);
+                }
+                while (end < count && offsets[end + 1] - offsets[start] <= MAX_SEGMENT) {
+                    end++;
+                }
+                starts.add(start);
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY, offsets[start], offsets[end] - offsets[start]));
+                start = end;
+            }
+        } // the mappings stay valid once the channel is closed
+        int[] segmentStarts = new int[starts.size()];
+        for (int i = 0; i < segmentStarts.length; i++) {
+            segmentStarts[i] = starts.get(i);
+        }
+        logger.debug("created disk-backed list with {} items, {} bytes in {}", count, offsets[count], tempFile);
+        return new DiskBackedList(tempFile, count, offsets, segmentStarts, segments.toArray(new MappedByteBuffer[0]));
     }
 
     /**
@@ -154,20 +206,6 @@ public class DiskBackedList implements LargeValueStore {
         return 40 + (avgItemSize * size);
     }
 
-    private static String serializeItem(Object item) {
-        if (item == null) {
-            return "null";
-        }
-        return JSONValue.toJSONString(item);
-    }
-
-    private static Object deserializeItem(String json) {
-        if (json == null || json.isEmpty() || "null".equals(json)) {
-            return null;
-        }
-        return JSONValue.parse(json);
-    }
-
     @Override
     public int size() {
         return size;
@@ -181,106 +219,233 @@ public class DiskBackedList implements LargeValueStore {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
         }
-        try {
-            if (raf == null) {
-                raf = new RandomAccessFile(tempFile, "r");
-            }
-            long offset = lineOffsets.get(index);
-            raf.seek(offset);
-            String line = raf.readLine();
-            return deserializeItem(line);
-        } catch (IOException e) {
-            throw new RuntimeException("failed to read item at index " + index, e);
-        }
+        int segment = segments.length == 1 ? 0 : segmentOf(index);
+        long base = offsets[segmentStarts[segment]];
+        return new Decoder(segments[segment], (int) (offsets[index] - base)).read();
+    }
+
+    private int segmentOf(int index) {
+        int pos = Arrays.binarySearch(segmentStarts, index);
+        return pos >= 0 ? pos : -pos - 2;
     }
 
     @Override
     public Iterator<Object> iterator() {
+        return iterator(0);
+    }
+
+    @Override
+    public Iterator<Object> iterator(int fromIndex) {
         if (closed) {
             throw new IllegalStateException("store has been closed");
         }
-        return new DiskBackedIterator();
+        if (fromIndex < 0 || fromIndex > size) {
+            throw new IndexOutOfBoundsException("index: " + fromIndex + ", size: " + size);
+        }
+        return new Iterator<>() {
+
+            int index = fromIndex;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Object next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+
+        };
     }
 
+    /**
+     * There is no unmapping a file short of the garbage collector, so the mapped pages are
+     * released once this list is no longer referenced. Deleting the file works while it is still
+     * mapped everywhere but on Windows, where it is left to {@link File#deleteOnExit()}.
+     */
     @Override
     public void close() {
         if (closed) {
             return;
         }
         closed = true;
-        if (raf != null) {
-            try {
-                raf.close();
-            } catch (IOException e) {
-                logger.warn("failed to close RandomAccessFile: {}", e.getMessage());
-            }
-            raf = null;
-        }
         if (tempFile.exists()) {
             if (!tempFile.delete()) {
-                logger.warn("failed to delete temp file: {}", tempFile);
+                logger.debug("temp file still mapped, deleted on exit: {}", tempFile);
             }
         }
     }
 
-    private class DiskBackedIterator implements Iterator<Object> {
-        private final BufferedReader reader;
-        private int currentIndex = 0;
-        private String nextLine = null;
-        private boolean hasNextCalled = false;
-
-        DiskBackedIterator() {
-            try {
-                reader = new BufferedReader(
-                        new InputStreamReader(new FileInputStream(tempFile), StandardCharsets.UTF_8));
-            } catch (FileNotFoundException e) {
-                throw new RuntimeException("temp file not found", e);
-            }
+    private static final class Encoder implements Closeable {
+
+        final OutputStream out;
+        long written;
+
+        Encoder(OutputStream out) {
+            this.out = new BufferedOutputStream(out, 64 * 1024);
         }
 
-        @Override
-        public boolean hasNext() {
-            if (hasNextCalled) {
-                return nextLine != null;
+        void write(Object item) throws IOException {
+            if (item == null) {
+                writeByte(NULL);
+            } else if (item instanceof Boolean b) {
+                writeByte(b ? TRUE : FALSE);
+            } else if (item instanceof Integer || item instanceof Short || item instanceof Byte) {
+                writeInt(((Number) item).intValue());
+            } else if (item instanceof Long l) {
+                writeByte(LONG);
+                writeLong(l);
+            } else if (item instanceof Double || item instanceof Float) {
+                writeByte(DOUBLE);
+                writeLong(Double.doubleToRawLongBits(((Number) item).doubleValue()));
+            } else if (item instanceof BigDecimal || item instanceof BigInteger) {
+                writeByte(item instanceof BigDecimal ? BIG_DECIMAL : BIG_INTEGER);
+                writeString(item.toString());
+            } else if (item instanceof String s) {
+                writeByte(STRING);
+                writeString(s);
+            } else if (item instanceof List<?> list) {
+                writeByte(LIST);
+                writeVarInt(list.size());
+                for (Object o : list) {
+                    write(o);
+                }
+            } else if (item instanceof Map<?, ?> map) {
+                writeByte(MAP);
+                writeVarInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeString(String.valueOf(entry.getKey()));
+                    write(entry.getValue());
+                }
+            } else {
+                writeByte(JSON);
+                writeString(JSONValue.toJSONString(item));
             }
-            hasNextCalled = true;
-            if (currentIndex >= size) {
-                closeReader();
-                return false;
+        }
+
+        void writeInt(int i) throws IOException {
+            writeByte(INT);
+            writeVarInt((i << 1) ^ (i >> 31)); // zig-zag, small negatives stay short
+        }
+
+        void writeString(String s) throws IOException {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            out.write(bytes);
+            written += bytes.length;
+        }
+
+        void writeVarInt(int v) throws IOException {
+            while ((v & ~0x7F) != 0) {
+                writeByte((byte) ((v & 0x7F) | 0x80));
+                v >>>= 7;
             }
-            try {
-                nextLine = reader.readLine();
-                if (nextLine == null) {
-                    closeReader();
-                    return false;
-                }
-                return true;
-            } catch (IOException e) {
-                closeReader();
-                throw new RuntimeException("failed to read next line", e);
+            writeByte((byte) v);
+        }
+
+        void writeLong(long v) throws IOException {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (v >>> shift));
             }
+            written += 8;
+        }
+
+        void writeByte(byte b) throws IOException {
+            out.write(b);
+            written++;
         }
 
         @Override
-        public Object next() {
-            if (!hasNextCalled) {
-                hasNext();
-            }
-            if (nextLine == null) {
-                throw new NoSuchElementException();
+        public void close() throws IOException {
+            out.close();
+        }
+
+    }
+
+    // absolute reads only, the buffer is shared by every thread reading this list
+    private static final class Decoder {
+
+        final ByteBuffer buf;
+        int pos;
+
+        Decoder(ByteBuffer buf, int pos) {
+            this.buf = buf;
+            this.pos = pos;
+        }
+
+        Object read() {
+            byte tag = buf.get(pos++);
+            switch (tag) {
+                case NULL:
+                    return null;
+                case FALSE:
+                    return false;
+                case TRUE:
+                    return true;
+                case INT:
+                    int zigzag = readVarInt();
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                case LONG:
+                    return readLong();
+                case DOUBLE:
+                    return Double.longBitsToDouble(readLong());
+                case BIG_DECIMAL:
+                    return new BigDecimal(readString());
+                case BIG_INTEGER:
+                    return new BigInteger(readString());
+                case STRING:
+                    return readString();
+                case LIST:
+                    int count = readVarInt();
+                    List<Object> list = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        list.add(read());
+                    }
+                    return list;
+                case MAP:
+                    int entries = readVarInt();
+                    Map<String, Object> map = new LinkedHashMap<>(entries * 4 / 3 + 1);
+                    for (int i = 0; i < entries; i++) {
+                        String key = readString();
+                        map.put(key, read());
+                    }
+                    return map;
+                case JSON:
+                    return JSONValue.parse(readString());
+                default:
+                    throw new IllegalStateException("corrupt item, unknown tag " + tag + " at " + (pos - 1));
             }
-            hasNextCalled = false;
-            currentIndex++;
-            return deserializeItem(nextLine);
         }
 
-        private void closeReader() {
-            try {
-                reader.close();
-            } catch (IOException e) {
-                logger.warn("failed to close reader: {}", e.getMessage());
+        String readString() {
+            int length = readVarInt();
+            byte[] bytes = new byte[length];
+            buf.get(pos, bytes);
+            pos += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int readVarInt() {
+            int v = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buf.get(pos++);
+                v |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return v;
+                }
             }
         }
+
+        long readLong() {
+            long v = buf.getLong(pos); // big-endian, as written
+            pos += 8;
+            return v;
+        }
+
     }
 
 }
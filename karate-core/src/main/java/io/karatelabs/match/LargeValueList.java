@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.match;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.RandomAccess;
+
+/**
+ * A read-only {@code List} over a {@link LargeValueStore}, for a value that was never in memory
+ * to begin with (a spooled HTTP response). Every {@link #get} decodes the element afresh, so
+ * changes to an element are not kept. Matching it does not copy it to disk again: {@link Value}
+ * works off the store directly.
+ */
+final class LargeValueList extends AbstractList<Object> implements RandomAccess {
+
+    final LargeValueStore store;
+
+    LargeValueList(LargeValueStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Object get(int index) {
+        return store.get(index);
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return store.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "[" + size() + " items, spooled to disk]";
+    }
+
+}
@@ -25,6 +25,7 @@ package io.karatelabs.match;
 
 import java.io.Closeable;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Interface for handling large collections that may need to be stored
@@ -51,6 +52,36 @@ public interface LargeValueStore extends Closeable {
      */
     Iterator<Object> iterator();
 
+    /**
+     * Returns an iterator over the elements from the specified index on. Unlike {@link #get(int)},
+     * iterators are safe to walk from several threads at once, one per thread. One that implements
+     * {@link Closeable} should be closed when it is not read to the end.
+     *
+     * @param fromIndex the index of the first element to return
+     */
+    default Iterator<Object> iterator(int fromIndex) {
+        Iterator<Object> iterator = iterator();
+        for (int i = 0; i < fromIndex; i++) {
+            iterator.next();
+        }
+        return iterator;
+    }
+
+    /**
+     * Returns a read-only {@code List} view of this store. Matching it uses this store as is,
+     * where any other list that big would be copied into one first.
+     */
+    default List<Object> asList() {
+        return new LargeValueList(this);
+    }
+
+    /**
+     * The store behind a list returned by {@link #asList()}, or null for any other list.
+     */
+    static LargeValueStore of(List<?> list) {
+        return list instanceof LargeValueList view ? view.store : null;
+    }
+
     /**
      * Closes this store and releases any associated resources (e.g., temp files).
      */
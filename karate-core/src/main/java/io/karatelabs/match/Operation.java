@@ -29,9 +29,14 @@ import io.karatelabs.common.Xml;
 import io.karatelabs.js.Engine;
 import io.karatelabs.js.Terms;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,6 +44,9 @@ public class Operation {
 
     static final String REGEX = "regex";
     static final int MAX_EACH_FAILURES = 5;
+    // match each over at least this many elements is split across the common ForkJoin pool
+    static final int PARALLEL_EACH_MIN = 4096;
+    static final int PARALLEL_EACH_CHUNK = 1024;
 
     final MatchContext context;
     final Match.Type type;
@@ -146,6 +154,10 @@ public class Operation {
                         return fail("match each failed, empty array / list");
                     }
                     Match.Type nestedMatchType = fromMatchEach();
+                    if (count >= PARALLEL_EACH_MIN && !context.xml && ForkJoinPool.getCommonPoolParallelism() > 1
+                            && !needsEngine(expected.getValue())) {
+                        return matchEachInParallel(count, nestedMatchType);
+                    }
                     List<Integer> failedIndices = new ArrayList<>();
                     boolean stoppedEarly = false;
                     for (int i = 0; i < count; i++) {
@@ -162,14 +174,7 @@ public class Operation {
                             }
                         }
                     }
-                    if (!failedIndices.isEmpty()) {
-                        String suffix = stoppedEarly ? " (stopped after " + MAX_EACH_FAILURES + " failures)" : "";
-                        if (failedIndices.size() == 1) {
-                            return fail("match each failed at index " + failedIndices.getFirst() + suffix);
-                        }
-                        return fail("match each failed at indices " + failedIndices + suffix);
-                    }
-                    return true;
+                    return matchEachResult(failedIndices, stoppedEarly);
                 } else {
                     return fail("actual is not an array or list");
                 }
@@ -265,6 +270,141 @@ public class Operation {
         }
     }
 
+    private boolean matchEachResult(List<Integer> failedIndices, boolean stoppedEarly) {
+        if (!failedIndices.isEmpty()) {
+            String suffix = stoppedEarly ? " (stopped after " + MAX_EACH_FAILURES + " failures)" : "";
+            if (failedIndices.size() == 1) {
+                return fail("match each failed at index " + failedIndices.getFirst() + suffix);
+            }
+            return fail("match each failed at indices " + failedIndices + suffix);
+        }
+        return true;
+    }
+
+    /**
+     * The sequential match each loop, over chunks of the list on the common ForkJoin pool. Each
+     * chunk collects its own failures, and they are merged in index order and cut at the same
+     * failure the sequential loop would have stopped at - so the result and the report are the
+     * same, only the elements past that point may have been looked at too.
+     * <p>
+     * Only for an expected value that never reaches the JS engine (see {@link #needsEngine}): a
+     * chunk gets an engine of its own, which holds nothing but {@code _$}.
+     */
+    private boolean matchEachInParallel(int count, Match.Type nestedMatchType) {
+        int chunkSize = Math.max(PARALLEL_EACH_CHUNK, count / (ForkJoinPool.getCommonPoolParallelism() * 4) + 1);
+        List<EachChunk> chunks = new ArrayList<>();
+        for (int from = 0; from < count; from += chunkSize) {
+            chunks.add(new EachChunk(from, Math.min(count, from + chunkSize), count, nestedMatchType));
+        }
+        ForkJoinTask.invokeAll(chunks);
+        List<Integer> failedIndices = new ArrayList<>();
+        for (EachChunk chunk : chunks) {
+            for (int k = 0; k < chunk.failedIndices.size(); k++) {
+                int i = chunk.failedIndices.get(k);
+                failedIndices.add(i);
+                if (failedIndices.size() >= MAX_EACH_FAILURES && i < count - 1) {
+                    failures.addAll(chunk.root.failures.subList(0, chunk.failuresEnd.get(k)));
+                    return matchEachResult(failedIndices, true);
+                }
+            }
+            failures.addAll(chunk.root.failures);
+        }
+        return matchEachResult(failedIndices, false);
+    }
+
+    private final class EachChunk extends RecursiveAction {
+
+        final int from;
+        final int to;
+        final int count;
+        final Match.Type nestedMatchType;
+        final List<Integer> failedIndices = new ArrayList<>();
+        // size of root.failures right after each failed element
+        final List<Integer> failuresEnd = new ArrayList<>();
+        Operation root;
+
+        EachChunk(int from, int to, int count, Match.Type nestedMatchType) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+            this.nestedMatchType = nestedMatchType;
+        }
+
+        @Override
+        protected void compute() {
+            Engine engine = new Engine();
+            Operation outer = context.root;
+            // stands in for the real root: same values, but failures of its own
+            root = new Operation(engine, outer.type, outer.actual, outer.expected);
+            MatchContext chunkContext = new MatchContext(engine, root, false, context.depth, context.path, context.name, context.index);
+            // a disk-backed list is read in sequence by each chunk, never materialized
+            LargeValueStore store = actual.getLargeStore();
+            Iterator<Object> items = store == null ? null : store.iterator(from);
+            try {
+                for (int i = from; i < to; i++) {
+                    Object o = items == null ? actual.getListElement(i) : items.next();
+                    engine.put("_$", o);
+                    Operation mo = new Operation(chunkContext.descend(i), nestedMatchType, new Value(o), expected, matchEachEmptyAllowed);
+                    mo.execute();
+                    if (!mo.pass) {
+                        failedIndices.add(i);
+                        failuresEnd.add(root.failures.size());
+                        if (failedIndices.size() >= MAX_EACH_FAILURES && i < count - 1) {
+                            break; // the merge cuts at or before this one
+                        }
+                    }
+                }
+            } finally {
+                if (items instanceof Closeable closeable) {
+                    try {
+                        closeable.close();
+                    } catch (IOException e) {
+                        // a read-only temp file, nothing to lose
+                    }
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Whether matching against this expected value can evaluate JS: any {@code #} marker other
+     * than a plain validator ({@code #string}, {@code ##number}, {@code #regex ...}), optionally
+     * behind {@code #[]}. Those are resolved against the caller's engine, which is not
+     * thread-safe, so match each keeps them sequential.
+     */
+    static boolean needsEngine(Object expected) {
+        if (expected instanceof String s) {
+            return s.startsWith("#") && !isPlainValidator(s);
+        }
+        if (expected instanceof Map<?, ?> map) {
+            for (Object value : map.values()) {
+                if (needsEngine(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (expected instanceof List<?> list) {
+            for (Object value : list) {
+                if (needsEngine(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return expected instanceof org.w3c.dom.Node;
+    }
+
+    private static boolean isPlainValidator(String s) {
+        String macro = s.startsWith("##") ? s.substring(2) : s.substring(1);
+        if (macro.startsWith("[]")) {
+            String rest = macro.substring(2).trim();
+            return rest.isEmpty() || rest.startsWith("#") && isPlainValidator(rest);
+        }
+        return macro.startsWith(REGEX) || Validators.VALIDATORS.containsKey(macro);
+    }
+
     private boolean macroEqualsExpected(String expStr) {
         boolean optional = expStr.startsWith("##");
         if (optional && actual.isNull()) { // exit early
@@ -612,52 +752,31 @@ public class Operation {
                 if ((type == Match.Type.CONTAINS_ONLY || type == Match.Type.CONTAINS_ONLY_DEEP) && expListCount != actListCount) {
                     return fail("actual array length is not equal to expected - " + actListCount + ":" + expListCount);
                 }
+                // contains / contains only / not contains compare elements with EQUALS, so each
+                // expected element need only be tried against the actual elements it hashes with
+                ContainsIndex index = (type == Match.Type.CONTAINS || type == Match.Type.CONTAINS_ONLY || type == Match.Type.NOT_CONTAINS)
+                        && (long) actListCount * expListCount >= ContainsIndex.MIN_PAIRS ? ContainsIndex.of(actual) : null;
                 List<String> notFoundItems = new ArrayList<>();
                 for (int j = 0; j < expListCount; j++) { // for each item in the expected list
-                    boolean found = false;
-                    Value expListValue = new Value(expected.getListElement(j));
+                    Object expItem = expected.getListElement(j);
+                    Value expListValue = new Value(expItem);
                     int failuresBeforeSearch = failures.size(); // track failures before this search
-                    for (int i = 0; i < actListCount; i++) {
-                        Value actListValue = new Value(actual.getListElement(i));
-                        Match.Type childMatchType;
-                        switch (type) {
-                            case CONTAINS_DEEP:
-                                childMatchType = actListValue.isMapOrListOrXml() ? Match.Type.CONTAINS_DEEP : Match.Type.EQUALS;
-                                break;
-                            case CONTAINS_ONLY_DEEP:
-                                childMatchType = actListValue.isMapOrListOrXml() ? Match.Type.CONTAINS_ONLY_DEEP : Match.Type.EQUALS;
-                                break;
-                            case CONTAINS_ANY_DEEP:
-                                childMatchType = actListValue.isMapOrListOrXml() ? Match.Type.CONTAINS_ANY : Match.Type.EQUALS;
-                                break;
-                            default:
-                                childMatchType = Match.Type.EQUALS;
-                        }
-                        Operation mo = new Operation(context.descend(i), childMatchType, actListValue, expListValue, matchEachEmptyAllowed);
-                        mo.execute();
-                        if (mo.pass) {
-                            if (type == Match.Type.CONTAINS_ANY || type == Match.Type.CONTAINS_ANY_DEEP) {
-                                return true; // exit early
-                            }
-                            // contains only : If element is found also check its occurrence in actVisitedList
-                            // the deep variant differs only in how nested elements compare, so it has
-                            // to account for multiplicity the same way
-                            else if (type == Match.Type.CONTAINS_ONLY || type == Match.Type.CONTAINS_ONLY_DEEP) {
-                                // if not yet visited
-                                if (!actVisitedList[i]) {
-                                    // mark it visited
-                                    actVisitedList[i] = true;
-                                    found = true;
-                                    break; // next item in expected list
-                                }
-                                // else do nothing does not consider it a match
-                            } else {
-                                found = true;
-                                break; // next item in expected list
-                            }
+                    List<Integer> candidates = index == null ? null : index.candidates(expItem);
+                    boolean found = candidates != null && findInActual(expListValue, candidates, actListCount, actVisitedList);
+                    if (candidates != null && !found) {
+                        // no candidate matched, so nothing will - but scan anyway, because the
+                        // report of a miss lists how each element failed to match
+                        while (failures.size() > failuresBeforeSearch) {
+                            failures.removeLast();
                         }
                     }
+                    if (!found) {
+                        found = findInActual(expListValue, null, actListCount, actVisitedList);
+                    }
                     if (found) {
+                        if (type == Match.Type.CONTAINS_ANY || type == Match.Type.CONTAINS_ANY_DEEP) {
+                            return true; // exit early
+                        }
                         // Remove search failures - they were just "not this one, keep looking"
                         while (failures.size() > failuresBeforeSearch) {
                             failures.removeLast();
@@ -690,6 +809,52 @@ public class Operation {
         }
     }
 
+    /**
+     * Look for one expected element among the actual list elements at {@code indices} (ascending),
+     * or among all of them when {@code indices} is null. For contains only, an element already
+     * matched by an earlier expected element does not count again.
+     */
+    private boolean findInActual(Value expListValue, List<Integer> indices, int actListCount, boolean[] actVisitedList) {
+        int count = indices == null ? actListCount : indices.size();
+        for (int k = 0; k < count; k++) {
+            int i = indices == null ? k : indices.get(k);
+            Value actListValue = new Value(actual.getListElement(i));
+            Match.Type childMatchType;
+            switch (type) {
+                case CONTAINS_DEEP:
+                    childMatchType = actListValue.isMapOrListOrXml() ? Match.Type.CONTAINS_DEEP : Match.Type.EQUALS;
+                    break;
+                case CONTAINS_ONLY_DEEP:
+                    childMatchType = actListValue.isMapOrListOrXml() ? Match.Type.CONTAINS_ONLY_DEEP : Match.Type.EQUALS;
+                    break;
+                case CONTAINS_ANY_DEEP:
+                    childMatchType = actListValue.isMapOrListOrXml() ? Match.Type.CONTAINS_ANY : Match.Type.EQUALS;
+                    break;
+                default:
+                    childMatchType = Match.Type.EQUALS;
+            }
+            Operation mo = new Operation(context.descend(i), childMatchType, actListValue, expListValue, matchEachEmptyAllowed);
+            mo.execute();
+            if (mo.pass) {
+                // contains only : If element is found also check its occurrence in actVisitedList
+                // the deep variant differs only in how nested elements compare, so it has
+                // to account for multiplicity the same way
+                if (type == Match.Type.CONTAINS_ONLY || type == Match.Type.CONTAINS_ONLY_DEEP) {
+                    // if not yet visited
+                    if (!actVisitedList[i]) {
+                        // mark it visited
+                        actVisitedList[i] = true;
+                        return true;
+                    }
+                    // else do nothing does not consider it a match
+                } else {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     private boolean actualWithinExpected() {
         switch (actual.type) {
@@ -778,7 +943,7 @@ public class Operation {
         }
     }
 
-    private static BigDecimal toBigDecimal(Object o) {
+    static BigDecimal toBigDecimal(Object o) {
         if (o instanceof BigDecimal bd) {
             return bd;
         } else if (o instanceof BigInteger bi) {
@@ -65,6 +65,7 @@ public class Value implements SimpleObject {
 
     private final Object value;
     private LargeValueStore largeStore;
+    private boolean ownsLargeStore = true;
     private final long memoryThreshold;
 
     private Context context;
@@ -121,6 +122,11 @@ public class Value implements SimpleObject {
     }
 
     private void checkAndCreateLargeStore(List<?> list) {
+        if (list instanceof LargeValueList view) {
+            largeStore = view.store; // already on disk
+            ownsLargeStore = false;
+            return;
+        }
         long estimatedSize = DiskBackedList.estimateCollectionSize(list);
         if (estimatedSize > memoryThreshold) {
             try {
@@ -249,7 +255,9 @@ public class Value implements SimpleObject {
      */
     public void close() {
         if (largeStore != null) {
-            largeStore.close();
+            if (ownsLargeStore) {
+                largeStore.close();
+            }
             largeStore = null;
         }
     }
@@ -270,6 +278,8 @@ public class Value implements SimpleObject {
     public String getAsString() {
         switch (type) {
             case LIST:
+                // a list that was never in memory is not one to print in full
+                return value instanceof LargeValueList ? value.toString() : Json.stringifyStrict(value);
             case MAP:
                 return Json.stringifyStrict(value);
             case XML:
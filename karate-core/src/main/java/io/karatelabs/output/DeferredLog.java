@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What one step captured into the report buffer, kept as it was produced: plain text interleaved
+ * with {@link Entry entries} that still have to be turned into text. An entry is the HTTP
+ * request / response block — {@link HttpLogger} hands over the headers and the raw body bytes
+ * instead of re-parsing, pretty-printing, masking and colorizing the body on the HTTP path, for
+ * a log that in a passing run nobody ever opens.
+ * <p>
+ * Rendered at most once, on the first {@link io.karatelabs.core.StepResult#getLog()}, which is
+ * when a report or a failure message actually needs the text. Until then, the bodies can be let
+ * go with {@link #dropBodies()} — see {@code configure logging = { bodies: 'failed' }}.
+ */
+public final class DeferredLog {
+
+    /**
+     * A block of log text that is cheap to keep and costs something to produce. Must hold
+     * everything it needs to render — it runs later, on whatever thread builds the report, so
+     * nothing can be read from the {@link LogContext} of the thread that captured it.
+     */
+    interface Entry {
+
+        void render(StringBuilder sb, boolean withBody);
+
+        void dropBody();
+
+    }
+
+    // String or Entry, in the order they were logged
+    private final List<Object> parts = new ArrayList<>(4);
+    private boolean deferred;
+    private boolean withoutBodies;
+
+    void append(String text) {
+        if (!text.isEmpty()) {
+            parts.add(text);
+        }
+    }
+
+    void append(Entry entry) {
+        parts.add(entry);
+        deferred = true;
+    }
+
+    void append(DeferredLog other) {
+        parts.addAll(other.parts);
+        deferred |= other.deferred;
+    }
+
+    boolean isEmpty() {
+        return parts.isEmpty();
+    }
+
+    /** Whether anything here is still unrendered; false means {@link #render()} is a plain join. */
+    public boolean isDeferred() {
+        return deferred;
+    }
+
+    /**
+     * Let go of the request / response bodies: the entries render headers only, from here on.
+     * Does nothing to text that was already plain when it was logged.
+     */
+    public void dropBodies() {
+        if (!deferred || withoutBodies) {
+            return;
+        }
+        withoutBodies = true;
+        for (Object part : parts) {
+            if (part instanceof Entry entry) {
+                entry.dropBody();
+            }
+        }
+    }
+
+    public String render() {
+        if (parts.size() == 1 && parts.get(0) instanceof String text) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Object part : parts) {
+            if (part instanceof Entry entry) {
+                entry.render(sb, true);
+            } else {
+                sb.append((String) part);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+
+}
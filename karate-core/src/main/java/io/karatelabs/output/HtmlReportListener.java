@@ -33,10 +33,12 @@ import org.slf4j.LoggerFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A {@link ResultListener} that generates HTML reports.
@@ -47,6 +49,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *   <li>Keeps only small summary data in memory</li>
  *   <li>Makes partial results available as tests complete</li>
  * </ul>
+ * Feature pages are rendered on a small bounded pool, so a feature thread moves on to its next
+ * feature while the page it just finished is templated and written. See {@link #onFeatureEnd}.
  */
 public class HtmlReportListener implements ResultListener {
 
@@ -58,8 +62,11 @@ public class HtmlReportListener implements ResultListener {
     private final String env;
     // One entry per completed feature, kept until onSuiteEnd builds the summary and
     // timeline pages. Held in the SHALLOW form produced by summaryJson() — see there for
-    // why the full tree must not be retained here.
-    private final List<Map<String, Object>> featureMaps = new CopyOnWriteArrayList<>();
+    // why the full tree must not be retained here. Not a CopyOnWriteArrayList: that copied
+    // the whole list on every add, quadratic in the number of features.
+    private final List<Map<String, Object>> featureMaps = Collections.synchronizedList(new ArrayList<>());
+    // Renders feature pages; created at suite start, drained by onSuiteEnd. See onFeatureEnd.
+    private volatile ThreadPoolExecutor renderPool;
 
     private long suiteStartTime;
     private int threadCount;
@@ -67,7 +74,7 @@ public class HtmlReportListener implements ResultListener {
     // Ext report-asset specs captured at suite start; threaded into the writer so
     // ext <script>/<link> tags get spliced and ext static dirs copied. Empty when
     // no exts registered assets.
-    private Map<String, io.karatelabs.core.ReportAssets> reportAssets = java.util.Collections.emptyMap();
+    private Map<String, io.karatelabs.core.ReportAssets> reportAssets = Collections.emptyMap();
     // Suite captured at start so onSuiteEnd can read getSummaryCards() — exts add those in
     // onShutdown(), which runs after onSuiteStart but before this listener's onSuiteEnd write.
     private Suite suite;
@@ -89,6 +96,7 @@ public class HtmlReportListener implements ResultListener {
         threadCount = suite.threadCount;
         reportAssets = suite.getReportAssets();
         this.suite = suite;
+        renderPool = newRenderPool(threadCount);
 
         // Embed file names use a 001_, 002_, ... sequence; reset per suite so
         // numbers don't bleed across runs in the same JVM (e.g. test suites).
@@ -113,7 +121,8 @@ public class HtmlReportListener implements ResultListener {
         // itself, so nothing here needs the step detail.
         featureMaps.add(summaryJson(result));
 
-        // Extract the page model and render it, both here, on the feature's own thread.
+        // Extract the page model here, on the feature's own thread, while the result is whole;
+        // render it (templating + IO) on the pool.
         //
         // Rendering used to be handed to a single-thread executor with an unbounded queue, on
         // the reasoning that templating and IO should stay off the hot path. Measured, the
@@ -124,15 +133,60 @@ public class HtmlReportListener implements ResultListener {
         // largest memory consumer with reports on, and it was noisy run-to-run because what
         // was really being measured was a race between producer and writer.
         //
-        // Inline, the cost is shared across every feature thread instead of serialized onto
-        // one, and a feature cannot complete until its page is on disk — so the page model is
-        // live for one feature per thread rather than for the whole suite.
+        // So the pool is bounded on both sides: as many renderers as feature threads, and a
+        // queue of the same length. When both are full the feature thread renders the page
+        // itself (CallerRunsPolicy), which is exactly the old inline behaviour — renderers
+        // falling behind throttle the producers instead of piling up page models. Live page
+        // models are bounded by the pool, its queue and the feature threads — never by the
+        // size of the suite — and each is dropped the moment its page is written.
+        Map<String, Object> featureData;
         try {
             ensureResourcesCopied();
-            HtmlReportWriter.renderFeatureHtml(
-                    HtmlReportWriter.prepareFeatureData(result, outputDir), outputDir, reportAssets);
+            featureData = HtmlReportWriter.prepareFeatureData(result, outputDir);
         } catch (Exception e) {
             logger.warn("Failed to write feature HTML for {}: {}", result.getDisplayName(), e.getMessage());
+            return;
+        }
+        String displayName = result.getDisplayName();
+        Runnable render = () -> {
+            try {
+                HtmlReportWriter.renderFeatureHtml(featureData, outputDir, reportAssets);
+            } catch (Exception e) {
+                logger.warn("Failed to write feature HTML for {}: {}", displayName, e.getMessage());
+            }
+        };
+        ThreadPoolExecutor pool = renderPool;
+        if (pool == null) {
+            render.run(); // onSuiteStart not called: a listener driven by hand
+        } else {
+            pool.execute(render);
+        }
+    }
+
+    private static ThreadPoolExecutor newRenderPool(int threadCount) {
+        int size = Math.max(1, Math.min(threadCount, Runtime.getRuntime().availableProcessors()));
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(size),
+                Thread.ofPlatform().name("karate-report-", 1).daemon().factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /** Wait for every queued feature page, so the report is complete when the suite returns. */
+    private void awaitFeaturePages() {
+        ThreadPoolExecutor pool = renderPool;
+        if (pool == null) {
+            return;
+        }
+        renderPool = null;
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(5, TimeUnit.MINUTES)) {
+                logger.warn("Feature HTML still being written after 5 minutes: {}", outputDir.resolve(SUBFOLDER));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -154,35 +208,23 @@ public class HtmlReportListener implements ResultListener {
      *
      * <p>Everything except {@code stepResults} is preserved verbatim rather than
      * hand-picked, so a page that starts reading another feature- or scenario-level field
-     * keeps working. Only the heavy branch is pruned.
+     * keeps working. Only the heavy branch is pruned — and it is never built: this used to
+     * serialize the whole tree with {@code toJson()} and then drop the steps, paying for
+     * every step map of the suite once more just to throw it away.
      */
     private static Map<String, Object> summaryJson(FeatureResult result) {
-        Map<String, Object> featureMap = result.toJson();
-        Object scenarios = featureMap.get("scenarioResults");
-        if (!(scenarios instanceof List<?> scenarioList)) {
-            return featureMap;
-        }
-        List<Map<String, Object>> reduced = new ArrayList<>(scenarioList.size());
-        for (Object scenario : scenarioList) {
-            if (scenario instanceof Map<?, ?> scenarioMap) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> copy = new LinkedHashMap<>((Map<String, Object>) scenarioMap);
-                copy.remove("stepResults");
-                reduced.add(copy);
-            }
-        }
-        featureMap.put("scenarioResults", reduced);
-        return featureMap;
+        return result.toSummaryJson();
     }
 
     @Override
     public void onSuiteEnd(SuiteResult result) {
+        awaitFeaturePages();
         try {
             // Ensure resources are copied
             ensureResourcesCopied();
 
             // Write summary pages using canonical feature maps
-            List<Map<String, Object>> summaryCards = suite != null ? suite.getSummaryCards() : java.util.Collections.emptyList();
+            List<Map<String, Object>> summaryCards = suite != null ? suite.getSummaryCards() : Collections.emptyList();
             HtmlReportWriter.writeSummaryPages(featureMaps, result, outputDir, env, reportAssets, summaryCards);
 
             // Write timeline page using canonical feature maps
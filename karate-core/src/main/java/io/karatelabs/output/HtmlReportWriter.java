@@ -1035,6 +1035,7 @@ public final class HtmlReportWriter {
         summary.put("scenario_failed", result.getScenarioFailedCount());
         summary.put("scenario_skipped", result.getScenarioSkippedCount());
         summary.put("duration_millis", result.getDurationMillis());
+        summary.put("predicted_millis", result.getPredictedMillis());
         summary.put("status", result.isFailed() ? "failed" : "passed");
         data.put("summary", summary);
 
@@ -82,6 +82,10 @@ public class HttpLogger {
     }
 
     public void logBody(StringBuilder sb, byte[] body, ResourceType rt, LogMask mask) {
+        logBody(sb, body, rt, mask, isPretty());
+    }
+
+    private static void logBody(StringBuilder sb, byte[] body, ResourceType rt, LogMask mask, boolean pretty) {
         if (body == null) {
             return;
         }
@@ -95,7 +99,7 @@ public class HttpLogger {
             // (colorize is a no-op when colors are disabled).
             try {
                 Object parsed = io.karatelabs.common.Json.parseLenient(text);
-                String formatted = isPretty()
+                String formatted = pretty
                         ? StringUtils.formatJson(parsed, true, false, false)
                         : io.karatelabs.common.Json.stringifyStrict(parsed);
                 // Wrap the body in invisible sentinels (lang = "json") so the HTML report
@@ -115,7 +119,7 @@ public class HttpLogger {
 
     public static String getStatusFailureMessage(int expected, HttpRequest request, HttpResponse response) {
         String url = request.getUrlAndPath();
-        String rawResponse = response.getBodyString();
+        String rawResponse = response.isBodySpooled() ? spooledBodyNote(response) : response.getBodyString();
         long responseTime = response.getResponseTime();
         return "status code was: " + response.getStatus() + ", expected: " + expected
                 + ", response time in milliseconds: " + responseTime + ", url: " + url
@@ -127,40 +131,24 @@ public class HttpLogger {
         // Ask what is actually wanted BEFORE building anything. The report buffer normally
         // gets the full version (headers + text body) so HTML reports stay rich regardless of
         // SLF4J level — but when capture is off (or the report threshold is above INFO) nothing
-        // will ever read it, and the body branch below is the most expensive thing on the HTTP
-        // path (it re-parses and pretty-prints the payload). Console gets a tier-appropriate
-        // line: INFO=one-liner, DEBUG=+headers, TRACE=+body.
+        // will ever read it. Console gets a tier-appropriate line: INFO=one-liner,
+        // DEBUG=+headers, TRACE=+body.
         boolean capture = LogContext.get().isCapturing(LogLevel.INFO);
         boolean trace = logger.isTraceEnabled();
         boolean debug = !trace && logger.isDebugEnabled();
         if (capture || trace || debug) {
-            LogMask m = activeMask(request.getUrlAndPath());
-            StringBuilder full = new StringBuilder();
-            full.append(Console.BOLD).append("request:").append(Console.RESET).append('\n');
-            full.append(Console.DIM).append(requestCount).append(" > ").append(Console.RESET);
-            full.append(Console.CYAN).append(Console.BOLD).append(request.getMethod()).append(Console.RESET);
-            full.append(' ').append(request.getUrlAndPath()).append('\n');
-            logHeaders(full, requestCount, " > ", request.getHeaders(), m);
-            int headersEnd = full.length();
+            Exchange exchange = new Exchange(requestCount, request, activeMask(request.getUrlAndPath()), isPretty());
+            // DEBUG stops at the headers, so only capture and TRACE need the body
             ResourceType rt = ResourceType.fromContentType(request.getContentType());
-            // DEBUG stops at the headers, so only capture and TRACE pay for the body
             if ((capture || trace) && rt != null && !rt.isBinary()) {
-                byte[] body;
+                exchange.rt = rt;
                 if (rt == ResourceType.MULTIPART) {
-                    body = request.getBodyDisplay() == null ? null : request.getBodyDisplay().getBytes();
+                    exchange.body = request.getBodyDisplay() == null ? null : request.getBodyDisplay().getBytes();
                 } else {
-                    body = request.getBody();
+                    exchange.body = request.getBody();
                 }
-                logBody(full, body, rt, m);
-            }
-            if (capture) {
-                LogContext.get().log(LogLevel.INFO, full.toString());
-            }
-            if (trace) {
-                logger.trace(forLog(full.toString()));
-            } else if (debug) {
-                logger.debug(forLog(full.substring(0, headersEnd)));
             }
+            log(exchange, capture, trace, debug);
         }
         if (!trace && !debug && logger.isInfoEnabled()) {
             StringBuilder line = new StringBuilder();
@@ -178,28 +166,15 @@ public class HttpLogger {
         boolean trace = logger.isTraceEnabled();
         boolean debug = !trace && logger.isDebugEnabled();
         if (capture || trace || debug) {
-            LogMask m = activeMask(request.getUrlAndPath());
-            StringBuilder full = new StringBuilder();
-            full.append(Console.DIM).append("response time in milliseconds: ")
-                    .append(response.getResponseTime()).append(Console.RESET).append('\n');
-            full.append(Console.DIM).append(requestCount).append(" < ").append(Console.RESET);
-            full.append(colorStatus(response.getStatus())).append(' ');
-            full.append(Console.CYAN).append(request.getMethod()).append(Console.RESET);
-            full.append(' ').append(request.getUrlAndPath()).append('\n');
-            logHeaders(full, requestCount, " < ", response.getHeaders(), m);
-            int headersEnd = full.length();
+            Exchange exchange = new Exchange(requestCount, response, activeMask(request.getUrlAndPath()), isPretty());
             ResourceType rt = response.getResourceType();
-            if ((capture || trace) && rt != null && !rt.isBinary()) {
-                logBody(full, response.getBodyBytes(), rt, m);
-            }
-            if (capture) {
-                LogContext.get().log(LogLevel.INFO, full.toString());
-            }
-            if (trace) {
-                logger.trace(forLog(full.toString()));
-            } else if (debug) {
-                logger.debug(forLog(full.substring(0, headersEnd)));
+            if ((capture || trace) && response.isBodySpooled()) {
+                exchange.bodyNote = spooledBodyNote(response);
+            } else if ((capture || trace) && rt != null && !rt.isBinary()) {
+                exchange.rt = rt;
+                exchange.body = response.getBodyBytes();
             }
+            log(exchange, capture, trace, debug);
         }
         if (!trace && !debug && logger.isInfoEnabled()) {
             StringBuilder line = new StringBuilder();
@@ -212,6 +187,27 @@ public class HttpLogger {
         }
     }
 
+    private void log(Exchange exchange, boolean capture, boolean trace, boolean debug) {
+        if (trace) {
+            // the console needs the full text now anyway, so the report gets that same string
+            String full = exchange.text(true);
+            if (capture) {
+                LogContext.get().log(LogLevel.INFO, full);
+            }
+            logger.trace(forLog(full));
+            return;
+        }
+        if (capture) {
+            // The body is by far the most expensive thing on the HTTP path: re-parsed,
+            // pretty-printed, masked and colorized. Hand the report the bytes instead, and let
+            // the first StepResult.getLog() pay for that, in the reports that actually read it.
+            LogContext.get().defer(LogLevel.INFO, exchange);
+        }
+        if (debug) {
+            logger.debug(forLog(exchange.text(false)));
+        }
+    }
+
     /**
      * Prepare HTTP log text for the SLF4J mirror. Always strips the body sentinels
      * (no consumer of the logger wants them). ANSI colour codes are kept only when
@@ -223,6 +219,10 @@ public class HttpLogger {
         return Console.isColorsEnabled() ? Console.stripSentinels(text) : Console.stripAnsi(text);
     }
 
+    private static String spooledBodyNote(HttpResponse response) {
+        return "[" + response.getBodyLength() + " bytes, spooled to " + response.getBodyFile() + "]";
+    }
+
     private static String colorStatus(int status) {
         String statusStr = String.valueOf(status);
         if (status >= 200 && status < 300) {
@@ -235,4 +235,94 @@ public class HttpLogger {
         return statusStr;
     }
 
+    /**
+     * One request or response block as the report buffer will show it, kept as references until
+     * {@link DeferredLog} renders it. Everything the text depends on is taken when it is logged:
+     * the request count, the mask that applied to the URL and the pretty flag, which the scenario
+     * may change before the report is written.
+     */
+    private static final class Exchange implements DeferredLog.Entry {
+
+        final int num;
+        final boolean response;
+        final String method;
+        final String url;
+        final int status;
+        final long responseTime;
+        final Map<String, List<String>> headers;
+        final LogMask mask;
+        final boolean pretty;
+        ResourceType rt;
+        byte[] body;
+        String bodyNote;
+        boolean bodyDropped;
+
+        Exchange(int num, HttpRequest request, LogMask mask, boolean pretty) {
+            this.num = num;
+            this.response = false;
+            this.method = request.getMethod();
+            this.url = request.getUrlAndPath();
+            this.status = 0;
+            this.responseTime = 0;
+            this.headers = request.getHeaders();
+            this.mask = mask;
+            this.pretty = pretty;
+        }
+
+        Exchange(int num, HttpResponse response, LogMask mask, boolean pretty) {
+            this.num = num;
+            this.response = true;
+            this.method = response.getRequest().getMethod();
+            this.url = response.getRequest().getUrlAndPath();
+            this.status = response.getStatus();
+            this.responseTime = response.getResponseTime();
+            this.headers = response.getHeaders();
+            this.mask = mask;
+            this.pretty = pretty;
+        }
+
+        String text(boolean withBody) {
+            StringBuilder sb = new StringBuilder();
+            if (response) {
+                sb.append(Console.DIM).append("response time in milliseconds: ")
+                        .append(responseTime).append(Console.RESET).append('\n');
+                sb.append(Console.DIM).append(num).append(" < ").append(Console.RESET);
+                sb.append(colorStatus(status)).append(' ');
+                sb.append(Console.CYAN).append(method).append(Console.RESET);
+            } else {
+                sb.append(Console.BOLD).append("request:").append(Console.RESET).append('\n');
+                sb.append(Console.DIM).append(num).append(" > ").append(Console.RESET);
+                sb.append(Console.CYAN).append(Console.BOLD).append(method).append(Console.RESET);
+            }
+            sb.append(' ').append(url).append('\n');
+            logHeaders(sb, num, response ? " < " : " > ", headers, mask);
+            if (withBody) {
+                if (bodyDropped) {
+                    sb.append(Console.DIM).append("[body not kept, the scenario passed]").append(Console.RESET).append('\n');
+                } else if (bodyNote != null) {
+                    sb.append(bodyNote).append('\n');
+                } else {
+                    logBody(sb, body, rt, mask, pretty);
+                }
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public void render(StringBuilder sb, boolean withBody) {
+            // what LogContext.log(level, text) would have appended
+            sb.append(text(withBody)).append('\n');
+        }
+
+        @Override
+        public void dropBody() {
+            if (body != null || bodyNote != null) {
+                body = null;
+                bodyNote = null;
+                bodyDropped = true;
+            }
+        }
+
+    }
+
 }
@@ -81,6 +81,9 @@ public class LogContext {
     };
 
     private final StringBuilder buffer = new StringBuilder();
+    // Everything logged before the last deferred entry, when there is one — see defer(). The
+    // text logged since stays in buffer, so a step without HTTP never allocates this.
+    private DeferredLog deferred;
     private List<StepResult.Embed> embeds;
     private List<StepResult> pendingSteps;
     // Per-thread HTTP logging config, set via `configure logging = { mask, pretty }`.
@@ -395,6 +398,22 @@ public class LogContext {
         buffer.append(message).append('\n');
     }
 
+    /**
+     * Log an entry that renders itself later, if at all — see {@link DeferredLog}. Only ever
+     * worth it for text that is expensive to build, which today is {@link HttpLogger}'s.
+     */
+    void defer(LogLevel level, DeferredLog.Entry entry) {
+        if (!capture || !level.isEnabled(threshold)) {
+            return; // Filtered
+        }
+        if (deferred == null) {
+            deferred = new DeferredLog();
+        }
+        deferred.append(buffer.toString());
+        buffer.setLength(0);
+        deferred.append(entry);
+    }
+
     /**
      * Log a message at INFO level.
      * Used by karate.log() and print statements.
@@ -508,14 +527,35 @@ public class LogContext {
     // ========== Collect ==========
 
     /**
-     * Get accumulated log and clear buffer (for step/scenario end).
+     * Get accumulated log and clear buffer (for step/scenario end). Renders any deferred entries
+     * on the spot — use {@link #collectLog()} where the text may never be read.
      */
     public String collect() {
+        if (deferred != null) {
+            return collectLog().render();
+        }
         String result = buffer.toString();
         buffer.setLength(0);
         return result;
     }
 
+    /**
+     * Get accumulated log, deferred entries still unrendered, and clear buffer. Null when nothing
+     * was logged. This is what a step result keeps, see {@link io.karatelabs.core.StepResult#setLog(DeferredLog)}.
+     */
+    public DeferredLog collectLog() {
+        DeferredLog result = deferred;
+        deferred = null;
+        if (buffer.length() > 0) {
+            if (result == null) {
+                result = new DeferredLog();
+            }
+            result.append(buffer.toString());
+            buffer.setLength(0);
+        }
+        return result;
+    }
+
     /**
      * Append previously-captured log content verbatim, bypassing level filtering.
      * Used to carry log output across a LogContext reset (e.g. preserving
@@ -527,11 +567,34 @@ public class LogContext {
         }
     }
 
+    /**
+     * {@link #appendCaptured(String)} for what {@link #collectLog()} returned, without rendering
+     * its deferred entries.
+     */
+    public void appendCaptured(DeferredLog content) {
+        if (!capture || content == null || content.isEmpty()) {
+            return;
+        }
+        if (!content.isDeferred()) {
+            buffer.append(content.render());
+            return;
+        }
+        if (deferred == null) {
+            deferred = new DeferredLog();
+        }
+        deferred.append(buffer.toString());
+        buffer.setLength(0);
+        deferred.append(content);
+    }
+
     /**
      * Get accumulated log without clearing.
      */
     public String peek() {
-        return buffer.toString();
+        if (deferred == null) {
+            return buffer.toString();
+        }
+        return deferred.render() + buffer;
     }
 
     // ========== Format Helper ==========
@@ -977,6 +977,15 @@ const KarateReport = {
                 return (ms / 1000).toFixed(2) + ' s';
             },
 
+            // What the previous run's durations predicted, scheduled longest first
+            // (SuiteResult.getPredictedMillis). Null for sequential runs and first runs.
+            get predictedClock() {
+                const ms = data.summary?.predicted_millis;
+                if (ms == null) return null;
+                if (ms < 1000) return ms + ' ms';
+                return (ms / 1000).toFixed(2) + ' s';
+            },
+
             // Top-5 slowest scenarios. data.scenarios is the flat list built by
             // HtmlReportWriter.buildTimelineData.
             get slowestScenarios() {
@@ -86,4 +86,29 @@ class RunCommandTest {
         assertEquals("b", cmd.pathOptions.get(1));
         assertEquals("c", cmd.pathOptions.get(2));
     }
+
+    @Test
+    void testCoordinatorAndWorkerOptions() {
+        RunCommand coordinator = new RunCommand();
+        new CommandLine(coordinator).parseArgs("--coordinator", "9700", "features/");
+        assertEquals(9700, coordinator.getCoordinatorPort());
+        assertNull(coordinator.getWorkerUrl());
+
+        RunCommand worker = new RunCommand();
+        new CommandLine(worker).parseArgs("--worker", "http://ci-host:9700", "-T", "4", "features/");
+        assertEquals("http://ci-host:9700", worker.getWorkerUrl());
+        assertNull(worker.getCoordinatorPort());
+        assertEquals(4, worker.getThreads());
+    }
+
+    @Test
+    void testSpillResultsOption() {
+        RunCommand spilled = new RunCommand();
+        new CommandLine(spilled).parseArgs("--spill-results", "features/");
+        assertTrue(spilled.isSpillResults());
+
+        RunCommand held = new RunCommand();
+        new CommandLine(held).parseArgs("features/");
+        assertFalse(held.isSpillResults());
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import io.karatelabs.common.Json;
+import io.karatelabs.common.Resource;
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.process.PortUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A suite split across JVMs: the lossless result format a worker posts, and a coordinator in
+ * this JVM serving two worker JVMs on localhost.
+ */
+class DistributedSuiteTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testKarateJsonRoundTripsAFeatureResult() throws IOException {
+        Files.writeString(tempDir.resolve("called.feature"), """
+                Feature: called
+                Scenario:
+                * print 'inside the call'
+                """);
+        Path main = tempDir.resolve("main.feature");
+        Files.writeString(main, """
+                @smoke
+                Feature: main
+                Background:
+                * def base = 1
+                Scenario: plain
+                # the label
+                * print 'hello'
+                * karate.embed('an embedded asset', 'text/plain')
+                * call read('called.feature')
+                * match base == 1
+                Scenario Outline: row <name>
+                * def name = '<name>'
+                * match name == '<name>'
+                Examples:
+                | name |
+                | a    |
+                | b    |
+                @fail
+                Scenario: expected to fail
+                * match base == 2
+                """);
+        SuiteResult suiteResult = Runner.builder()
+                .path(main.toString())
+                .workingDir(tempDir)
+                .outputConsoleSummary(false)
+                .outputHtmlReport(false)
+                .outputDir(tempDir.resolve("reports"))
+                .backupOutputDir(false)
+                .retainStepLogs(true)
+                .retainCallResults(true)
+                .parallel(1);
+        FeatureResult original = suiteResult.getFeatureResults().getFirst();
+        assertTrue(original.isPassed(), original.getFailureMessage());
+
+        String json = Json.stringifyStrict(original.toKarateJson());
+        FeatureResult copy = FeatureResult.fromKarateJson((Map<String, Object>) Json.parseStrict(json),
+                path -> path.equals(original.getFeature().getResource().getPrefixedPath())
+                        ? original.getFeature() : Feature.read(Resource.from(tempDir.resolve(path), tempDir)));
+
+        assertEquals(original.toJson(), copy.toJson());
+        assertEquals(4, copy.getScenarioCount());
+        assertTrue(copy.getScenarioResults().get(3).isFailTagApplied());
+        StepResult print = copy.getScenarioResults().getFirst().getStepResults().get(1);
+        assertEquals(original.getScenarioResults().getFirst().getStepResults().get(1).getLog(), print.getLog());
+        assertEquals("print", print.getStep().getKeyword());
+        assertEquals(1, copy.getScenarioResults().getFirst().getStepResults().get(3).getCallResults().size());
+        // a plain scenario is the parsed one; an outline row is rebuilt with its own steps
+        assertTrue(copy.getScenarioResults().getFirst().getScenario() == original.getFeature().getSections().getFirst().getScenario());
+        assertEquals("row b", copy.getScenarioResults().get(2).getScenario().getName());
+        assertEquals(2, copy.getScenarioResults().get(2).getScenario().getSteps().size());
+    }
+
+    @Test
+    void testWorkersInOtherJvmsShareOneSuite() throws Exception {
+        for (int i = 1; i <= 4; i++) {
+            Files.writeString(tempDir.resolve("f" + i + ".feature"), """
+                    Feature: feature %d
+                    Scenario: first
+                    * print 'ran on', karate.properties['karate.test.worker']
+                    * karate.embed('from feature %d', 'text/plain')
+                    Scenario: second
+                    * java.lang.Thread.sleep(100)
+                    """.formatted(i, i));
+        }
+        int port = PortUtils.findFreePort();
+        List<Process> workers = List.of(startWorker("w1", port), startWorker("w2", port));
+        try {
+            Path reports = tempDir.resolve("reports");
+            SuiteResult result = Runner.builder()
+                    .path(tempDir.toString())
+                    .workingDir(tempDir)
+                    .outputConsoleSummary(false)
+                    .outputDir(reports)
+                    .outputJunitXml(true)
+                    .backupOutputDir(false)
+                    .retainStepLogs(true)
+                    .coordinator(port)
+                    .parallel(1);
+
+            assertEquals(4, result.getFeatureCount());
+            assertEquals(8, result.getScenarioCount());
+            assertTrue(result.isPassed(), String.valueOf(result.getErrors()));
+            for (FeatureResult fr : result.getFeatureResults()) {
+                String log = fr.getScenarioResults().getFirst().getStepResults().getFirst().getLog();
+                assertTrue(log.contains("ran on w1") || log.contains("ran on w2"), "ran in this JVM: " + log);
+            }
+            // one report set, written here, embeds included
+            assertTrue(Files.exists(reports.resolve("karate-summary.html")));
+            try (Stream<Path> files = Files.list(reports.resolve("embeds"))) {
+                assertEquals(4, files.count());
+            }
+            try (Stream<Path> files = Files.walk(reports)) {
+                assertEquals(4, files.filter(p -> p.toString().endsWith(".xml")).count());
+            }
+            for (int i = 0; i < workers.size(); i++) {
+                assertTrue(workers.get(i).waitFor(60, TimeUnit.SECONDS), "worker did not exit");
+                assertEquals(0, workers.get(i).exitValue(), Files.readString(tempDir.resolve("w" + (i + 1) + ".log")));
+            }
+        } finally {
+            workers.forEach(Process::destroyForcibly);
+        }
+    }
+
+    private Process startWorker(String name, int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Dkarate.test.worker=" + name);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("io.karatelabs.Main");
+        command.addAll(List.of("run", "--no-pom", "-T", "2",
+                "--worker", "http://127.0.0.1:" + port,
+                "-w", tempDir.toString(),
+                "-o", tempDir.resolve(name + "-reports").toString(),
+                tempDir.toString()));
+        File log = tempDir.resolve(name + ".log").toFile();
+        return new ProcessBuilder(command)
+                .directory(tempDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import io.karatelabs.common.Resource;
+import io.karatelabs.gherkin.Feature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The durations one run leaves behind, and what the next run does with them: submit features
+ * longest first and predict its own wall clock.
+ */
+class RunHistoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Feature feature(String name, String text) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.writeString(path, text);
+        return Feature.read(Resource.from(path, tempDir));
+    }
+
+    private RunHistory history(String json) throws IOException {
+        Path path = RunHistory.pathIn(tempDir.resolve("reports"));
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, json);
+        return RunHistory.load(tempDir.resolve("reports"));
+    }
+
+    @Test
+    void testLongestFirstPutsUnknownFeaturesAhead() throws Exception {
+        Feature fast = feature("fast.feature", "Feature: fast\nScenario: one\n* def a = 1\n");
+        Feature slow = feature("slow.feature", "Feature: slow\nScenario: one\n* def a = 1\nScenario: two\n* def b = 2\n");
+        Feature fresh = feature("fresh.feature", "Feature: fresh\nScenario: one\n* def a = 1\n");
+        RunHistory history = history("""
+                {"version":1,"features":{
+                  "fast.feature":{"durationMillis":10,"scenarios":{"1":10}},
+                  "slow.feature":{"durationMillis":300,"scenarios":{"1":200,"2":300}}}}
+                """);
+        assertEquals(List.of(fresh, slow, fast), history.longestFirst(List.of(fast, slow, fresh)));
+        assertEquals(300, history.scenarioMillis(slow.getSections().get(1).getScenario()));
+        assertEquals(RunHistory.UNKNOWN, history.scenarioMillis(fresh.getSections().get(0).getScenario()));
+    }
+
+    @Test
+    void testPredictedMakespanIsLongestFirstOverTheLanes() throws Exception {
+        Feature a = feature("a.feature", "Feature: a\nScenario: one\n* def a = 1\n");
+        Feature b = feature("b.feature", "Feature: b\nScenario: one\n* def a = 1\n");
+        RunHistory history = history("""
+                {"version":1,"features":{
+                  "a.feature":{"durationMillis":0,"scenarios":{"1":300,"2":200}},
+                  "b.feature":{"durationMillis":0,"scenarios":{"1":200,"2":200,"3":100}}}}
+                """);
+        // 300 | 200 | 200, then the next 200 and the 100 go to the two least loaded lanes
+        assertEquals(400, history.predictMakespan(List.of(a, b), 3));
+        assertEquals(1000, history.predictMakespan(List.of(a, b), 1));
+        assertEquals(500, history.predictMakespan(List.of(a), 1));
+    }
+
+    @Test
+    void testUnreadableHistoryIsNoHistory() throws Exception {
+        RunHistory history = history("{\"features\":");
+        assertTrue(history.isEmpty());
+    }
+
+    @Test
+    void testTheNextParallelRunIsPredicted() throws Exception {
+        feature("outline.feature", """
+                Feature: outline
+                Scenario Outline: sleeps <millis>
+                * java.lang.Thread.sleep(<millis>)
+                Examples:
+                | millis |
+                | 200    |
+                | 10     |
+                """);
+        SuiteResult first = run();
+        assertTrue(first.isPassed());
+        assertNull(first.getPredictedMillis(), "nothing to predict from on the first run");
+        String saved = Files.readString(RunHistory.pathIn(tempDir.resolve("reports")));
+        assertTrue(saved.contains("\"outline.feature\""), saved);
+        assertTrue(saved.contains("\"1.1\"") && saved.contains("\"1.2\""), saved);
+
+        SuiteResult second = run();
+        assertTrue(second.isPassed());
+        assertNotNull(second.getPredictedMillis());
+        assertTrue(second.getPredictedMillis() >= 200, "the 200 ms example bounds the prediction");
+        assertEquals(second.getPredictedMillis(), second.summaryJson().get("predictedMillis"));
+    }
+
+    private SuiteResult run() {
+        return Runner.builder()
+                .path(tempDir.resolve("outline.feature").toString())
+                .workingDir(tempDir)
+                .outputConsoleSummary(false)
+                .outputDir(tempDir.resolve("reports"))
+                .backupOutputDir(false)
+                .parallel(2);
+    }
+
+}
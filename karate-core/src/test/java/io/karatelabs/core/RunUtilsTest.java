@@ -208,9 +208,7 @@ class RunUtilsTest {
                 ScenarioOutline outline = section.getScenarioOutline();
                 // Generate scenarios from the static Examples table via toScenario().
                 // This mirrors what FeatureRuntime does at runtime.
-                Scenario example = outline.toScenario(null, 0, outline.getLine(), null);
-                example.setSelected(true);
-                return example;
+                return outline.toScenario(null, 0, outline.getLine(), null);
             }
         }
         throw new IllegalStateException("no outline in feature");
@@ -33,6 +33,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -862,4 +864,61 @@ class RunnerTest {
         assertTrue(result.isPassed(), "and the suite still settles clean — exactly why isDryRun() exists");
     }
 
+    @Test
+    void aPreparedFeatureRunsAgainWithItsOwnArgsAndConfig() throws Exception {
+        // karate-gatling prepares a feature once per simulation and runs the plan for every
+        // iteration: each run must still see its own arg, and the config found once by the plan,
+        // while the feature itself is not read again.
+        Files.writeString(tempDir.resolve("karate-config.js"), "function fn() { return { base: 10 } }");
+        Path feature = tempDir.resolve("planned.feature");
+        Files.writeString(feature, """
+            Feature: planned
+
+            Scenario: adds
+            * def result = base + input
+            """);
+
+        Runner.Builder template = Runner.builder().configDir(tempDir.toString()).workingDir(tempDir);
+        Runner.FeaturePlan plan = Runner.prepareFeature("file:" + feature, null, template);
+
+        FeatureResult first = plan.run(Map.of("input", 1), null);
+        FeatureResult second = plan.run(Map.of("input", 2), null);
+
+        assertTrue(first.isPassed(), first.getFailureMessage());
+        assertTrue(second.isPassed(), second.getFailureMessage());
+        assertEquals(11, first.getResultVariables().get("result"));
+        assertEquals(12, second.getResultVariables().get("result"));
+        assertSame(plan.getFeature(), first.getFeature(), "the feature is read once, by the plan");
+        assertSame(first.getFeature(), second.getFeature());
+    }
+
+    @Test
+    void aPreparedFeatureKeepsItsTagSelection() throws Exception {
+        Path feature = tempDir.resolve("tagged.feature");
+        Files.writeString(feature, """
+            Feature: tagged
+
+            @smoke
+            Scenario: selected
+            * def result = 'smoke'
+
+            @slow
+            Scenario: not selected
+            * def result = 'slow'
+
+            @ignore @smoke
+            Scenario: ignored
+            * def result = 'ignored'
+            """);
+
+        Runner.FeaturePlan plan = Runner.prepareFeature("file:" + feature, List.of("@smoke"),
+                Runner.builder().workingDir(tempDir));
+
+        for (int i = 0; i < 2; i++) {
+            FeatureResult result = plan.run(Map.of(), null);
+            assertEquals(1, result.getScenarioCount());
+            assertEquals("smoke", result.getResultVariables().get("result"));
+        }
+    }
+
 }
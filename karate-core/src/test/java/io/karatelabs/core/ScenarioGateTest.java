@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScenarioGateTest {
+
+    @Test
+    void testWaitersAreAdmittedLongestFirst() throws Exception {
+        ScenarioGate gate = new ScenarioGate(new Semaphore(1));
+        gate.acquire(0); // hold the only permit while the others queue up
+        List<Long> admitted = Collections.synchronizedList(new ArrayList<>());
+        long[] predictions = {10, RunHistory.UNKNOWN, 300, 20, 300};
+        List<Thread> threads = new ArrayList<>();
+        for (long predicted : predictions) {
+            int before = gate.waiting();
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    gate.acquire(predicted);
+                    admitted.add(predicted);
+                    gate.release();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            while (gate.waiting() == before) { // queue them in a known arrival order
+                Thread.onSpinWait();
+            }
+        }
+        gate.release();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(List.of(RunHistory.UNKNOWN, 300L, 300L, 20L, 10L), admitted);
+    }
+
+    @Test
+    void testAnInterruptedWaiterLeavesTheQueue() throws Exception {
+        Semaphore permits = new Semaphore(1);
+        ScenarioGate gate = new ScenarioGate(permits);
+        gate.acquire(0);
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                gate.acquire(100);
+            } catch (InterruptedException e) {
+                // expected
+            }
+        });
+        while (gate.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+        waiter.interrupt();
+        waiter.join();
+        assertEquals(0, gate.waiting());
+        gate.release();
+        assertEquals(1, permits.availablePermits());
+    }
+
+}
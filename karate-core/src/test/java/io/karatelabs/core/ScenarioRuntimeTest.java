@@ -4,14 +4,21 @@ import io.karatelabs.common.Resource;
 import io.karatelabs.gherkin.Feature;
 import io.karatelabs.gherkin.Scenario;
 import io.karatelabs.gherkin.Step;
+import io.karatelabs.http.ApacheHttpClient;
+import io.karatelabs.http.HttpRequest;
 import io.karatelabs.http.HttpResponse;
 import io.karatelabs.http.HttpServer;
 import io.karatelabs.test.LogSilencer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.karatelabs.core.TestUtils.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +39,60 @@ class ScenarioRuntimeTest {
         runtime.call();
     }
 
+    @Test
+    void testSpooledResponsesAreReleasedWhenTheScenarioEnds() {
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            items.add(Map.of("id", i));
+        }
+        AtomicInteger flaky = new AtomicInteger();
+        HttpServer server = HttpServer.start(0, request -> switch (request.getPath()) {
+            case "/items" -> HttpResponse.json(items);
+            // fails twice, so that two of the three attempts are thrown away by retry until
+            case "/flaky" -> HttpResponse.text(flaky.incrementAndGet() < 3 ? 500 : 200, "x".repeat(5000));
+            default -> HttpResponse.text("x".repeat(5000));
+        });
+        List<File> spooled = new ArrayList<>();
+        ApacheHttpClient client = new ApacheHttpClient() {
+            @Override
+            public HttpResponse invoke(HttpRequest request) {
+                HttpResponse response = super.invoke(request);
+                spooled.add(response.getBodyFile());
+                return response;
+            }
+        };
+        try {
+            ScenarioRuntime sr = run(client, """
+                * configure responseSpoolSize = 1000
+                * url 'http://localhost:%d'
+                * path 'text'
+                * method get
+                * match response == '#string'
+                * configure retry = { count: 3, interval: 10 }
+                * path 'flaky'
+                * retry until responseStatus == 200
+                * method get
+                * def viaApi = karate.http('http://localhost:%d/text').get()
+                * url 'http://localhost:%d'
+                * path 'items'
+                * method get
+                * match response == '#[2000]'
+                """.formatted(server.getPort(), server.getPort(), server.getPort()));
+            assertPassed(sr);
+            // text, three attempts at flaky, karate.http and items
+            assertEquals(6, spooled.size());
+            for (File file : spooled) {
+                assertNotNull(file);
+                assertFalse(file.exists(), "spool file deleted: " + file);
+            }
+            // the disk-backed list read from the last one is closed along with it
+            List<?> response = (List<?>) sr.getVariable("response");
+            assertThrows(IllegalStateException.class, () -> response.get(0));
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
     @Test
     void testFailTag() {
         // @fail tag inverts pass/fail: if scenario fails, it's considered passed
@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedJsonTest {
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> fixture() {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("name", "john");
+        user.put("roles", new ArrayList<>(List.of("admin", "dev")));
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("token", "abc");
+        root.put("user", user);
+        root.put("items", new ArrayList<>(List.of(Map.of("id", 1), Map.of("id", 2))));
+        return (Map<String, Object>) SharedJson.freeze(root);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readsGoThroughToTheFrozenValue() {
+        Map<String, Object> frozen = fixture();
+        Map<String, Object> view = (Map<String, Object>) SharedJson.view(frozen);
+        assertEquals("abc", view.get("token"));
+        assertEquals(3, view.size());
+        assertEquals(frozen, view);
+        assertEquals(frozen.hashCode(), view.hashCode());
+        assertEquals(List.of("token", "user", "items"), new ArrayList<>(view.keySet()));
+        Map<String, Object> user = (Map<String, Object>) view.get("user");
+        assertSame(user, view.get("user"), "a nested view is made once");
+        assertEquals("dev", ((List<Object>) user.get("roles")).get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesStayInTheView() {
+        Map<String, Object> frozen = fixture();
+        Map<String, Object> first = (Map<String, Object>) SharedJson.view(frozen);
+        first.put("token", "changed");
+        first.remove("items");
+        Map<String, Object> user = (Map<String, Object>) first.get("user");
+        user.put("name", "jane");
+        ((List<Object>) user.get("roles")).add("ops");
+
+        assertEquals("changed", first.get("token"));
+        assertFalse(first.containsKey("items"));
+        assertEquals("jane", ((Map<String, Object>) first.get("user")).get("name"));
+        assertEquals(List.of("admin", "dev", "ops"), ((Map<String, Object>) first.get("user")).get("roles"));
+
+        Map<String, Object> second = (Map<String, Object>) SharedJson.view(frozen);
+        assertEquals(fixture(), second, "the next view sees the value as cached");
+        assertEquals(fixture(), frozen);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void aNestedViewReadBeforeTheFirstWriteKeepsItsWrites() {
+        Map<String, Object> view = (Map<String, Object>) SharedJson.view(fixture());
+        Map<String, Object> user = (Map<String, Object>) view.get("user");
+        view.put("token", "changed"); // copies the top level
+        user.put("name", "jane");
+        assertEquals("jane", ((Map<String, Object>) view.get("user")).get("name"));
+        List<Object> items = (List<Object>) view.get("items");
+        Map<String, Object> item = (Map<String, Object>) items.get(0);
+        items.add(Map.of("id", 3)); // copies the list
+        item.put("id", 10);
+        assertEquals(10, ((Map<String, Object>) items.get(0)).get("id"));
+        assertEquals(3, items.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void entryIterationCanWrite() {
+        Map<String, Object> frozen = fixture();
+        Map<String, Object> view = (Map<String, Object>) SharedJson.view(frozen);
+        for (Iterator<Map.Entry<String, Object>> it = view.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Object> e = it.next();
+            if (e.getKey().equals("token")) {
+                e.setValue("x");
+            } else if (e.getKey().equals("items")) {
+                it.remove();
+            }
+        }
+        assertEquals(List.of("token", "user"), new ArrayList<>(view.keySet()));
+        assertEquals("x", view.get("token"));
+        assertEquals("abc", frozen.get("token"));
+        assertEquals(3, frozen.size());
+    }
+
+    @Test
+    void scalarsAndNullComeBackAsTheyAre() {
+        assertNull(SharedJson.view(null));
+        assertEquals("text", SharedJson.view("text"));
+        assertEquals(42, SharedJson.view(42));
+    }
+
+}
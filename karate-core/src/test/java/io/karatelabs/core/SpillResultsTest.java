@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code spillResults(true)}: each finished feature goes to {@code karate-results.jsonl} and the
+ * {@link SuiteResult} keeps only a digest, yet reads the same as one that held everything.
+ */
+class SpillResultsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private void writeFeatures() throws IOException {
+        Files.writeString(tempDir.resolve("a.feature"), """
+                Feature: a
+                Scenario: first
+                * print 'hello from a'
+                * match 1 == 1
+                Scenario Outline: row <n>
+                * match <n> == <n>
+                Examples:
+                | n |
+                | 1 |
+                | 2 |
+                """);
+        Files.writeString(tempDir.resolve("b.feature"), """
+                Feature: b
+                Scenario: fails
+                # the label
+                * match 'actual' == 'expected'
+                Scenario: passes
+                * def x = 1
+                """);
+        Files.writeString(tempDir.resolve("c.feature"), """
+                Feature: c
+                Scenario:
+                * def y = 2
+                """);
+    }
+
+    private SuiteResult run(boolean spill) {
+        return Runner.builder()
+                .path(tempDir.toString())
+                .workingDir(tempDir)
+                .outputDir(tempDir.resolve(spill ? "spilled" : "held"))
+                .outputConsoleSummary(false)
+                .outputHtmlReport(false)
+                .backupOutputDir(false)
+                .retainStepLogs(true)
+                .spillResults(spill)
+                .parallel(2);
+    }
+
+    /** By name: features are discovered in whatever order the file system lists them. */
+    private static FeatureResult feature(SuiteResult result, String displayName) {
+        return result.getFeatureResults().stream()
+                .filter(fr -> displayName.equals(fr.getDisplayName()))
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    void testSpilledResultReadsLikeAHeldOne() throws IOException {
+        writeFeatures();
+        SuiteResult held = run(false);
+        SuiteResult spilled = run(true);
+
+        assertNull(held.getResultsFile());
+        Path file = spilled.getResultsFile();
+        assertNotNull(file);
+        assertEquals(3, Files.readAllLines(file).size(), "one line per feature");
+
+        assertEquals(held.getFeatureCount(), spilled.getFeatureCount());
+        assertEquals(held.getFeatureFailedCount(), spilled.getFeatureFailedCount());
+        assertEquals(held.getScenarioCount(), spilled.getScenarioCount());
+        assertEquals(held.getScenarioPassedCount(), spilled.getScenarioPassedCount());
+        assertEquals(held.getScenarioFailedCount(), spilled.getScenarioFailedCount());
+        assertTrue(spilled.isFailed());
+        assertEquals(held.getErrors(), spilled.getErrors());
+
+        List<FeatureResult> heldFeatures = held.getFeatureResults();
+        List<FeatureResult> spilledFeatures = spilled.getFeatureResults();
+        for (int i = 0; i < heldFeatures.size(); i++) {
+            FeatureResult h = heldFeatures.get(i);
+            FeatureResult s = spilledFeatures.get(i);
+            // scenarios of a feature finish in any order; the reports sort them the same way
+            h.sortScenarioResults();
+            s.sortScenarioResults();
+            assertEquals(h.getDisplayName(), s.getDisplayName(), "discovery order, like a held run");
+            assertEquals(h.getScenarioCount(), s.getScenarioCount());
+            for (int j = 0; j < h.getScenarioCount(); j++) {
+                ScenarioResult hs = h.getScenarioResults().get(j);
+                ScenarioResult ss = s.getScenarioResults().get(j);
+                assertEquals(hs.getScenario().getRefId(), ss.getScenario().getRefId());
+                assertEquals(hs.isFailed(), ss.isFailed());
+                assertEquals(hs.getStepResults().size(), ss.getStepResults().size());
+            }
+        }
+
+        List<FeatureResult> failed = spilled.getFailedFeatures();
+        assertEquals(1, failed.size());
+        assertEquals("b.feature", failed.get(0).getDisplayName());
+        assertTrue(failed.get(0).getFailureMessage().contains("expected"));
+    }
+
+    @Test
+    void testEveryReadIsAFreshEquivalentResult() throws IOException {
+        writeFeatures();
+        SuiteResult spilled = run(true);
+
+        FeatureResult first = feature(spilled, "a.feature");
+        FeatureResult again = feature(spilled, "a.feature");
+        assertNotSame(first, again, "nothing read back is cached in the suite result");
+        assertEquals(first.toJson(), again.toJson());
+
+        // retained step logs travel through the store like everything else
+        ScenarioResult scenario = first.getScenarioResults().stream()
+                .filter(sr -> "first".equals(sr.getScenario().getName()))
+                .findFirst().orElseThrow();
+        StepResult print = scenario.getStepResults().get(0);
+        assertTrue(print.getLog().contains("hello from a"), print.getLog());
+        assertFalse(feature(spilled, "c.feature").isFailed());
+    }
+
+}
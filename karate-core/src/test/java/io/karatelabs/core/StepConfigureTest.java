@@ -125,6 +125,20 @@ class StepConfigureTest {
         assertPassed(sr);
     }
 
+    @Test
+    void testConfigureResponseSpoolSize() {
+        ScenarioRuntime sr = run("""
+            Feature:
+            Scenario:
+            * def cfg = karate.config
+            * match cfg.responseSpoolSize == 0
+            * configure responseSpoolSize = 50000000
+            * def cfg = karate.config
+            * match cfg.responseSpoolSize == 50000000
+            """);
+        assertPassed(sr);
+    }
+
     @Test
     void testConfigureFollowRedirects() {
         ScenarioRuntime sr = run("""
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -153,6 +154,36 @@ class TagSelectorTest {
         assertFalse(selector.evaluate("anyOf('@foo')", null));
     }
 
+    private boolean select(Predicate<TagSelector> compiled, String... strs) {
+        List<Tag> list = new ArrayList<>(strs.length);
+        for (String s : strs) {
+            list.add(new Tag(0, s));
+        }
+        return new TagSelector(list).select(compiled, null);
+    }
+
+    @Test
+    void testCompiledSelectors() {
+        assertNull(TagSelector.compile(null));
+        assertTrue(select(null, "@foo"));
+        assertFalse(select(null, "@ignore"));
+        Predicate<TagSelector> legacy = TagSelector.compile(TagSelector.fromKarateOptionsTags("@foo,@bar", "~@wip"));
+        assertTrue(select(legacy, "@foo"));
+        assertTrue(select(legacy, "@bar", "@baz"));
+        assertFalse(select(legacy, "@bar", "@wip"));
+        assertFalse(select(legacy, "@baz"));
+        Predicate<TagSelector> grouped = TagSelector.compile("(anyOf('@a') || anyOf('@b')) && !valuesFor('@id').isAnyOf(2, 3)");
+        assertTrue(select(grouped, "@a", "@id=1"));
+        assertFalse(select(grouped, "@b", "@id=1,3"));
+        assertFalse(select(grouped, "@c", "@id=1"));
+        // the same predicate is reused across tag sets, the @ignore / @env checks still come first
+        assertFalse(select(grouped, "@a", "@ignore"));
+        // outside the compiled subset: still evaluated, by the JS engine
+        Predicate<TagSelector> each = TagSelector.compile("valuesFor('@id').isEach(s => s.startsWith('1'))");
+        assertTrue(select(each, "@id=100,1000"));
+        assertFalse(select(each, "@id=100,2000"));
+    }
+
     @Test
     void testValuesForMissingTag() {
         TagSelector selector = new TagSelector(List.of(new Tag(0, "@foo")));
@@ -0,0 +1,44 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ */
+package io.karatelabs.core.callsingle;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Helper class for testing that callSingle keys do not wait on each other.
+ * Called from JS via Java.type, so it must be public.
+ */
+public class CallSingleGate {
+
+    private static CountDownLatch slowStarted = new CountDownLatch(1);
+    private static CountDownLatch fastDone = new CountDownLatch(1);
+
+    /**
+     * Reset both latches. Call before each test run.
+     */
+    public static void reset() {
+        slowStarted = new CountDownLatch(1);
+        fastDone = new CountDownLatch(1);
+    }
+
+    public static void slowStarted() {
+        slowStarted.countDown();
+    }
+
+    public static boolean awaitSlowStarted() throws InterruptedException {
+        return slowStarted.await(10, TimeUnit.SECONDS);
+    }
+
+    public static void fastDone() {
+        fastDone.countDown();
+    }
+
+    public static boolean awaitFastDone() throws InterruptedException {
+        return fastDone.await(10, TimeUnit.SECONDS);
+    }
+
+}
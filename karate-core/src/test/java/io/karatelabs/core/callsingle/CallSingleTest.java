@@ -37,6 +37,9 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 
@@ -149,6 +152,40 @@ class CallSingleTest {
         assertEquals(2, result.getScenarioCount());
     }
 
+    @Test
+    void testInjectedCallSingleCacheMustBeConcurrent() throws Exception {
+        Path singleFeature = tempDir.resolve("single.feature");
+        Files.writeString(singleFeature, """
+            Feature: Single
+            Scenario:
+            * def timestamp = java.lang.System.nanoTime()
+            """);
+        Path callerFeature = tempDir.resolve("caller.feature");
+        Files.writeString(callerFeature, """
+            Feature: Caller
+            Scenario:
+            * def result = karate.callSingle('single.feature')
+            """);
+
+        // the map is shared, not copied - a plain HashMap would be raced on by every thread
+        assertThrows(IllegalArgumentException.class, () -> Runner.builder().callSingleCache(new HashMap<>()));
+
+        Map<String, Object> cache = new ConcurrentHashMap<>();
+        for (int i = 0; i < 2; i++) {
+            SuiteResult result = Runner.builder()
+                    .path(callerFeature.toString())
+                    .workingDir(tempDir)
+                    .callSingleCache(cache)
+                    .outputConsoleSummary(false)
+                    .outputHtmlReport(false)
+                    .backupOutputDir(false)
+                    .parallel(1);
+            assertTrue(result.isPassed(), getFailureMessage(result));
+        }
+        // both suites resolved the key against the one injected map
+        assertEquals(1, cache.size());
+    }
+
     @Test
     void testCallSingleParallelExecution() throws Exception {
         // Create a feature that simulates slow initialization
@@ -1179,6 +1216,92 @@ class CallSingleTest {
                 "the main config's fn() must run exactly once, not again for the env config");
     }
 
+    @Test
+    void testCallSingleDifferentKeysDoNotWaitForEachOther() throws Exception {
+        // slow.js holds its key until fast.js has run, and fast.js is only asked for once slow.js
+        // has started: behind one suite-wide lock this could never finish
+        CallSingleGate.reset();
+        Files.writeString(tempDir.resolve("slow.js"), """
+            function() {
+                var Gate = Java.type('io.karatelabs.core.callsingle.CallSingleGate');
+                Gate.slowStarted();
+                return { ran: Gate.awaitFastDone() };
+            }
+            """);
+        Files.writeString(tempDir.resolve("fast.js"), """
+            function() {
+                var Gate = Java.type('io.karatelabs.core.callsingle.CallSingleGate');
+                Gate.fastDone();
+                return { ran: true };
+            }
+            """);
+        Path feature = tempDir.resolve("keys.feature");
+        Files.writeString(feature, """
+            Feature: Independent keys
+
+            Scenario: Slow
+            * def result = karate.callSingle('slow.js')
+            * match result.ran == true
+
+            Scenario: Fast
+            * def Gate = Java.type('io.karatelabs.core.callsingle.CallSingleGate')
+            * assert Gate.awaitSlowStarted()
+            * def result = karate.callSingle('fast.js')
+            * match result.ran == true
+            """);
+
+        SuiteResult result = Runner.builder()
+                .path(feature.toString())
+                .workingDir(tempDir)
+                .outputConsoleSummary(false)
+                .outputHtmlReport(false)
+                .backupOutputDir(false)
+                .parallel(2);
+
+        assertTrue(result.isPassed(), "fast.js must not queue behind slow.js: " + getFailureMessage(result));
+        assertTrue(result.getCallSingleWaits().isEmpty(), "nobody waited on a key another thread held");
+    }
+
+    @Test
+    void testCallSingleWaitersOfOneKeyAreReported() throws Exception {
+        Files.writeString(tempDir.resolve("slow.js"), """
+            function() {
+                java.lang.Thread.sleep(200);
+                return { value: 1 };
+            }
+            """);
+        Path feature = tempDir.resolve("waiters.feature");
+        Files.writeString(feature, """
+            Feature: Waiters
+
+            Scenario Outline: Thread <n>
+            * def result = karate.callSingle('slow.js')
+            * match result.value == 1
+
+            Examples:
+            | n |
+            | 1 |
+            | 2 |
+            | 3 |
+            """);
+
+        SuiteResult result = Runner.builder()
+                .path(feature.toString())
+                .workingDir(tempDir)
+                .outputConsoleSummary(false)
+                .outputHtmlReport(false)
+                .backupOutputDir(false)
+                .parallel(3);
+
+        assertTrue(result.isPassed(), getFailureMessage(result));
+        // how many of the other two got there while it ran depends on scheduling; that it is
+        // reported per key, against the key, does not
+        for (SuiteResult.CallSingleWait wait : result.getCallSingleWaits()) {
+            assertEquals("slow.js", wait.key());
+            assertTrue(wait.waits() >= 1 && wait.waits() <= 2, "waits: " + wait.waits());
+        }
+    }
+
     private static StepResult findStepWithCallResults(SuiteResult result) {
         for (FeatureResult fr : result.getFeatureResults()) {
             for (ScenarioResult sr : fr.getScenarioResults()) {
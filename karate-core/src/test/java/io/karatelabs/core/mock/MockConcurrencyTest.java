@@ -0,0 +1,343 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core.mock;
+
+import io.karatelabs.common.Resource;
+import io.karatelabs.core.MockHandler;
+import io.karatelabs.core.MockServer;
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.http.ApacheHttpClient;
+import io.karatelabs.http.HttpClient;
+import io.karatelabs.http.HttpRequest;
+import io.karatelabs.http.HttpRequestBuilder;
+import io.karatelabs.http.HttpResponse;
+import io.karatelabs.js.JavaInvokable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrent mock mode: requests run side by side on pooled runtimes instead of queueing on the
+ * handler's request lock. The overlap tests use a barrier that only opens once every party is inside
+ * a scenario at the same time, so a handler that still serialized requests would time them all out.
+ */
+class MockConcurrencyTest {
+
+    static final Logger logger = LoggerFactory.getLogger(MockConcurrencyTest.class);
+
+    private static Feature parseFeature(String content) {
+        return Feature.read(Resource.text(content));
+    }
+
+    private static HttpRequest createRequest(String method, String path) {
+        HttpRequest request = new HttpRequest();
+        request.setMethod(method);
+        request.setPath(path);
+        return request;
+    }
+
+    private static List<HttpResponse> applyInParallel(MockHandler handler, List<String> paths) throws Exception {
+        List<HttpResponse> responses = Collections.synchronizedList(new ArrayList<>(Collections.nCopies(paths.size(), null)));
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < paths.size(); i++) {
+            int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    responses.set(index, handler.apply(createRequest("GET", paths.get(index))));
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }, "mock-concurrency-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join(30000);
+        }
+        assertTrue(failures.isEmpty(), () -> "first failure: " + failures.get(0));
+        return responses;
+    }
+
+    @Test
+    @Timeout(60)
+    void testRequestsAreInFlightAtTheSameTime() throws Exception {
+        int parties = 4;
+        CyclicBarrier barrier = new CyclicBarrier(parties);
+        JavaInvokable rendezvous = args -> {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        };
+        Feature feature = parseFeature("""
+            Feature: overlap
+
+            Scenario: pathMatches('/items/{id}')
+              * def met = rendezvous()
+              * def response = { id: '#(pathParams.id)', met: '#(met)' }
+            """);
+        MockHandler handler = new MockHandler(List.of(feature), Map.of("rendezvous", rendezvous), null, false, false, true);
+
+        List<HttpResponse> responses = applyInParallel(handler, List.of("/items/0", "/items/1", "/items/2", "/items/3"));
+
+        for (int i = 0; i < parties; i++) {
+            HttpResponse response = responses.get(i);
+            assertEquals(200, response.getStatus());
+            String body = response.getBodyString();
+            assertTrue(body.contains("\"met\":true"), "all requests were inside a scenario together: " + body);
+            // each request saw its own request, not whichever one another thread set last
+            assertTrue(body.contains("\"id\":\"" + i + "\""), body);
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void testBackgroundRunsOnceForAllPooledRuntimes() throws Exception {
+        AtomicInteger boots = new AtomicInteger();
+        JavaInvokable boot = args -> boots.incrementAndGet();
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        JavaInvokable rendezvous = args -> {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                // reported through the response below
+            }
+            return true;
+        };
+        Feature feature = parseFeature("""
+            Feature: background
+
+            Background:
+              * def booted = boot()
+              * def greeting = 'hello'
+
+            Scenario: pathMatches('/greet')
+              * def ignored = rendezvous()
+              * def response = { greeting: '#(greeting)', booted: '#(booted)' }
+            """);
+        MockHandler handler = new MockHandler(List.of(feature), Map.of("boot", boot, "rendezvous", rendezvous),
+                null, false, false, true);
+
+        List<HttpResponse> responses = applyInParallel(handler, List.of("/greet", "/greet", "/greet"));
+
+        assertEquals(1, boots.get(), "forked runtimes start from the post-Background state");
+        for (HttpResponse response : responses) {
+            assertEquals(200, response.getStatus());
+            assertTrue(response.getBodyString().contains("\"greeting\":\"hello\""), response.getBodyString());
+        }
+    }
+
+    @Test
+    void testReassignedVariablesArePublishedAcrossRuntimes() {
+        Feature feature = parseFeature("""
+            Feature: globals
+
+            Background:
+              * def mode = 'initial'
+
+            Scenario: pathMatches('/mode/{value}') && methodIs('put')
+              * def mode = pathParams.value
+              * def response = { mode: '#(mode)' }
+
+            Scenario: pathMatches('/mode') && methodIs('get')
+              * def response = { mode: '#(mode)' }
+            """);
+        MockHandler handler = new MockHandler(List.of(feature), null, null, false, false, true);
+
+        handler.apply(createRequest("PUT", "/mode/updated"));
+        HttpResponse response = handler.apply(createRequest("GET", "/mode"));
+
+        assertTrue(response.getBodyString().contains("\"mode\":\"updated\""), response.getBodyString());
+        assertEquals("updated", handler.getVariable("mode"));
+    }
+
+    @Test
+    @Timeout(60)
+    void testAReaderDoesNotClobberAConcurrentWriter() throws Exception {
+        // the reader starts first, takes its snapshot (mode = 'initial'), and is held until the
+        // writer has published; if the reader then wrote back every binding it holds, its stale
+        // 'initial' would overwrite the writer's value
+        CyclicBarrier started = new CyclicBarrier(2);
+        CyclicBarrier published = new CyclicBarrier(2);
+        JavaInvokable await = args -> {
+            try {
+                ("started".equals(args[0]) ? started : published).await(10, TimeUnit.SECONDS);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        };
+        Feature feature = parseFeature("""
+            Feature: visibility
+
+            Background:
+              * def mode = 'initial'
+
+            Scenario: pathMatches('/read')
+              * def a = await('started')
+              * def b = await('published')
+              * def response = { seen: '#(mode)' }
+
+            Scenario: pathMatches('/write')
+              * def a = await('started')
+              * def mode = 'written'
+              * def response = { mode: '#(mode)' }
+            """);
+        MockHandler handler = new MockHandler(List.of(feature), Map.of("await", await), null, false, false, true);
+
+        Thread writer = new Thread(() -> {
+            handler.apply(createRequest("GET", "/write"));
+            try {
+                published.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                // the reader's assertion below reports it
+            }
+        });
+        writer.setDaemon(true);
+        writer.start();
+        HttpResponse reader = handler.apply(createRequest("GET", "/read"));
+        writer.join(30000);
+
+        assertTrue(reader.getBodyString().contains("\"seen\":\"initial\""),
+                "an in-flight request keeps the snapshot it started with: " + reader.getBodyString());
+        assertEquals("written", handler.getVariable("mode"));
+    }
+
+    @Test
+    @Timeout(60)
+    void testBackgroundFunctionsAndHooksSeeTheRequestsOwnVariables() throws Exception {
+        // both requests are inside their scenario at once, each having re-assigned 'mode'; a function
+        // or hook still bound to the template would read the template's 'mode' and set its headers
+        // where neither response looks
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        JavaInvokable rendezvous = args -> {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        };
+        Feature feature = parseFeature("""
+            Feature: closures
+
+            Background:
+              * def mode = 'initial'
+              * def currentMode = function(){ return mode }
+              * configure afterScenario = function(){ karate.set('responseHeaders', { 'X-Mode': mode }) }
+
+            Scenario: pathMatches('/mode/{value}')
+              * def mode = pathParams.value
+              * def met = rendezvous()
+              * def response = { seen: '#(currentMode())', met: '#(met)' }
+            """);
+        MockHandler handler = new MockHandler(List.of(feature), Map.of("rendezvous", rendezvous), null, false, false, true);
+
+        List<HttpResponse> responses = applyInParallel(handler, List.of("/mode/a", "/mode/b"));
+
+        String[] modes = {"a", "b"};
+        for (int i = 0; i < modes.length; i++) {
+            HttpResponse response = responses.get(i);
+            assertEquals(200, response.getStatus());
+            String body = response.getBodyString();
+            assertTrue(body.contains("\"met\":true"), "both requests were inside a scenario together: " + body);
+            assertTrue(body.contains("\"seen\":\"" + modes[i] + "\""), body);
+            assertEquals(modes[i], response.getHeader("X-Mode"));
+        }
+    }
+
+    /**
+     * Multi-threaded load over real HTTP. Logs the throughput for the sequential and concurrent
+     * modes; asserts only correctness, since a speedup is a property of the machine running it.
+     */
+    @Test
+    @Timeout(120)
+    void testLoadAgainstConcurrentMock() throws Exception {
+        String mock = """
+            Feature: load
+
+            Scenario: pathMatches('/work/{id}')
+              * def total = 0
+              * eval for (var i = 0; i < 20000; i++) { total += i % 7 }
+              * def response = { id: '#(pathParams.id)', total: '#(total)' }
+            """;
+        double sequential = runLoad(MockServer.featureString(mock).port(0).start());
+        double concurrent = runLoad(MockServer.featureString(mock).port(0).concurrent(true).start());
+        logger.info("mock throughput - sequential: {} req/s, concurrent: {} req/s ({} cores)",
+                Math.round(sequential), Math.round(concurrent), Runtime.getRuntime().availableProcessors());
+    }
+
+    private static double runLoad(MockServer server) throws Exception {
+        int threadCount = 8;
+        int requestsPerThread = 25;
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int t = 0; t < threadCount; t++) {
+                int threadIndex = t;
+                Thread thread = new Thread(() -> {
+                    try (HttpClient client = new ApacheHttpClient()) {
+                        for (int i = 0; i < requestsPerThread; i++) {
+                            String id = threadIndex + "-" + i;
+                            HttpResponse response = new HttpRequestBuilder(client)
+                                    .url(server.getUrl()).path("/work/" + id).method("GET").invoke();
+                            assertEquals(200, response.getStatus());
+                            assertTrue(response.getBodyString().contains("\"id\":\"" + id + "\""), response.getBodyString());
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                }, "mock-load-" + t);
+                thread.setDaemon(true);
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join(60000);
+            }
+        } finally {
+            server.stopAndWait();
+        }
+        assertTrue(failures.isEmpty(), () -> failures.size() + " load threads failed, first: " + failures.get(0));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return threadCount * requestsPerThread / seconds;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core.mock;
+
+import io.karatelabs.common.Resource;
+import io.karatelabs.core.MockHandler;
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.http.HttpRequest;
+import io.karatelabs.http.HttpResponse;
+
+/**
+ * Cost of routing a request to the first, middle and last scenario of a mock with 10, 100 and 1000
+ * scenarios. Every route is {@code pathMatches('/resourceN/{id}') && methodIs('get')}, which the routing
+ * index compiles; the "scripted" column is the same mock with each {@code pathMatches} call wrapped in
+ * parentheses, which the index does not read, so it measures the linear JS walk for comparison.
+ * Indexed routing should stay flat as the mock grows, the scripted one grows with the scenario count.
+ * Run {@link #main} on the karate-core test classpath; the optional argument is the iteration count.
+ */
+public class MockRoutingBenchmark {
+
+    private static final int[] SIZES = {10, 100, 1000};
+
+    private static Feature mock(int size, boolean scripted) {
+        StringBuilder sb = new StringBuilder("Feature: routing benchmark\n\n");
+        for (int i = 0; i < size; i++) {
+            String path = "pathMatches('/resource" + i + "/{id}')";
+            sb.append("Scenario: ").append(scripted ? "(" + path + ")" : path).append(" && methodIs('get')\n");
+            sb.append("  * def response = 'r").append(i).append("'\n\n");
+        }
+        return Feature.read(Resource.text(sb.toString()));
+    }
+
+    private static HttpRequest request(int route) {
+        HttpRequest request = new HttpRequest();
+        request.setMethod("GET");
+        request.setPath("/resource" + route + "/42");
+        return request;
+    }
+
+    /** Average microseconds per request routed to (and served by) the given scenario. */
+    private static double measure(MockHandler handler, int route, int iterations) {
+        String expected = "r" + route;
+        for (int i = 0; i < iterations / 10; i++) {
+            handler.apply(request(route));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            HttpResponse response = handler.apply(request(route));
+            if (!expected.equals(response.getBodyString())) {
+                throw new IllegalStateException("routed to the wrong scenario: " + response.getBodyString());
+            }
+        }
+        return (System.nanoTime() - start) / 1000.0 / iterations;
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        System.out.println("=== Mock Routing Benchmark ===\n");
+        System.out.println("Warming up JIT...");
+        MockHandler warmup = new MockHandler(mock(100, false));
+        MockHandler warmupScripted = new MockHandler(mock(100, true));
+        for (int i = 0; i < 5000; i++) {
+            warmup.apply(request(i % 100));
+            warmupScripted.apply(request(i % 100));
+        }
+        System.out.println("Warmup complete.\n");
+
+        System.out.printf("%-10s %-8s %14s %14s %10s%n", "Scenarios", "Route", "Indexed (us)", "Scripted (us)", "Speedup");
+        System.out.println("-".repeat(60));
+        for (int size : SIZES) {
+            MockHandler indexed = new MockHandler(mock(size, false));
+            MockHandler scripted = new MockHandler(mock(size, true));
+            int[] routes = {0, size / 2, size - 1};
+            String[] labels = {"first", "middle", "last"};
+            for (int r = 0; r < routes.length; r++) {
+                double fast = measure(indexed, routes[r], iterations);
+                // the linear walk at 1000 scenarios is slow enough that fewer samples are plenty
+                double slow = measure(scripted, routes[r], Math.max(50, iterations / (size / 10)));
+                System.out.printf("%-10d %-8s %14.1f %14.1f %9.1fx%n", size, labels[r], fast, slow, slow / fast);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.core.mock;
+
+import io.karatelabs.common.Resource;
+import io.karatelabs.core.MockHandler;
+import io.karatelabs.gherkin.Feature;
+import io.karatelabs.http.HttpRequest;
+import io.karatelabs.http.HttpResponse;
+import io.karatelabs.js.JavaInvokable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Indexed scenario routing has to pick the scenario the linear JS walk would have picked, so each
+ * test mixes indexed names with ones that still go through the engine, and checks declaration order
+ * is what decides.
+ */
+class MockRoutingTest {
+
+    private static Feature parseFeature(String content) {
+        return Feature.read(Resource.text(content));
+    }
+
+    private static String body(MockHandler handler, String method, String path) {
+        HttpRequest request = new HttpRequest();
+        request.setMethod(method);
+        request.setPath(path);
+        HttpResponse response = handler.apply(request);
+        return response.getStatus() == 404 ? "404" : response.getBodyString();
+    }
+
+    @Test
+    void testFirstDeclaredMatchWins() {
+        MockHandler handler = new MockHandler(parseFeature("""
+            Feature: order
+
+            Scenario: pathMatches('/users/me')
+              * def response = 'me'
+
+            Scenario: pathMatches('/users/{id}')
+              * def response = 'user ' + pathParams.id
+
+            Scenario: pathMatches('/things/{id}')
+              * def response = 'thing ' + pathParams.id
+
+            Scenario: pathMatches('/things/special')
+              * def response = 'never reached'
+            """));
+        assertEquals("me", body(handler, "GET", "/users/me"));
+        assertEquals("user 42", body(handler, "GET", "/users/42"));
+        assertEquals("thing special", body(handler, "GET", "/things/special"));
+        assertEquals("404", body(handler, "GET", "/users/42/extra"));
+    }
+
+    @Test
+    void testMethodInEitherOrder() {
+        MockHandler handler = new MockHandler(parseFeature("""
+            Feature: methods
+
+            Scenario: methodIs('delete') && pathMatches('/items/{id}')
+              * def response = 'deleted ' + pathParams.id
+
+            Scenario: pathMatches('/items/{id}') && methodIs('GET')
+              * def response = 'got ' + pathParams.id
+
+            Scenario: methodIs('post')
+              * def response = 'any post'
+            """));
+        assertEquals("deleted 1", body(handler, "DELETE", "/items/1"));
+        assertEquals("got 2", body(handler, "get", "/items/2"));
+        assertEquals("any post", body(handler, "POST", "/items/3"));
+        assertEquals("404", body(handler, "PUT", "/items/4"));
+    }
+
+    @Test
+    void testScriptedScenarioDeclaredFirstStillWins() {
+        MockHandler handler = new MockHandler(parseFeature("""
+            Feature: scripted
+
+            Scenario: paramExists('debug')
+              * def response = 'debug'
+
+            Scenario: pathMatches('/ping')
+              * def response = 'pong'
+            """));
+        HttpRequest request = new HttpRequest();
+        request.setMethod("GET");
+        request.setUrl("http://localhost/ping?debug=true");
+        assertEquals("debug", handler.apply(request).getBodyString());
+        assertEquals("pong", body(handler, "GET", "/ping"));
+    }
+
+    @Test
+    void testPrefilteredScenarioFallsThroughWhenTheRestIsFalse() {
+        AtomicInteger evaluations = new AtomicInteger();
+        JavaInvokable allowed = args -> {
+            evaluations.incrementAndGet();
+            return "yes".equals(args[0]);
+        };
+        MockHandler handler = new MockHandler(List.of(parseFeature("""
+            Feature: prefiltered
+
+            Scenario: pathMatches('/gate/{value}') && allowed(pathParams.value)
+              * def response = 'open'
+
+            Scenario: pathMatches('/gate/{value}')
+              * def response = 'closed'
+
+            Scenario: pathMatches('/other') && allowed('yes')
+              * def response = 'other'
+            """)), Map.of("allowed", allowed), null);
+        assertEquals("open", body(handler, "GET", "/gate/yes"));
+        assertEquals("closed", body(handler, "GET", "/gate/no"));
+        // the third scenario's path never fit, so its JS never ran
+        assertEquals(2, evaluations.get());
+    }
+
+    @Test
+    void testPathParamsOfAFailedMethodMatchReachTheCatchAll() {
+        // the JS walk leaves pathParams set when pathMatches() passes and methodIs() then fails, and
+        // a later catch-all has always been able to see that
+        MockHandler handler = new MockHandler(parseFeature("""
+            Feature: catch-all
+
+            Scenario: pathMatches('/orders/{id}') && methodIs('post')
+              * def response = 'created'
+
+            Scenario:
+              * def response = 'fallback ' + pathParams.id
+            """));
+        assertEquals("created", body(handler, "POST", "/orders/9"));
+        assertEquals("fallback 9", body(handler, "GET", "/orders/9"));
+    }
+
+    @Test
+    void testRoutesSpanFeatures() {
+        Feature first = parseFeature("""
+            Feature: first
+
+            Background:
+              * def owner = 'first'
+
+            Scenario: pathMatches('/a')
+              * def response = owner
+            """);
+        Feature second = parseFeature("""
+            Feature: second
+
+            Scenario: pathMatches('/b')
+              * def response = 'second'
+
+            Scenario: pathMatches('/a')
+              * def response = 'shadowed'
+            """);
+        MockHandler handler = new MockHandler(List.of(first, second), null, null);
+        assertEquals("first", body(handler, "GET", "/a"));
+        assertEquals("second", body(handler, "GET", "/b"));
+    }
+
+    @Test
+    void testNamesTheIndexCannotReadAreEvaluated() {
+        MockHandler handler = new MockHandler(parseFeature("""
+            Feature: fallback
+
+            Background:
+              * def base = '/dyn'
+
+            Scenario: pathMatches(base + '/{id}')
+              * def response = 'dynamic ' + pathParams.id
+
+            Scenario: (pathMatches('/paren'))
+              * def response = 'paren'
+
+            Scenario: pathMatches('/x') || pathMatches('/y')
+              * def response = 'either'
+            """));
+        assertEquals("dynamic 5", body(handler, "GET", "/dyn/5"));
+        assertEquals("paren", body(handler, "GET", "/paren"));
+        assertEquals("either", body(handler, "GET", "/y"));
+    }
+
+}
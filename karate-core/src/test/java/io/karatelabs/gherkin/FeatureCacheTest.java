@@ -0,0 +1,92 @@
+package io.karatelabs.gherkin;
+
+import io.karatelabs.common.Resource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Each test uses its own cache instance and its own temp files, so the JVM-wide one (and test
+ * ordering) never matters.
+ */
+class FeatureCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String name, String text) throws Exception {
+        Path file = dir.resolve(name);
+        Files.writeString(file, text);
+        return file;
+    }
+
+    private static Resource resource(Path file) {
+        // a fresh Resource per lookup, as every call site resolves one
+        return Resource.from(file);
+    }
+
+    @Test
+    void testUnchangedFileIsParsedOnce() throws Exception {
+        FeatureCache cache = new FeatureCache();
+        Path file = write("helper.feature", "Feature: helper\n\nScenario: one\n* def a = 1\n");
+        Feature first = cache.get(resource(file));
+        Feature second = cache.get(resource(file));
+        assertSame(first, second);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void testEditedFileIsParsedAgain() throws Exception {
+        FeatureCache cache = new FeatureCache();
+        Path file = write("helper.feature", "Feature: before\n\nScenario: one\n* def a = 1\n");
+        Feature before = cache.get(resource(file));
+        Files.writeString(file, "Feature: after, and longer\n\nScenario: one\n* def a = 2\n");
+        Feature after = cache.get(resource(file));
+        assertNotSame(before, after);
+        assertEquals("after, and longer", after.getName());
+        assertEquals(1, cache.getInvalidations());
+    }
+
+    @Test
+    void testTouchedButUnchangedFileKeepsItsParse() throws Exception {
+        FeatureCache cache = new FeatureCache();
+        Path file = write("helper.feature", "Feature: helper\n\nScenario: one\n* def a = 1\n");
+        Feature first = cache.get(resource(file));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5000));
+        assertSame(first, cache.get(resource(file)));
+        assertEquals(0, cache.getInvalidations());
+    }
+
+    @Test
+    void testEvaluatedScenarioNamesAreNotShared() throws Exception {
+        FeatureCache cache = new FeatureCache();
+        Path file = write("dynamic.feature", "Feature: dynamic\n\nScenario: result is ${1 + 1}\n* def a = 1\n");
+        assertNotSame(cache.get(resource(file)), cache.get(resource(file)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInMemoryFeaturesAreNotCached() {
+        FeatureCache cache = new FeatureCache();
+        String text = "Feature: inline\n\nScenario: one\n* def a = 1\n";
+        assertNotSame(cache.get(Resource.text(text)), cache.get(Resource.text(text)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSameFileUnderAnotherRootIsAnotherFeature() throws Exception {
+        FeatureCache cache = new FeatureCache();
+        Path file = write("helper.feature", "Feature: helper\n\nScenario: one\n* def a = 1\n");
+        Feature fromDir = cache.get(Resource.from(file, dir));
+        Feature fromParent = cache.get(Resource.from(file, dir.getParent()));
+        assertNotSame(fromDir, fromParent);
+        assertNotEquals(fromDir.getResource().getRelativePath(), fromParent.getResource().getRelativePath());
+    }
+
+}
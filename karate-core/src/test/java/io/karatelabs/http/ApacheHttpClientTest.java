@@ -174,4 +174,45 @@ class ApacheHttpClientTest {
                             + "so only readTimeout may bound it");
         }
     }
+
+    @Test
+    void testAJsonArrayPastTheSpoolSizeIsReadIntoADiskBackedList() throws Exception {
+        MockServer server = MockServer.featureString("""
+                Feature: export
+
+                Scenario: pathMatches('/items')
+                  * def response = karate.repeat(2000, i => ({ id: i, name: 'item' + i }))
+
+                Scenario: pathMatches('/one')
+                  * def response = [{ id: 1 }]
+                """).port(0).start();
+        try {
+            ApacheHttpClient client = new ApacheHttpClient();
+            io.karatelabs.core.KarateConfig config = new io.karatelabs.core.KarateConfig();
+            config.configure("responseSpoolSize", 1000);
+            client.apply(config);
+
+            HttpRequest request = new HttpRequest();
+            request.setUrl("http://localhost:" + server.getPort() + "/items");
+            request.setMethod("GET");
+            HttpResponse response = client.invoke(request);
+            assertTrue(response.isBodySpooled());
+            assertTrue(response.getBodyLength() > 1000);
+            java.util.List<?> items = (java.util.List<?>) response.getBodyConverted();
+            assertEquals(2000, items.size());
+            assertEquals(java.util.Map.of("id", 1999, "name", "item1999"), items.get(1999));
+            assertSame(items, response.getBodyConverted());
+            io.karatelabs.match.Result result = io.karatelabs.match.Match.that(items).eachEquals("{ id: '#number', name: '#string' }");
+            assertTrue(result.pass, result.message);
+
+            request = new HttpRequest();
+            request.setUrl("http://localhost:" + server.getPort() + "/one");
+            request.setMethod("GET");
+            response = client.invoke(request);
+            assertFalse(response.isBodySpooled());
+            assertEquals(java.util.List.of(java.util.Map.of("id", 1)), response.getBodyConverted());
+        } finally {
+            server.stopAndWait();
+        }
+    }
 }
@@ -0,0 +1,219 @@
+package io.karatelabs.http;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Handlers offloaded from the netty event loop ({@link ServerConfig#offloadHandlers(boolean)}).
+ *
+ * <p>Driven over raw sockets so that a stalled server FAILS a test on its read timeout instead of
+ * hanging it, and so that pipelining can be exercised at all.</p>
+ */
+class HttpServerOffloadTest {
+
+    /** A response read off the wire: status line and body. */
+    record Reply(String status, String body) {
+    }
+
+    /**
+     * Send raw request text and read back {@code count} responses, framed by their Content-Length
+     * (the server keeps the connection open, so reading to end-of-stream would only time out).
+     */
+    private static List<Reply> raw(int port, String requests, int count) throws Exception {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("127.0.0.1", port), 2000);
+            socket.setSoTimeout(5000);      // a stalled server must FAIL the test, not hang it
+            OutputStream out = socket.getOutputStream();
+            out.write(requests.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            List<Reply> replies = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String status = readLine(in);
+                int length = 0;
+                String header;
+                while (!(header = readLine(in)).isEmpty()) {
+                    if (header.toLowerCase().startsWith("content-length:")) {
+                        length = Integer.parseInt(header.substring(15).trim());
+                    }
+                }
+                replies.add(new Reply(status, new String(in.readNBytes(length), StandardCharsets.UTF_8)));
+            }
+            return replies;
+        }
+    }
+
+    private static String readLine(InputStream in) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c == -1) {
+                throw new IllegalStateException("connection closed after: " + sb);
+            }
+            if (c != '\r') {
+                sb.append((char) c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String get(String path) {
+        return "GET " + path + " HTTP/1.1\r\nHost: localhost\r\n\r\n";
+    }
+
+    private static String status(int port, String path) throws Exception {
+        return raw(port, get(path), 1).get(0).status();
+    }
+
+    private static Thread background(ThrowingRunnable runnable) {
+        Thread thread = new Thread(() -> {
+            try {
+                runnable.run();
+            } catch (Exception e) {
+                // the caller asserts on what it observes
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @Test
+    @Timeout(60)
+    void aBlockedHandlerDoesNotStallOtherConnections() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServer server = HttpServer.start(0, null, request -> {
+            if (request.getPath().equals("/slow")) {
+                entered.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return HttpResponse.text("ok");
+        }, new ServerConfig().offloadHandlers(true));
+        try {
+            Thread slow = background(() -> status(server.getPort(), "/slow"));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            assertEquals(1, server.getHandlerExecutor().getInFlight());
+            // connections are spread round-robin over the worker loops, so this many is certain to put
+            // at least one on the loop that read the blocked request
+            int connections = Runtime.getRuntime().availableProcessors() * 2 + 1;
+            for (int i = 0; i < connections; i++) {
+                assertEquals("HTTP/1.1 200 OK", status(server.getPort(), "/fast"));
+            }
+            release.countDown();
+            slow.join(5000);
+            // the counters settle just after the response is handed to the event loop, so poll
+            HandlerExecutor executor = server.getHandlerExecutor();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (executor.getCompleted() < connections + 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(connections + 1, executor.getCompleted());
+            assertEquals(0, executor.getInFlight());
+        } finally {
+            release.countDown();
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void aSaturatedExecutorAnswersServiceUnavailable() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ServerConfig config = new ServerConfig().offloadHandlers(true).maxConcurrentHandlers(1).maxQueuedHandlers(0);
+        HttpServer server = HttpServer.start(0, null, request -> {
+            entered.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HttpResponse.text("ok");
+        }, config);
+        try {
+            Thread held = background(() -> status(server.getPort(), "/held"));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            assertEquals("HTTP/1.1 503 Service Unavailable", status(server.getPort(), "/refused"));
+            assertEquals(1, server.getHandlerExecutor().getRejected());
+            release.countDown();
+            held.join(5000);
+        } finally {
+            release.countDown();
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void pipelinedResponsesKeepRequestOrder() throws Exception {
+        HttpServer server = HttpServer.start(0, null, request -> {
+            if (request.getPath().equals("/first")) {
+                // were the two requests handled side by side, the second would be answered first
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return HttpResponse.text(request.getPath());
+        }, new ServerConfig().offloadHandlers(true));
+        try {
+            List<Reply> replies = raw(server.getPort(), get("/first") + get("/second"), 2);
+            assertEquals(List.of("/first", "/second"), replies.stream().map(Reply::body).toList());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void aHandlerThrowingAnErrorStillAnswersAndFreesTheConnection() throws Exception {
+        HttpServer server = HttpServer.start(0, null, request -> {
+            if (request.getPath().equals("/boom")) {
+                throw new StackOverflowError();
+            }
+            return HttpResponse.text(request.getPath());
+        }, new ServerConfig().offloadHandlers(true));
+        try {
+            // pipelined on one connection: the request behind the failure must still be handled
+            List<Reply> replies = raw(server.getPort(), get("/boom") + get("/after"), 2);
+            assertEquals("HTTP/1.1 500 Internal Server Error", replies.get(0).status());
+            assertEquals("HTTP/1.1 200 OK", replies.get(1).status());
+            assertEquals("/after", replies.get(1).body());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    void handlersRunOnTheEventLoopByDefault() {
+        HttpServer server = HttpServer.start(0, request -> HttpResponse.text("ok"));
+        try {
+            assertNull(server.getHandlerExecutor());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+}
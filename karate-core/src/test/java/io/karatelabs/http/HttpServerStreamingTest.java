@@ -0,0 +1,275 @@
+package io.karatelabs.http;
+
+import io.karatelabs.common.ResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bodies streamed instead of aggregated ({@link ServerConfig#streamBodies(boolean)}).
+ *
+ * <p>Raw sockets again, so that a request body can be written (and framed) by hand, and a chunked
+ * response decoded without a client in between that would buffer it anyway.</p>
+ */
+class HttpServerStreamingTest {
+
+    private static final int MB = 1024 * 1024;
+
+    /** A response read off the wire: status line, headers (lower-cased names) and body. */
+    record Reply(String status, Map<String, String> headers, byte[] body) {
+
+        String text() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+
+    }
+
+    private static Socket connect(int port) throws IOException {
+        Socket socket = new Socket();
+        socket.connect(new InetSocketAddress("127.0.0.1", port), 2000);
+        socket.setSoTimeout(10000);     // a stalled server must FAIL the test, not hang it
+        return socket;
+    }
+
+    /** Writes {@code size} bytes of a repeating pattern as a chunked body, 32 KB per chunk. */
+    private static void writeChunked(OutputStream out, int size) throws IOException {
+        byte[] chunk = new byte[32 * 1024];
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = (byte) i;
+        }
+        int remaining = size;
+        while (remaining > 0) {
+            int n = Math.min(chunk.length, remaining);
+            out.write((Integer.toHexString(n) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(chunk, 0, n);
+            out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+            remaining -= n;
+        }
+        out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static void post(OutputStream out, String path, int size) throws IOException {
+        out.write(("POST " + path + " HTTP/1.1\r\nHost: localhost\r\nTransfer-Encoding: chunked\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        writeChunked(out, size);
+    }
+
+    private static void get(OutputStream out, String path) throws IOException {
+        out.write(("GET " + path + " HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /** Reads one response, framed either by Content-Length or by chunked transfer-encoding. */
+    private static Reply read(InputStream in) throws IOException {
+        String status = readLine(in);
+        Map<String, String> headers = new HashMap<>();
+        String header;
+        while (!(header = readLine(in)).isEmpty()) {
+            int pos = header.indexOf(':');
+            headers.put(header.substring(0, pos).trim().toLowerCase(), header.substring(pos + 1).trim());
+        }
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            int size;
+            while ((size = Integer.parseInt(readLine(in).trim(), 16)) > 0) {
+                body.write(in.readNBytes(size));
+                readLine(in);
+            }
+            readLine(in);
+            return new Reply(status, headers, body.toByteArray());
+        }
+        int length = Integer.parseInt(headers.getOrDefault("content-length", "0"));
+        return new Reply(status, headers, in.readNBytes(length));
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c == -1) {
+                throw new IllegalStateException("connection closed after: " + sb);
+            }
+            if (c != '\r') {
+                sb.append((char) c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static long count(InputStream in) throws IOException {
+        byte[] buf = new byte[8192];
+        long total = 0;
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            total += n;
+        }
+        return total;
+    }
+
+    @Test
+    @Timeout(60)
+    void aLargeUploadIsReadWhileItArrives() throws Exception {
+        AtomicInteger peak = new AtomicInteger();
+        ServerConfig config = new ServerConfig().streamBodies(true).streamBufferBytes(64 * 1024);
+        HttpServer server = HttpServer.start(0, null, request -> {
+            InputStream in = request.getBodyStream();
+            try {
+                // give the connection every chance to run ahead of the reader
+                Thread.sleep(300);
+                peak.set(in.available());
+                return HttpResponse.text(String.valueOf(count(in)));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }, config);
+        try (Socket socket = connect(server.getPort())) {
+            post(socket.getOutputStream(), "/upload", 8 * MB);
+            Reply reply = read(socket.getInputStream());
+            assertEquals("HTTP/1.1 200 OK", reply.status());
+            assertEquals(String.valueOf(8 * MB), reply.text());
+            // one socket read past the limit at most, nowhere near the whole body
+            assertTrue(peak.get() <= 512 * 1024, "buffered " + peak.get());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void getBodyStillWorksBeyondTheAggregationLimit() throws Exception {
+        HttpServer server = HttpServer.start(0, null,
+                request -> HttpResponse.text(String.valueOf(request.getBody().length)),
+                new ServerConfig().streamBodies(true));
+        try (Socket socket = connect(server.getPort())) {
+            post(socket.getOutputStream(), "/upload", 3 * MB);
+            assertEquals(String.valueOf(3 * MB), read(socket.getInputStream()).text());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void anUnreadBodyIsDrainedBeforeTheNextRequest() throws Exception {
+        HttpServer server = HttpServer.start(0, null, request -> HttpResponse.text(request.getPath()),
+                new ServerConfig().streamBodies(true).streamBufferBytes(16 * 1024));
+        try (Socket socket = connect(server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+            post(out, "/ignored", 2 * MB);
+            assertEquals("/ignored", read(in).text());
+            get(out, "/next");
+            assertEquals("/next", read(in).text());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void aFileResponseIsSentWithItsLength(@TempDir Path dir) throws Exception {
+        byte[] content = new byte[2 * MB + 123];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        File file = dir.resolve("payload.bin").toFile();
+        Files.write(file.toPath(), content);
+        HttpServer server = HttpServer.start(0, null, request -> {
+            HttpResponse response = new HttpResponse();
+            response.setBodyFile(file, ResourceType.BINARY);
+            return response;
+        }, new ServerConfig().streamBodies(true));
+        try (Socket socket = connect(server.getPort())) {
+            get(socket.getOutputStream(), "/file");
+            Reply reply = read(socket.getInputStream());
+            assertEquals(String.valueOf(content.length), reply.headers().get("content-length"));
+            assertArrayEquals(content, reply.body());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void aStreamOfUnknownLengthIsSentChunked() throws Exception {
+        int size = 3 * MB;
+        HttpServer server = HttpServer.start(0, null, request -> {
+            InputStream in = new InputStream() {
+                int position;
+
+                @Override
+                public int read() {
+                    return position < size ? position++ % 7 : -1;
+                }
+            };
+            HttpResponse response = new HttpResponse();
+            response.setBodyStream(in, -1, ResourceType.BINARY);
+            return response;
+        }, new ServerConfig().streamBodies(true));
+        try (Socket socket = connect(server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+            get(out, "/stream");
+            Reply reply = read(in);
+            assertEquals("chunked", reply.headers().get("transfer-encoding"));
+            assertEquals(size, reply.body().length);
+            for (int i = 0; i < size; i += 4099) {
+                assertEquals(i % 7, reply.body()[i]);
+            }
+            // and the connection is still good for another
+            get(out, "/stream");
+            assertEquals(size, read(in).body().length);
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void aHandlerThrowingAnErrorIsAnsweredAndTheConnectionClosed() throws Exception {
+        HttpServer server = HttpServer.start(0, null, request -> {
+            throw new StackOverflowError();
+        }, new ServerConfig().streamBodies(true));
+        try (Socket socket = connect(server.getPort())) {
+            get(socket.getOutputStream(), "/boom");
+            InputStream in = socket.getInputStream();
+            assertEquals("HTTP/1.1 500 Internal Server Error", read(in).status());
+            assertEquals(-1, in.read());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+    @Test
+    void smallBodiesBehaveAsBefore() throws Exception {
+        HttpServer server = HttpServer.start(0, null, request -> HttpResponse.text(request.getBodyString()),
+                new ServerConfig().streamBodies(true));
+        try (Socket socket = connect(server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write("POST /echo HTTP/1.1\r\nHost: localhost\r\nContent-Length: 5\r\n\r\nhello"
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            assertEquals("hello", read(socket.getInputStream()).text());
+        } finally {
+            server.stopAndWait();
+        }
+    }
+
+}
@@ -1,8 +1,13 @@
 package io.karatelabs.http;
 
 import io.karatelabs.common.ResourceType;
+import io.karatelabs.match.LargeValueStore;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
@@ -158,4 +163,17 @@ class HttpUtilsTest {
         assertEquals(Map.of("success", true), HttpUtils.fromString(json, false, null));
     }
 
+    @Test
+    void testJsonArrayFileWithAHoleIsNotTruncated(@TempDir Path dir) throws Exception {
+        File file = dir.resolve("array.json").toFile();
+        Files.writeString(file.toPath(), "[1, 2, 3,]");
+        List<Object> items = HttpUtils.fromJsonArrayFile(file);
+        assertEquals(List.of(1, 2, 3), List.copyOf(items));
+        LargeValueStore.of(items).close();
+        // an empty element used to end the array there and then, dropping everything after it: now it
+        // is no array to read element by element, and the caller reads the body whole instead
+        Files.writeString(file.toPath(), "[1,, 2]");
+        assertNull(HttpUtils.fromJsonArrayFile(file));
+    }
+
 }
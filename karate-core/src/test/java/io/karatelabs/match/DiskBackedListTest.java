@@ -26,6 +26,8 @@ package io.karatelabs.match;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -65,6 +67,21 @@ class DiskBackedListTest {
         dbl.close();
     }
 
+    @Test
+    void testIteratorFromIndex() throws IOException {
+        DiskBackedList dbl = DiskBackedList.create(List.of("x", "y", "z"));
+        Iterator<Object> first = dbl.iterator(1);
+        Iterator<Object> second = dbl.iterator(2);
+        assertEquals("y", first.next());
+        assertEquals("z", second.next());
+        assertEquals("z", first.next());
+        assertFalse(first.hasNext());
+        assertFalse(second.hasNext());
+        assertFalse(dbl.iterator(3).hasNext());
+        assertThrows(IndexOutOfBoundsException.class, () -> dbl.iterator(4));
+        dbl.close();
+    }
+
     @Test
     void testNestedObjects() throws IOException {
         Map<String, Object> map1 = Map.of("name", "alice", "age", 30);
@@ -106,6 +123,60 @@ class DiskBackedListTest {
         dbl.close();
     }
 
+    @Test
+    void testTypesRoundTrip() throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("z", -1);
+        map.put("a", Long.MAX_VALUE);
+        map.put("m", new BigDecimal("1.50"));
+        map.put("n", null);
+        map.put("ünï", "日本語 ✓");
+        List<Object> source = Arrays.asList(map, List.of(true, false, 1.5, 2.5f), new BigInteger("123456789012345678901234567890"),
+                (short) 7, Integer.MIN_VALUE, "", List.of());
+        DiskBackedList dbl = DiskBackedList.create(source);
+
+        assertEquals(map, dbl.get(0));
+        assertEquals(List.of("z", "a", "m", "n", "ünï"), new ArrayList<>(((Map<?, ?>) dbl.get(0)).keySet()));
+        assertEquals(List.of(true, false, 1.5, 2.5), dbl.get(1));
+        assertEquals(new BigInteger("123456789012345678901234567890"), dbl.get(2));
+        assertEquals(7, dbl.get(3));
+        assertEquals(Integer.MIN_VALUE, dbl.get(4));
+        assertEquals("", dbl.get(5));
+        assertEquals(List.of(), dbl.get(6));
+
+        dbl.close();
+        assertThrows(IllegalStateException.class, () -> dbl.get(0));
+    }
+
+    @Test
+    void testConcurrentGet() throws Exception {
+        List<Object> source = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            source.add(Map.of("id", i, "name", "item" + i));
+        }
+        DiskBackedList dbl = DiskBackedList.create(source);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 20000; i++) {
+                    int index = random.nextInt(source.size());
+                    if (!source.get(index).equals(dbl.get(index))) {
+                        errors.add(new AssertionError("wrong item at " + index));
+                        return;
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(errors.isEmpty(), errors.toString());
+        dbl.close();
+    }
+
     @Test
     void testEstimateSize() {
         // Small values
@@ -163,6 +234,15 @@ class DiskBackedListTest {
         result = Match.execute(null, Match.Type.EACH_EQUALS, actual, "#string", 1L);
         assertTrue(result.pass, result.message);
 
+        // Test EACH_EQUALS over a list big enough to be matched in chunks, each reading its own range
+        List<Object> numbers = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            numbers.add(i == 6000 ? "six thousand" : i);
+        }
+        result = Match.execute(null, Match.Type.EACH_EQUALS, numbers, "#number", 1L);
+        assertFalse(result.pass);
+        assertTrue(result.message.contains("match each failed at index 6000"), result.message);
+
         // Test failure case with low threshold
         result = Match.execute(null, Match.Type.EQUALS, actual, List.of("x", "y", "z"), 1L);
         assertFalse(result.pass);
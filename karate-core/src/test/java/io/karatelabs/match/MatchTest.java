@@ -8,8 +8,13 @@ import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static io.karatelabs.match.Match.Type.*;
@@ -400,6 +405,43 @@ class MatchTest {
         assertFalse(message.contains("$[6]"), message);
     }
 
+    @Test
+    void testEachLargeArrays() {
+        // big enough to be split across the ForkJoin pool, reports have to read as if it was not
+        List<Object> actual = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", i);
+            item.put("name", "n" + i);
+            item.put("tags", List.of("t" + (i % 3)));
+            actual.add(item);
+        }
+        String expected = "{ id: '#number', name: '#string', tags: '#[] #string' }";
+        match(actual, EACH_EQUALS, expected);
+        match(actual, EACH_CONTAINS, "{ name: '#regex n[0-9]+' }");
+        List<Object> broken = new ArrayList<>(actual);
+        for (int i : new int[]{9999, 7001, 3, 2500}) {
+            broken.set(i, Map.of("id", "x" + i, "name", "n" + i, "tags", List.of()));
+        }
+        match(broken, EACH_EQUALS, expected, FAILS);
+        assertTrue(message.contains("match each failed at indices [3, 2500, 7001, 9999] (LIST:MAP)"), message);
+        // latest first, as always
+        int last = message.indexOf("$[9999].id");
+        assertTrue(last > 0 && last < message.indexOf("$[7001].id") && message.indexOf("$[7001].id") < message.indexOf("$[2500].id")
+                && message.indexOf("$[2500].id") < message.indexOf("$[3].id"), message);
+        // stops at the 5th failure in index order, however the chunks were scheduled
+        for (int i = 5000; i < 5010; i++) {
+            broken.set(i, "not an object");
+        }
+        match(broken, EACH_EQUALS, expected, FAILS);
+        assertTrue(message.contains("match each failed at indices [3, 2500, 5000, 5001, 5002] (stopped after 5 failures)"), message);
+        assertFalse(message.contains("$[5003]"), message);
+        assertFalse(message.contains("$[7001]"), message);
+        // an expression needs the engine, and so stays on this thread
+        match(broken, EACH_CONTAINS, "{ id: '#? _ != null' }", FAILS);
+        assertTrue(message.contains("match each failed at indices [5000, 5001, 5002, 5003, 5004] (stopped after 5 failures)"), message);
+    }
+
     @Test
     void testEachEmpty() {
         match("[]", EACH_EQUALS, "#number", FAILS);
@@ -845,4 +887,51 @@ class MatchTest {
                 """);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testContainsLargeArrays() {
+        // big enough for the hash-indexed path (ContainsIndex), which has to agree with the scan
+        List<Object> actual = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", i);
+            item.put("name", "n" + i);
+            item.put("tags", List.of("t" + (i % 3)));
+            actual.add(item);
+        }
+        List<Object> expected = new ArrayList<>(actual);
+        Collections.shuffle(expected, new Random(1));
+        match(actual, CONTAINS, expected);
+        match(actual, CONTAINS_ONLY, expected);
+        match(actual, NOT_CONTAINS, expected, FAILS);
+
+        // keys in another order, and numbers of another type, still equal
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("tags", List.of("t1"));
+        reordered.put("name", "n7");
+        reordered.put("id", new BigDecimal("7.00"));
+        match(actual, CONTAINS, List.of(reordered, Map.of("id", 8.0, "name", "n8", "tags", List.of("t2"))));
+
+        // fuzzy markers are scanned for, not looked up
+        match(actual, CONTAINS, List.of(Map.of("id", 5, "name", "#string", "tags", "#[1]"), Map.of("id", "#number", "name", "n6", "tags", "#ignore")));
+
+        // contains only still counts each actual element once
+        List<Object> duplicated = new ArrayList<>(actual);
+        duplicated.set(1, actual.get(0));
+        match(actual, CONTAINS_ONLY, duplicated, FAILS);
+        assertTrue(message.contains("actual array does not contain expected item - {\"id\":0,"), message);
+
+        // a miss reports exactly what the scan reports
+        List<Object> missing = new ArrayList<>(expected);
+        missing.add(Map.of("id", -1));
+        match(actual, CONTAINS, missing.subList(1, missing.size()), FAILS);
+        assertTrue(message.startsWith("""
+                match failed: CONTAINS
+                  $ | actual does not contain expected | actual array does not contain expected item - {"id":-1} (LIST:LIST)
+                """), message);
+        // every element's mismatch, as the scan records them - not just the candidates'
+        assertTrue(message.contains("$[1999] | not equal | actual has 2 more key(s) than expected"), message);
+        assertTrue(message.contains("$[0] | not equal | actual has 2 more key(s) than expected"), message);
+        match(actual, NOT_CONTAINS, List.of(Map.of("id", -1), Map.of("id", -2)));
+    }
+
+}
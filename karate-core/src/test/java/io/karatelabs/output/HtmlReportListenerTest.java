@@ -235,4 +235,41 @@ class HtmlReportListenerTest {
         assertTrue(summaryHtml.contains("Summary Data Test"));
     }
 
+    @Test
+    void testFeaturePagesRenderedInParallelAreAllWrittenBySuiteEnd() throws Exception {
+        int count = 12;
+        for (int i = 0; i < count; i++) {
+            Files.writeString(tempDir.resolve("f" + i + ".feature"), """
+                Feature: Parallel Feature %d
+                Scenario: One
+                * def a = %d
+                Scenario: Two
+                * def b = 'step-text-%d'
+                """.formatted(i, i, i));
+        }
+
+        Path reportDir = tempDir.resolve("reports");
+
+        SuiteResult result = Runner.path(tempDir.toString())
+                .workingDir(tempDir)
+                .outputDir(reportDir)
+                .outputConsoleSummary(false)
+                .parallel(4);
+
+        assertTrue(result.isPassed());
+        // feature pages go through the render pool; onSuiteEnd waits for all of them
+        Path featuresDir = reportDir.resolve(HtmlReportListener.SUBFOLDER);
+        for (int i = 0; i < count; i++) {
+            String page = Files.readString(featuresDir.resolve("f" + i + ".html"));
+            assertTrue(page.contains("Parallel Feature " + i), "page for f" + i);
+            assertTrue(page.contains("step-text-" + i), "steps on page for f" + i);
+        }
+        // the summary is built from per-feature digests: every feature, no step detail
+        String summaryHtml = Files.readString(reportDir.resolve("karate-summary.html"));
+        for (int i = 0; i < count; i++) {
+            assertTrue(summaryHtml.contains("Parallel Feature " + i));
+        }
+        assertFalse(summaryHtml.contains("step-text-"));
+    }
+
 }
@@ -1433,6 +1433,7 @@ class HtmlReportWriterTest {
     // Cases covered:
     //   - testLoggingPrettyOn            : default, JSON bodies pretty-printed
     //   - testLoggingPrettyOff           : `pretty: false`, bodies single-line
+    //   - testLoggingBodiesFailedOnly    : `bodies: 'failed'`, passing scenario keeps headers only
     //   - testLoggingMaskHeaders         : Authorization redacted to ***
     //   - testLoggingMaskJsonPaths       : $.password redacted in body
     //   - testLoggingMaskRegex           : Bearer token regex redacted
@@ -1673,6 +1674,39 @@ class HtmlReportWriterTest {
                 "Authorization header should be masked");
     }
 
+    @Test
+    void testLoggingBodiesFailedOnly(@TempDir Path tempDir) throws Exception {
+        Path feature = writeFeatureCallingHarness(tempDir, """
+                Feature: Bodies For Failed Only
+                Background:
+                * configure logging = { bodies: 'failed' }
+                * url 'http://127.0.0.1:__PORT__'
+                Scenario: passes, so its bodies are dropped
+                * path 'api/status'
+                * method get
+                * status 200
+                Scenario: fails, so its bodies are kept
+                * path 'api/users'
+                * method get
+                * status 201
+                """);
+        Path reportDir = loggingTestDir("bodies-failed");
+        SuiteResult result = Runner.path(feature.toString())
+                .workingDir(tempDir)
+                .outputDir(reportDir)
+                .outputHtmlReport(true)
+                .outputConsoleSummary(false)
+                .parallel(1);
+        assertFalse(result.isPassed());
+
+        String logs = extractAllHttpStepLogs(reportDir);
+        // the request / response blocks themselves stay, for both scenarios
+        assertTrue(logs.contains("response time in milliseconds"), logs);
+        assertFalse(logs.contains("healthy"), "the passing scenario's response body should be gone: " + logs);
+        assertTrue(logs.contains("body not kept"), logs);
+        assertTrue(logs.contains("Alice"), "the failing scenario's response body should be kept: " + logs);
+    }
+
     @Test
     void testLoggingMaskJsonPaths(@TempDir Path tempDir) throws Exception {
         Path feature = writeFeatureCallingHarness(tempDir, """
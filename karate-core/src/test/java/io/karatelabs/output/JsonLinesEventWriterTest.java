@@ -25,6 +25,9 @@ package io.karatelabs.output;
 
 import io.karatelabs.common.Json;
 import io.karatelabs.core.Globals;
+import io.karatelabs.core.JsonLinesEventWriter;
+import io.karatelabs.core.RunEvent;
+import io.karatelabs.core.RunEventType;
 import io.karatelabs.core.Runner;
 import io.karatelabs.core.Suite;
 import io.karatelabs.core.SuiteResult;
@@ -34,6 +37,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -821,4 +826,79 @@ class JsonLinesEventWriterTest {
         assertTrue(Files.exists(reportDir.resolve("index.html")));
     }
 
+    @Test
+    void testConcurrentEventsAreWrittenAsWholeLinesInOrderPerThread() throws Exception {
+        Path reportDir = tempDir.resolve("reports");
+        JsonLinesEventWriter writer = new JsonLinesEventWriter(reportDir, null, 8);
+        writer.init();
+        int threads = 8;
+        int perThread = 500;
+        Thread[] emitters = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            // a quote in the name: the envelope is written by hand, so it has to escape it
+            emitters[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    writer.onEvent(testEvent(RunEventType.SCENARIO_EXIT, i));
+                }
+            }, "emitter-\"" + t);
+            emitters[t].start();
+        }
+        for (Thread emitter : emitters) {
+            emitter.join();
+        }
+        writer.onEvent(testEvent(RunEventType.SUITE_EXIT, -1));
+
+        // SUITE_EXIT is written through before the event returns, without waiting for close()
+        Path jsonlPath = writer.getJsonlPath();
+        String[] lines = Files.readString(jsonlPath).split("\n");
+        assertEquals(threads * perThread + 1, lines.length);
+        writer.close();
+        assertEquals(threads * perThread + 1, Files.readString(jsonlPath).split("\n").length);
+
+        Map<String, Integer> lastSeq = new HashMap<>();
+        for (int i = 0; i < lines.length - 1; i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> envelope = (Map<String, Object>) Json.of(lines[i]).value();
+            assertEquals("SCENARIO_EXIT", envelope.get("type"));
+            String threadId = (String) envelope.get("threadId");
+            assertTrue(threadId.startsWith("emitter-\""), threadId);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> data = (Map<String, Object>) envelope.get("data");
+            int seq = ((Number) data.get("seq")).intValue();
+            assertEquals(lastSeq.getOrDefault(threadId, -1) + 1, seq, "order within " + threadId);
+            lastSeq.put(threadId, seq);
+        }
+        assertEquals(threads, lastSeq.size());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> last = (Map<String, Object>) Json.of(lines[lines.length - 1]).value();
+        assertEquals("SUITE_EXIT", last.get("type"));
+        assertNull(last.get("threadId"));
+
+        // events after close are dropped, not written to a closed channel
+        writer.onEvent(testEvent(RunEventType.SCENARIO_EXIT, 0));
+        assertEquals(threads * perThread + 1, Files.readString(jsonlPath).split("\n").length);
+    }
+
+    private static RunEvent testEvent(RunEventType type, int seq) {
+        long timeStamp = System.currentTimeMillis();
+        return new RunEvent() {
+            @Override
+            public RunEventType getType() {
+                return type;
+            }
+
+            @Override
+            public long getTimeStamp() {
+                return timeStamp;
+            }
+
+            @Override
+            public Map<String, Object> toJson() {
+                Map<String, Object> map = new LinkedHashMap<>();
+                map.put("seq", seq);
+                return map;
+            }
+        };
+    }
+
 }
@@ -35,6 +35,8 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
 
 /**
  * Pure Java executor for Karate features within Gatling.
@@ -44,6 +46,9 @@ public class KarateExecutor {
 
     private static final Logger log = LoggerFactory.getLogger(KarateExecutor.class);
 
+    // one per feature execution, so there is no pool to size and nothing to shut down
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("karate-gatling-", 0).factory();
+
     private final String featurePath;
     private final List<String> tags;
     private final KarateProtocol protocol;
@@ -119,11 +124,14 @@ public class KarateExecutor {
         // Create PerfHook for this execution
         PerfHook perfHook = createPerfHook(statsReporter, scenario, groups);
 
-        // Execute feature — apply protocol.runner template so users can configure
-        // karateEnv, configDir, systemProperty etc. via protocol.runner.*
-        Runner.Builder template = protocol != null ? protocol.getRunner() : null;
+        // Execute feature — the plan carries the protocol.runner template, so users can configure
+        // karateEnv, configDir, systemProperty etc. via protocol.runner.*, and was resolved once
+        // per simulation (see KarateProtocol.featurePlan)
+        Runner.FeaturePlan plan = protocol != null
+                ? protocol.featurePlan(featurePath, tags)
+                : Runner.prepareFeature(featurePath, tags, null);
         boolean success = true;
-        FeatureResult result = Runner.runFeature(featurePath, arg, perfHook, tags, template);
+        FeatureResult result = plan.run(arg, perfHook);
 
         if (result.isFailed()) {
             success = false;
@@ -145,6 +153,33 @@ public class KarateExecutor {
         return new ExecutionResult(success, karateVars, nextBuffer);
     }
 
+    /**
+     * {@link #execute(Map, Map, LogReplayer.Buffer, GatlingStatsReporter, String, scala.collection.immutable.List)}
+     * on a new virtual thread, returning at once. {@code onComplete} is called on that thread
+     * with the result — always exactly once, because it is what hands the Gatling virtual user on
+     * to its next action: a feature that throws rather than fails is logged and completes as a
+     * failure, or the user would never finish and the simulation would wait for it forever.
+     */
+    public void executeAsync(
+            Map<String, Object> gatlingVars,
+            Map<String, Object> karateVars,
+            LogReplayer.Buffer logBuffer,
+            GatlingStatsReporter statsReporter,
+            String scenario,
+            scala.collection.immutable.List<String> groups,
+            Consumer<ExecutionResult> onComplete) {
+        VIRTUAL_THREADS.newThread(() -> {
+            ExecutionResult result;
+            try {
+                result = execute(gatlingVars, karateVars, logBuffer, statsReporter, scenario, groups);
+            } catch (Throwable t) {
+                log.error("Feature crashed: {}", featurePath, t);
+                result = new ExecutionResult(false, karateVars, logBuffer);
+            }
+            onComplete.accept(result);
+        }).start();
+    }
+
     /**
      * The failure rendered for the log: a summary line naming <em>where</em> and <em>why</em> —
      * {@code path/to.feature:LINE - match failed: EQUALS} — followed by the same detail the console
@@ -223,6 +258,9 @@ public class KarateExecutor {
                 // handled in execute()
             }
 
+            // Under virtualThreads() the feature, and so this sleep, is on a virtual thread: it
+            // parks without holding a carrier, which is all a non-blocking pause can be for code
+            // that is blocking everywhere else. Without it, this blocks a Gatling thread.
             @Override
             public void pause(Number millis) {
                 try {
@@ -234,7 +272,11 @@ public class KarateExecutor {
 
             @Override
             public void submit(Runnable runnable) {
-                runnable.run();
+                if (protocol != null && protocol.isVirtualThreads()) {
+                    VIRTUAL_THREADS.newThread(runnable).start();
+                } else {
+                    runnable.run();
+                }
             }
         };
     }
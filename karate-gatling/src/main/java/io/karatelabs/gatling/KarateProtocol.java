@@ -31,7 +31,9 @@ import io.karatelabs.output.LogLevel;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
@@ -68,6 +70,12 @@ public class KarateProtocol implements Protocol {
     private AutoCloseable closeAtSimulationEnd;
     private LogLevel logReplayLevel = LogReplayer.DEFAULT_LEVEL;
     private int logReplayLimit = LogReplayer.DEFAULT_LIMIT;
+    private boolean virtualThreads;
+    // one per feature and tag filter, for the life of the simulation — see featurePlan()
+    private final Map<PlanKey, Runner.FeaturePlan> featurePlans = new ConcurrentHashMap<>();
+
+    private record PlanKey(String featurePath, List<String> tags) {
+    }
 
     KarateProtocol(Map<String, KarateUriPattern> uriPatterns) {
         this(uriPatterns, null);
@@ -155,6 +163,33 @@ public class KarateProtocol implements Protocol {
         this.logReplayLimit = logReplayLimit;
     }
 
+    /**
+     * Whether a feature runs on a virtual thread of its own, handing the virtual user back to
+     * Gatling when it completes, instead of on the Gatling thread that reached the action. See
+     * {@link KarateProtocolBuilder#virtualThreads()}.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * The {@link Runner.FeaturePlan} for a feature under this protocol's runner template, prepared
+     * by the first virtual user to ask and shared by every one after it. Resolving the Suite
+     * settings, the config files, the feature and its tag selection is the same work for every
+     * iteration, so it is done once per simulation; an iteration only runs the feature.
+     *
+     * @param featurePath the feature path as the simulation declared it
+     * @param tags        the tag filter of the action, may be null
+     */
+    public Runner.FeaturePlan featurePlan(String featurePath, List<String> tags) {
+        PlanKey key = new PlanKey(featurePath, tags == null ? List.of() : List.copyOf(tags));
+        return featurePlans.computeIfAbsent(key, k -> Runner.prepareFeature(featurePath, tags, runner));
+    }
+
     /**
      * Resolve the request name using the custom resolver or default pattern matching.
      *
@@ -26,13 +26,13 @@ package io.karatelabs.gatling;
 import io.gatling.javaapi.core.ProtocolBuilder;
 import io.karatelabs.core.Runner;
 import io.karatelabs.http.HttpRequest;
+import io.karatelabs.js.ParseCache;
 import io.karatelabs.output.LogLevel;
 
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 
 /**
@@ -55,6 +55,7 @@ public final class KarateProtocolBuilder implements ProtocolBuilder {
     private LogLevel logReplayLevel = LogReplayer.DEFAULT_LEVEL;
     private int logReplayLimit = LogReplayer.DEFAULT_LIMIT;
     private PooledHttpClientFactory pool;
+    private boolean virtualThreads;
 
     /**
      * Mutable {@link Runner.Builder} for configuring underlying Karate execution.
@@ -67,11 +68,13 @@ public final class KarateProtocolBuilder implements ProtocolBuilder {
      * onto this builder. They live for the lifetime of the simulation (one protocol
      * = one setUp), so an expensive {@code karate.callSingle(...)} or a feature-level
      * {@code callonce} runs once per simulation rather than once per virtual user.
+     * Likewise the parse cache, so each step expression is parsed once per simulation.
      */
     public final Runner.Builder runner = Runner.builder()
-            .callSingleCache(new ConcurrentHashMap<>(), new ReentrantLock())
+            .callSingleCache(new ConcurrentHashMap<>())
             .callOnceCacheStore(new ConcurrentHashMap<>(), new ConcurrentHashMap<>())
-            .setupOnceCacheStore(new ConcurrentHashMap<>());
+            .setupOnceCacheStore(new ConcurrentHashMap<>())
+            .parseCache(new ParseCache());
 
     /**
      * Create a new protocol builder with the given URI patterns.
@@ -208,6 +211,32 @@ public final class KarateProtocolBuilder implements ProtocolBuilder {
         return this;
     }
 
+    /**
+     * Run each feature on a virtual thread of its own instead of on the Gatling thread that
+     * reached the {@code karateFeature} action.
+     *
+     * <p>A Karate feature is blocking code from end to end — the HTTP client waits on its socket,
+     * {@code karate.pause} and configured pauses sleep — and by default all of that happens on one
+     * of Gatling's event-loop threads, of which there is one per core. Every virtual user inside a
+     * feature holds one, so at most as many users make progress at once as the injector has cores,
+     * and Gatling's own actions queue behind them. With this on, the action hands the feature to a
+     * virtual thread and returns at once; when the feature completes, the updated session is
+     * passed back to the virtual user's event loop and on to the next action. A feature waiting on
+     * the network, or pausing, then parks a virtual thread and holds no carrier.
+     *
+     * <p>It changes where a feature runs, not what it does: results, chaining through
+     * {@code __karate}, log replay and stats reporting are the same. What it cannot remove is the
+     * CPU each iteration costs (docs/PROFILING.md, claim C7) — it raises the ceiling on users per
+     * host where that ceiling was threads, not cores. On JDK 21 a virtual thread blocked inside a
+     * {@code synchronized} block still pins its carrier; JDK 24 and later do not.
+     *
+     * @return this builder for chaining
+     */
+    public KarateProtocolBuilder virtualThreads() {
+        this.virtualThreads = true;
+        return this;
+    }
+
     /**
      * Build the KarateProtocol.
      */
@@ -227,6 +256,7 @@ public final class KarateProtocolBuilder implements ProtocolBuilder {
         protocol.setLogReplay(logReplay);
         protocol.setLogReplayLevel(logReplayLevel);
         protocol.setLogReplayLimit(logReplayLimit);
+        protocol.setVirtualThreads(virtualThreads);
         // Handed over so Gatling's actor-system termination can close it — see
         // KarateProtocol.getCloseAtSimulationEnd.
         protocol.setCloseAtSimulationEnd(pool);
@@ -184,9 +184,27 @@ class KarateScalaAction(
       case _ => null
     }
 
-    // Execute using Java executor
-    val result = executor.execute(gatlingVars, karateVars, logBuffer, statsReporter, session.scenario, session.groups)
+    if (protocol != null && protocol.isVirtualThreads) {
+      // The feature runs on a virtual thread and this Gatling thread is free as soon as it is
+      // submitted. The user continues on its own event loop, which is where Gatling runs every
+      // action of a virtual user -- never on the thread that happened to finish the feature.
+      executor.executeAsync(gatlingVars, karateVars, logBuffer, statsReporter, session.scenario, session.groups,
+        result => {
+          val updatedSession = update(session, result)
+          try {
+            session.eventLoop.execute(() => next ! updatedSession)
+          } catch {
+            // the simulation ended (maxDuration, or a crash) while this feature was in flight
+            case _: java.util.concurrent.RejectedExecutionException =>
+          }
+        })
+    } else {
+      val result = executor.execute(gatlingVars, karateVars, logBuffer, statsReporter, session.scenario, session.groups)
+      next ! update(session, result)
+    }
+  }
 
+  private def update(session: Session, result: KarateExecutor.ExecutionResult): Session = {
     // Update session - use mutable map view to avoid hashCode computation on JS objects
     // (JS objects may have circular references that would cause StackOverflowError)
     val updatedKarate: scala.collection.mutable.Map[String, Any] = result.karateVars.asScala
@@ -195,12 +213,10 @@ class KarateScalaAction(
     } else {
       session.markAsFailed.set(KarateProtocol.KARATE_KEY, updatedKarate)
     }
-    val updatedSession = if (result.logBuffer == null) {
+    if (result.logBuffer == null) {
       withKarate
     } else {
       withKarate.set(KarateProtocol.LOG_KEY, result.logBuffer)
     }
-
-    next ! updatedSession
   }
 }
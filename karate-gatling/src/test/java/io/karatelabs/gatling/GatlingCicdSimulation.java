@@ -117,6 +117,23 @@ public class GatlingCicdSimulation extends Simulation {
             .exec(karateFeature("classpath:features/cats-create.feature"))
             .exec(karateFeature("classpath:features/cats-create-fail.feature"));
 
+    // Scenario 8: the chained pair again, with every feature on a virtual thread. The read only
+    // finds the cat if the create's __karate variables came back through the asynchronous hand-off
+    // to the session, so a count of successful reads checks the round-trip, not just the requests.
+    KarateProtocolBuilder virtualThreadsProtocol = karateProtocol(
+            uri("/cats/{id}").nil(),
+            uri("/cats").nil()
+    ).virtualThreads();
+
+    ScenarioBuilder virtualThreadsScenario = scenario("Virtual Threads")
+            .feed(catFeeder)
+            .exec(karateSet("name", s -> s.getString("name")))
+            .exec(karateSet("age", s -> s.getInt("age")))
+            .group("Virtual-Threads").on(
+                    exec(karateFeature("classpath:features/cats-create.feature"))
+                            .exec(karateFeature("classpath:features/cats-read.feature"))
+            );
+
     // Scenario 6: Group-wrapped CRUD to verify Gatling sub-group aggregation
     ScenarioBuilder groupedScenario = scenario("Grouped CRUD")
             .group("Grouped-CRUD").on(
@@ -152,7 +169,11 @@ public class GatlingCicdSimulation extends Simulation {
                 logReplayScenario.injectOpen(
                         nothingFor(1),
                         atOnceUsers(1)
-                ).protocols(logReplayProtocol)
+                ).protocols(logReplayProtocol),
+                virtualThreadsScenario.injectOpen(
+                        nothingFor(1),
+                        atOnceUsers(3)
+                ).protocols(virtualThreadsProtocol)
         ).protocols(protocol)
         .assertions(
                 // GET requests should succeed
@@ -164,7 +185,10 @@ public class GatlingCicdSimulation extends Simulation {
                 // Sub-group aggregation - 2 users x (1 POST + 1 GET) = 2 each
                 details("Grouped-CRUD", "POST /cats").successfulRequests().count().is(2L),
                 details("Grouped-CRUD", "GET /cats/{id}").successfulRequests().count().is(2L),
-                details("Grouped-CRUD", "POST /cats").failedRequests().count().is(0L)
+                details("Grouped-CRUD", "POST /cats").failedRequests().count().is(0L),
+                // Virtual threads - 3 users, each read depends on the id its create chained back
+                details("Virtual-Threads", "POST /cats").successfulRequests().count().is(3L),
+                details("Virtual-Threads", "GET /cats/{id}").successfulRequests().count().is(3L)
         );
     }
 
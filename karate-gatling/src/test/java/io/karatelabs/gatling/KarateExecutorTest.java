@@ -27,6 +27,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import io.karatelabs.core.Runner;
 import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +35,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -166,4 +169,56 @@ class KarateExecutorTest {
         assertTrue(ko.endsWith("- match failed: EQUALS"), "KO should carry the reason: " + ko);
         assertFalse(ko.contains("\n"), "KO message must stay a single line: " + ko);
     }
+
+    /**
+     * The virtual-thread mode hands the result back on the thread that ran the feature, and that
+     * must be a virtual one — the whole point is that a Gatling thread never waits on the feature.
+     */
+    @Test
+    void executeAsyncRunsTheFeatureOnAVirtualThread() throws Exception {
+        KarateExecutor executor = new KarateExecutor(
+                "classpath:features/pre-http-fail.feature", null, null, true);
+        CompletableFuture<Thread> ranOn = new CompletableFuture<>();
+        CompletableFuture<KarateExecutor.ExecutionResult> done = new CompletableFuture<>();
+        executor.executeAsync(new HashMap<>(), new HashMap<>(), null, null, "test", NO_GROUPS, result -> {
+            ranOn.complete(Thread.currentThread());
+            done.complete(result);
+        });
+        assertFalse(done.get(30, TimeUnit.SECONDS).success, "feature was expected to fail");
+        assertTrue(ranOn.get().isVirtual(), "ran on: " + ranOn.get());
+    }
+
+    /**
+     * A feature that throws instead of failing must still complete: the callback is what moves the
+     * Gatling virtual user on, and a user that never moves on holds the simulation open.
+     */
+    @Test
+    void executeAsyncCompletesWhenTheFeatureThrows() throws Exception {
+        KarateExecutor executor = new KarateExecutor(
+                "classpath:features/no-such-feature.feature", null, null, true);
+        Map<String, Object> karateVars = new HashMap<>();
+        karateVars.put("id", 42);
+        CompletableFuture<KarateExecutor.ExecutionResult> done = new CompletableFuture<>();
+        executor.executeAsync(new HashMap<>(), karateVars, null, null, "test", NO_GROUPS, done::complete);
+        KarateExecutor.ExecutionResult result = done.get(30, TimeUnit.SECONDS);
+        assertFalse(result.success);
+        assertEquals(42, result.karateVars.get("id"), "variables chained so far must survive the crash");
+    }
+
+    @Test
+    void virtualThreadsReachesTheProtocol() {
+        assertFalse(new KarateProtocolBuilder().build().isVirtualThreads());
+        assertTrue(new KarateProtocolBuilder().virtualThreads().build().isVirtualThreads());
+    }
+
+    @Test
+    void featurePlanIsPreparedOncePerFeatureAndTags() {
+        KarateProtocol protocol = new KarateProtocolBuilder().build();
+        String path = "classpath:features/pre-http-fail.feature";
+        Runner.FeaturePlan plan = protocol.featurePlan(path, null);
+        assertSame(plan, protocol.featurePlan(path, null));
+        assertSame(plan, protocol.featurePlan(path, List.of()));
+        assertNotSame(plan, protocol.featurePlan(path, List.of("@smoke")));
+        assertNotSame(plan, new KarateProtocolBuilder().build().featurePlan(path, null));
+    }
 }
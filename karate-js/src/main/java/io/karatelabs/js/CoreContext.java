@@ -67,6 +67,17 @@ class CoreContext implements Context {
 
     BindingsStore bindings;
 
+    // Slot-indexed locals (see FrameLayout). Set by JsFunctionNode#bindArgsAndExecute on the call
+    // frame of a function whose resolver numbered some of its locals; those locals live here and
+    // never in `bindings`. An entry stays null until its declaration runs. null on every other
+    // context, including block / loop scopes, which run on the function's own frame anyway.
+    FrameLayout layout;
+    BindingSlot[] frame;
+
+    // An operand of unboxed arithmetic that turned out not to be a plain number (a BigInt), handed
+    // from Interpreter#numericOperand to its caller, which takes it back at once (takeSpilled).
+    Object spilled;
+
     // Function context fields (non-null indicates this is a function context)
     final Object[] callArgs;
     final CoreContext outer;
@@ -257,6 +268,12 @@ class CoreContext implements Context {
     // outer (lexical parent for function contexts; dynamic parent
     // otherwise) → root (with lazy built-in init).
     BindingSlot resolve(String key) {
+        if (frame != null) {
+            int i = layout.indexOf(key);
+            if (i >= 0 && frame[i] != null) {
+                return frame[i];
+            }
+        }
         if (bindings != null) {
             BindingSlot s = bindings.getSlot(key);
             if (s != null) {
@@ -289,6 +306,35 @@ class CoreContext implements Context {
         return root.resolveOrInit(key);
     }
 
+    /**
+     * The frame slot a {@code REF_EXPR} was resolved to, or null when the name has to be looked up
+     * (not a numbered local, or one whose declaration has not run yet). Only nodes of the function
+     * this frame belongs to carry a slot, and only such a frame has a non-null {@link #frame}.
+     */
+    BindingSlot frameSlot(Node ref) {
+        BindingSlot[] f = frame;
+        if (f != null) {
+            int i = ref.getSlot();
+            if (i >= 0) {
+                return f[i];
+            }
+        }
+        return null;
+    }
+
+    /** True when every one of {@code names} is a local of this frame held in a slot. */
+    boolean isFrameLocal(List<String> names) {
+        if (frame == null) {
+            return false;
+        }
+        for (String name : names) {
+            if (layout.indexOf(name) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     Object get(String key) {
         if ("this".equals(key)) {
             return thisObject;
@@ -346,6 +392,13 @@ class CoreContext implements Context {
             // other keys/parameters) must keep their original .name per spec.
             fn.name = key;
         }
+        if (frame != null) {
+            int i = layout.indexOf(key);
+            if (i >= 0) {
+                declareLocal(i, key, value, scope, initialized);
+                return;
+            }
+        }
         if (scope != null) { // let or const
             BindingSlot existing = bindings == null ? null : bindings.getSlot(key);
             if (existing != null && existing.scope != null && existing.level == currentLevel) {
@@ -388,6 +441,34 @@ class CoreContext implements Context {
         }
     }
 
+    /**
+     * {@link #declare} for a binding identifier the resolver numbered: straight into the frame
+     * slot when there is a frame to hold it.
+     */
+    void declare(Node ident, Object value, BindScope scope, boolean initialized) {
+        int i = ident.getSlot();
+        if (i >= 0 && frame != null && !(value instanceof JsFunction)) {
+            declareLocal(i, ident.getText(), value, scope, initialized);
+        } else {
+            declare(ident.getText(), value, scope, initialized);
+        }
+    }
+
+    private void declareLocal(int i, String key, Object value, BindScope scope, boolean initialized) {
+        // the resolver only numbers names that cannot collide, so none of the redeclaration /
+        // shadowing bookkeeping of the named path applies
+        BindingSlot s = frame[i];
+        if (s == null) {
+            frame[i] = new BindingSlot(key, value, scope, scope == null || initialized);
+        } else {
+            s.value = value;
+            if (scope != null) {
+                s.scope = scope;
+                s.initialized = initialized;
+            }
+        }
+    }
+
     void update(String key, Object value) {
         update(key, value, null);
     }
@@ -403,6 +484,26 @@ class CoreContext implements Context {
             assignImplicitGlobal(key, value, node);
             return;
         }
+        assign(s, key, value, node);
+    }
+
+    /** {@link #update(String, Object, Node)} for an identifier {@code REF_EXPR}, by slot when it has one. */
+    void update(Node ref, Object value, Node node) {
+        BindingSlot s = frameSlot(ref);
+        if (s != null) {
+            assign(s, s.name, value, node);
+        } else {
+            update(ref.getText(), value, node);
+        }
+    }
+
+    /** {@link #get(String)} for an identifier {@code REF_EXPR}, by slot when it has one. */
+    Object get(Node ref) {
+        BindingSlot s = frameSlot(ref);
+        return s != null ? readSlot(s, s.name) : get(ref.getText());
+    }
+
+    private void assign(BindingSlot s, String key, Object value, Node node) {
         if (s.scope == BindScope.CONST && s.initialized) {
             throw JsErrorException.typeError("assignment to constant: " + key);
         }
@@ -102,6 +102,10 @@ public class Engine {
     // prototype in this Engine session. See Prototype.isNumericPropPolluted.
     boolean numericPropPolluted;
 
+    // Shared with other engines when set (a Suite hands one to every scenario),
+    // so eval(String) parses each distinct source text once. Null: parse every time.
+    private ParseCache parseCache;
+
     /** Per-Engine user-property overlay for {@code proto} — null when absent
      *  and {@code create} is false. Engine instances are single-threaded at a
      *  time (same posture as {@link BindingsStore}), so plain maps suffice. */
@@ -139,7 +143,7 @@ public class Engine {
     }
 
     public Object eval(String text) {
-        return evalInternal(Resource.text(text), null);
+        return parseCache == null ? evalInternal(Resource.text(text), null) : evalInternal(parseCache.get(text), null);
     }
 
     /**
@@ -156,7 +160,7 @@ public class Engine {
     }
 
     public Object evalWith(String text, Map<String, Object> vars) {
-        return evalWith(Resource.text(text), vars);
+        return parseCache == null ? evalWith(Resource.text(text), vars) : evalInternal(parseCache.get(text), vars);
     }
 
     public Object evalWith(Resource resource, Map<String, Object> vars) {
@@ -179,6 +183,19 @@ public class Engine {
         bindings.remove(name);
     }
 
+    /**
+     * Have {@link #eval(String)} and {@link #evalWith(String, Map)} take parsed programs from
+     * {@code parseCache} (which may be shared with any number of other engines) instead of
+     * parsing the text on every call. Null turns caching off again.
+     */
+    public void setParseCache(ParseCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
     public void setOnConsoleLog(Consumer<String> onConsoleLog) {
         root.setOnConsoleLog(onConsoleLog);
     }
@@ -214,6 +231,38 @@ public class Engine {
         return bindings.getRawMap(true);
     }
 
+    /**
+     * {@code value} re-created over this engine's globals when it is a function that a script
+     * declared at the top level of another engine, else {@code value} itself.
+     * <p>
+     * A function resolves free names where it was declared, so one handed from one engine to
+     * another still reads and writes the first engine's globals. A host that runs the same
+     * definitions in several engines at once (a concurrent mock, one engine per in-flight request)
+     * re-creates them here, and each copy sees the globals of the engine it is called from. A
+     * function that closes over anything narrower than the globals (one returned from another
+     * function, a class or method) keeps that closure and is returned unchanged.
+     */
+    public Object rebind(Object value) {
+        boolean wrapped = value instanceof JsFunctionWrapper;
+        Object target = value;
+        // a function that went through a host map and back more than once is wrapped once per trip
+        while (target instanceof JsFunctionWrapper wrapper) {
+            target = wrapper.unwrap();
+        }
+        if (!(target instanceof JsFunctionNode fn)) {
+            return value;
+        }
+        CoreContext declared = fn.declaredContext;
+        if (declared == null || declared.root == root || declared.parent != null || declared.outer != null
+                || declared.depth != 0 || fn.homeObject != null || fn.isClassConstructor) {
+            return value;
+        }
+        CoreContext context = new CoreContext(root, null, 0, declared.node, ContextScope.GLOBAL, bindings);
+        JsFunctionNode copy = new JsFunctionNode(fn.arrow, fn.node, fn.argNodes, fn.body, context);
+        copy.name = fn.name;
+        return wrapped ? new JsFunctionWrapper(copy) : copy;
+    }
+
     public void setListener(ContextListener listener) {
         root.listener = listener;
     }
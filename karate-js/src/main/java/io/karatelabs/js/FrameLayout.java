@@ -0,0 +1,354 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.js;
+
+import io.karatelabs.parser.Node;
+import io.karatelabs.parser.NodeType;
+import io.karatelabs.parser.TokenType;
+
+import java.util.*;
+
+/**
+ * Slot numbering for the locals of one function: the resolver pass that runs once per function
+ * subtree, after parsing, the second time a function made from it is called. A function that runs
+ * once (the IIFE wrapping a script, most of karate-config.js) gains nothing from slots and would
+ * only pay for the resolver, so the first call just marks the node.
+ * <p>
+ * A numbered local lives in the call frame's {@link CoreContext#frame} array instead of the
+ * frame's {@link BindingsStore}. A read of it from a {@code REF_EXPR} is an array load off the
+ * node's {@link Node#getSlot() slot}: no string hash, no walk of the scope chain. Declarations
+ * and plain or compound assignments to it go by slot the same way. Everything else that binds or
+ * looks up by name ({@code declare}, {@code update}, {@code typeof}, object
+ * shorthand, ...) reaches the same slot through {@link #indexOf}. Just as important, a function
+ * whose locals are all numbered never allocates a {@code BindingsStore}, so leaving a block or a
+ * loop iteration has no {@code popLevel} sweep to do.
+ * <p>
+ * One slot per name is only exact when no two bindings of that name can be live at once, and when
+ * nothing outside this frame can reach the binding. So a name is left to named lookup when:
+ * <ul>
+ *   <li>a nested function or class mentions it: closures capture {@code BindingSlot}s (per loop
+ *       iteration, for {@code let}) and walk the declaring context by name</li>
+ *   <li>it is declared twice in one scope, or in a scope nested inside another declaring it
+ *       (shadowing), or as both {@code var}/parameter and {@code let}/{@code const}/catch
+ *       parameter. The named path keeps raising its "already declared" errors.</li>
+ *   <li>it is mentioned outside every block that declares it (that mention means some outer
+ *       binding)</li>
+ *   <li>it is bound by a destructuring pattern</li>
+ *   <li>it is {@code let}/{@code const} and mentioned before its declaration, or scoped to a
+ *       {@code switch}, whose cases can jump past it. A slot is not cleared when its block is
+ *       entered again, so such a read would see the previous pass's value where the named path
+ *       finds no binding and throws.</li>
+ * </ul>
+ * A function that mentions {@code eval} at all gets no slots. Until its declaration has run, a
+ * slot is empty and lookup falls through to the named chain, exactly as an undeclared name did
+ * before.
+ */
+final class FrameLayout {
+
+    private static final FrameLayout NONE = new FrameLayout(Collections.emptyMap());
+    // analysis of a function node that has been called once, and not resolved yet
+    private static final Object CALLED_ONCE = new Object();
+
+    private final Map<String, Integer> index;
+
+    private FrameLayout(Map<String, Integer> index) {
+        this.index = index;
+    }
+
+    /**
+     * The layout to run a call of this {@code FN_EXPR} / {@code FN_ARROW_EXPR} with, kept on the
+     * node once resolved. null on the first call, and when none of its locals could be numbered.
+     */
+    static FrameLayout forCall(Node fn) {
+        Object analysis = fn.getAnalysis();
+        if (analysis instanceof FrameLayout layout) {
+            return layout == NONE ? null : layout;
+        }
+        if (analysis == null) {
+            fn.setAnalysis(CALLED_ONCE);
+            return null;
+        }
+        return of(fn);
+    }
+
+    /** The layout of a function node, resolving it now if that has not happened yet. */
+    static FrameLayout of(Node fn) {
+        FrameLayout layout = fn.getAnalysis() instanceof FrameLayout cached ? cached : null;
+        if (layout == null) {
+            layout = new Resolver(fn).resolve();
+            fn.setAnalysis(layout); // publishes the slots written by resolve()
+        }
+        return layout == NONE ? null : layout;
+    }
+
+    int indexOf(String name) {
+        Integer i = index.get(name);
+        return i == null ? -1 : i;
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    @Override
+    public String toString() {
+        return index.toString();
+    }
+
+    private record Decl(Node token, Node scope, boolean lexical) {
+    }
+
+    private static final class Resolver {
+
+        final Node fn;
+        // insertion order is slot order: parameters first, then declarations in source order
+        final Map<String, List<Decl>> decls = new LinkedHashMap<>();
+        final Map<String, List<Node>> mentions = new HashMap<>();
+        final Set<String> excluded = new HashSet<>();
+        final Set<Node> declTokens = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<Node> refs = new ArrayList<>();
+        boolean dynamic;
+
+        Resolver(Node fn) {
+            this.fn = fn;
+            // bound by the runtime itself, never by a declaration here
+            excluded.add("this");
+            excluded.add("arguments");
+        }
+
+        FrameLayout resolve() {
+            declareParams();
+            walk(fn);
+            if (dynamic) {
+                return NONE;
+            }
+            Map<String, Integer> index = new HashMap<>();
+            for (Map.Entry<String, List<Decl>> e : decls.entrySet()) {
+                if (isSlottable(e.getKey(), e.getValue())) {
+                    index.put(e.getKey(), index.size());
+                }
+            }
+            if (index.isEmpty()) {
+                return NONE;
+            }
+            for (Node ref : refs) {
+                Integer i = index.get(ref.getFirst().getText());
+                if (i != null) {
+                    ref.setSlot(i);
+                }
+            }
+            for (Node token : declTokens) {
+                Integer i = index.get(token.getText());
+                if (i != null) {
+                    token.setSlot(i);
+                }
+            }
+            return new FrameLayout(index);
+        }
+
+        void declareParams() {
+            Node first = fn.getFirst();
+            if (fn.type == NodeType.FN_ARROW_EXPR && first.isToken() && first.token.type == TokenType.IDENT) {
+                declare(first, fn, false); // x => ...
+                return;
+            }
+            for (int i = 0, n = fn.size(); i < n; i++) {
+                Node child = fn.get(i);
+                if (child.isToken() && child.token.type == TokenType.IDENT) {
+                    // `function foo()`: inside the body, foo is the binding made where it was declared
+                    excluded.add(child.getText());
+                } else if (child.type == NodeType.FN_DECL_ARGS) {
+                    for (Node arg : child.findImmediateChildren(NodeType.FN_DECL_ARG)) {
+                        Node target = arg.getFirst();
+                        if (target.isToken() && target.token.type == TokenType.DOT_DOT_DOT) {
+                            target = arg.getLast();
+                        }
+                        if (target.isToken() && target.token.type == TokenType.IDENT) {
+                            declare(target, fn, false);
+                        } else {
+                            exclude(target);
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+
+        void walk(Node node) {
+            for (int i = 0, n = node.size(); i < n; i++) {
+                Node child = node.get(i);
+                if (child.isToken()) {
+                    if (child.token.type == TokenType.IDENT) {
+                        mention(child);
+                    }
+                    continue;
+                }
+                switch (child.type) {
+                    case FN_EXPR, FN_ARROW_EXPR, CLASS_EXPR -> {
+                        exclude(child); // captured by the nested function, or at least visible to it
+                        continue;
+                    }
+                    case VAR_DECL -> declareVar(child);
+                    case TRY_STMT -> declareCatchParam(child);
+                    case REF_EXPR -> {
+                        Node first = child.getFirst();
+                        if (first.isToken() && first.token.type == TokenType.IDENT) {
+                            refs.add(child);
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                walk(child);
+            }
+        }
+
+        void declareVar(Node declarator) {
+            Node binding = declarator.getFirst();
+            if (!binding.isToken() || binding.token.type != TokenType.IDENT) {
+                exclude(binding);
+                return;
+            }
+            if (declarator.getParent().getFirstToken().type == TokenType.VAR) {
+                declare(binding, fn, false);
+            } else { // let, const
+                declare(binding, nearestScope(declarator), true);
+            }
+        }
+
+        void declareCatchParam(Node tryStmt) {
+            if (tryStmt.size() > 6 && tryStmt.get(2).token.type == TokenType.CATCH
+                    && tryStmt.get(3).token.type == TokenType.L_PAREN) {
+                Node param = tryStmt.get(4);
+                if (param.isToken() && param.token.type == TokenType.IDENT) {
+                    declare(param, tryStmt.get(6), true); // scoped to the catch block
+                } else {
+                    exclude(param);
+                }
+            }
+        }
+
+        void declare(Node token, Node scope, boolean lexical) {
+            declTokens.add(token);
+            decls.computeIfAbsent(token.getText(), k -> new ArrayList<>(2)).add(new Decl(token, scope, lexical));
+        }
+
+        void mention(Node token) {
+            String name = token.getText();
+            if ("eval".equals(name)) {
+                dynamic = true;
+            }
+            mentions.computeIfAbsent(name, k -> new ArrayList<>(4)).add(token);
+        }
+
+        void exclude(Node node) {
+            if (node.isToken()) {
+                if (node.token.type == TokenType.IDENT) {
+                    excluded.add(node.getText());
+                    if ("eval".equals(node.getText())) {
+                        dynamic = true;
+                    }
+                }
+                return;
+            }
+            for (int i = 0, n = node.size(); i < n; i++) {
+                exclude(node.get(i));
+            }
+        }
+
+        // the block-ish node a let / const is scoped to, the way the interpreter enters scopes
+        Node nearestScope(Node node) {
+            Node p = node.getParent();
+            while (p != null && p != fn) {
+                if (p.type == NodeType.BLOCK || p.type == NodeType.FOR_STMT || p.type == NodeType.SWITCH_STMT) {
+                    return p;
+                }
+                p = p.getParent();
+            }
+            return fn;
+        }
+
+        boolean contains(Node scope, Node node) {
+            for (Node p = node; p != null; p = p.getParent()) {
+                if (p == scope) {
+                    return true;
+                }
+                if (p == fn) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        boolean isSlottable(String name, List<Decl> list) {
+            if (excluded.contains(name)) {
+                return false;
+            }
+            boolean lexical = list.get(0).lexical();
+            for (Decl decl : list) {
+                if (decl.lexical() != lexical) {
+                    return false; // var (or parameter) and let / const / catch of one name
+                }
+            }
+            if (!lexical) {
+                return true; // function-scoped: one binding, visible throughout
+            }
+            for (int i = 0; i < list.size(); i++) {
+                for (int j = i + 1; j < list.size(); j++) {
+                    Node a = list.get(i).scope();
+                    Node b = list.get(j).scope();
+                    if (contains(a, b) || contains(b, a)) {
+                        return false; // redeclared in one scope, or shadowed
+                    }
+                }
+            }
+            for (Decl decl : list) {
+                if (decl.scope().type == NodeType.SWITCH_STMT) {
+                    return false; // a case label can jump past the declaration
+                }
+            }
+            for (Node token : mentions.getOrDefault(name, Collections.emptyList())) {
+                if (declTokens.contains(token)) {
+                    continue;
+                }
+                Decl declaring = null;
+                for (Decl decl : list) {
+                    if (contains(decl.scope(), token)) {
+                        declaring = decl;
+                        break;
+                    }
+                }
+                if (declaring == null) {
+                    return false; // a mention that means some outer binding
+                }
+                if (token.token.pos < declaring.token().token.pos) {
+                    return false; // in the TDZ: on a second pass the slot still holds the last value
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
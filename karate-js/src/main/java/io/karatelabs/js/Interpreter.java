@@ -174,7 +174,7 @@ class Interpreter {
             PropertyAccess.set(bindings, context, value);
         } else if (bindings.isToken() && bindings.token.type == IDENT) {
             String name = bindings.getText();
-            context.declare(name, value, toScope(bindScope), initialized);
+            context.declare(bindings, value, toScope(bindScope), initialized);
             if (context.root.listener != null) {
                 context.root.listener.onBind(BindEvent.declare(name, value, bindScope, context, bindings));
             }
@@ -1231,6 +1231,13 @@ class Interpreter {
                             }
                         }
                         loopVarScope = node.get(2).getFirstToken().type == LET ? BindScope.LET : BindScope.CONST;
+                        // A per-iteration binding is only observable through a closure that
+                        // captured it, and a loop variable living in a frame slot is one no
+                        // closure mentions (see FrameLayout) - so it can take the shared-binding
+                        // path below, without the scope churn and copying of each iteration.
+                        if (context.isFrameLocal(loopVarNames)) {
+                            isLetOrConst = false;
+                        }
                     }
                 } else {
                     isLetOrConst = false;
@@ -1790,6 +1797,15 @@ class Interpreter {
     private static Object evalLitExpr(Node node, CoreContext context) {
         node = node.getFirst();
         if (node.isToken()) {
+            if (node.token.type == NUMBER) {
+                // parsed once per tree: the boxed Number is immutable, so the node can keep it
+                Object number = node.getAnalysis();
+                if (number == null) {
+                    number = Terms.literalValue(node.token);
+                    node.setAnalysis(number);
+                }
+                return number;
+            }
             Object value = Terms.literalValue(node.token);
             // Unescape string literals at runtime
             if (value instanceof String s && (node.token.type == TokenType.S_STRING || node.token.type == TokenType.D_STRING)) {
@@ -1832,7 +1848,7 @@ class Interpreter {
         if (context.root.listener != null) {
             context.event(EventType.COMPARE, node, new Object[]{lhs, node.get(1).getText(), rhs});
         }
-        if (Terms.NAN.equals(lhs) || Terms.NAN.equals(rhs)) {
+        if (Terms.isNaN(lhs) || Terms.isNaN(rhs)) {
             if (logicOp == NOT_EQ || logicOp == NOT_EQ_EQ) {
                 return true;  // NaN is not equal to anything, including itself
             }
@@ -1907,23 +1923,144 @@ class Interpreter {
     private static Object evalMathAddExpr(Node node, CoreContext context) {
         return switch (node.get(1).token.type) {
             case PLUS -> {
-                Object lhs = eval(node.get(0), context);
-                yield context.isError() ? Terms.UNDEFINED : Terms.add(lhs, eval(node.get(2), context), context);
+                Node lhsNode = node.get(0);
+                Node rhsNode = node.get(2);
+                if (isNumericExpr(lhsNode) || isNumericExpr(rhsNode)) {
+                    yield evalNumericPlus(lhsNode, rhsNode, context);
+                }
+                Object lhs = eval(lhsNode, context);
+                yield context.isError() ? Terms.UNDEFINED : Terms.add(lhs, eval(rhsNode, context), context);
             }
-            case MINUS -> terms(node, context).min();
+            case MINUS -> boxNumeric(evalNumeric(node, context), context);
             default -> throw new RuntimeException("unexpected operator: " + node.get(1));
         };
     }
 
     private static Object evalMathMulExpr(Node node, CoreContext context) {
-        return switch (node.get(1).token.type) {
-            case STAR -> terms(node, context).mul();
-            case SLASH -> terms(node, context).div();
-            case PERCENT -> terms(node, context).mod();
+        return boxNumeric(evalNumeric(node, context), context);
+    }
+
+    // Unboxed arithmetic. `-`, `*`, `/` and `%` always produce a Number (or a BigInt), so a tree of
+    // them - `a[i].price * a[i].qty - discount` - is evaluated on primitive doubles and boxed once,
+    // by narrow(), where the result leaves the tree. The result is exactly what boxing each step
+    // would give: narrow() only ever picks an int / long / double holding the same value.
+    //
+    // A BigInt cannot ride on a double. An operand that turns out to be one is parked in
+    // context.spilled and NaN returned in its place; the node consuming it takes it back at once
+    // and finishes on the boxed Terms path, spilling its own result the same way if that is a
+    // BigInt too. A NaN with nothing spilled is just NaN.
+
+    private static boolean isNumericExpr(Node node) {
+        return node.type == NodeType.MATH_MUL_EXPR
+                || (node.type == NodeType.MATH_ADD_EXPR && node.get(1).token.type == MINUS);
+    }
+
+    private static Object boxNumeric(double value, CoreContext context) {
+        Object spilled = takeSpilled(value, context);
+        return spilled != null ? spilled : Terms.narrow(value);
+    }
+
+    private static Object takeSpilled(double value, CoreContext context) {
+        if (value == value || context.spilled == null) {
+            return null;
+        }
+        Object spilled = context.spilled;
+        context.spilled = null;
+        return spilled;
+    }
+
+    private static double numericOperand(Node node, CoreContext context) {
+        if (isNumericExpr(node)) {
+            return evalNumeric(node, context);
+        }
+        Object value = eval(node, context);
+        if (value instanceof Integer i) {
+            return i;
+        }
+        if (value instanceof Double d) {
+            return d;
+        }
+        Number number = Terms.objectToNumber(value);
+        if (number instanceof java.math.BigInteger) {
+            context.spilled = number;
+            return Double.NaN;
+        }
+        return number.doubleValue();
+    }
+
+    private static double evalNumeric(Node node, CoreContext context) {
+        TokenType operator = node.get(1).token.type;
+        double lhs = numericOperand(node.get(0), context);
+        Object lhsSpilled = takeSpilled(lhs, context);
+        if (context.isError()) {
+            return Double.NaN; // as `lhs op undefined`; the pending error is what the caller sees
+        }
+        double rhs = numericOperand(node.get(2), context);
+        Object rhsSpilled = takeSpilled(rhs, context);
+        if (lhsSpilled != null || rhsSpilled != null) {
+            Terms terms = terms(lhsSpilled != null ? lhsSpilled : Terms.narrow(lhs),
+                    rhsSpilled != null ? rhsSpilled : Terms.narrow(rhs));
+            Object result = switch (operator) {
+                case MINUS -> terms.min();
+                case STAR -> terms.mul();
+                case SLASH -> terms.div();
+                case PERCENT -> terms.mod();
+                default -> throw new RuntimeException("unexpected operator: " + node.get(1));
+            };
+            if (result instanceof java.math.BigInteger) {
+                context.spilled = result;
+                return Double.NaN;
+            }
+            return ((Number) result).doubleValue();
+        }
+        return switch (operator) {
+            case MINUS -> lhs - rhs;
+            case STAR -> lhs * rhs;
+            case SLASH -> lhs / rhs;
+            case PERCENT -> lhs % rhs;
             default -> throw new RuntimeException("unexpected operator: " + node.get(1));
         };
     }
 
+    // `x * y + z`: binary + can concatenate, so it only stays unboxed when both sides are numbers.
+    private static Object evalNumericPlus(Node lhsNode, Node rhsNode, CoreContext context) {
+        boolean lhsUnboxed = isNumericExpr(lhsNode);
+        double lhsValue = 0;
+        Object lhs = null;
+        if (lhsUnboxed) {
+            lhsValue = evalNumeric(lhsNode, context);
+            lhs = takeSpilled(lhsValue, context);
+            lhsUnboxed = lhs == null;
+        } else {
+            lhs = eval(lhsNode, context);
+        }
+        if (context.isError()) {
+            return Terms.UNDEFINED;
+        }
+        boolean rhsUnboxed = isNumericExpr(rhsNode);
+        double rhsValue = 0;
+        Object rhs = null;
+        if (rhsUnboxed) {
+            rhsValue = evalNumeric(rhsNode, context);
+            rhs = takeSpilled(rhsValue, context);
+            rhsUnboxed = rhs == null;
+        } else {
+            rhs = eval(rhsNode, context);
+        }
+        if (!lhsUnboxed && (lhs instanceof Integer || lhs instanceof Double)) {
+            lhsValue = ((Number) lhs).doubleValue();
+            lhsUnboxed = true;
+        }
+        if (!rhsUnboxed && (rhs instanceof Integer || rhs instanceof Double)) {
+            rhsValue = ((Number) rhs).doubleValue();
+            rhsUnboxed = true;
+        }
+        if (lhsUnboxed && rhsUnboxed) {
+            return Terms.narrow(lhsValue + rhsValue);
+        }
+        return Terms.add(lhsUnboxed ? Terms.narrow(lhsValue) : lhs, rhsUnboxed ? Terms.narrow(rhsValue) : rhs, context);
+    }
+
     private static Object evalMathPostExpr(Node node, CoreContext context) {
         boolean isIncrement = node.get(1).token.type == PLUS_PLUS;
         return PropertyAccess.postIncDec(node.get(0), context, isIncrement);
@@ -2048,6 +2185,10 @@ class Interpreter {
         if (node.getFirst().type == NodeType.FN_ARROW_EXPR) { // arrow function
             return evalFnArrowExpr(node.getFirst(), context);
         }
+        BindingSlot local = context.frameSlot(node);
+        if (local != null) {
+            return context.readSlot(local, local.name);
+        }
         String varName = node.getText();
         if ("this".equals(varName)) {
             return context.getThisObject();
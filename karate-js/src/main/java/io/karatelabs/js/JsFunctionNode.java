@@ -45,6 +45,10 @@ class JsFunctionNode extends JsFunction {
     final int argCount;
     final CoreContext declaredContext;
     final BindingsStore capturedBindings; // References to Slots at creation time, frozen-shape
+    // Whether calls can use slot-indexed frames - see FrameLayout#forCall. The layout itself is
+    // kept on the node, so re-creating the same closure, or sharing the tree through a
+    // ParseCache, does not resolve it again.
+    private final boolean slotted;
     // Strict-mode is lexical: a function is strict if it carries its own
     // "use strict" prologue OR it was defined inside already-strict code
     // (declaredContext.strict). Resolved once at creation; the call frame
@@ -106,6 +110,7 @@ class JsFunctionNode extends JsFunction {
         this.length = argCount;
         // Capture references to let/const Slots at creation time for closure semantics
         this.capturedBindings = captureBindings(declaredContext);
+        this.slotted = node.type == NodeType.FN_EXPR || node.type == NodeType.FN_ARROW_EXPR;
     }
 
     private static BindingsStore captureBindings(CoreContext context) {
@@ -186,6 +191,11 @@ class JsFunctionNode extends JsFunction {
 
     // Called by Interpreter when context is pre-prepared with closure info
     Object bindArgsAndExecute(CoreContext functionContext, CoreContext parentContext, Object[] args) {
+        FrameLayout layout = slotted ? FrameLayout.forCall(node) : null;
+        if (layout != null) {
+            functionContext.layout = layout;
+            functionContext.frame = new BindingSlot[layout.size()];
+        }
         for (int i = 0; i < argCount; i++) {
             Node argNode = argNodes.get(i);
             Node first = argNode.getFirst();
@@ -215,8 +225,7 @@ class JsFunctionNode extends JsFunction {
             if (first.type == NodeType.LIT_ARRAY || first.type == NodeType.LIT_OBJECT) {
                 Interpreter.evalAssign(first, functionContext, BindScope.VAR, argValue, true);
             } else {
-                String argName = first.getText();
-                functionContext.put(argName, argValue);
+                functionContext.declare(first, argValue, null, true);
             }
         }
         Object result = Interpreter.eval(body, functionContext);
@@ -38,6 +38,10 @@ public class JsFunctionWrapper extends JsFunction {
         this.delegate = delegate;
     }
 
+    JsFunction unwrap() {
+        return delegate;
+    }
+
     @Override
     public Object call(Context ctx, Object[] args) {
         Object result = delegate.call(ctx, args);
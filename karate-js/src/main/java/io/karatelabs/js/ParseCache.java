@@ -0,0 +1,166 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2025 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.js;
+
+import io.karatelabs.parser.Node;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Parsed programs keyed by their source text, for {@link Engine#eval(String)} and
+ * {@link Engine#evalWith(String, Map)}. Step expressions are a small set of strings evaluated over and
+ * over — every {@code * def} and {@code * match} of every scenario, every mock predicate, and in a
+ * performance run every one of those again per virtual user — and without this each evaluation lexes
+ * and parses its text from scratch.
+ * <p>
+ * One cache is meant to be shared by many engines on many threads (a Suite hands its cache to every
+ * scenario's engine), which is safe because a parsed tree is read-only once the parser returns — see
+ * {@link Node}. Only successful parses are kept: a syntax error is re-raised, freshly, every time.
+ * <p>
+ * Bounded two ways. Sources longer than {@code maxSourceLength} are never cached — those are whole
+ * scripts, evaluated once, and only the key would be retained. And past {@code maxEntries} a
+ * second-chance sweep evicts whatever has not been hit since the previous sweep, so a run that keeps
+ * producing new strings (request data pasted into an expression, say) cannot grow it without limit.
+ */
+public class ParseCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 8192;
+    public static final int DEFAULT_MAX_SOURCE_LENGTH = 4096;
+
+    private static final class Entry {
+
+        final Node program;
+        // set on every hit, cleared by a sweep - a racy flag, which is all second-chance needs
+        volatile boolean referenced;
+
+        Entry(Node program) {
+            this.program = program;
+        }
+
+    }
+
+    private final int maxEntries;
+    private final int maxSourceLength;
+    private final ConcurrentHashMap<String, Entry> map = new ConcurrentHashMap<>();
+    // one sweeper at a time; everyone else carries on rather than queue behind it
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ParseCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_SOURCE_LENGTH);
+    }
+
+    public ParseCache(int maxEntries, int maxSourceLength) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.maxSourceLength = maxSourceLength;
+    }
+
+    /**
+     * The parsed program for {@code text}, parsing it on a miss. Two threads missing on the same text at
+     * once may both parse it; the trees are equivalent and one of them is kept.
+     */
+    public Node get(String text) {
+        if (text.length() > maxSourceLength) {
+            misses.increment();
+            return Engine.parse(text);
+        }
+        Entry entry = map.get(text);
+        if (entry != null) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.program;
+        }
+        misses.increment();
+        Node program = Engine.parse(text);
+        map.putIfAbsent(text, new Entry(program));
+        if (map.size() > maxEntries) {
+            sweep();
+        }
+        return program;
+    }
+
+    private void sweep() {
+        if (!sweepLock.tryLock()) {
+            return;
+        }
+        try {
+            // down to a low-water mark, so that a full cache is not swept again on the very next miss
+            int target = maxEntries - maxEntries / 8;
+            // the first pass clears the flags it passes over, so a second one always finds victims
+            for (int pass = 0; pass < 2 && map.size() > target; pass++) {
+                Iterator<Entry> iterator = map.values().iterator();
+                while (iterator.hasNext() && map.size() > target) {
+                    Entry entry = iterator.next();
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                    } else {
+                        iterator.remove();
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "parse cache: " + size() + " entries, " + getHits() + " hits, " + getMisses() + " misses, "
+                + getEvictions() + " evictions";
+    }
+
+}
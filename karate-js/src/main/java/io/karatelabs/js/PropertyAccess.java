@@ -101,6 +101,58 @@ class PropertyAccess {
         }
     }
 
+    /**
+     * Inline cache of one {@code obj.name} site, kept as the node's analysis: the built-in
+     * {@code value} that {@code name} resolved to from {@code proto}, for a receiver that did not
+     * have {@code name} itself. Covers the reads that otherwise walk a prototype chain every time
+     * — {@code arr.map}, {@code str.toUpperCase}, {@code body.hasOwnProperty} — and only for
+     * receivers whose own lookup {@link #protoIfNotOwn} can answer without side effects.
+     * <p>
+     * The prototype side is validated by {@link Prototype#isPristine()}: built-in prototypes hold
+     * immutable install-time maps, and the first user write to any of them (in any engine) turns
+     * every entry off for good. The receiver side is re-checked on every hit. Entries are immutable
+     * and the site keeps the first one it fills, so a tree shared by many engines and threads
+     * (see {@link ParseCache}) sees either no entry or a complete one.
+     */
+    private record ProtoHit(ObjectLike proto, Object value) {
+    }
+
+    /**
+     * The prototype a read of {@code name} on {@code object} continues to when {@code object} has
+     * no such property of its own, or null when it has one or its kind is not cached. Dot names
+     * are identifiers, so never an array or string index.
+     */
+    private static ObjectLike protoIfNotOwn(Object object, String name) {
+        if (object instanceof String) {
+            return "length".equals(name) ? null : JsStringPrototype.INSTANCE;
+        }
+        Class<?> type = object.getClass();
+        if (type == JsObject.class || type == JsString.class) {
+            JsObject jsObj = (JsObject) object;
+            return jsObj.isOwnProperty(name) ? null : jsObj.getPrototype();
+        }
+        if (type == JsArray.class) {
+            JsArray jsArr = (JsArray) object;
+            return jsArr.isOwnProperty(name) ? null : jsArr.getPrototype();
+        }
+        return null;
+    }
+
+    private static Object getByNameCached(Node node, Object object, String name, boolean optional,
+                                          CoreContext context, boolean functionCall) {
+        if (node.getAnalysis() instanceof ProtoHit hit && Prototype.isPristine()
+                && protoIfNotOwn(object, name) == hit.proto()) {
+            return hit.value();
+        }
+        Object result = getByName(object, name, optional, context, functionCall);
+        if (result != null && node.getAnalysis() == null && !"__proto__".equals(name)
+                && protoIfNotOwn(object, name) instanceof Prototype proto
+                && proto.stableBuiltin(name) == result) {
+            node.setAnalysis(new ProtoHit(proto, result));
+        }
+        return result;
+    }
+
     /**
      * Resolves a REF_DOT_EXPR / REF_BRACKET_EXPR for write operations
      * (set / compound / inc-dec / delete). Used by everything except the read
@@ -191,7 +243,7 @@ class PropertyAccess {
      */
     static void set(Node node, CoreContext context, Object value, Node trackingNode) {
                 switch (node.type) {
-            case REF_EXPR -> context.update(node.getText(), value, trackingNode);
+            case REF_EXPR -> context.update(node, value, trackingNode);
             case REF_DOT_EXPR, REF_BRACKET_EXPR -> {
                 AccessSite site = resolveWriteSite(node, context);
                 if (site == null) return;
@@ -219,10 +271,9 @@ class PropertyAccess {
     static Object compound(Node node, CoreContext context, TokenType operator, Object operand, Node trackingNode) {
                 return switch (node.type) {
             case REF_EXPR -> {
-                String name = node.getText();
-                Object oldValue = context.get(name);
+                Object oldValue = context.get(node);
                 Object newValue = applyOperator(oldValue, operator, operand, context);
-                context.update(name, newValue, trackingNode);
+                context.update(node, newValue, trackingNode);
                 yield newValue;
             }
             case REF_DOT_EXPR, REF_BRACKET_EXPR -> {
@@ -245,12 +296,11 @@ class PropertyAccess {
     static Object logicalCompound(Node node, CoreContext context, TokenType operator, Node rhsNode, Node trackingNode) {
                 return switch (node.type) {
             case REF_EXPR -> {
-                String name = node.getText();
-                Object oldValue = context.get(name);
+                Object oldValue = context.get(node);
                 if (!shouldLogicalAssign(operator, oldValue)) yield oldValue;
                 Object newValue = Interpreter.eval(rhsNode, context);
                 if (context.isStopped()) yield null;
-                context.update(name, newValue, trackingNode);
+                context.update(node, newValue, trackingNode);
                 yield newValue;
             }
             case REF_DOT_EXPR, REF_BRACKET_EXPR -> {
@@ -318,11 +368,10 @@ class PropertyAccess {
     static Object postIncDec(Node node, CoreContext context, boolean isIncrement) {
                 return switch (node.type) {
             case REF_EXPR -> {
-                String name = node.getText();
-                Object oldValue = context.get(name);
+                Object oldValue = context.get(node);
                 Object step = Terms.incDecStep(oldValue);
                 Object newValue = isIncrement ? Terms.add(oldValue, step, context) : new Terms(oldValue, step).min();
-                context.update(name, newValue);
+                context.update(node, newValue, null);
                 yield oldValue;
             }
             case REF_DOT_EXPR, REF_BRACKET_EXPR -> {
@@ -347,11 +396,10 @@ class PropertyAccess {
     static Object preIncDec(Node node, CoreContext context, boolean isIncrement) {
                 return switch (node.type) {
             case REF_EXPR -> {
-                String name = node.getText();
-                Object oldValue = context.get(name);
+                Object oldValue = context.get(node);
                 Object step = Terms.incDecStep(oldValue);
                 Object newValue = isIncrement ? Terms.add(oldValue, step, context) : new Terms(oldValue, step).min();
-                context.update(name, newValue);
+                context.update(node, newValue, null);
                 yield newValue;
             }
             case REF_DOT_EXPR, REF_BRACKET_EXPR -> {
@@ -390,8 +438,9 @@ class PropertyAccess {
 
     private static Object getRefExpr(Node node, CoreContext context, boolean functionCall) {
         String name = node.getText();
-        if (context.hasKey(name)) {
-            Object result = context.get(name);
+        BindingSlot local = context.frameSlot(node);
+        if (local != null || context.hasKey(name)) {
+            Object result = local != null ? context.readSlot(local, name) : context.get(name);
             if (functionCall && context.root.bridge != null && result instanceof ExternalAccess ea) {
                 return (JsConstructor) (c, args) -> ea.construct(args);
             }
@@ -490,7 +539,7 @@ class PropertyAccess {
         }
 
         if (outReceiver != null) outReceiver[1] = object;
-        return getByName(object, name, optional, context, functionCall);
+        return getByNameCached(node, object, name, optional, context, functionCall);
     }
 
     private static Object getRefDotExpr(Node node, CoreContext context, boolean functionCall) {
@@ -604,7 +653,13 @@ class PropertyAccess {
         }
 
         if (object instanceof JsObject jsObj) {
-            if (jsObj.containsKey(name)) {
+            if (jsObj.getClass() == JsObject.class) {
+                // plain object (JSON, literals): one map lookup, not containsKey + getMember
+                PropertySlot own = jsObj.getOwnSlot(name);
+                if (own != null) {
+                    return own.read(object, context);
+                }
+            } else if (jsObj.containsKey(name)) {
                 return jsObj.getMember(name, object, context);
             }
             Object result = jsObj.getMember(name, object, context);
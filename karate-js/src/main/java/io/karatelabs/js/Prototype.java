@@ -264,6 +264,37 @@ abstract class Prototype implements ObjectLike {
         return __proto__ == null ? null : __proto__.getMember(name, receiver, ctx);
     }
 
+    /**
+     * The built-in {@code name} resolves to from this prototype, for a caller that wants to keep
+     * it: a plain value or method from the install-time maps up the chain, and only while no
+     * engine has ever touched a built-in prototype ({@link #anyUserProps}). Returns null whenever
+     * the answer could differ by engine or receiver — an accessor, the per-engine
+     * {@code constructor} — or when the name is not a built-in at all. Both inputs are immutable
+     * until {@code anyUserProps} flips, so {@link #isPristine()} is the only check a cached result
+     * needs.
+     */
+    final Object stableBuiltin(String name) {
+        if (anyUserProps) {
+            return null;
+        }
+        for (Prototype p = this; p != null; p = p.__proto__) {
+            Object result = p.builtins.get(name);
+            if (result == null) {
+                continue;
+            }
+            if (result instanceof LazyRef lr) {
+                return lr.resolve();
+            }
+            return result instanceof AccessorSlot || result instanceof ConstructorRef ? null : result;
+        }
+        return null;
+    }
+
+    /** False once any engine has installed, redefined or deleted a member of a built-in prototype. */
+    static boolean isPristine() {
+        return !anyUserProps;
+    }
+
     private Object walkProto(String name) {
         return __proto__ == null ? null : __proto__.getMember(name);
     }
@@ -51,6 +51,20 @@ public class Terms {
 
     static final Object NAN = Double.NaN;
 
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+    // Boxed results of narrow() for the integers scripts produce most: loop counters, indexes,
+    // lengths, HTTP status codes. Integer.valueOf only caches -128..127.
+    private static final int SMALL_INT_MIN = -128;
+    private static final int SMALL_INT_MAX = 1023;
+    private static final Integer[] SMALL_INTS = new Integer[SMALL_INT_MAX - SMALL_INT_MIN + 1];
+
+    static {
+        for (int i = 0; i < SMALL_INTS.length; i++) {
+            SMALL_INTS[i] = i + SMALL_INT_MIN;
+        }
+    }
+
     final Number lhs;
     final Number rhs;
 
@@ -426,6 +440,9 @@ public class Terms {
     }
 
     static boolean lt(Object lhs, Object rhs) {
+        if (lhs instanceof Integer l && rhs instanceof Integer r) {
+            return l < r;
+        }
         if (lhs instanceof BigInteger || rhs instanceof BigInteger) {
             return bigIntCompare(lhs, rhs) < 0;
         }
@@ -434,6 +451,9 @@ public class Terms {
     }
 
     static boolean gt(Object lhs, Object rhs) {
+        if (lhs instanceof Integer l && rhs instanceof Integer r) {
+            return l > r;
+        }
         if (lhs instanceof BigInteger || rhs instanceof BigInteger) {
             return bigIntCompare(lhs, rhs) > 0;
         }
@@ -442,6 +462,9 @@ public class Terms {
     }
 
     static boolean ltEq(Object lhs, Object rhs) {
+        if (lhs instanceof Integer l && rhs instanceof Integer r) {
+            return l <= r;
+        }
         if (lhs instanceof BigInteger || rhs instanceof BigInteger) {
             return bigIntCompare(lhs, rhs) <= 0;
         }
@@ -450,6 +473,9 @@ public class Terms {
     }
 
     static boolean gtEq(Object lhs, Object rhs) {
+        if (lhs instanceof Integer l && rhs instanceof Integer r) {
+            return l >= r;
+        }
         if (lhs instanceof BigInteger || rhs instanceof BigInteger) {
             return bigIntCompare(lhs, rhs) >= 0;
         }
@@ -606,7 +632,15 @@ public class Terms {
         return narrow(result);
     }
 
+    /** Same test as {@code NAN.equals(o)}, without going through {@link Double#equals}. */
+    static boolean isNaN(Object o) {
+        return o instanceof Double d && Double.isNaN(d);
+    }
+
     static Object add(Object lhs, Object rhs, CoreContext context) {
+        if (lhs instanceof Integer l && rhs instanceof Integer r) {
+            return narrow((double) l + r); // counters and indexes: skip the dispatch below
+        }
         // Spec evaluation of binary +: ToPrimitive both operands first (default hint),
         // then string-or-number dispatch on the *primitives*. ObjectLike on either side
         // is the rare case — primitives short-circuit through the existing fast path.
@@ -650,7 +684,8 @@ public class Terms {
     }
 
     public static Number narrow(double d) {
-        if (NEGATIVE_ZERO.equals(d)) {
+        // raw bits, not NEGATIVE_ZERO.equals(d): that boxed d on every arithmetic result
+        if (Double.doubleToRawLongBits(d) == NEGATIVE_ZERO_BITS) {
             return d;
         }
         if (d % 1 != 0) {
@@ -659,7 +694,8 @@ public class Terms {
         // Both bounds matter: a negative value < Integer.MIN_VALUE was previously
         // narrowed to int via `d <= MAX_VALUE`, which silently overflowed. Same for long.
         if (d >= Integer.MIN_VALUE && d <= Integer.MAX_VALUE) {
-            return (int) d;
+            int i = (int) d;
+            return i >= SMALL_INT_MIN && i <= SMALL_INT_MAX ? SMALL_INTS[i - SMALL_INT_MIN] : Integer.valueOf(i);
         }
         if (d >= Long.MIN_VALUE && d <= Long.MAX_VALUE) {
             return (long) d;
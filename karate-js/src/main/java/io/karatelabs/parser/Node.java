@@ -48,6 +48,13 @@ import java.util.NoSuchElementException;
  * <b>A lazily assigned field of any other type would not be benign.</b> An array or a mutable
  * object published by a plain write can be seen non-null with its contents not yet visible; if you
  * add one here, make it {@code volatile} and read it once into a local.</p>
+ *
+ * <p>The interpreter's resolver annotations ({@link #getSlot()}, {@link #getAnalysis()}) follow that
+ * rule. They are computed once per function subtree, the same on every thread. The plain
+ * {@code int} slots are written before the volatile {@code analysis} that publishes them, and are
+ * only read by a call frame that came from that analysis. On a member access ({@code REF_DOT_EXPR})
+ * {@code analysis} holds its inline cache instead: an immutable entry, replaced whole, that every
+ * hit re-validates before using. On a number literal token it holds the parsed, boxed value.</p>
  */
 public class Node {
 
@@ -63,6 +70,13 @@ public class Node {
     private short childCount;
     // Cached text for getText() - avoids repeated StringBuilder operations
     private String cachedText;
+    // Interpreter annotations, both written by its resolver pass (never by the parser) - see the
+    // class doc. slot: the frame index an identifier reference was resolved to, -1 = by name.
+    // analysis: what that pass concluded about a function subtree, published AFTER the slots of
+    // the references inside it, so whoever reads it sees them. On a member access: its inline cache.
+    // On a number literal: its value.
+    private int slot = -1;
+    private volatile Object analysis;
 
     private Node parent;
 
@@ -303,4 +317,20 @@ public class Node {
         return childCount == 0;
     }
 
+    public int getSlot() {
+        return slot;
+    }
+
+    public void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    public Object getAnalysis() {
+        return analysis;
+    }
+
+    public void setAnalysis(Object analysis) {
+        this.analysis = analysis;
+    }
+
 }
@@ -1161,6 +1161,33 @@ class EngineTest {
         assertEquals("one", e1.eval("[].foo"));
     }
 
+    @Test
+    void testRebindResolvesGlobalsInTheTargetEngine() {
+        Engine template = new Engine();
+        template.eval("var x = 1; var f = function() { return x }; var set = function(v) { y = v }; "
+                + "var counter = (function() { var n = 0; return function() { return ++n } })()");
+        Engine fork = new Engine();
+        fork.put("x", 2);
+        fork.put("f", fork.rebind(template.get("f")));
+        fork.put("set", fork.rebind(template.get("set")));
+        assertEquals(2, fork.eval("f()"));
+        assertEquals(1, template.eval("f()"));
+        // a host map round trip wraps the function again: every layer is seen through
+        template.put("g", template.get("f"));
+        fork.put("g", fork.rebind(template.get("g")));
+        assertEquals(2, fork.eval("g()"));
+        fork.eval("set(5)");
+        assertEquals(5, fork.eval("y"));
+        assertEquals(false, template.eval("typeof y !== 'undefined'"));
+        // closes over more than the globals: kept as it is
+        Object counter = template.get("counter");
+        assertSame(counter, fork.rebind(counter));
+        // nothing to do for a function already of this engine, or a plain value
+        Object own = fork.get("f");
+        assertSame(own, fork.rebind(own));
+        assertEquals("a", fork.rebind("a"));
+    }
+
     @Test
     void testParseReturnsAstWithPositions() {
         // Engine.parse() is the public entry point for AST-aware tools (linters,
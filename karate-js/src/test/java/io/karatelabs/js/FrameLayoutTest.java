@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.js;
+
+import io.karatelabs.common.Resource;
+import io.karatelabs.parser.JsParser;
+import io.karatelabs.parser.Node;
+import io.karatelabs.parser.NodeType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Which locals get a slot decides only how fast a function runs, never what it computes: the
+ * layout tests pin down what is numbered, the eval tests that slotted functions behave exactly as
+ * named lookup did, on calls after the first, once the layout is in use.
+ */
+class FrameLayoutTest {
+
+    private static FrameLayout layout(String source) {
+        Node program = new JsParser(Resource.text(source)).parse();
+        Node fn = program.findFirstChild(NodeType.FN_EXPR);
+        if (fn == null) {
+            fn = program.findFirstChild(NodeType.FN_ARROW_EXPR);
+        }
+        return FrameLayout.of(fn);
+    }
+
+    private static Object callThrice(String fn, String args) {
+        Engine engine = new Engine();
+        engine.eval("var f = " + fn);
+        engine.eval("f(" + args + ")");
+        engine.eval("f(" + args + ")");
+        return engine.eval("f(" + args + ")");
+    }
+
+    @Test
+    void testParamsAndLocalsAreNumbered() {
+        FrameLayout layout = layout("var f = function(a, b) { var c = a + b; let d = c; const e = d; return e }");
+        assertEquals(5, layout.size());
+        assertEquals(0, layout.indexOf("a"));
+        assertEquals(1, layout.indexOf("b"));
+        assertTrue(layout.indexOf("c") >= 2);
+        assertTrue(layout.indexOf("e") >= 2);
+    }
+
+    @Test
+    void testArrowParam() {
+        FrameLayout layout = layout("var f = x => { let y = x * 2; return y }");
+        assertEquals(0, layout.indexOf("x"));
+        assertEquals(1, layout.indexOf("y"));
+    }
+
+    @Test
+    void testNamesVisibleToClosuresStayNamed() {
+        FrameLayout layout = layout("var f = function(a, b) { let n = 0; let m = b; return () => n + a + m }");
+        assertEquals(-1, layout.indexOf("a"));
+        assertEquals(-1, layout.indexOf("n"));
+        assertEquals(-1, layout.indexOf("m"));
+        assertEquals(0, layout.indexOf("b"));
+    }
+
+    @Test
+    void testShadowedAndRedeclaredNamesStayNamed() {
+        FrameLayout layout = layout("var f = function() { let x = 1; { let x = 2 } let y = 1; var z = 1; { let z = 2 } return x + y }");
+        assertEquals(-1, layout.indexOf("x"));
+        assertEquals(-1, layout.indexOf("z"));
+        assertEquals(0, layout.indexOf("y"));
+    }
+
+    @Test
+    void testSiblingBlocksMayShareAName() {
+        FrameLayout layout = layout("var f = function() { if (true) { let t = 1 } else { let t = 2 } return 0 }");
+        assertEquals(0, layout.indexOf("t"));
+    }
+
+    @Test
+    void testMentionOutsideTheDeclaringBlockStaysNamed() {
+        // the trailing t is some outer binding, not the block's
+        assertNull(layout("var f = function() { { let t = 1 } return typeof t }"));
+    }
+
+    @Test
+    void testReadBeforeDeclarationInALoopStaysNamed() {
+        // a slot is not cleared when the loop body is entered again, so the second pass would
+        // read the first pass's z where the named path has no binding yet and throws
+        String fn = "function() { var r = ''; for (let i = 0; i < 2; i++) { try { r += z } catch (e) { r += 'E' } let z = i } return r }";
+        assertEquals(-1, layout("var f = " + fn).indexOf("z"));
+        assertEquals("EE", callThrice(fn, ""));
+        String cases = "function() { var r = ''; for (let i = 0; i < 2; i++) { switch (i) { case 0: let w = 'w'; r += w; break; "
+                + "case 1: try { r += w } catch (e) { r += 'E' } } } return r }";
+        assertEquals(-1, layout("var f = " + cases).indexOf("w"));
+        assertEquals("wE", callThrice(cases, ""));
+    }
+
+    @Test
+    void testDestructuredNamesStayNamed() {
+        FrameLayout layout = layout("var f = function({ a }, [b], c) { const { d } = a; return b + c + d }");
+        assertEquals(-1, layout.indexOf("a"));
+        assertEquals(-1, layout.indexOf("b"));
+        assertEquals(-1, layout.indexOf("d"));
+        assertEquals(0, layout.indexOf("c"));
+    }
+
+    @Test
+    void testEvalDisablesSlots() {
+        assertNull(layout("var f = function(a) { var b = a; return eval('b') }"));
+    }
+
+    @Test
+    void testFirstCallOnlyMarksTheNode() {
+        Node fn = new JsParser(Resource.text("var f = function(a) { return a }")).parse().findFirstChild(NodeType.FN_EXPR);
+        assertNull(FrameLayout.forCall(fn));
+        FrameLayout layout = FrameLayout.forCall(fn);
+        assertNotNull(layout);
+        assertSame(layout, FrameLayout.forCall(fn));
+    }
+
+    @Test
+    void testSlottedLocals() {
+        assertEquals(15, callThrice("function(n) { let sum = 0; for (let i = 1; i <= n; i++) { sum += i } return sum }", "5"));
+        assertEquals(6, callThrice("function(a) { var b = a; b++; ++b; b *= 2; return b }", "1"));
+        assertEquals("a-b", callThrice("function(x, y) { const s = x + '-' + y; return s }", "'a', 'b'"));
+        assertEquals(3, callThrice("function(o) { let v = o.a; v ??= 0; v ||= 9; return v + 2 }", "{ a: 1 }"));
+    }
+
+    @Test
+    void testLoopClosuresStillCaptureEachIteration() {
+        assertEquals("[0,1,2]", callThrice("function() { let fns = []; for (let i = 0; i < 3; i++) { fns.push(() => i) } "
+                + "return JSON.stringify(fns.map(g => g())) }", ""));
+    }
+
+    @Test
+    void testErrorsAreUnchanged() {
+        Engine engine = new Engine();
+        engine.eval("var f = function() { const c = 1; c = 2; return c }");
+        for (int i = 0; i < 3; i++) {
+            Exception e = assertThrows(Exception.class, () -> engine.eval("f()"));
+            assertTrue(e.getMessage().contains("assignment to constant: c"), e.getMessage());
+        }
+        engine.eval("var g = function() { let q; return q }");
+        for (int i = 0; i < 3; i++) {
+            Exception e = assertThrows(Exception.class, () -> engine.eval("g()"));
+            assertTrue(e.getMessage().contains("cannot access 'q' before initialization"), e.getMessage());
+        }
+    }
+
+    @Test
+    void testTypeofAndShorthandSeeSlottedLocals() {
+        assertEquals("{\"k\":\"number\"}", callThrice("function(n) { let k = typeof n; return JSON.stringify({ k }) }", "1"));
+    }
+
+}
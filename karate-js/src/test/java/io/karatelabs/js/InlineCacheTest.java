@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.js;
+
+import io.karatelabs.parser.Node;
+import io.karatelabs.parser.NodeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The member-access inline cache in {@link PropertyAccess} must never change what a read returns.
+ * Each test evaluates one site several times with receivers that should and should not take the
+ * cached answer. Whether entries are filled at all depends on {@link Prototype#isPristine()},
+ * which is JVM-wide and flips for good once any test polyfills a built-in, so only the test that
+ * inspects the entry checks for it.
+ */
+class InlineCacheTest {
+
+    private static Engine engine(ParseCache cache) {
+        Engine engine = new Engine();
+        engine.setParseCache(cache);
+        return engine;
+    }
+
+    @Test
+    void testBuiltinMethodSiteIsCached() {
+        ParseCache cache = new ParseCache();
+        String source = "[1, 2].map(x => x * 2)";
+        Engine engine = engine(cache);
+        boolean pristine = Prototype.isPristine();
+        assertEquals(List.of(2, 4), engine.eval(source));
+        assertEquals(List.of(2, 4), engine.eval(source));
+        Node site = cache.get(source).findFirstChild(NodeType.REF_DOT_EXPR);
+        if (pristine && Prototype.isPristine()) {
+            assertNotNull(site.getAnalysis());
+        }
+    }
+
+    @Test
+    void testPrototypeWriteIsSeenBySharedTree() {
+        ParseCache cache = new ParseCache();
+        String source = "[1, 2].map(x => x * 2)";
+        Engine clean = engine(cache);
+        assertEquals(List.of(2, 4), clean.eval(source));
+        assertEquals(List.of(2, 4), clean.eval(source));
+        Engine polluted = engine(cache);
+        polluted.eval("Array.prototype.map = function() { return 'mine' }");
+        assertEquals("mine", polluted.eval(source));
+        // the write lives on the polluting engine only
+        assertEquals(List.of(2, 4), clean.eval(source));
+        assertEquals(List.of(2, 4), engine(cache).eval(source));
+    }
+
+    @Test
+    void testOwnPropertyShadowsCachedBuiltin() {
+        Engine engine = new Engine();
+        engine.eval("var f = function(o) { return typeof o.hasOwnProperty }");
+        assertEquals("function", engine.eval("f({})"));
+        assertEquals("function", engine.eval("f({ a: 1 })"));
+        assertEquals("number", engine.eval("f({ hasOwnProperty: 1 })"));
+        assertEquals("function", engine.eval("f({})"));
+    }
+
+    @Test
+    void testOneSiteManyReceiverKinds() {
+        Engine engine = new Engine();
+        engine.eval("var f = function(o) { return o.toString() }");
+        assertEquals("[object Object]", engine.eval("f({})"));
+        assertEquals("1,2", engine.eval("f([1, 2])"));
+        assertEquals("abc", engine.eval("f('abc')"));
+        assertEquals("[object Object]", engine.eval("f({})"));
+        assertEquals("custom", engine.eval("f({ toString: () => 'custom' })"));
+        assertEquals("3", engine.eval("f(3)"));
+    }
+
+    @Test
+    void testChangedPrototypeOfReceiver() {
+        Engine engine = new Engine();
+        engine.eval("var f = function(o) { return o.toString }");
+        assertEquals("function", engine.eval("typeof f({})"));
+        assertEquals("function", engine.eval("typeof f({})"));
+        assertEquals("undefined", engine.eval("var o = {}; Object.setPrototypeOf(o, null); typeof f(o)"));
+        assertEquals("function", engine.eval("typeof f([])"));
+    }
+
+    @Test
+    void testStringLengthAndMethodsAtOneSite() {
+        Engine engine = new Engine();
+        engine.eval("var len = function(s) { return s.length }; var up = function(s) { return s.toUpperCase() }");
+        assertEquals(3, engine.eval("len('abc')"));
+        assertEquals(5, engine.eval("len('hello')"));
+        assertEquals(2, engine.eval("len([1, 2])"));
+        assertEquals("ABC", engine.eval("up('abc')"));
+        assertEquals("XY", engine.eval("up('xy')"));
+    }
+
+}
@@ -3,10 +3,10 @@ package io.karatelabs.js;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
 import java.util.Locale;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.*;
 
 class JsNumberTest extends EvalBase {
 
@@ -155,4 +155,42 @@ class JsNumberTest extends EvalBase {
         assertEquals("1,234,567.89", result);
     }
 
+    @Test
+    void testNestedArithmetic() {
+        // evaluated unboxed end to end; must match step-by-step boxing exactly
+        assertEquals(-5, eval("1 - 2 * 3"));
+        assertEquals(9, eval("var o = { p: 2.5, q: 4 }; o.p * o.q - 1"));
+        assertEquals(0.5, eval("0.1 * 3 + 0.2"));
+        assertEquals(4294967293L, eval("2147483647 * 2 - 1"));
+        assertEquals(Terms.NEGATIVE_ZERO, eval("(0 * -1) + -0"));
+        assertEquals(Double.NEGATIVE_INFINITY, eval("1 / (0 * -1 - 0)"));
+        assertEquals(true, eval("Number.isNaN(NaN * 2 + 1)"));
+        assertEquals(80, eval("var s = 0; for (var i = 0; i < 10; i++) { s += i * 2 - 1 } s"));
+    }
+
+    @Test
+    void testNestedArithmeticWithNonNumbers() {
+        assertEquals("x6", eval("'x' + 2 * 3"));
+        assertEquals("6x", eval("2 * 3 + 'x'"));
+        assertEquals(11, eval("'6' * '2' - 1"));
+        assertEquals(9, eval("({ valueOf: () => 7 }) + 2 * 1"));
+        assertEquals(11, eval("new Number(5) * 2 + new Number(1)"));
+    }
+
+    @Test
+    void testNestedBigIntArithmetic() {
+        assertEquals(BigInteger.valueOf(17), eval("10n * 2n - 3n"));
+        assertEquals(BigInteger.valueOf(8), eval("(5n - 1n) * 2n"));
+        assertEquals("bigint", eval("typeof (2n * 3n - 1n)"));
+        assertEquals("20x", eval("10n * 2n + 'x'"));
+        Exception e = assertThrows(Exception.class, () -> eval("10n * 2n - 3"));
+        assertTrue(e.getMessage().contains("Cannot mix BigInt"), e.getMessage());
+    }
+
+    @Test
+    void testSmallIntegersAreShared() {
+        assertSame(eval("1000 * 1"), eval("999 + 1"));
+        assertEquals(1024, eval("1024 * 1"));
+    }
+
 }
@@ -0,0 +1,167 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.js;
+
+import io.karatelabs.parser.ParserException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A cached program is one tree evaluated by many engines, so each test checks that what an engine
+ * computes from it is its own, and that the counters tell the truth about what was parsed.
+ */
+class ParseCacheTest {
+
+    @Test
+    void testEnginesShareParsesButNotBindings() {
+        ParseCache cache = new ParseCache();
+        Engine first = new Engine();
+        Engine second = new Engine();
+        first.setParseCache(cache);
+        second.setParseCache(cache);
+        first.put("x", 1);
+        second.put("x", 2);
+        assertEquals(11, first.eval("x + 10"));
+        assertEquals(12, second.eval("x + 10"));
+        assertEquals(11, first.eval("x + 10"));
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testEvalWithUsesTheCache() {
+        ParseCache cache = new ParseCache();
+        Engine engine = new Engine();
+        engine.setParseCache(cache);
+        assertEquals("ab", engine.evalWith("a + b", Map.of("a", "a", "b", "b")));
+        assertEquals("cd", engine.evalWith("a + b", Map.of("a", "c", "b", "d")));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void testFunctionsDeclaredFromACachedTreeAreIndependent() {
+        ParseCache cache = new ParseCache();
+        Engine first = new Engine();
+        Engine second = new Engine();
+        first.setParseCache(cache);
+        second.setParseCache(cache);
+        String source = "var n = 0; var inc = function() { return ++n }";
+        first.eval(source);
+        second.eval(source);
+        first.eval("inc()");
+        first.eval("inc()");
+        assertEquals(2, first.eval("n"));
+        assertEquals(0, second.eval("n"));
+    }
+
+    @Test
+    void testSyntaxErrorsAreNotCached() {
+        ParseCache cache = new ParseCache();
+        Engine engine = new Engine();
+        engine.setParseCache(cache);
+        assertThrows(ParserException.class, () -> engine.eval("var = ;"));
+        assertThrows(ParserException.class, () -> engine.eval("var = ;"));
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void testBoundedBySweepingUnusedEntries() {
+        ParseCache cache = new ParseCache(100, ParseCache.DEFAULT_MAX_SOURCE_LENGTH);
+        Engine engine = new Engine();
+        engine.setParseCache(cache);
+        for (int i = 0; i < 1000; i++) {
+            engine.eval("1 + " + i);
+            // kept warm throughout, so it survives every sweep
+            engine.eval("'hot'");
+        }
+        assertTrue(cache.size() <= 100, "size " + cache.size());
+        assertTrue(cache.getEvictions() >= 900, "evictions " + cache.getEvictions());
+        long hits = cache.getHits();
+        engine.eval("'hot'");
+        assertEquals(hits + 1, cache.getHits());
+    }
+
+    @Test
+    void testLongSourcesAreNotCached() {
+        ParseCache cache = new ParseCache(100, 10);
+        Engine engine = new Engine();
+        engine.setParseCache(cache);
+        assertEquals(3, engine.eval("1 + 2"));
+        assertEquals(55, engine.eval("1 + 2 + 3 + 4 + 5 + 6 + 7 + 8 + 9 + 10"));
+        assertEquals(55, engine.eval("1 + 2 + 3 + 4 + 5 + 6 + 7 + 8 + 9 + 10"));
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    @Timeout(60)
+    void testSharedAcrossThreads() throws Exception {
+        ParseCache cache = new ParseCache();
+        int threadCount = 8;
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int id = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int i = 0; i < 500; i++) {
+                        Engine engine = new Engine();
+                        engine.setParseCache(cache);
+                        engine.put("id", id);
+                        engine.eval("var items = [1, 2, 3].map(function(x) { return x * id })");
+                        Object sum = engine.eval("items.reduce(function(a, b) { return a + b }, 0)");
+                        if (!(sum instanceof Number n) || n.intValue() != 6 * id) {
+                            throw new AssertionError("thread " + id + " got " + sum);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        assertEquals(2, cache.size());
+        assertEquals(threadCount * 500 * 2, cache.getHits() + cache.getMisses());
+    }
+
+}
@@ -43,6 +43,7 @@ public class EngineBenchmark {
     // (package-private so NodeSizeAnalysis can reuse the exact corpus)
     static final String ARRAY_SCRIPT_20KB = generateArrayHeavyScript(20);
     static final String OBJECT_SCRIPT_20KB = generateObjectHeavyScript(20);
+    static final String TRANSFORM_SCRIPT = generateTransformScript(400);
 
     public static void main(String[] args) {
         boolean profilingMode = args.length > 0 && "profile".equals(args[0]);
@@ -61,6 +62,7 @@ public class EngineBenchmark {
             Engine engine = new Engine();
             engine.eval(ARRAY_SCRIPT_20KB);
             engine.eval(OBJECT_SCRIPT_20KB);
+            engine.eval(TRANSFORM_SCRIPT);
         }
         System.out.println();
 
@@ -91,11 +93,18 @@ public class EngineBenchmark {
         System.out.printf("  Median: %.2f ms (%.3f ms/KB)%n", objectTime, objectTime / 20.0);
         System.out.println();
 
+        // Local-variable-heavy benchmark: one small function called many times
+        System.out.println("--- Data Transformation Benchmark (400 calls) ---");
+        double transformTime = runBenchmark(TRANSFORM_SCRIPT);
+        System.out.printf("  Median: %.2f ms%n", transformTime);
+        System.out.println();
+
         // Summary
         System.out.println("=== Summary ===");
         System.out.printf("Engine instantiation: %.2f µs%n", instantiationTimeUs);
         System.out.printf("Array 20KB:  %.2f ms%n", arrayTime);
         System.out.printf("Object 20KB: %.2f ms%n", objectTime);
+        System.out.printf("Transform:   %.2f ms%n", transformTime);
         System.out.printf("Array/Object ratio: %.2fx%n", arrayTime / objectTime);
     }
 
@@ -206,6 +215,41 @@ public class EngineBenchmark {
         return sb.toString();
     }
 
+    /**
+     * The shape of a typical karate-config.js helper: a function normalizing a list of records,
+     * all loops, locals and arithmetic, called over and over. Unlike the two generated scripts
+     * above, the time goes into reading and writing local variables rather than into built-ins.
+     */
+    private static String generateTransformScript(int calls) {
+        return String.format("""
+            (function() {
+              function normalize(items, factor) {
+                let total = 0;
+                const out = [];
+                for (let i = 0; i < items.length; i++) {
+                  const item = items[i];
+                  let score = item.value * factor + i;
+                  if (score %% 2 === 0) {
+                    score = score / 2;
+                  }
+                  total += score;
+                  out.push({ id: item.id, score: score });
+                }
+                return { total: total, count: out.length };
+              }
+              var records = [];
+              for (var r = 0; r < 50; r++) {
+                records.push({ id: 'rec' + r, value: r });
+              }
+              var sum = 0;
+              for (var n = 0; n < %d; n++) {
+                sum += normalize(records, n %% 7).total;
+              }
+              return sum;
+            })();
+            """, calls);
+    }
+
     /**
      * Generates an object-method-heavy script of approximately the target size.
      * Exercises: Object.keys, Object.values, Object.entries, hasOwnProperty, toString
@@ -24,6 +24,7 @@
 package io.karatelabs.parser;
 
 import io.karatelabs.js.Engine;
+import io.karatelabs.js.ParseCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,6 +35,10 @@ import java.util.Map;
  * - Many small expressions (variable assignments, assertions, etc.)
  * - Variable bindings between expressions
  *
+ * Each run is measured twice: parsing every expression (as without a Suite), and with
+ * one {@link ParseCache} shared by all engines (as every scenario of a Suite does), which
+ * on a warm cache leaves only the evaluation.
+ *
  * Run with JFR:
  *   java -XX:StartFlightRecording=duration=30s,filename=realistic.jfr,settings=profile RealisticBenchmark
  */
@@ -128,8 +133,10 @@ public class RealisticBenchmark {
 
         // Warmup
         System.out.println("Warming up...");
+        ParseCache cache = new ParseCache();
         for (int i = 0; i < 50; i++) {
-            runFeature();
+            runFeature(null);
+            runFeature(cache);
         }
         System.out.println();
 
@@ -142,22 +149,32 @@ public class RealisticBenchmark {
 
         // Benchmark
         System.out.println("Running benchmark...");
+        double uncached = measure(null, "Parse every time");
+        double cached = measure(cache, "Shared parse cache");
+        System.out.println();
+        System.out.printf("Speedup:             %.2fx%n", uncached / cached);
+        System.out.println(cache);
+    }
+
+    /** Runs the features and prints the timings; returns microseconds per expression. */
+    private static double measure(ParseCache cache, String label) {
         long start = System.nanoTime();
         for (int i = 0; i < FEATURE_COUNT; i++) {
-            runFeature();
+            runFeature(cache);
         }
         long elapsed = System.nanoTime() - start;
 
         double totalMs = elapsed / 1_000_000.0;
         double perFeatureUs = (elapsed / FEATURE_COUNT) / 1_000.0;
-        double perExprUs = (elapsed / (FEATURE_COUNT * EXPRESSIONS_PER_FEATURE)) / 1_000.0;
+        double perExprUs = (elapsed / (double) (FEATURE_COUNT * EXPRESSIONS_PER_FEATURE)) / 1_000.0;
 
         System.out.println();
-        System.out.println("=== Results ===");
+        System.out.println("=== Results: " + label + " ===");
         System.out.printf("Total time:          %.2f ms%n", totalMs);
         System.out.printf("Per feature:         %.2f µs%n", perFeatureUs);
         System.out.printf("Per expression:      %.2f µs%n", perExprUs);
         System.out.printf("Expressions/second:  %,.0f%n", 1_000_000.0 / perExprUs);
+        return perExprUs;
     }
 
     private static void runProfilingLoop() {
@@ -168,7 +185,7 @@ public class RealisticBenchmark {
         while (System.currentTimeMillis() < endTime) {
             long start = System.nanoTime();
             for (int i = 0; i < 100; i++) {
-                runFeature();
+                runFeature(null);
             }
             totalTime += System.nanoTime() - start;
             iterations += 100;
@@ -185,9 +202,10 @@ public class RealisticBenchmark {
         System.out.printf("Avg per feature: %.2f µs%n", (totalTime / iterations) / 1000.0);
     }
 
-    private static void runFeature() {
+    private static void runFeature(ParseCache cache) {
         // New engine per feature (like Karate)
         Engine engine = new Engine();
+        engine.setParseCache(cache);
 
         // Set up initial bindings (like karate object, config, etc.)
         engine.put("karate", createKarateObject());
@@ -156,6 +156,9 @@ public final class Compare {
     }
 
     static int main(List<String> argv) {
+        if (JmhCompare.accepts(argv)) {
+            return JmhCompare.main(argv);
+        }
         List<Run> runs = new ArrayList<>();
         for (String arg : argv) {
             Path dir = Path.of(arg);
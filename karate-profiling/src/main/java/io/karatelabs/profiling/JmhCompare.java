@@ -0,0 +1,233 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.profiling;
+
+import io.karatelabs.common.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The {@link Compare} of the karate-benchmarks module: two JMH result files ({@code -rf json}), a
+ * baseline and a candidate, diffed benchmark by benchmark into one markdown table.
+ *
+ * <p><b>The error bars are the point.</b> JMH reports every score with a 99.9% confidence
+ * half-width, and a delta whose two intervals overlap has not been measured, however large the
+ * percentage looks. Such rows say {@code within error} rather than "faster" or "slower" — the same
+ * rule as {@link Compare}'s "the spread is larger than the effect", applied per row.
+ *
+ * <p><b>Allocation is printed beside time</b> whenever the runs used {@code -prof gc}. Bytes per
+ * operation are close to deterministic where time is not, so a change that moves them has moved
+ * something even when the timing is lost in noise; a row with no allocation figure just did not
+ * ask for one.
+ *
+ * <p>As with {@link Compare}, nothing here decides anything: no row is dropped and no threshold
+ * fails the command. A benchmark present on one side only is listed, not skipped, because a
+ * renamed benchmark otherwise looks exactly like a comparison that went fine.
+ *
+ * <pre>
+ * etc/run.sh compare baseline.json candidate.json
+ * </pre>
+ */
+final class JmhCompare {
+
+    private static final String BENCHMARK_PACKAGE = "io.karatelabs.benchmarks.";
+
+    private JmhCompare() {
+    }
+
+    /**
+     * One benchmark row. {@code error} is NaN when JMH had too few samples for an interval (a
+     * single iteration, or {@code -f 0 -i 1}); {@code allocBytes} is -1 without {@code -prof gc}.
+     */
+    record Score(String key, String mode, String unit, double score, double error, double allocBytes) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        double low() {
+            return Double.isNaN(error) ? score : score - error;
+        }
+
+        double high() {
+            return Double.isNaN(error) ? score : score + error;
+        }
+    }
+
+    /** Both arguments are JMH json files; {@link Compare} hands over when it sees them. */
+    static boolean accepts(List<String> argv) {
+        return argv.size() == 2 && argv.stream().allMatch(arg -> arg.endsWith(".json"));
+    }
+
+    static int main(List<String> argv) {
+        Map<String, Score> baseline = read(Path.of(argv.get(0)));
+        Map<String, Score> candidate = read(Path.of(argv.get(1)));
+        if (baseline == null || candidate == null) {
+            return 2;
+        }
+        System.out.print(table(baseline, candidate));
+        if (!overlaps(baseline, candidate)) {
+            System.err.println("[compare] no benchmark appears in both files — different modules, "
+                    + "or every benchmark was renamed");
+            return 1;
+        }
+        return 0;
+    }
+
+    static String table(Map<String, Score> baseline, Map<String, Score> candidate) {
+        StringBuilder out = new StringBuilder();
+        out.append("\n| benchmark | mode | baseline | candidate | delta | verdict | alloc B/op |\n")
+                .append("|---|---|---:|---:|---:|---|---:|\n");
+        List<String> notes = new ArrayList<>();
+        Map<String, Score> all = new TreeMap<>(baseline);
+        candidate.forEach(all::putIfAbsent);
+        for (String key : all.keySet()) {
+            Score before = baseline.get(key);
+            Score after = candidate.get(key);
+            if (before == null || after == null) {
+                notes.add("`" + key + "` only in the " + (before == null ? "candidate" : "baseline"));
+                continue;
+            }
+            if (!before.mode().equals(after.mode()) || !before.unit().equals(after.unit())) {
+                notes.add("`" + key + "` was measured as " + before.mode() + " " + before.unit()
+                        + " then as " + after.mode() + " " + after.unit() + " — not comparable");
+                continue;
+            }
+            out.append("| `").append(key).append("` | ").append(before.mode()).append(" | ")
+                    .append(scoreCell(before)).append(" | ").append(scoreCell(after)).append(" | ")
+                    .append(String.format(Locale.ROOT, "%+.1f%%", delta(before, after))).append(" | ")
+                    .append(verdict(before, after)).append(" | ")
+                    .append(allocCell(before, after)).append(" |\n");
+        }
+        for (String note : notes) {
+            out.append("\n> **unpaired** — ").append(note).append("\n");
+        }
+        return out.toString();
+    }
+
+    static double delta(Score before, Score after) {
+        return before.score() == 0 ? 0 : 100 * (after.score() - before.score()) / before.score();
+    }
+
+    /**
+     * Better or worse only when the intervals are disjoint. An interval JMH could not compute is
+     * reported as such rather than treated as zero width, which would make every delta "resolved".
+     */
+    static String verdict(Score before, Score after) {
+        if (Double.isNaN(before.error()) || Double.isNaN(after.error())) {
+            return "no error bars";
+        }
+        if (after.low() <= before.high() && before.low() <= after.high()) {
+            return "within error";
+        }
+        boolean up = after.score() > before.score();
+        return up == before.higherIsBetter() ? "**faster**" : "**slower**";
+    }
+
+    private static String scoreCell(Score score) {
+        String value = String.format(Locale.ROOT, "%.3f", score.score());
+        String error = Double.isNaN(score.error()) ? "" : String.format(Locale.ROOT, " ± %.3f", score.error());
+        return value + error + " " + score.unit();
+    }
+
+    private static String allocCell(Score before, Score after) {
+        if (before.allocBytes() < 0 || after.allocBytes() < 0) {
+            return "";
+        }
+        return String.format(Locale.ROOT, "%.0f → %.0f", before.allocBytes(), after.allocBytes());
+    }
+
+    private static boolean overlaps(Map<String, Score> baseline, Map<String, Score> candidate) {
+        for (String key : baseline.keySet()) {
+            if (candidate.containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Score> read(Path file) {
+        String text;
+        try {
+            text = Files.readString(file);
+        } catch (IOException e) {
+            System.err.println("[compare] cannot read " + file + ": " + e.getMessage());
+            return null;
+        }
+        try {
+            return parse(text);
+        } catch (RuntimeException e) {
+            System.err.println("[compare] not a JMH result file (-rf json): " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Keyed by the benchmark without its package, plus its parameters sorted by name. */
+    @SuppressWarnings("unchecked")
+    static Map<String, Score> parse(String json) {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (Object item : (List<Object>) Json.parseStrict(json)) {
+            Map<String, Object> run = (Map<String, Object>) item;
+            String name = (String) run.get("benchmark");
+            if (name.startsWith(BENCHMARK_PACKAGE)) {
+                name = name.substring(BENCHMARK_PACKAGE.length());
+            }
+            StringBuilder key = new StringBuilder(name);
+            if (run.get("params") instanceof Map<?, ?> params) {
+                new TreeMap<>(params).forEach((k, v) -> key.append(' ').append(k).append('=').append(v));
+            }
+            Map<String, Object> primary = (Map<String, Object>) run.get("primaryMetric");
+            double alloc = -1;
+            if (run.get("secondaryMetrics") instanceof Map<?, ?> secondary) {
+                for (Map.Entry<?, ?> e : secondary.entrySet()) {
+                    // "·gc.alloc.rate.norm": JMH prefixes profiler metrics with a middle dot
+                    if (e.getKey().toString().endsWith("gc.alloc.rate.norm") && e.getValue() instanceof Map<?, ?> m) {
+                        alloc = number(m.get("score"));
+                    }
+                }
+            }
+            scores.put(key.toString(), new Score(key.toString(), (String) run.get("mode"),
+                    (String) primary.get("scoreUnit"), number(primary.get("score")),
+                    number(primary.get("scoreError")), alloc));
+        }
+        return scores;
+    }
+
+    // JMH writes a missing interval as the string "NaN", which is not a JSON number
+    private static double number(Object value) {
+        if (value instanceof Number n) {
+            return n.doubleValue();
+        }
+        return value == null ? Double.NaN : Double.parseDouble(value.toString());
+    }
+
+}
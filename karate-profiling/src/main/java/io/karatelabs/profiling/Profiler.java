@@ -113,6 +113,7 @@ public final class Profiler {
                 usage: profiler [run] <workload> [flags]
                        profiler --list
                        profiler compare <run-dir>... (parity pairs, in run order)
+                       profiler compare <baseline.json> <candidate.json> (karate-benchmarks JMH results)
 
                 flags:
                   --threads N            concurrency (virtual threads)
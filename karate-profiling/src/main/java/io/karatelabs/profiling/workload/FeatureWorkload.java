@@ -31,7 +31,6 @@ import io.karatelabs.profiling.WorkloadContext;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Base for workloads that are "run this feature, over and over, concurrently".
@@ -57,7 +56,7 @@ public abstract class FeatureWorkload implements Workload {
     @Override
     public void setup(WorkloadContext context) {
         template = Runner.builder()
-                .callSingleCache(new ConcurrentHashMap<>(), new ReentrantLock())
+                .callSingleCache(new ConcurrentHashMap<>())
                 .callOnceCacheStore(new ConcurrentHashMap<>(), new ConcurrentHashMap<>())
                 .setupOnceCacheStore(new ConcurrentHashMap<>());
         if (context.mockUrl() != null) {
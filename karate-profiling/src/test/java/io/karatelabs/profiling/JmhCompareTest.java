@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karate Labs Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.karatelabs.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The verdict column is the whole value of the JMH comparison, so it is pinned here against the
+ * shape JMH actually writes — profiler metrics under a middle-dot key, and a missing interval as
+ * the string {@code "NaN"}.
+ */
+class JmhCompareTest {
+
+    private static String result(String benchmark, String mode, double score, String error, double alloc) {
+        return """
+                {
+                    "benchmark" : "io.karatelabs.benchmarks.%s",
+                    "mode" : "%s",
+                    "params" : { "size" : "100" },
+                    "primaryMetric" : { "score" : %s, "scoreError" : %s, "scoreUnit" : "us/op" },
+                    "secondaryMetrics" : {
+                        "·gc.alloc.rate.norm" : { "score" : %s, "scoreError" : 0.0, "scoreUnit" : "B/op" }
+                    }
+                }
+                """.formatted(benchmark, mode, score, error, alloc);
+    }
+
+    private static Map<String, JmhCompare.Score> file(String... results) {
+        return JmhCompare.parse("[" + String.join(",", results) + "]");
+    }
+
+    @Test
+    void testKeyDropsThePackageAndKeepsTheParams() {
+        Map<String, JmhCompare.Score> scores = file(result("JsonBenchmark.parseStrict", "avgt", 12.5, "0.5", 4096));
+        JmhCompare.Score score = scores.get("JsonBenchmark.parseStrict size=100");
+        assertEquals(12.5, score.score());
+        assertEquals(0.5, score.error());
+        assertEquals(4096, score.allocBytes());
+    }
+
+    @Test
+    void testOverlappingIntervalsAreWithinError() {
+        JmhCompare.Score before = file(result("A.b", "avgt", 10, "1.0", 0)).get("A.b size=100");
+        JmhCompare.Score after = file(result("A.b", "avgt", 11.5, "1.0", 0)).get("A.b size=100");
+        // 15% slower on paper, but 9..11 and 10.5..12.5 overlap
+        assertEquals(15.0, JmhCompare.delta(before, after), 0.001);
+        assertEquals("within error", JmhCompare.verdict(before, after));
+    }
+
+    @Test
+    void testDirectionFollowsTheMode() {
+        JmhCompare.Score time = file(result("A.b", "avgt", 10, "0.1", 0)).get("A.b size=100");
+        JmhCompare.Score moreTime = file(result("A.b", "avgt", 12, "0.1", 0)).get("A.b size=100");
+        assertEquals("**slower**", JmhCompare.verdict(time, moreTime));
+        JmhCompare.Score ops = file(result("A.b", "thrpt", 10, "0.1", 0)).get("A.b size=100");
+        JmhCompare.Score moreOps = file(result("A.b", "thrpt", 12, "0.1", 0)).get("A.b size=100");
+        assertEquals("**faster**", JmhCompare.verdict(ops, moreOps));
+    }
+
+    @Test
+    void testMissingIntervalIsNotTreatedAsExact() {
+        JmhCompare.Score before = file(result("A.b", "avgt", 10, "\"NaN\"", 0)).get("A.b size=100");
+        JmhCompare.Score after = file(result("A.b", "avgt", 20, "0.1", 0)).get("A.b size=100");
+        assertTrue(Double.isNaN(before.error()));
+        assertEquals("no error bars", JmhCompare.verdict(before, after));
+    }
+
+    @Test
+    void testBenchmarkOnOneSideIsListedNotDropped() {
+        String table = JmhCompare.table(
+                file(result("A.b", "avgt", 10, "0.1", 0), result("A.gone", "avgt", 1, "0.1", 0)),
+                file(result("A.b", "avgt", 10, "0.1", 0), result("A.added", "avgt", 1, "0.1", 0)));
+        assertTrue(table.contains("`A.gone size=100` only in the baseline"), table);
+        assertTrue(table.contains("`A.added size=100` only in the candidate"), table);
+        assertTrue(table.contains("| `A.b size=100` | avgt | 10.000 ± 0.100 us/op | 10.000 ± 0.100 us/op | +0.0% | within error | 0 → 0 |"), table);
+    }
+
+    @Test
+    void testRunDirectoriesStayWithTheParityCompare() {
+        assertTrue(JmhCompare.accepts(List.of("baseline.json", "candidate.json")));
+        assertFalse(JmhCompare.accepts(List.of("gatling-http-plain-2026-08-06-000000",
+                "gatling-http-karate-2026-08-06-000100")));
+    }
+
+}